@@ -0,0 +1,170 @@
+package com.pcgs.core.java.pocs.MapSearch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// EmployeeIndex (B+ trees) against EmployeeBST and a TreeMap keyed by id.
+// Employees get ids 1..size inserted in random order, so EmployeeBST stays
+// roughly balanced and its recursion shallow. Lookups and range scans are
+// per operation; a range scan visits RANGE consecutive ids, which EmployeeBST
+// can only do by looking each one up.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class EmployeeIndexBenchmark {
+
+    // Power of two, so the range scans can cycle through the probes with a mask
+    static final int PROBES = 4096;
+    static final int RANGE = 1000;
+    static final long SEED = 42;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private List<Employee> shuffled;
+    private List<Employee> sorted;
+    private int[] probes;
+    private EmployeeIndex index;
+    private EmployeeBST bst;
+    private TreeMap<Integer, Employee> treeMap;
+    // Picks a different probe for each range scan
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        sorted = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            sorted.add(new Employee(id, "Employee " + random.nextInt(size), 30_000 + random.nextInt(120_000)));
+        }
+        shuffled = new ArrayList<>(sorted);
+        Collections.shuffle(shuffled, random);
+        probes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = 1 + random.nextInt(size - RANGE);
+        }
+        index = EmployeeIndex.bulkLoad(sorted);
+        bst = new EmployeeBST();
+        treeMap = new TreeMap<>();
+        for (Employee employee : shuffled) {
+            bst.insert(employee);
+            treeMap.put(employee.getId(), employee);
+        }
+    }
+
+    // ---------- lookups ----------
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public double indexLookup() {
+        double sum = 0;
+        for (int id : probes) {
+            sum += index.get(id).getSalary();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public double bstLookup() {
+        double sum = 0;
+        for (int id : probes) {
+            sum += bst.search(id).getSalary();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public double treeMapLookup() {
+        double sum = 0;
+        for (int id : probes) {
+            sum += treeMap.get(id).getSalary();
+        }
+        return sum;
+    }
+
+    // ---------- range scans ----------
+
+    @Benchmark
+    public double indexRangeScan() {
+        int from = probes[cursor++ & (PROBES - 1)];
+        double[] sum = {0};
+        index.rangeById(from, from + RANGE - 1, e -> sum[0] += e.getSalary());
+        return sum[0];
+    }
+
+    @Benchmark
+    public double bstRangeScan() {
+        int from = probes[cursor++ & (PROBES - 1)];
+        double sum = 0;
+        for (int id = from; id < from + RANGE; id++) {
+            sum += bst.search(id).getSalary();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double treeMapRangeScan() {
+        int from = probes[cursor++ & (PROBES - 1)];
+        double sum = 0;
+        for (Employee e : treeMap.subMap(from, true, from + RANGE, false).values()) {
+            sum += e.getSalary();
+        }
+        return sum;
+    }
+
+    // ---------- building the whole directory (time per build) ----------
+
+    @Benchmark
+    public EmployeeIndex indexInsert() {
+        EmployeeIndex built = new EmployeeIndex();
+        for (Employee employee : shuffled) {
+            built.insert(employee);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public EmployeeIndex indexBulkLoad() {
+        return EmployeeIndex.bulkLoad(sorted);
+    }
+
+    @Benchmark
+    public EmployeeBST bstInsert() {
+        EmployeeBST built = new EmployeeBST();
+        for (Employee employee : shuffled) {
+            built.insert(employee);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public TreeMap<Integer, Employee> treeMapInsert() {
+        TreeMap<Integer, Employee> built = new TreeMap<>();
+        for (Employee employee : shuffled) {
+            built.put(employee.getId(), employee);
+        }
+        return built;
+    }
+}
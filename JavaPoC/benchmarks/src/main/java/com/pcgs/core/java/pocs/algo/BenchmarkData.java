@@ -0,0 +1,177 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Input generation shared by all sort benchmarks. Every element type is derived
+// from the same int keys, so a distribution has the same shape whatever the type.
+public final class BenchmarkData {
+
+    // Fixed seed so every run (and every release) sorts identical inputs
+    static final long SEED = 42;
+
+    // Distinct values in FEW_UNIQUE inputs
+    static final int FEW_UNIQUE_VALUES = 16;
+
+    // Length of each ascending tooth in SAWTOOTH inputs
+    static final int SAWTOOTH_LENGTH = 1000;
+
+    // Fixed key width for String inputs; 26^6 covers every size up to 1e8
+    static final int STRING_WIDTH = 6;
+
+    public enum Distribution {
+        RANDOM,
+        SORTED,
+        REVERSED,
+        FEW_UNIQUE,
+        SAWTOOTH
+    }
+
+    // Shapes of the sorted key tables used by the search benchmarks
+    public enum KeyDistribution {
+        // Evenly spread over the int range, the best case for interpolation
+        UNIFORM,
+        // Dense near zero with a long tail, like sizes or amounts
+        LOGNORMAL,
+        // Runs of consecutive ids separated by large gaps, like allocated id blocks
+        CLUSTERED
+    }
+
+    // Number of id blocks in CLUSTERED key tables
+    static final int CLUSTERS = 1000;
+
+    private BenchmarkData() {
+    }
+
+    // Keys in [0, size), so the counting and base-10 radix sorts that need
+    // non-negative input can run on every distribution
+    public static int[] ints(int size, Distribution distribution) {
+        Random random = new Random(SEED);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case RANDOM:
+                    keys[i] = random.nextInt(size);
+                    break;
+                case SORTED:
+                    keys[i] = i;
+                    break;
+                case REVERSED:
+                    keys[i] = size - 1 - i;
+                    break;
+                case FEW_UNIQUE:
+                    keys[i] = random.nextInt(FEW_UNIQUE_VALUES);
+                    break;
+                case SAWTOOTH:
+                    keys[i] = i % SAWTOOTH_LENGTH;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        return keys;
+    }
+
+    // Key in the high half as well, so byte-wise radix passes are not all skipped
+    public static long[] longs(int[] keys) {
+        long[] values = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = ((long) keys[i] << 32) | keys[i];
+        }
+        return values;
+    }
+
+    // Scaled into [0, 1), the range BucketSortgrok expects
+    public static float[] floats(int[] keys) {
+        float[] values = new float[keys.length];
+        float scale = 1.0f / Math.max(1, keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = keys[i] * scale;
+        }
+        return values;
+    }
+
+    public static double[] doubles(int[] keys) {
+        double[] values = new double[keys.length];
+        double scale = 1.0 / Math.max(1, keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = keys[i] * scale;
+        }
+        return values;
+    }
+
+    public static Integer[] boxed(int[] keys) {
+        Integer[] values = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = keys[i];
+        }
+        return values;
+    }
+
+    // Fixed-width lowercase base-26 encoding of each key: string order matches
+    // key order, and challenge3's fixed-width radix sort can handle it
+    public static String[] strings(int[] keys) {
+        String[] values = new String[keys.length];
+        char[] digits = new char[STRING_WIDTH];
+        for (int i = 0; i < keys.length; i++) {
+            int key = keys[i];
+            for (int d = STRING_WIDTH - 1; d >= 0; d--) {
+                digits[d] = (char) ('a' + key % 26);
+                key /= 26;
+            }
+            values[i] = new String(digits);
+        }
+        return values;
+    }
+
+    // Sorted non-negative keys for the search benchmarks (duplicates possible)
+    public static int[] sortedKeys(int size, KeyDistribution distribution) {
+        Random random = new Random(SEED);
+        int[] keys = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (distribution) {
+                case UNIFORM:
+                    keys[i] = random.nextInt(Integer.MAX_VALUE);
+                    break;
+                case LOGNORMAL:
+                    keys[i] = (int) Math.min(Integer.MAX_VALUE - 1, Math.exp(10 + 2 * random.nextGaussian()));
+                    break;
+                case CLUSTERED:
+                    keys[i] = random.nextInt(CLUSTERS) * (Integer.MAX_VALUE / CLUSTERS) + random.nextInt(4 * size / CLUSTERS + 1);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown distribution: " + distribution);
+            }
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    // Lookup keys for a sorted table: every other one is present, the rest
+    // are drawn from the table's range and mostly miss
+    public static int[] probes(int[] sortedKeys, int count) {
+        Random random = new Random(SEED + 1);
+        int[] probes = new int[count];
+        int low = sortedKeys[0];
+        int high = sortedKeys[sortedKeys.length - 1];
+        for (int i = 0; i < count; i++) {
+            probes[i] = i % 2 == 0
+                    ? sortedKeys[random.nextInt(sortedKeys.length)]
+                    : low + (int) (random.nextDouble() * ((long) high - low));
+        }
+        return probes;
+    }
+
+    // Number of base-10 digits in the largest key, for radixsortpcgs
+    public static int decimalWidth(int[] keys) {
+        return Integer.toString(max(keys)).length();
+    }
+
+    public static int max(int[] keys) {
+        int max = 0;
+        for (int key : keys) {
+            max = Math.max(max, key);
+        }
+        return max;
+    }
+}
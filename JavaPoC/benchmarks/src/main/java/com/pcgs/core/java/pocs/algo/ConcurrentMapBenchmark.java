@@ -0,0 +1,124 @@
+package com.pcgs.core.java.pocs.algo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// LazySkipList against ConcurrentSkipListMap<Long, Long> under contention.
+// Both maps start with size even keys; operations draw keys from [0, 2 * size),
+// so half the gets miss and puts and removes keep the size steady.
+//
+// The mixed benchmarks run GET_PERCENT gets and the rest puts and removes on
+// every thread; pick the thread count on the command line, e.g.
+//   java -jar benchmarks.jar ConcurrentMapBenchmark.*Mixed -t 1   (and -t 2, 4, ... 64)
+// The service groups model request threads reading while one loader writes;
+// scale the readers with -tg, e.g. -tg 15,1.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class ConcurrentMapBenchmark {
+
+    static final int GET_PERCENT = 90;
+    static final int SCAN_LENGTH = 100;
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private LazySkipList<Long> lazy;
+    private ConcurrentSkipListMap<Long, Long> jdk;
+
+    @Setup
+    public void setUp() {
+        lazy = new LazySkipList<>();
+        jdk = new ConcurrentSkipListMap<>();
+        for (long key = 0; key < 2L * size; key += 2) {
+            lazy.put(key, key);
+            jdk.put(key, key);
+        }
+    }
+
+    private long randomKey() {
+        return ThreadLocalRandom.current().nextLong(2L * size);
+    }
+
+    // ---------- read/write mix on every thread ----------
+
+    @Benchmark
+    public Long lazyMixed() {
+        long key = randomKey();
+        int dice = ThreadLocalRandom.current().nextInt(100);
+        if (dice < GET_PERCENT) {
+            return lazy.get(key);
+        }
+        return (dice & 1) == 0 ? lazy.put(key, key) : lazy.remove(key);
+    }
+
+    @Benchmark
+    public Long jdkMixed() {
+        long key = randomKey();
+        int dice = ThreadLocalRandom.current().nextInt(100);
+        if (dice < GET_PERCENT) {
+            return jdk.get(key);
+        }
+        return (dice & 1) == 0 ? jdk.put(key, key) : jdk.remove(key);
+    }
+
+    // ---------- request threads reading while a loader writes ----------
+
+    @Benchmark
+    @Group("lazyService")
+    @GroupThreads(7)
+    public long lazyReader() {
+        long from = randomKey();
+        long[] sum = {0};
+        lazy.scan(from, from + SCAN_LENGTH, (key, value) -> sum[0] += value);
+        LazySkipList.Entry<Long> floor = lazy.floorEntry(from);
+        return sum[0] + (floor == null ? 0 : floor.key());
+    }
+
+    @Benchmark
+    @Group("lazyService")
+    @GroupThreads(1)
+    public Long lazyLoader() {
+        long key = randomKey();
+        return (key & 2) == 0 ? lazy.put(key, key) : lazy.remove(key);
+    }
+
+    @Benchmark
+    @Group("jdkService")
+    @GroupThreads(7)
+    public long jdkReader() {
+        long from = randomKey();
+        long sum = 0;
+        for (Long value : jdk.subMap(from, true, from + SCAN_LENGTH, true).values()) {
+            sum += value;
+        }
+        Long floor = jdk.floorKey(from);
+        return sum + (floor == null ? 0 : floor);
+    }
+
+    @Benchmark
+    @Group("jdkService")
+    @GroupThreads(1)
+    public Long jdkLoader() {
+        long key = randomKey();
+        return (key & 2) == 0 ? jdk.put(key, key) : jdk.remove(key);
+    }
+}
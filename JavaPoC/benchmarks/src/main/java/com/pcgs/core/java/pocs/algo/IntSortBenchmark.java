@@ -0,0 +1,198 @@
+package com.pcgs.core.java.pocs.algo;
+
+import com.pcgs.core.java.pocs.algo.BenchmarkData.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// int[] sorts that stay O(n log n) or linear on every distribution, so they can
+// run all the way to 1e8 elements. Each benchmark sorts a fresh copy of the
+// input; copyOnly measures that copy so it can be subtracted.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class IntSortBenchmark {
+
+    @Param({"100", "10000", "1000000", "100000000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private int[] source;
+    private int max;
+    private int decimalWidth;
+
+    @Setup
+    public void setUp() {
+        source = BenchmarkData.ints(size, distribution);
+        max = BenchmarkData.max(source);
+        decimalWidth = BenchmarkData.decimalWidth(source);
+    }
+
+    @Benchmark
+    public int[] copyOnly() {
+        return source.clone();
+    }
+
+    // ---------- Baselines ----------
+
+    @Benchmark
+    public int[] arraysSort() {
+        int[] arr = source.clone();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort() {
+        int[] arr = source.clone();
+        Arrays.parallelSort(arr);
+        return arr;
+    }
+
+    // ---------- Merge sorts ----------
+
+    @Benchmark
+    public int[] mergeSortPcgs() {
+        int[] arr = source.clone();
+        mergesortpcgs.mergeSort(arr, 0, arr.length);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        int[] arr = source.clone();
+        MergeSortClaude.mergeSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] mergeSortAlternative() {
+        int[] arr = source.clone();
+        MergeSortClaude.mergeSortAlternative(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        int[] arr = source.clone();
+        MergeSortClaude.parallelMergeSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] adaptiveRunSort() {
+        int[] arr = source.clone();
+        AdaptiveRunSort.sort(arr);
+        return arr;
+    }
+
+    // ---------- Quick sorts ----------
+    // Only the introsorts are bounded; the other variants are in QuadraticSortBenchmark
+
+    @Benchmark
+    public int[] introSort() {
+        int[] arr = source.clone();
+        QuickSortClaude.introSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] branchlessIntroSort() {
+        int[] arr = source.clone();
+        QuickSortClaude.branchlessIntroSort(arr);
+        return arr;
+    }
+
+    // ---------- Counting sorts ----------
+
+    @Benchmark
+    public int[] countingSortPcgs() {
+        int[] arr = source.clone();
+        countingsortpcgs.countingSort(arr, 0, max);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] countingSort() {
+        int[] arr = source.clone();
+        CountingSortClaude.countingSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] stableCountingSort() {
+        int[] arr = source.clone();
+        CountingSortClaude.stableCountingSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] countingSortWithRange() {
+        int[] arr = source.clone();
+        CountingSortClaude.countingSortWithRange(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] adaptiveCountingSort() {
+        int[] arr = source.clone();
+        CountingSortClaude.adaptiveCountingSort(arr);
+        return arr;
+    }
+
+    // ---------- Radix sorts ----------
+
+    @Benchmark
+    public int[] radixSortPcgs() {
+        int[] arr = source.clone();
+        radixsortpcgs.radixSort(arr, 10, decimalWidth);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSort() {
+        int[] arr = source.clone();
+        RadixSortClaude.radixSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSortWithNegatives() {
+        int[] arr = source.clone();
+        RadixSortClaude.radixSortWithNegatives(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] radixSortBytes() {
+        int[] arr = source.clone();
+        RadixSortClaude.radixSortBytes(arr);
+        return arr;
+    }
+
+    // ---------- Bucket sorts ----------
+    // bucketsortcpgs only handles 0-99, so it has no int[] benchmark here
+
+    @Benchmark
+    public int[] bucketSort() {
+        int[] arr = source.clone();
+        PrimitiveBucketSort.bucketSort(arr);
+        return arr;
+    }
+}
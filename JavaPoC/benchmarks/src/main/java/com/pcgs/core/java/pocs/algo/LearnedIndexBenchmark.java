@@ -0,0 +1,71 @@
+package com.pcgs.core.java.pocs.algo;
+
+import com.pcgs.core.java.pocs.algo.BenchmarkData.KeyDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// LearnedIndex lookups against BinarySearch.binarySearchIterative on the same
+// key tables, reported per lookup. LOGNORMAL and CLUSTERED are the skewed
+// shapes; maxError trades model size for the length of the final search.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class LearnedIndexBenchmark {
+
+    static final int PROBES = 4096;
+
+    @Param({"1000000", "100000000"})
+    public int size;
+
+    @Param
+    public KeyDistribution distribution;
+
+    @Param({"16", "64"})
+    public int maxError;
+
+    private int[] sorted;
+    private int[] probes;
+    private LearnedIndex index;
+
+    @Setup
+    public void setUp() {
+        sorted = BenchmarkData.sortedKeys(size, distribution);
+        probes = BenchmarkData.probes(sorted, PROBES);
+        index = LearnedIndex.build(sorted, maxError);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public long binarySearchIterative() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += BinarySearch.binarySearchIterative(sorted, probe);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public long learnedIndex() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += index.indexOf(probe);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,134 @@
+package com.pcgs.core.java.pocs.algo;
+
+import com.pcgs.core.java.pocs.algo.BenchmarkData.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Integer[] and String[] sorts. The default sizes stop at 1e7 because 1e8 boxed
+// keys or strings need well over 6 GB; pass -p size=100000000 with a larger
+// -Xmx to go further. Strings are fixed-width lowercase keys (see BenchmarkData).
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ObjectSortBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class IntegerInput {
+        @Param({"100", "10000", "1000000", "10000000"})
+        public int size;
+
+        @Param
+        public Distribution distribution;
+
+        Integer[] source;
+
+        @Setup
+        public void setUp() {
+            source = BenchmarkData.boxed(BenchmarkData.ints(size, distribution));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class StringInput {
+        @Param({"100", "10000", "1000000", "10000000"})
+        public int size;
+
+        @Param
+        public Distribution distribution;
+
+        String[] source;
+
+        @Setup
+        public void setUp() {
+            source = BenchmarkData.strings(BenchmarkData.ints(size, distribution));
+        }
+    }
+
+    // ---------- Integer[] ----------
+
+    @Benchmark
+    public Integer[] integerArraysSort(IntegerInput input) {
+        Integer[] arr = input.source.clone();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] integerMergeSort(IntegerInput input) {
+        Integer[] arr = input.source.clone();
+        GenericMergeSort.mergeSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] integerParallelMergeSort(IntegerInput input) {
+        Integer[] arr = input.source.clone();
+        GenericMergeSort.parallelMergeSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public Integer[] integerAdaptiveCountingSort(IntegerInput input) {
+        Integer[] arr = input.source.clone();
+        CountingSortClaude.adaptiveCountingSortObjects(arr, Integer::intValue);
+        return arr;
+    }
+
+    // ---------- String[] ----------
+
+    @Benchmark
+    public String[] stringArraysSort(StringInput input) {
+        String[] arr = input.source.clone();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public String[] stringMergeSort(StringInput input) {
+        String[] arr = input.source.clone();
+        GenericMergeSort.mergeSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public String[] stringMsdRadixSort(StringInput input) {
+        String[] arr = input.source.clone();
+        StringRadixSort.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public String[] stringParallelMsdRadixSort(StringInput input) {
+        String[] arr = input.source.clone();
+        StringRadixSort.parallelSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public String[] stringLsdRadixSort(StringInput input) {
+        String[] arr = input.source.clone();
+        RadixSortClaude.radixSortStrings(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public String[] stringRadixSortPcgs(StringInput input) {
+        String[] arr = input.source.clone();
+        challenge3.radixSort(arr, 26, BenchmarkData.STRING_WIDTH);
+        return arr;
+    }
+}
@@ -0,0 +1,138 @@
+package com.pcgs.core.java.pocs.algo;
+
+import com.pcgs.core.java.pocs.algo.BenchmarkData.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// long[], float[] and double[] sorts. Each element type has its own state, so
+// a benchmark only generates the array it sorts. Floats are keys scaled into
+// [0, 1); past 2^24 elements neighbouring keys round to the same float.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class PrimitiveSortBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class LongInput {
+        @Param({"100", "10000", "1000000", "100000000"})
+        public int size;
+
+        @Param
+        public Distribution distribution;
+
+        long[] source;
+
+        @Setup
+        public void setUp() {
+            source = BenchmarkData.longs(BenchmarkData.ints(size, distribution));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FloatInput {
+        @Param({"100", "10000", "1000000", "100000000"})
+        public int size;
+
+        @Param
+        public Distribution distribution;
+
+        float[] source;
+
+        @Setup
+        public void setUp() {
+            source = BenchmarkData.floats(BenchmarkData.ints(size, distribution));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DoubleInput {
+        @Param({"100", "10000", "1000000", "100000000"})
+        public int size;
+
+        @Param
+        public Distribution distribution;
+
+        double[] source;
+
+        @Setup
+        public void setUp() {
+            source = BenchmarkData.doubles(BenchmarkData.ints(size, distribution));
+        }
+    }
+
+    // ---------- long[] ----------
+
+    @Benchmark
+    public long[] longArraysSort(LongInput input) {
+        long[] arr = input.source.clone();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public long[] longRadixSortBytes(LongInput input) {
+        long[] arr = input.source.clone();
+        RadixSortClaude.radixSortBytes(arr);
+        return arr;
+    }
+
+    // ---------- float[] ----------
+
+    @Benchmark
+    public float[] floatArraysSort(FloatInput input) {
+        float[] arr = input.source.clone();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public float[] floatRadixSortBytes(FloatInput input) {
+        float[] arr = input.source.clone();
+        RadixSortClaude.radixSortBytes(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public float[] floatBucketSort(FloatInput input) {
+        float[] arr = input.source.clone();
+        PrimitiveBucketSort.bucketSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public float[] floatBucketSortGrok(FloatInput input) {
+        float[] arr = input.source.clone();
+        BucketSortgrok.bucketSort(arr);
+        return arr;
+    }
+
+    // ---------- double[] ----------
+
+    @Benchmark
+    public double[] doubleArraysSort(DoubleInput input) {
+        double[] arr = input.source.clone();
+        Arrays.sort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public double[] doubleRadixSortBytes(DoubleInput input) {
+        double[] arr = input.source.clone();
+        RadixSortClaude.radixSortBytes(arr);
+        return arr;
+    }
+}
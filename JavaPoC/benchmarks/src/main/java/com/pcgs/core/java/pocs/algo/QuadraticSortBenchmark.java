@@ -0,0 +1,105 @@
+package com.pcgs.core.java.pocs.algo;
+
+import com.pcgs.core.java.pocs.algo.BenchmarkData.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// int[] sorts that are O(n^2) on at least one distribution: the simple sorts,
+// shell sort with halving gaps, and the quick sort variants without a depth
+// limit (sorted and few-unique inputs). Sizes stop at 1e5 so a full run
+// finishes; the big stack covers the recursion depth of the degenerate cases.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Xss256m"})
+public class QuadraticSortBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int size;
+
+    @Param
+    public Distribution distribution;
+
+    private int[] source;
+
+    @Setup
+    public void setUp() {
+        source = BenchmarkData.ints(size, distribution);
+    }
+
+    @Benchmark
+    public int[] bubbleSort() {
+        int[] arr = source.clone();
+        bubblesortpcgs.bubbleSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] selectionSort() {
+        int[] arr = source.clone();
+        selectionsortpcgs.selectionSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] insertionSort() {
+        int[] arr = source.clone();
+        insertionsortpcgs.insertionSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] shellSort() {
+        int[] arr = source.clone();
+        shellsortpcgs.shellSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSortPcgs() {
+        int[] arr = source.clone();
+        QuickSort.quickSort(arr, 0, arr.length - 1);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSortLomuto() {
+        int[] arr = source.clone();
+        QuickSortClaude.quickSort(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSortHoare() {
+        int[] arr = source.clone();
+        QuickSortClaude.quickSortHoare(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] quickSortRandom() {
+        int[] arr = source.clone();
+        QuickSortClaude.quickSortRandom(arr);
+        return arr;
+    }
+
+    @Benchmark
+    public int[] threeWayQuickSort() {
+        int[] arr = source.clone();
+        ThreeWayQuickSort.sort(arr);
+        return arr;
+    }
+}
@@ -0,0 +1,123 @@
+package com.pcgs.core.java.pocs.algo;
+
+import com.pcgs.core.java.pocs.algo.BenchmarkData.KeyDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// Single-key lookups in a sorted int table, reported per lookup. The sizes sit
+// in L1, in L2/L3 and far past the last-level cache. Every invocation runs
+// the same PROBES keys, half of them hits, so the searches see identical work.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SearchBenchmark {
+
+    static final int PROBES = 4096;
+
+    @Param({"1000", "1000000", "100000000"})
+    public int size;
+
+    @Param
+    public KeyDistribution distribution;
+
+    private int[] sorted;
+    private int[] probes;
+    private int[] sortedProbes;
+    private int[] out;
+    private SortedSearch.IntIndex eytzinger;
+    private SortedSearch.IntIndex interpolation;
+
+    @Setup
+    public void setUp() {
+        sorted = BenchmarkData.sortedKeys(size, distribution);
+        probes = BenchmarkData.probes(sorted, PROBES);
+        sortedProbes = probes.clone();
+        Arrays.sort(sortedProbes);
+        out = new int[PROBES];
+        eytzinger = SortedSearch.builder().layout(SortedSearch.Layout.EYTZINGER).build(sorted);
+        interpolation = SortedSearch.builder().layout(SortedSearch.Layout.INTERPOLATION).build(sorted);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public long arraysBinarySearch() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += Arrays.binarySearch(sorted, probe);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public long binarySearchIterative() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += BinarySearch.binarySearchIterative(sorted, probe);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public long branchless() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += SortedSearch.indexOf(sorted, probe);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public long eytzinger() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += eytzinger.indexOf(probe);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public long interpolation() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += interpolation.indexOf(probe);
+        }
+        return sum;
+    }
+
+    // ---------- Batched lookups (BatchSearch) ----------
+
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int[] batchInterleaved() {
+        BatchSearch.indexOfAll(sorted, probes, out);
+        return out;
+    }
+
+    // Probes sorted ahead of time, as when both sides of a join are sorted
+    @Benchmark
+    @OperationsPerInvocation(PROBES)
+    public int[] batchSortedProbes() {
+        BatchSearch.indexOfSorted(sorted, sortedProbes, out);
+        return out;
+    }
+}
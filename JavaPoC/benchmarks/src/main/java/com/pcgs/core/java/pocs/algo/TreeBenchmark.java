@@ -0,0 +1,88 @@
+package com.pcgs.core.java.pocs.algo;
+
+import com.pcgs.core.java.pocs.algo.BenchmarkData.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+// Building a tree from random vs sorted keys. The balanced trees get their own
+// state up to 1e6 keys; the unbalanced BinarySearchTree is quadratic on sorted
+// keys and recurses once per level, so its sizes stop at 1e4 and the fork gets
+// a big stack. Keys are boxed in setup so the maps measure only the inserts.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g", "-Xss256m"})
+public class TreeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class BalancedInput {
+        @Param({"1000", "100000", "1000000"})
+        public int size;
+
+        @Param({"RANDOM", "SORTED"})
+        public Distribution distribution;
+
+        Integer[] keys;
+
+        @Setup
+        public void setUp() {
+            keys = BenchmarkData.boxed(BenchmarkData.ints(size, distribution));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnbalancedInput {
+        @Param({"1000", "10000"})
+        public int size;
+
+        @Param({"RANDOM", "SORTED"})
+        public Distribution distribution;
+
+        int[] keys;
+
+        @Setup
+        public void setUp() {
+            keys = BenchmarkData.ints(size, distribution);
+        }
+    }
+
+    @Benchmark
+    public AvlTree<Integer, Integer> avlTree(BalancedInput input) {
+        AvlTree<Integer, Integer> tree = new AvlTree<>();
+        for (Integer key : input.keys) {
+            tree.put(key, key);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public TreeMap<Integer, Integer> treeMap(BalancedInput input) {
+        TreeMap<Integer, Integer> tree = new TreeMap<>();
+        for (Integer key : input.keys) {
+            tree.put(key, key);
+        }
+        return tree;
+    }
+
+    @Benchmark
+    public BinarySearchTree binarySearchTree(UnbalancedInput input) {
+        BinarySearchTree tree = new BinarySearchTree();
+        for (int key : input.keys) {
+            tree.insert(key);
+        }
+        return tree;
+    }
+}
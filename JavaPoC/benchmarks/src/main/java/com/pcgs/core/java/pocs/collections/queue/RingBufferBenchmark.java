@@ -0,0 +1,194 @@
+package com.pcgs.core.java.pocs.collections.queue;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of SpscRingBuffer, MpscRingBuffer and ArrayBlockingQueue with
+// producers and a consumer in one JMH group. Every call is a non-blocking
+// offer or poll, so no thread hangs when the other side stops at the end of
+// an iteration; the offered and polled counters count only the calls that
+// moved a message, and those are the numbers to read:
+//   java -jar benchmarks.jar RingBufferBenchmark.spsc
+//   java -jar benchmarks.jar RingBufferBenchmark.mpsc -tg 3,1
+// Batch groups move BATCH messages per call through offerBatch and drain.
+// Spinning is built in: a failed call returns at once and JMH calls again.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RingBufferBenchmark {
+
+    static final int BATCH = 64;
+    static final Integer MESSAGE = 42;
+
+    @State(Scope.Group)
+    public static class Queues {
+        @Param({"1024", "65536"})
+        public int capacity;
+
+        SpscRingBuffer<Integer> spsc;
+        MpscRingBuffer<Integer> mpsc;
+        ArrayBlockingQueue<Integer> blocking;
+        final Integer[] batch = new Integer[BATCH];
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            spsc = new SpscRingBuffer<>(capacity);
+            mpsc = new MpscRingBuffer<>(capacity);
+            blocking = new ArrayBlockingQueue<>(capacity);
+            Arrays.fill(batch, MESSAGE);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Offered {
+        public long offered;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Polled {
+        public long polled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            polled = 0;
+        }
+    }
+
+    // ---------- one producer, one consumer ----------
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public void spscOffer(Queues queues, Offered counter) {
+        if (queues.spsc.offer(MESSAGE)) {
+            counter.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("spsc")
+    @GroupThreads(1)
+    public Integer spscPoll(Queues queues, Polled counter) {
+        Integer message = queues.spsc.poll();
+        if (message != null) {
+            counter.polled++;
+        }
+        return message;
+    }
+
+    @Benchmark
+    @Group("spscBatch")
+    @GroupThreads(1)
+    public void spscOfferBatch(Queues queues, Offered counter) {
+        counter.offered += queues.spsc.offerBatch(queues.batch, 0, BATCH);
+    }
+
+    @Benchmark
+    @Group("spscBatch")
+    @GroupThreads(1)
+    public void spscDrain(Queues queues, Polled counter) {
+        counter.polled += queues.spsc.drain(message -> { }, BATCH);
+    }
+
+    @Benchmark
+    @Group("spscBlocking")
+    @GroupThreads(1)
+    public void blockingOffer(Queues queues, Offered counter) {
+        if (queues.blocking.offer(MESSAGE)) {
+            counter.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("spscBlocking")
+    @GroupThreads(1)
+    public Integer blockingPoll(Queues queues, Polled counter) {
+        Integer message = queues.blocking.poll();
+        if (message != null) {
+            counter.polled++;
+        }
+        return message;
+    }
+
+    // ---------- several producers, one consumer ----------
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(3)
+    public void mpscOffer(Queues queues, Offered counter) {
+        if (queues.mpsc.offer(MESSAGE)) {
+            counter.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("mpsc")
+    @GroupThreads(1)
+    public Integer mpscPoll(Queues queues, Polled counter) {
+        Integer message = queues.mpsc.poll();
+        if (message != null) {
+            counter.polled++;
+        }
+        return message;
+    }
+
+    @Benchmark
+    @Group("mpscBatch")
+    @GroupThreads(3)
+    public void mpscOfferBatch(Queues queues, Offered counter) {
+        counter.offered += queues.mpsc.offerBatch(queues.batch, 0, BATCH);
+    }
+
+    @Benchmark
+    @Group("mpscBatch")
+    @GroupThreads(1)
+    public void mpscDrain(Queues queues, Polled counter) {
+        counter.polled += queues.mpsc.drain(message -> { }, BATCH);
+    }
+
+    @Benchmark
+    @Group("mpscBlocking")
+    @GroupThreads(3)
+    public void mpscBlockingOffer(Queues queues, Offered counter) {
+        if (queues.blocking.offer(MESSAGE)) {
+            counter.offered++;
+        }
+    }
+
+    @Benchmark
+    @Group("mpscBlocking")
+    @GroupThreads(1)
+    public Integer mpscBlockingPoll(Queues queues, Polled counter) {
+        Integer message = queues.blocking.poll();
+        if (message != null) {
+            counter.polled++;
+        }
+        return message;
+    }
+}
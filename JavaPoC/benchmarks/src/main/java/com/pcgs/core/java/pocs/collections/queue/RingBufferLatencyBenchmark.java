@@ -0,0 +1,95 @@
+package com.pcgs.core.java.pocs.collections.queue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Round-trip latency: the benchmark thread sends a message and waits for an
+// echo thread to send it back, so each sample is two handoffs between
+// threads. SampleTime reports percentiles, where the wait strategies differ
+// most: SPIN answers fastest but needs a free core for the echo thread,
+// PARK can sleep up to WaitStrategy.MAX_PARK_NANOS before it answers.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RingBufferLatencyBenchmark {
+
+    static final int CAPACITY = 1024;
+    static final Integer MESSAGE = 42;
+
+    @Param({"SPIN", "YIELD", "PARK"})
+    public String waitStrategy;
+
+    private SpscRingBuffer<Integer> ping;
+    private SpscRingBuffer<Integer> pong;
+    private ArrayBlockingQueue<Integer> blockingPing;
+    private ArrayBlockingQueue<Integer> blockingPong;
+    private Thread echo;
+    private Thread blockingEcho;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        WaitStrategy wait = (WaitStrategy) WaitStrategy.class.getField(waitStrategy).get(null);
+        ping = new SpscRingBuffer<>(CAPACITY, wait);
+        pong = new SpscRingBuffer<>(CAPACITY, wait);
+        blockingPing = new ArrayBlockingQueue<>(CAPACITY);
+        blockingPong = new ArrayBlockingQueue<>(CAPACITY);
+        echo = new Thread(() -> {
+            try {
+                while (true) {
+                    pong.put(ping.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blockingEcho = new Thread(() -> {
+            try {
+                while (true) {
+                    blockingPong.put(blockingPing.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        echo.start();
+        blockingEcho.start();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        echo.interrupt();
+        blockingEcho.interrupt();
+        echo.join();
+        blockingEcho.join();
+    }
+
+    @Benchmark
+    public Integer spscRoundTrip() throws InterruptedException {
+        ping.put(MESSAGE);
+        return pong.take();
+    }
+
+    // Waits on its lock's conditions whatever waitStrategy is; repeated per
+    // strategy only as the baseline row
+    @Benchmark
+    public Integer arrayBlockingQueueRoundTrip() throws InterruptedException {
+        blockingPing.put(MESSAGE);
+        return blockingPong.take();
+    }
+}
@@ -0,0 +1,111 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// IntHeap at arity 2, 4 and 8 against PriorityQueue<Integer>, on two mixes:
+//   insert-heavy  - insert every value, poll a tenth of them
+//   extract-heavy - build from every value, poll them all
+// PriorityQueue gets its own state so it is not rerun for every arity. Its
+// values are boxed in setup, so the gap left is the Integer-per-slot layout,
+// not the allocation of the boxes.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class HeapBenchmark {
+
+    static final long SEED = 42;
+
+    @State(Scope.Benchmark)
+    public static class PrimitiveInput {
+        @Param({"10000", "1000000"})
+        public int size;
+
+        @Param({"2", "4", "8"})
+        public int arity;
+
+        int[] values;
+
+        @Setup
+        public void setUp() {
+            values = new Random(SEED).ints(size).toArray();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class BoxedInput {
+        @Param({"10000", "1000000"})
+        public int size;
+
+        Integer[] values;
+
+        @Setup
+        public void setUp() {
+            values = new Random(SEED).ints(size).boxed().toArray(Integer[]::new);
+        }
+    }
+
+    @Benchmark
+    public long intHeapInsertHeavy(PrimitiveInput input) {
+        IntHeap heap = PrimitiveHeap.builder().arity(input.arity).buildInt();
+        for (int value : input.values) {
+            heap.insert(value);
+        }
+        long sum = 0;
+        for (int i = 0; i < input.size / 10; i++) {
+            sum += heap.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long priorityQueueInsertHeavy(BoxedInput input) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>();
+        for (Integer value : input.values) {
+            queue.offer(value);
+        }
+        long sum = 0;
+        for (int i = 0; i < input.size / 10; i++) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intHeapExtractHeavy(PrimitiveInput input) {
+        IntHeap heap = PrimitiveHeap.builder().arity(input.arity).build(input.values);
+        long sum = 0;
+        while (!heap.isEmpty()) {
+            sum += heap.poll();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long priorityQueueExtractHeavy(BoxedInput input) {
+        PriorityQueue<Integer> queue = new PriorityQueue<>(input.size);
+        for (Integer value : input.values) {
+            queue.offer(value);
+        }
+        long sum = 0;
+        while (!queue.isEmpty()) {
+            sum += queue.poll();
+        }
+        return sum;
+    }
+}
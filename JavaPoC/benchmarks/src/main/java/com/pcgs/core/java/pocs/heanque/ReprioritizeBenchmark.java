@@ -0,0 +1,145 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Reprioritization throughput: size tasks stay queued and each operation
+// gives one of them a new priority. PriorityQueue has to remove(Object), a
+// linear scan, and re-offer; the indexed queues find the task by id.
+// The deadline benchmarks are the monotone mix, where one operation polls the
+// earliest task, re-queues it later and postpones another task, as a
+// dispatcher clock would. Queues carry over between invocations, so they are
+// measured in steady state.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class ReprioritizeBenchmark {
+
+    // Power of two, so the operations can cycle through the inputs with a mask
+    static final int OPERATIONS = 1024;
+    static final int PRIORITIES = 1_000_000;
+    static final long SEED = 42;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] targets;
+    private long[] priorities;
+    private QueuedTask[] tasks;
+    private PriorityQueue<QueuedTask> priorityQueue;
+    private IndexedPriorityQueue<QueuedTask> indexed;
+    private IntHeap intHeap;
+    private IndexedPriorityQueue<QueuedTask> indexedDeadlines;
+    private IndexedRadixHeap<QueuedTask> radixDeadlines;
+    private int cursor;
+
+    static final class QueuedTask {
+        final int id;
+        long priority;
+
+        QueuedTask(int id, long priority) {
+            this.id = id;
+            this.priority = priority;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        targets = new int[OPERATIONS];
+        priorities = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            targets[i] = random.nextInt(size);
+            priorities[i] = random.nextInt(PRIORITIES);
+        }
+        int[] initial = random.ints(size, 0, PRIORITIES).toArray();
+        tasks = new QueuedTask[size];
+        priorityQueue = new PriorityQueue<>(Comparator.comparingLong((QueuedTask t) -> t.priority));
+        indexed = new IndexedPriorityQueue<>();
+        indexedDeadlines = new IndexedPriorityQueue<>();
+        radixDeadlines = new IndexedRadixHeap<>();
+        for (int id = 0; id < size; id++) {
+            tasks[id] = new QueuedTask(id, initial[id]);
+            priorityQueue.offer(tasks[id]);
+            indexed.put(id, initial[id], tasks[id]);
+            indexedDeadlines.put(id, initial[id], tasks[id]);
+            radixDeadlines.put(id, initial[id], tasks[id]);
+        }
+        // Handle i belongs to initial[i], so handles are task ids
+        intHeap = PrimitiveHeap.builder().trackHandles(true).build(initial);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int priorityQueueRemoveOffer() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            QueuedTask task = tasks[targets[i]];
+            priorityQueue.remove(task);
+            task.priority = priorities[i];
+            priorityQueue.offer(task);
+        }
+        return priorityQueue.peek().id;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int indexedPriorityQueueUpdate() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            indexed.update(targets[i], priorities[i]);
+        }
+        return indexed.peekId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int intHeapUpdate() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            intHeap.update(targets[i], (int) priorities[i]);
+        }
+        return intHeap.peek();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int indexedPriorityQueueDeadlines() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            long now = indexedDeadlines.peekPriority();
+            int due = indexedDeadlines.pollId();
+            indexedDeadlines.put(due, now + priorities[i], tasks[due]);
+            int other = targets[i];
+            indexedDeadlines.update(other, Math.max(now, indexedDeadlines.priorityOf(other)) + 1_000);
+        }
+        return indexedDeadlines.peekId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int radixHeapDeadlines() {
+        for (int i = 0; i < OPERATIONS; i++) {
+            long now = radixDeadlines.peekPriority();
+            int due = radixDeadlines.pollId();
+            radixDeadlines.put(due, now + priorities[i], tasks[due]);
+            int other = targets[i];
+            radixDeadlines.update(other, Math.max(now, radixDeadlines.priorityOf(other)) + 1_000);
+        }
+        return radixDeadlines.peekId();
+    }
+}
@@ -0,0 +1,99 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import com.pcgs.core.java.pocs.heanque.PriorityQueueDemo.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.Random;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// TaskScheduler, relaxed and strict, against PriorityBlockingQueue<Task>.
+// Every thread submits a task and takes the most urgent one in turn, on
+// queues that start with backlog tasks. The relaxed scheduler is sized for
+// the benchmark's thread count; pick it on the command line, e.g.
+//   java -jar benchmarks.jar SchedulerBenchmark -t 1   (and -t 2, 4, ... 64)
+// The relaxed scheduler's inversion rate and rank error are printed at the
+// end of each trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SchedulerBenchmark {
+
+    // Power of two, so tasks can be picked with a mask
+    static final int TASKS = 1 << 16;
+    static final int URGENCIES = 1000;
+    static final long SEED = 42;
+
+    @Param({"1000", "100000"})
+    public int backlog;
+
+    private Task[] tasks;
+    private TaskScheduler<Task> relaxed;
+    private TaskScheduler<Task> strict;
+    private PriorityBlockingQueue<Task> blocking;
+
+    @Setup
+    public void setUp(BenchmarkParams params) {
+        Random random = new Random(SEED);
+        tasks = new Task[TASKS];
+        for (int i = 0; i < TASKS; i++) {
+            tasks[i] = new Task("task " + i, random.nextInt(URGENCIES));
+        }
+        relaxed = TaskScheduler.forTasks(params.getThreads());
+        strict = TaskScheduler.strict(task -> task.urgency);
+        blocking = new PriorityBlockingQueue<>(backlog, (a, b) -> Integer.compare(b.urgency, a.urgency));
+        for (int i = 0; i < backlog; i++) {
+            Task task = tasks[i & (TASKS - 1)];
+            relaxed.submit(task);
+            strict.submit(task);
+            blocking.offer(task);
+        }
+    }
+
+    @TearDown
+    public void report() {
+        if (relaxed.dispatched() == 0) {
+            return;
+        }
+        System.out.printf("%nrelaxed: %.2f%% inversions, mean rank error %.2f%n",
+                100 * relaxed.inversionRate(), relaxed.meanRankError());
+    }
+
+    private Task randomTask() {
+        return tasks[ThreadLocalRandom.current().nextInt(TASKS)];
+    }
+
+    @Benchmark
+    public Task relaxedScheduler() {
+        relaxed.submit(randomTask());
+        return relaxed.next();
+    }
+
+    @Benchmark
+    public Task strictScheduler() {
+        strict.submit(randomTask());
+        return strict.next();
+    }
+
+    @Benchmark
+    public Task priorityBlockingQueue() {
+        blocking.offer(randomTask());
+        return blocking.poll();
+    }
+}
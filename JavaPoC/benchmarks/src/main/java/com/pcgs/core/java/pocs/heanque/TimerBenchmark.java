@@ -0,0 +1,131 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Request-timeout churn: backlog timeouts stay pending, 1 to 60 s out, and
+// each operation cancels the oldest and schedules a new one. TimerWheel does
+// both in O(1); ScheduledThreadPoolExecutor (remove-on-cancel) in O(log n);
+// DelayQueue can only cancel with remove(Object), a linear scan. How late
+// timers fire is measured by TimerWheel.main, not here.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TimerBenchmark {
+
+    static final long MAX_DELAY_SECONDS = 60;
+
+    @Param({"10000", "1000000"})
+    public int backlog;
+
+    private static final Runnable NOOP = () -> { };
+
+    private ExecutorService executor;
+    private TimerWheel wheel;
+    private TimerWheel.Timeout[] timeouts;
+    private ScheduledThreadPoolExecutor pool;
+    private ScheduledFuture<?>[] futures;
+    private DelayQueue<DelayedTask> delayQueue;
+    private DelayedTask[] delayed;
+    private int oldest;
+
+    static final class DelayedTask implements Delayed {
+        final long deadlineNanos;
+
+        DelayedTask(long delayNanos) {
+            this.deadlineNanos = System.nanoTime() + delayNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((DelayedTask) other).deadlineNanos);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        wheel = TimerWheel.builder().executor(executor).build();
+        pool = new ScheduledThreadPoolExecutor(1);
+        pool.setRemoveOnCancelPolicy(true);
+        delayQueue = new DelayQueue<>();
+        timeouts = new TimerWheel.Timeout[backlog];
+        futures = new ScheduledFuture<?>[backlog];
+        delayed = new DelayedTask[backlog];
+        for (int i = 0; i < backlog; i++) {
+            long delay = randomDelay();
+            timeouts[i] = wheel.schedule(NOOP, delay, TimeUnit.NANOSECONDS);
+            futures[i] = pool.schedule(NOOP, delay, TimeUnit.NANOSECONDS);
+            delayed[i] = new DelayedTask(delay);
+            delayQueue.offer(delayed[i]);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        wheel.close();
+        pool.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private static long randomDelay() {
+        return ThreadLocalRandom.current().nextLong(
+                TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(MAX_DELAY_SECONDS));
+    }
+
+    private int nextOldest() {
+        int slot = oldest;
+        oldest = slot + 1 == backlog ? 0 : slot + 1;
+        return slot;
+    }
+
+    @Benchmark
+    public TimerWheel.Timeout timerWheel() {
+        int slot = nextOldest();
+        timeouts[slot].cancel();
+        return timeouts[slot] = wheel.schedule(NOOP, randomDelay(), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public ScheduledFuture<?> scheduledThreadPoolExecutor() {
+        int slot = nextOldest();
+        futures[slot].cancel(false);
+        return futures[slot] = pool.schedule(NOOP, randomDelay(), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public DelayedTask delayQueue() {
+        int slot = nextOldest();
+        delayQueue.remove(delayed[slot]);
+        delayed[slot] = new DelayedTask(randomDelay());
+        delayQueue.offer(delayed[slot]);
+        return delayed[slot];
+    }
+}
@@ -1,5 +1,7 @@
 package com.pcgs.core.java.pocs.MapSearch;
 
+import com.pcgs.core.java.pocs.algo.AvlTree;
+
 import java.util.*;
 
 // Employee class
@@ -29,198 +31,66 @@ class Employee implements Comparable<Employee> {
     }
 }
 
-// TreeNode class
-class TreeNode {
-    Employee employee;
-    TreeNode left;
-    TreeNode right;
-
-    public TreeNode(Employee employee) {
-        this.employee = employee;
-        this.left = null;
-        this.right = null;
-    }
-}
-
-// Binary Search Tree implementation
-class EmployeeBST {
-    private TreeNode root;
+// Balanced drop-in for EmployeeBST, backed by an AVL tree keyed by ID.
+// Same operations, but iterative and O(log n) whatever the insertion order,
+// so a sorted ID feed neither degenerates into a list nor overflows the stack.
+class BalancedEmployeeBST {
+    private final AvlTree<Integer, Employee> tree = new AvlTree<>();
 
-    public EmployeeBST() {
-        this.root = null;
-    }
-
-    // Insert employee into BST
+    // Insert employee; like EmployeeBST, duplicates are ignored
     public void insert(Employee employee) {
-        root = insertRecursive(root, employee);
-    }
-
-    private TreeNode insertRecursive(TreeNode node, Employee employee) {
-        if (node == null) {
-            return new TreeNode(employee);
-        }
-
-        if (employee.compareTo(node.employee) < 0) {
-            node.left = insertRecursive(node.left, employee);
-        } else if (employee.compareTo(node.employee) > 0) {
-            node.right = insertRecursive(node.right, employee);
+        if (!tree.containsKey(employee.getId())) {
+            tree.put(employee.getId(), employee);
         }
-        // If equal, we don't insert duplicates
-
-        return node;
     }
 
-    // In-Order Traversal (Left -> Root -> Right) - Returns sorted order
     public void inOrder() {
         System.out.println("\n=== In-Order Traversal (Sorted) ===");
-        inOrderRecursive(root);
-    }
-
-    private void inOrderRecursive(TreeNode node) {
-        if (node != null) {
-            inOrderRecursive(node.left);
-            System.out.println(node.employee);
-            inOrderRecursive(node.right);
-        }
+        tree.inorder((id, employee) -> System.out.println(employee));
     }
 
-    // Pre-Order Traversal (Root -> Left -> Right)
     public void preOrder() {
         System.out.println("\n=== Pre-Order Traversal ===");
-        preOrderRecursive(root);
+        tree.preorder((id, employee) -> System.out.println(employee));
     }
 
-    private void preOrderRecursive(TreeNode node) {
-        if (node != null) {
-            System.out.println(node.employee);
-            preOrderRecursive(node.left);
-            preOrderRecursive(node.right);
-        }
-    }
-
-    // Post-Order Traversal (Left -> Right -> Root)
     public void postOrder() {
         System.out.println("\n=== Post-Order Traversal ===");
-        postOrderRecursive(root);
+        tree.postorder((id, employee) -> System.out.println(employee));
     }
 
-    private void postOrderRecursive(TreeNode node) {
-        if (node != null) {
-            postOrderRecursive(node.left);
-            postOrderRecursive(node.right);
-            System.out.println(node.employee);
-        }
+    public void levelOrder() {
+        System.out.println("\n=== Level-Order Traversal ===");
+        tree.levelOrder((id, employee) -> System.out.println(employee));
     }
 
-    // Find minimum value (leftmost node)
     public Employee findMin() {
-        if (root == null) {
-            return null;
-        }
-        TreeNode minNode = findMinNode(root);
-        return minNode.employee;
-    }
-
-    private TreeNode findMinNode(TreeNode node) {
-        while (node.left != null) {
-            node = node.left;
-        }
-        return node;
+        return tree.isEmpty() ? null : tree.get(tree.firstKey());
     }
 
-    // Find maximum value (rightmost node)
     public Employee findMax() {
-        if (root == null) {
-            return null;
-        }
-        TreeNode maxNode = findMaxNode(root);
-        return maxNode.employee;
-    }
-
-    private TreeNode findMaxNode(TreeNode node) {
-        while (node.right != null) {
-            node = node.right;
-        }
-        return node;
+        return tree.isEmpty() ? null : tree.get(tree.lastKey());
     }
 
-    // Search for an employee by ID
     public Employee search(int id) {
-        TreeNode result = searchRecursive(root, id);
-        return result != null ? result.employee : null;
+        return tree.get(id);
     }
 
-    private TreeNode searchRecursive(TreeNode node, int id) {
-        if (node == null || node.employee.getId() == id) {
-            return node;
-        }
-
-        if (id < node.employee.getId()) {
-            return searchRecursive(node.left, id);
-        }
-        return searchRecursive(node.right, id);
-    }
-
-    // Delete employee by ID
     public void delete(int id) {
-        root = deleteRecursive(root, id);
-    }
-
-    private TreeNode deleteRecursive(TreeNode node, int id) {
-        if (node == null) {
-            return null;
-        }
-
-        // Find the node to delete
-        if (id < node.employee.getId()) {
-            node.left = deleteRecursive(node.left, id);
-        } else if (id > node.employee.getId()) {
-            node.right = deleteRecursive(node.right, id);
-        } else {
-            // Node found - handle three cases
-
-            // Case 1: Node with no children (leaf node)
-            if (node.left == null && node.right == null) {
-                System.out.println("Deleting leaf node: " + node.employee);
-                return null;
-            }
-
-            // Case 2: Node with one child
-            if (node.left == null) {
-                System.out.println("Deleting node with right child: " + node.employee);
-                return node.right;
-            }
-            if (node.right == null) {
-                System.out.println("Deleting node with left child: " + node.employee);
-                return node.left;
-            }
-
-            // Case 3: Node with two children
-            // Find inorder successor (minimum in right subtree)
-            System.out.println("Deleting node with two children: " + node.employee);
-            TreeNode successor = findMinNode(node.right);
-            node.employee = successor.employee;
-            node.right = deleteRecursive(node.right, successor.employee.getId());
-        }
-
-        return node;
+        tree.remove(id);
     }
 
-    // Get height of tree
+    // O(1): each node keeps its own height
     public int getHeight() {
-        return getHeightRecursive(root);
+        return tree.height();
     }
 
-    private int getHeightRecursive(TreeNode node) {
-        if (node == null) {
-            return 0;
-        }
-        return 1 + Math.max(getHeightRecursive(node.left), getHeightRecursive(node.right));
+    public int size() {
+        return tree.size();
     }
 
-    // Check if tree is empty
     public boolean isEmpty() {
-        return root == null;
+        return tree.isEmpty();
     }
 }
 
@@ -277,5 +147,17 @@ class BinarySearchTreeDemo {
         System.out.println("Minimum: " + bst.findMin());
         System.out.println("Maximum: " + bst.findMax());
         System.out.println("Tree height: " + bst.getHeight());
+
+        // Sorted IDs: the plain BST becomes a list, the balanced one does not
+        System.out.println("\n=== Sorted Insertion (10,000 IDs) ===");
+        EmployeeBST plain = new EmployeeBST();
+        BalancedEmployeeBST balanced = new BalancedEmployeeBST();
+        for (int id = 1; id <= 10_000; id++) {
+            Employee employee = new Employee(id, "Employee " + id, 50000);
+            plain.insert(employee);
+            balanced.insert(employee);
+        }
+        System.out.println("EmployeeBST height:         " + plain.getHeight());
+        System.out.println("BalancedEmployeeBST height: " + balanced.getHeight());
     }
 }
@@ -0,0 +1,303 @@
+package com.pcgs.core.java.pocs.MapSearch;
+
+import com.pcgs.core.java.pocs.algo.BPlusTree;
+import com.pcgs.core.java.pocs.algo.KeySort;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+// Employee directory backed by three B+ trees, one per lookup column:
+//   byId     - unique, the primary index
+//   bySalary - non-unique, keyed by the salary's bits remapped so that
+//              comparing the longs compares the doubles
+//   byName   - non-unique, keyed by the first NAME_KEY_CHARS chars of the
+//              name packed into a long, one byte each
+// The name key keeps the index on primitive arrays at the cost of precision:
+// names that agree on their first eight chars share a key, and chars above
+// 0xFF all map to 0xFF, so name lookups scan the run of equal keys and check
+// the full name. The keys still sort like the names do, so prefix queries
+// are a key range.
+//
+// Compared with EmployeeBST (one Employee and two pointers per node), a
+// lookup reads a handful of 64-key nodes, and a range of ids is read from
+// linked leaves instead of by walking the tree.
+class EmployeeIndex {
+
+    // Chars of a name that go into its key, 8 bits each
+    static final int NAME_KEY_CHARS = 8;
+
+    private final BPlusTree<Employee> byId;
+    private final BPlusTree<Employee> bySalary;
+    private final BPlusTree<Employee> byName;
+
+    public EmployeeIndex() {
+        this(new BPlusTree<>(), new BPlusTree<>(), new BPlusTree<>());
+    }
+
+    private EmployeeIndex(BPlusTree<Employee> byId, BPlusTree<Employee> bySalary, BPlusTree<Employee> byName) {
+        this.byId = byId;
+        this.bySalary = bySalary;
+        this.byName = byName;
+    }
+
+    // Builds all three indexes bottom-up. The input must be sorted by id with
+    // no id repeated; the secondary indexes are sorted here with KeySort's
+    // stable radix sort, so equal keys stay in id order.
+    public static EmployeeIndex bulkLoad(List<Employee> sortedById) {
+        Employee[] employees = sortedById.toArray(new Employee[0]);
+        long[] ids = new long[employees.length];
+        for (int i = 0; i < employees.length; i++) {
+            ids[i] = employees[i].getId();
+            if (i > 0 && ids[i] <= ids[i - 1]) {
+                throw new IllegalArgumentException("Employees are not sorted by unique id at index " + i);
+            }
+        }
+
+        Employee[] bySalaryOrder = employees.clone();
+        KeySort.sortByLong(bySalaryOrder, e -> salaryKey(e.getSalary()));
+        long[] salaryKeys = new long[employees.length];
+        for (int i = 0; i < employees.length; i++) {
+            salaryKeys[i] = salaryKey(bySalaryOrder[i].getSalary());
+        }
+
+        Employee[] byNameOrder = employees.clone();
+        KeySort.sortByLong(byNameOrder, e -> nameKey(e.getName()));
+        long[] nameKeys = new long[employees.length];
+        for (int i = 0; i < employees.length; i++) {
+            nameKeys[i] = nameKey(byNameOrder[i].getName());
+        }
+
+        return new EmployeeIndex(
+                BPlusTree.bulkLoad(ids, employees),
+                BPlusTree.bulkLoad(salaryKeys, bySalaryOrder),
+                BPlusTree.bulkLoad(nameKeys, byNameOrder));
+    }
+
+    // Insert or replace the employee with the same id; returns the replaced one
+    public Employee insert(Employee employee) {
+        Employee previous = byId.put(employee.getId(), employee);
+        if (previous != null) {
+            removeSecondary(previous);
+        }
+        bySalary.add(salaryKey(employee.getSalary()), employee);
+        byName.add(nameKey(employee.getName()), employee);
+        return previous;
+    }
+
+    public Employee get(int id) {
+        return byId.get(id);
+    }
+
+    // Delete employee by ID; returns it, or null if there was none
+    public Employee remove(int id) {
+        Employee removed = byId.remove(id);
+        if (removed != null) {
+            removeSecondary(removed);
+        }
+        return removed;
+    }
+
+    private void removeSecondary(Employee employee) {
+        bySalary.remove(salaryKey(employee.getSalary()), employee);
+        byName.remove(nameKey(employee.getName()), employee);
+    }
+
+    // Employees with from <= id <= to, in id order; returns how many
+    public int rangeById(int from, int to, Consumer<Employee> consumer) {
+        return byId.scan(from, to, (id, employee) -> consumer.accept(employee));
+    }
+
+    // Employees with min <= salary <= max, by salary; returns how many
+    public int salaryBetween(double min, double max, Consumer<Employee> consumer) {
+        return bySalary.scan(salaryKey(min), salaryKey(max), (key, employee) -> consumer.accept(employee));
+    }
+
+    public List<Employee> findByName(String name) {
+        List<Employee> found = new ArrayList<>();
+        long key = nameKey(name);
+        byName.scan(key, key, (k, employee) -> {
+            if (employee.getName().equals(name)) {
+                found.add(employee);
+            }
+        });
+        return found;
+    }
+
+    // Employees whose name starts with prefix, sorted by name then id
+    public List<Employee> nameStartsWith(String prefix) {
+        List<Employee> found = new ArrayList<>();
+        byName.scan(nameKey(prefix, (char) 0), nameKey(prefix, (char) 0xFF), (k, employee) -> {
+            if (employee.getName().startsWith(prefix)) {
+                found.add(employee);
+            }
+        });
+        found.sort(Comparator.comparing(Employee::getName).thenComparingInt(Employee::getId));
+        return found;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public boolean isEmpty() {
+        return byId.isEmpty();
+    }
+
+    // Flips the magnitude bits of negative doubles so their order matches
+    static long salaryKey(double salary) {
+        long bits = Double.doubleToLongBits(salary);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    static long nameKey(String name) {
+        return nameKey(name, (char) 0);
+    }
+
+    // First NAME_KEY_CHARS chars, capped at 0xFF, padded with padding. Capping
+    // and padding never reorder two names, so the keys sort like the names.
+    static long nameKey(String name, char padding) {
+        long key = 0;
+        for (int i = 0; i < NAME_KEY_CHARS; i++) {
+            char c = i < name.length() ? name.charAt(i) : padding;
+            key = key << 8 | Math.min(c, 0xFF);
+        }
+        // Unsigned to signed order
+        return key ^ Long.MIN_VALUE;
+    }
+
+    // Compares lookups, inserts and range scans with EmployeeBST and TreeMap
+    static void performanceComparison(int size) {
+        System.out.println("\n=== Performance Comparison (" + size + " employees) ===");
+        String[] first = {"Alice", "Bob", "Charlie", "Diana", "Eve", "Frank", "Grace", "Henry",
+                "Irene", "Jack", "Karen", "Leo", "Maria", "Nina", "Oscar", "Paul"};
+        String[] last = {"Brown", "Davis", "Garcia", "Johnson", "Jones", "Martinez", "Miller",
+                "Smith", "Taylor", "Wilson"};
+        Random random = new Random(42);
+        List<Employee> shuffled = new ArrayList<>();
+        for (int id = 1; id <= size; id++) {
+            String name = first[random.nextInt(first.length)] + " " + last[random.nextInt(last.length)];
+            shuffled.add(new Employee(id, name, 30_000 + random.nextInt(120_000)));
+        }
+        Collections.shuffle(shuffled, random);
+        List<Employee> sorted = new ArrayList<>(shuffled);
+        sorted.sort(Comparator.comparingInt(Employee::getId));
+        int[] probes = new int[1 << 20];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = 1 + random.nextInt(size);
+        }
+
+        EmployeeIndex[] index = {null};
+        EmployeeBST[] bst = {null};
+        TreeMap<Integer, Employee> treeMap = new TreeMap<>();
+        // EmployeeIndex maintains all three of its indexes on every insert
+        System.out.println("Inserts in random id order:");
+        System.out.printf("  EmployeeIndex:          %8.2f ms%n", time(() -> {
+            index[0] = new EmployeeIndex();
+            for (Employee employee : shuffled) {
+                index[0].insert(employee);
+            }
+        }));
+        System.out.printf("  EmployeeIndex.bulkLoad: %8.2f ms (sorted input)%n",
+                time(() -> index[0] = bulkLoad(sorted)));
+        System.out.printf("  EmployeeBST:            %8.2f ms%n", time(() -> {
+            bst[0] = new EmployeeBST();
+            for (Employee employee : shuffled) {
+                bst[0].insert(employee);
+            }
+        }));
+        System.out.printf("  TreeMap:                %8.2f ms%n", time(() -> {
+            treeMap.clear();
+            for (Employee employee : shuffled) {
+                treeMap.put(employee.getId(), employee);
+            }
+        }));
+
+        double[] sink = {0};
+        System.out.println(probes.length + " lookups by id:");
+        System.out.printf("  EmployeeIndex:          %8.2f ms%n", time(() -> {
+            for (int id : probes) {
+                sink[0] += index[0].get(id).getSalary();
+            }
+        }));
+        System.out.printf("  EmployeeBST:            %8.2f ms%n", time(() -> {
+            for (int id : probes) {
+                sink[0] += bst[0].search(id).getSalary();
+            }
+        }));
+        System.out.printf("  TreeMap:                %8.2f ms%n", time(() -> {
+            for (int id : probes) {
+                sink[0] += treeMap.get(id).getSalary();
+            }
+        }));
+
+        // EmployeeBST has no range query, so it looks up every id in the range
+        System.out.println("10,000 scans of 1,000 consecutive ids:");
+        System.out.printf("  EmployeeIndex:          %8.2f ms%n", time(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                index[0].rangeById(probes[i], probes[i] + 999, e -> sink[0] += e.getSalary());
+            }
+        }));
+        System.out.printf("  EmployeeBST:            %8.2f ms%n", time(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                for (int id = probes[i]; id <= Math.min(size, probes[i] + 999); id++) {
+                    sink[0] += bst[0].search(id).getSalary();
+                }
+            }
+        }));
+        System.out.printf("  TreeMap:                %8.2f ms%n", time(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                for (Employee e : treeMap.subMap(probes[i], true, probes[i] + 999, true).values()) {
+                    sink[0] += e.getSalary();
+                }
+            }
+        }));
+        System.out.printf("Secondary lookups: %d earn 50,000-50,100, %d named \"Grace Smith\" (checksum %.0f)%n",
+                index[0].salaryBetween(50_000, 50_100, e -> { }), index[0].findByName("Grace Smith").size(), sink[0]);
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable work) {
+        work.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            work.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    public static void main(String[] args) {
+        EmployeeIndex index = new EmployeeIndex();
+
+        System.out.println("=== Inserting Employees ===");
+        index.insert(new Employee(50, "John Doe", 75000));
+        index.insert(new Employee(30, "Jane Smith", 65000));
+        index.insert(new Employee(70, "Bob Johnson", 80000));
+        index.insert(new Employee(20, "Alice Brown", 55000));
+        index.insert(new Employee(40, "Charlie Davis", 70000));
+        index.insert(new Employee(60, "Diana Wilson", 72000));
+        index.insert(new Employee(80, "Eve Martinez", 65000));
+        index.insert(new Employee(90, "Jane Smithers", 90000));
+        System.out.println("Employees inserted: " + index.size());
+
+        System.out.println("\n=== Lookups ===");
+        System.out.println("ID 40: " + index.get(40));
+        System.out.println("IDs 30..60:");
+        index.rangeById(30, 60, System.out::println);
+        System.out.println("Salary 65,000..72,000:");
+        index.salaryBetween(65_000, 72_000, System.out::println);
+        System.out.println("Named \"Jane Smith\": " + index.findByName("Jane Smith"));
+        System.out.println("Names starting with \"Jane\": " + index.nameStartsWith("Jane"));
+
+        System.out.println("\n=== Update and Delete ===");
+        index.insert(new Employee(30, "Jane Smith", 68000));
+        System.out.println("Salary 65,000..66,000 after Jane's raise:");
+        index.salaryBetween(65_000, 66_000, System.out::println);
+        index.remove(70);
+        System.out.println("After deleting ID 70, size " + index.size() + ", ID 70: " + index.get(70));
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size);
+    }
+}
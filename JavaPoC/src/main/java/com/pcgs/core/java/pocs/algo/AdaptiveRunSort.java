@@ -0,0 +1,670 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class AdaptiveRunSort {
+
+    // Inputs shorter than this are sorted with a single binary insertion sort
+    static final int MIN_MERGE = 32;
+
+    // Consecutive wins by one run before a merge switches to galloping
+    static final int MIN_GALLOP = 7;
+
+    // ========================================
+    // Run Statistics
+    // ========================================
+    // Filled in while sorting, so callers can see how presorted their data was
+    // and how much of a full merge sort the existing order saved.
+
+    public static class RunStats {
+        int length;
+        int minRun;
+        int naturalRuns;
+        int ascendingRuns;
+        int descendingRuns;
+        int longestRun;
+        long elementsInLongRuns;     // elements in natural runs of at least minRun
+        long reversedElements;       // elements in descending runs flipped in place
+        long insertionSorted;        // elements added to short runs by binary insertion
+        int merges;
+        long mergedElements;         // elements actually moved by merges
+        long trimmedElements;        // elements left in place by the pre-merge gallops
+        int gallopModeEntries;
+        long gallopedElements;       // elements moved in bulk while galloping
+
+        public int getLength() { return length; }
+        public int getNaturalRuns() { return naturalRuns; }
+        public int getAscendingRuns() { return ascendingRuns; }
+        public int getDescendingRuns() { return descendingRuns; }
+        public int getLongestRun() { return longestRun; }
+        public int getMerges() { return merges; }
+        public long getMergedElements() { return mergedElements; }
+        public long getGallopedElements() { return gallopedElements; }
+
+        // Share of elements that were already inside a long natural run: 1.0 for
+        // sorted (or reverse sorted) input, close to 0.0 for random input
+        public double presortedness() {
+            return length == 0 ? 1.0 : (double) elementsInLongRuns / length;
+        }
+
+        // Merge work a merge sort of minRun-sized chunks would have done:
+        // every element moved once per level of the merge tree
+        public long fullMergeWork() {
+            if (length <= minRun) {
+                return 0;
+            }
+            long chunks = (length + (long) minRun - 1) / minRun;
+            int levels = 64 - Long.numberOfLeadingZeros(chunks - 1);
+            return (long) length * levels;
+        }
+
+        // Fraction of fullMergeWork() that was not needed
+        public double workSaved() {
+            long full = fullMergeWork();
+            return full == 0 ? 0.0 : 1.0 - (double) mergedElements / full;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("runs=%d (asc=%d, desc=%d), longest=%d, presorted=%.1f%%, "
+                            + "merges=%d, moved=%,d of %,d (%.1f%% saved), galloped=%,d",
+                    naturalRuns, ascendingRuns, descendingRuns, longestRun, presortedness() * 100,
+                    merges, mergedElements, fullMergeWork(), workSaved() * 100, gallopedElements);
+        }
+    }
+
+    // ========================================
+    // Sort State
+    // ========================================
+
+    private final int[] a;
+    private int[] tmp;
+    private int minGallop = MIN_GALLOP;
+    private final RunStats stats;
+
+    // Pending runs waiting to be merged; 49 entries cover any int-sized array
+    private final int[] runBase = new int[49];
+    private final int[] runLen = new int[49];
+    private int stackSize = 0;
+
+    private AdaptiveRunSort(int[] a, RunStats stats) {
+        this.a = a;
+        this.stats = stats;
+        this.tmp = new int[Math.min(256, a.length >>> 1)];
+    }
+
+    // ========================================
+    // Adaptive (Timsort-style) Sort
+    // ========================================
+    // 1. Find the next natural run; a strictly descending one is reversed in place
+    // 2. Extend runs shorter than minRun with binary insertion sort
+    // 3. Push the run and merge while the run lengths break the stack invariants
+    // 4. Merges trim elements already in place and gallop through long streaks
+
+    public static RunStats sort(int[] arr) {
+        return sort(arr, 0, arr.length);
+    }
+
+    public static RunStats sort(int[] arr, int lo, int hi) {
+        RunStats stats = new RunStats();
+        int remaining = hi - lo;
+        stats.length = remaining;
+        stats.minRun = minRunLength(remaining);
+        if (remaining < 2) {
+            return stats;
+        }
+
+        AdaptiveRunSort sorter = new AdaptiveRunSort(arr, stats);
+
+        // Small input: one run plus binary insertion sort, no merging
+        if (remaining < MIN_MERGE) {
+            int runLength = sorter.countRunAndMakeAscending(lo, hi);
+            sorter.binarySort(lo, hi, lo + runLength);
+            return stats;
+        }
+
+        int minRun = stats.minRun;
+        do {
+            int runLength = sorter.countRunAndMakeAscending(lo, hi);
+
+            if (runLength < minRun) {
+                int force = Math.min(remaining, minRun);
+                sorter.binarySort(lo, lo + force, lo + runLength);
+                runLength = force;
+            }
+
+            sorter.pushRun(lo, runLength);
+            sorter.mergeCollapse();
+
+            lo += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+
+        sorter.mergeForceCollapse();
+        return stats;
+    }
+
+    // Length of the run starting at lo, reversing it first if it is descending.
+    // Descending must be strict so reversing never reorders equal elements.
+    private int countRunAndMakeAscending(int lo, int hi) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            recordRun(1, true);
+            return 1;
+        }
+
+        if (a[runHi++] < a[lo]) {
+            while (runHi < hi && a[runHi] < a[runHi - 1]) {
+                runHi++;
+            }
+            reverseRange(lo, runHi);
+            stats.reversedElements += runHi - lo;
+            recordRun(runHi - lo, false);
+        } else {
+            while (runHi < hi && a[runHi] >= a[runHi - 1]) {
+                runHi++;
+            }
+            recordRun(runHi - lo, true);
+        }
+        return runHi - lo;
+    }
+
+    private void recordRun(int length, boolean ascending) {
+        stats.naturalRuns++;
+        if (ascending) {
+            stats.ascendingRuns++;
+        } else {
+            stats.descendingRuns++;
+        }
+        stats.longestRun = Math.max(stats.longestRun, length);
+        if (length >= stats.minRun) {
+            stats.elementsInLongRuns += length;
+        }
+    }
+
+    private void reverseRange(int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            int t = a[lo];
+            a[lo++] = a[hi];
+            a[hi--] = t;
+        }
+    }
+
+    // Sorts a[lo..hi) given that a[lo..start) is already sorted. Binary search
+    // finds each insertion point, then one arraycopy shifts the tail.
+    private void binarySort(int lo, int hi, int start) {
+        stats.insertionSorted += hi - start;
+        for (; start < hi; start++) {
+            int pivot = a[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int mid = (left + right) >>> 1;
+                if (pivot < a[mid]) {
+                    right = mid;
+                } else {
+                    left = mid + 1;
+                }
+            }
+            System.arraycopy(a, left, a, left + 1, start - left);
+            a[left] = pivot;
+        }
+    }
+
+    // Picks a minimum run length in [16, 32] such that n / minRun is a power
+    // of two or just below one, which keeps the final merges balanced
+    private static int minRunLength(int n) {
+        int r = 0;
+        while (n >= MIN_MERGE) {
+            r |= (n & 1);
+            n >>= 1;
+        }
+        return n + r;
+    }
+
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLen[stackSize] = length;
+        stackSize++;
+    }
+
+    // Keeps runLen[i - 2] > runLen[i - 1] + runLen[i] and runLen[i - 1] > runLen[i]
+    // for the top of the stack, so run lengths grow at least like Fibonacci numbers
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] <= runLen[n] + runLen[n + 1]
+                    || n > 1 && runLen[n - 2] <= runLen[n] + runLen[n - 1]) {
+                if (runLen[n - 1] < runLen[n + 1]) {
+                    n--;
+                }
+            } else if (runLen[n] > runLen[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLen[n - 1] < runLen[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    // Merges stack runs i and i + 1
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int len1 = runLen[i];
+        int base2 = runBase[i + 1];
+        int len2 = runLen[i + 1];
+
+        runLen[i] = len1 + len2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLen[i + 1] = runLen[i + 2];
+        }
+        stackSize--;
+        stats.merges++;
+
+        // Elements of run 1 already below run 2's first element stay where they are
+        int k = gallopRight(a[base2], a, base1, len1, 0);
+        base1 += k;
+        len1 -= k;
+        stats.trimmedElements += k;
+        if (len1 == 0) {
+            return;
+        }
+
+        // Likewise elements of run 2 already above run 1's last element
+        int keep = gallopLeft(a[base1 + len1 - 1], a, base2, len2, len2 - 1);
+        stats.trimmedElements += len2 - keep;
+        len2 = keep;
+        if (len2 == 0) {
+            return;
+        }
+
+        stats.mergedElements += len1 + len2;
+        if (len1 <= len2) {
+            mergeLo(base1, len1, base2, len2);
+        } else {
+            mergeHi(base1, len1, base2, len2);
+        }
+    }
+
+    // ========================================
+    // Galloping Search
+    // ========================================
+    // Exponential search from hint, then binary search inside the bracket found.
+    // Cheap when the answer is near hint, never worse than ~2 log n.
+
+    // Leftmost position in arr[base..base+len) where key could be inserted
+    private static int gallopLeft(int key, int[] arr, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (key > arr[base + hint]) {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && key > arr[base + hint + ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            lastOfs += hint;
+            ofs += hint;
+        } else {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && key <= arr[base + hint - ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            int t = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - t;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (key > arr[base + m]) {
+                lastOfs = m + 1;
+            } else {
+                ofs = m;
+            }
+        }
+        return ofs;
+    }
+
+    // Rightmost position in arr[base..base+len) where key could be inserted
+    private static int gallopRight(int key, int[] arr, int base, int len, int hint) {
+        int lastOfs = 0;
+        int ofs = 1;
+        if (key < arr[base + hint]) {
+            int maxOfs = hint + 1;
+            while (ofs < maxOfs && key < arr[base + hint - ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            int t = lastOfs;
+            lastOfs = hint - ofs;
+            ofs = hint - t;
+        } else {
+            int maxOfs = len - hint;
+            while (ofs < maxOfs && key >= arr[base + hint + ofs]) {
+                lastOfs = ofs;
+                ofs = (ofs << 1) + 1;
+                if (ofs <= 0) ofs = maxOfs;
+            }
+            if (ofs > maxOfs) ofs = maxOfs;
+            lastOfs += hint;
+            ofs += hint;
+        }
+
+        lastOfs++;
+        while (lastOfs < ofs) {
+            int m = lastOfs + ((ofs - lastOfs) >>> 1);
+            if (key < arr[base + m]) {
+                ofs = m;
+            } else {
+                lastOfs = m + 1;
+            }
+        }
+        return ofs;
+    }
+
+    // ========================================
+    // Merging with Galloping
+    // ========================================
+    // One-at-a-time merging until one run wins MIN_GALLOP times in a row, then
+    // gallop to copy whole streaks with arraycopy. minGallop adapts: it drops
+    // while galloping pays off and rises again when it does not.
+
+    // Merge when run 1 is the shorter one: copy it out, fill from the left
+    private void mergeLo(int base1, int len1, int base2, int len2) {
+        int[] a = this.a;
+        int[] tmp = ensureCapacity(len1);
+        System.arraycopy(a, base1, tmp, 0, len1);
+
+        int cursor1 = 0;
+        int cursor2 = base2;
+        int dest = base1;
+
+        // a[base2] is known to belong first (mergeAt trimmed run 1)
+        a[dest++] = a[cursor2++];
+        if (--len2 == 0) {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+            return;
+        }
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+            return;
+        }
+
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            do {
+                if (a[cursor2] < tmp[cursor1]) {
+                    a[dest++] = a[cursor2++];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 0) break outer;
+                } else {
+                    a[dest++] = tmp[cursor1++];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 1) break outer;
+                }
+            } while ((count1 | count2) < minGallop);
+
+            stats.gallopModeEntries++;
+            do {
+                count1 = gallopRight(a[cursor2], tmp, cursor1, len1, 0);
+                if (count1 != 0) {
+                    System.arraycopy(tmp, cursor1, a, dest, count1);
+                    dest += count1;
+                    cursor1 += count1;
+                    len1 -= count1;
+                    stats.gallopedElements += count1;
+                    if (len1 <= 1) break outer;
+                }
+                a[dest++] = a[cursor2++];
+                if (--len2 == 0) break outer;
+
+                count2 = gallopLeft(tmp[cursor1], a, cursor2, len2, 0);
+                if (count2 != 0) {
+                    System.arraycopy(a, cursor2, a, dest, count2);
+                    dest += count2;
+                    cursor2 += count2;
+                    len2 -= count2;
+                    stats.gallopedElements += count2;
+                    if (len2 == 0) break outer;
+                }
+                a[dest++] = tmp[cursor1++];
+                if (--len1 == 1) break outer;
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (minGallop < 0) minGallop = 0;
+            minGallop += 2;
+        }
+        this.minGallop = Math.max(1, minGallop);
+
+        if (len1 == 1) {
+            System.arraycopy(a, cursor2, a, dest, len2);
+            a[dest + len2] = tmp[cursor1];
+        } else {
+            System.arraycopy(tmp, cursor1, a, dest, len1);
+        }
+    }
+
+    // Merge when run 2 is the shorter one: copy it out, fill from the right
+    private void mergeHi(int base1, int len1, int base2, int len2) {
+        int[] a = this.a;
+        int[] tmp = ensureCapacity(len2);
+        System.arraycopy(a, base2, tmp, 0, len2);
+
+        int cursor1 = base1 + len1 - 1;
+        int cursor2 = len2 - 1;
+        int dest = base2 + len2 - 1;
+
+        // The last element of run 1 is known to belong last (mergeAt trimmed run 2)
+        a[dest--] = a[cursor1--];
+        if (--len1 == 0) {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+            return;
+        }
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+            return;
+        }
+
+        int minGallop = this.minGallop;
+        outer:
+        while (true) {
+            int count1 = 0;
+            int count2 = 0;
+
+            do {
+                if (tmp[cursor2] < a[cursor1]) {
+                    a[dest--] = a[cursor1--];
+                    count1++;
+                    count2 = 0;
+                    if (--len1 == 0) break outer;
+                } else {
+                    a[dest--] = tmp[cursor2--];
+                    count2++;
+                    count1 = 0;
+                    if (--len2 == 1) break outer;
+                }
+            } while ((count1 | count2) < minGallop);
+
+            stats.gallopModeEntries++;
+            do {
+                count1 = len1 - gallopRight(tmp[cursor2], a, base1, len1, len1 - 1);
+                if (count1 != 0) {
+                    dest -= count1;
+                    cursor1 -= count1;
+                    len1 -= count1;
+                    System.arraycopy(a, cursor1 + 1, a, dest + 1, count1);
+                    stats.gallopedElements += count1;
+                    if (len1 == 0) break outer;
+                }
+                a[dest--] = tmp[cursor2--];
+                if (--len2 == 1) break outer;
+
+                count2 = len2 - gallopLeft(a[cursor1], tmp, 0, len2, len2 - 1);
+                if (count2 != 0) {
+                    dest -= count2;
+                    cursor2 -= count2;
+                    len2 -= count2;
+                    System.arraycopy(tmp, cursor2 + 1, a, dest + 1, count2);
+                    stats.gallopedElements += count2;
+                    if (len2 <= 1) break outer;
+                }
+                a[dest--] = a[cursor1--];
+                if (--len1 == 0) break outer;
+                minGallop--;
+            } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+            if (minGallop < 0) minGallop = 0;
+            minGallop += 2;
+        }
+        this.minGallop = Math.max(1, minGallop);
+
+        if (len2 == 1) {
+            dest -= len1;
+            cursor1 -= len1;
+            System.arraycopy(a, cursor1 + 1, a, dest + 1, len1);
+            a[dest] = tmp[cursor2];
+        } else {
+            System.arraycopy(tmp, 0, a, dest - (len2 - 1), len2);
+        }
+    }
+
+    // Grows the merge buffer geometrically, capped at half the array
+    private int[] ensureCapacity(int minCapacity) {
+        if (tmp.length < minCapacity) {
+            int newSize = Integer.highestOneBit(minCapacity) << 1;
+            if (newSize < 0) {
+                newSize = minCapacity;
+            } else {
+                newSize = Math.min(newSize, a.length >>> 1);
+            }
+            tmp = new int[Math.max(newSize, minCapacity)];
+        }
+        return tmp;
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    // Time-ordered feeds: mostly sorted with a little disorder appended or mixed in
+    private static int[] generate(String shape, int size, Random random) {
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (shape) {
+                case "Sorted":
+                    arr[i] = i;
+                    break;
+                case "Reversed":
+                    arr[i] = size - i;
+                    break;
+                case "Sorted + 1% random tail":
+                    arr[i] = i < size - size / 100 ? i : random.nextInt(size);
+                    break;
+                case "Sorted, 1% swapped":
+                    arr[i] = i;
+                    break;
+                case "Sawtooth (100 runs)":
+                    arr[i] = i % (size / 100);
+                    break;
+                default:
+                    arr[i] = random.nextInt();
+            }
+        }
+        if (shape.equals("Sorted, 1% swapped")) {
+            for (int k = 0; k < size / 100; k++) {
+                int i = random.nextInt(size);
+                int j = random.nextInt(size);
+                int t = arr[i];
+                arr[i] = arr[j];
+                arr[j] = t;
+            }
+        }
+        return arr;
+    }
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      PERFORMANCE COMPARISON (%,d elements)%n", size);
+        System.out.println("════════════════════════════════════════════════");
+
+        Random random = new Random(42);
+        String[] shapes = {"Random", "Sorted", "Reversed", "Sorted + 1% random tail",
+                "Sorted, 1% swapped", "Sawtooth (100 runs)"};
+        for (String shape : shapes) {
+            int[] arr = generate(shape, size, random);
+
+            System.out.println("\n" + shape);
+            System.out.println("  " + sort(arr.clone()));
+            System.out.printf("  AdaptiveRunSort:         %8.2f ms%n", time(() -> sort(arr.clone())));
+            System.out.printf("  MergeSortClaude:         %8.2f ms%n", time(() -> MergeSortClaude.mergeSort(arr.clone())));
+            System.out.printf("  mergesortpcgs:           %8.2f ms%n",
+                    time(() -> mergesortpcgs.mergeSort(arr.clone(), 0, size)));
+            System.out.printf("  Arrays.sort:             %8.2f ms%n", time(() -> Arrays.sort(arr.clone())));
+        }
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      ADAPTIVE RUN SORT DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Example 1: Two ascending runs and one descending run
+        int[] arr1 = new int[60];
+        for (int i = 0; i < 60; i++) {
+            arr1[i] = i < 25 ? i * 2 : (i < 40 ? 100 - i : i);
+        }
+        System.out.println("Original: " + Arrays.toString(arr1));
+        RunStats stats = sort(arr1);
+        System.out.println("Sorted:   " + Arrays.toString(arr1));
+        System.out.println("Stats:    " + stats);
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size);
+    }
+}
@@ -0,0 +1,515 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+
+// ========================================
+// AVL Tree
+// ========================================
+// An ordered map that stays balanced: at every node the heights of the two
+// subtrees differ by at most one, so the height is below 1.45 * log2(n + 2)
+// whatever the insertion order. BinarySearchTree turns into a linked list
+// when fed sorted keys, and its recursive insertRec/deleteRec then overflow
+// the stack; here sorted input is just another input.
+//
+// Nothing recurses. insert and delete walk down once, remember the path in a
+// fixed array (an AVL tree of 2^31 nodes is at most 45 levels deep), and
+// walk back up it updating heights and rotating where a node is out of
+// balance. The traversals use explicit stacks and a queue. Each node stores
+// its own height, so height() is the root's; size() is a counter.
+//
+// Not thread-safe.
+public class AvlTree<K, V> {
+
+    // Longer than any possible path, see above
+    static final int MAX_HEIGHT = 64;
+
+    static final class Node<K, V> {
+        K key;
+        V value;
+        Node<K, V> left;
+        Node<K, V> right;
+        int height = 1;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    private final Comparator<? super K> comparator;
+    private Node<K, V> root;
+    private int size;
+
+    // Path from the root recorded by insert and delete, reused between calls
+    @SuppressWarnings("unchecked")
+    private final Node<K, V>[] path = (Node<K, V>[]) new Node<?, ?>[MAX_HEIGHT];
+
+    @SuppressWarnings("unchecked")
+    public AvlTree() {
+        this((Comparator<? super K>) Comparator.naturalOrder());
+    }
+
+    public AvlTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    // ========================================
+    // Search
+    // ========================================
+
+    public V get(K key) {
+        Node<K, V> node = find(key);
+        return node == null ? null : node.value;
+    }
+
+    public boolean containsKey(K key) {
+        return find(key) != null;
+    }
+
+    private Node<K, V> find(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return node;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    public K firstKey() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        Node<K, V> node = root;
+        while (node.left != null) {
+            node = node.left;
+        }
+        return node.key;
+    }
+
+    public K lastKey() {
+        if (root == null) {
+            throw new NoSuchElementException("Tree is empty");
+        }
+        Node<K, V> node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    // Greatest key <= key, or null
+    public K floorKey(K key) {
+        Node<K, V> node = root;
+        K best = null;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return node.key;
+            }
+            if (cmp > 0) {
+                best = node.key;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return best;
+    }
+
+    // Least key >= key, or null
+    public K ceilingKey(K key) {
+        Node<K, V> node = root;
+        K best = null;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return node.key;
+            }
+            if (cmp < 0) {
+                best = node.key;
+                node = node.left;
+            } else {
+                node = node.right;
+            }
+        }
+        return best;
+    }
+
+    // ========================================
+    // Insert
+    // ========================================
+
+    // Returns the previous value for key, or null if it was not present
+    public V put(K key, V value) {
+        if (root == null) {
+            root = new Node<>(key, value);
+            size = 1;
+            return null;
+        }
+        int depth = 0;
+        Node<K, V> node = root;
+        while (true) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                V previous = node.value;
+                node.value = value;
+                return previous;
+            }
+            path[depth++] = node;
+            Node<K, V> next = cmp < 0 ? node.left : node.right;
+            if (next == null) {
+                if (cmp < 0) {
+                    node.left = new Node<>(key, value);
+                } else {
+                    node.right = new Node<>(key, value);
+                }
+                break;
+            }
+            node = next;
+        }
+        size++;
+        retrace(depth);
+        return null;
+    }
+
+    // ========================================
+    // Delete
+    // ========================================
+
+    // Returns the removed value, or null if key was not present
+    public V remove(K key) {
+        int depth = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                break;
+            }
+            path[depth++] = node;
+            node = cmp < 0 ? node.left : node.right;
+        }
+        if (node == null) {
+            return null;
+        }
+        V removed = node.value;
+
+        if (node.left != null && node.right != null) {
+            // Two children: move the in-order successor's entry into node and
+            // unlink the successor instead, which has no left child
+            path[depth++] = node;
+            Node<K, V> successor = node.right;
+            while (successor.left != null) {
+                path[depth++] = successor;
+                successor = successor.left;
+            }
+            node.key = successor.key;
+            node.value = successor.value;
+            node = successor;
+        }
+
+        Node<K, V> child = node.left != null ? node.left : node.right;
+        if (depth == 0) {
+            root = child;
+        } else {
+            Node<K, V> parent = path[depth - 1];
+            if (parent.left == node) {
+                parent.left = child;
+            } else {
+                parent.right = child;
+            }
+        }
+        size--;
+        retrace(depth);
+        return removed;
+    }
+
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    // ========================================
+    // Rebalancing
+    // ========================================
+
+    // Walks back up the recorded path, fixing heights and rotating. Stops
+    // early once a subtree's height is unchanged and no rotation happened:
+    // nothing above it can have changed either.
+    private void retrace(int depth) {
+        for (int i = depth - 1; i >= 0; i--) {
+            Node<K, V> node = path[i];
+            int oldHeight = node.height;
+            Node<K, V> balanced = rebalance(node);
+            if (i == 0) {
+                root = balanced;
+            } else if (path[i - 1].left == node) {
+                path[i - 1].left = balanced;
+            } else {
+                path[i - 1].right = balanced;
+            }
+            path[i] = null;
+            if (balanced == node && node.height == oldHeight) {
+                for (int j = i - 1; j >= 0; j--) {
+                    path[j] = null;
+                }
+                return;
+            }
+        }
+    }
+
+    // Restores the AVL property at node, whose subtrees are both valid AVL
+    // trees differing in height by at most two; returns the subtree's new root
+    private Node<K, V> rebalance(Node<K, V> node) {
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        updateHeight(node);
+        return node;
+    }
+
+    private Node<K, V> rotateRight(Node<K, V> node) {
+        Node<K, V> left = node.left;
+        node.left = left.right;
+        left.right = node;
+        updateHeight(node);
+        updateHeight(left);
+        return left;
+    }
+
+    private Node<K, V> rotateLeft(Node<K, V> node) {
+        Node<K, V> right = node.right;
+        node.right = right.left;
+        right.left = node;
+        updateHeight(node);
+        updateHeight(right);
+        return right;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void updateHeight(Node<?, ?> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    // ========================================
+    // Size and Height
+    // ========================================
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Number of levels: 0 when empty, 1 for a single node
+    public int height() {
+        return height(root);
+    }
+
+    // ========================================
+    // Traversals
+    // ========================================
+    // Each visits every entry once, with an explicit stack or queue of at
+    // most height() (or, for level order, one level of) nodes.
+
+    // Left - node - right: ascending key order
+    public void inorder(BiConsumer<? super K, ? super V> visitor) {
+        ArrayDeque<Node<K, V>> stack = new ArrayDeque<>();
+        Node<K, V> node = root;
+        while (node != null || !stack.isEmpty()) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            visitor.accept(node.key, node.value);
+            node = node.right;
+        }
+    }
+
+    // Node - left - right
+    public void preorder(BiConsumer<? super K, ? super V> visitor) {
+        if (root == null) {
+            return;
+        }
+        ArrayDeque<Node<K, V>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node<K, V> node = stack.pop();
+            visitor.accept(node.key, node.value);
+            if (node.right != null) {
+                stack.push(node.right);
+            }
+            if (node.left != null) {
+                stack.push(node.left);
+            }
+        }
+    }
+
+    // Left - right - node. A node is visited when the walk comes back up
+    // from its right subtree (or it has none), tracked by the last visited node.
+    public void postorder(BiConsumer<? super K, ? super V> visitor) {
+        ArrayDeque<Node<K, V>> stack = new ArrayDeque<>();
+        Node<K, V> node = root;
+        Node<K, V> lastVisited = null;
+        while (node != null || !stack.isEmpty()) {
+            if (node != null) {
+                stack.push(node);
+                node = node.left;
+            } else {
+                Node<K, V> top = stack.peek();
+                if (top.right != null && top.right != lastVisited) {
+                    node = top.right;
+                } else {
+                    visitor.accept(top.key, top.value);
+                    lastVisited = stack.pop();
+                }
+            }
+        }
+    }
+
+    // Breadth-first, level by level from the root
+    public void levelOrder(BiConsumer<? super K, ? super V> visitor) {
+        if (root == null) {
+            return;
+        }
+        ArrayDeque<Node<K, V>> queue = new ArrayDeque<>();
+        queue.add(root);
+        while (!queue.isEmpty()) {
+            Node<K, V> node = queue.poll();
+            visitor.accept(node.key, node.value);
+            if (node.left != null) {
+                queue.add(node.left);
+            }
+            if (node.right != null) {
+                queue.add(node.right);
+            }
+        }
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      INSERTING %,d KEYS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int[] random = new Random(42).ints(size).toArray();
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = i;
+        }
+
+        for (String order : new String[]{"random", "sorted"}) {
+            int[] keys = order.equals("random") ? random : sorted;
+            System.out.println(order + " order:");
+            System.out.printf("  AvlTree:          %8.2f ms%n", time(() -> {
+                AvlTree<Integer, Integer> tree = new AvlTree<>();
+                for (int key : keys) {
+                    tree.put(key, key);
+                }
+            }));
+            System.out.printf("  TreeMap:          %8.2f ms%n", time(() -> {
+                TreeMap<Integer, Integer> tree = new TreeMap<>();
+                for (int key : keys) {
+                    tree.put(key, key);
+                }
+            }));
+            // The unbalanced tree is quadratic on sorted keys and recurses once
+            // per level, so it only gets a small prefix of them
+            int limit = order.equals("random") ? size : Math.min(size, 10_000);
+            System.out.printf("  BinarySearchTree: %8.2f ms (%,d keys)%n", time(() -> {
+                BinarySearchTree tree = new BinarySearchTree();
+                for (int i = 0; i < limit; i++) {
+                    tree.insert(keys[i]);
+                }
+            }), limit);
+        }
+
+        AvlTree<Integer, Integer> tree = new AvlTree<>();
+        for (int key : sorted) {
+            tree.put(key, key);
+        }
+        System.out.printf("%nAvlTree height after %,d sorted inserts: %d (log2 n = %.1f)%n",
+                size, tree.height(), Math.log(size) / Math.log(2));
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable inserts) {
+        inserts.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            inserts.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      AVL TREE DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Example 1: Sorted ids stay balanced
+        AvlTree<Integer, String> tree = new AvlTree<>();
+        String[] names = {"Ann", "Bob", "Cid", "Dee", "Eve", "Fay", "Gus"};
+        for (int i = 0; i < names.length; i++) {
+            tree.put((i + 1) * 10, names[i]);
+        }
+        System.out.println("Inserted ids 10..70 in order: size " + tree.size() + ", height " + tree.height());
+
+        // Example 2: Traversals
+        StringBuilder line = new StringBuilder();
+        tree.inorder((id, name) -> line.append(id).append(' '));
+        System.out.println("Inorder:     " + line);
+        line.setLength(0);
+        tree.preorder((id, name) -> line.append(id).append(' '));
+        System.out.println("Preorder:    " + line);
+        line.setLength(0);
+        tree.postorder((id, name) -> line.append(id).append(' '));
+        System.out.println("Postorder:   " + line);
+        line.setLength(0);
+        tree.levelOrder((id, name) -> line.append(id).append(' '));
+        System.out.println("Level order: " + line);
+
+        // Example 3: Lookups and deletes
+        System.out.println("\nget(40) = " + tree.get(40) + ", floorKey(45) = " + tree.floorKey(45)
+                + ", ceilingKey(45) = " + tree.ceilingKey(45));
+        tree.remove(40);
+        tree.remove(10);
+        System.out.println("After removing 40 and 10: size " + tree.size() + ", first " + tree.firstKey()
+                + ", last " + tree.lastKey());
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size);
+    }
+}
@@ -0,0 +1,710 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.TreeMap;
+
+// ========================================
+// B+ Tree
+// ========================================
+// An in-memory B+ tree from long keys to values. A binary tree node holds one
+// key and two pointers spread over the heap, so every level of a lookup is a
+// cache miss or more; here a node holds up to nodeSize keys in one long[],
+// searched with SortedSearch.lowerBound, and a million entries are four
+// levels deep. All entries live in the leaves, which are linked left to
+// right, so a range scan is one descent followed by sequential reads.
+//
+// Keys may repeat: put keeps them unique (replacing the value), add appends
+// another entry after the equal ones, which is what a secondary index on a
+// non-unique column needs. A run of equal keys may then straddle leaves, so
+// lookups descend to the first child that can hold the key and carry on into
+// the next leaf when needed.
+//
+// Nothing recurses. put, add and remove record the root path in fixed arrays
+// and split, borrow or merge nodes on the way back up.
+//
+// Not thread-safe.
+public class BPlusTree<V> {
+
+    // Keys per node: 64 longs are 512 bytes, eight cache lines, searched
+    // without a miss once the first is loaded
+    static final int DEFAULT_NODE_SIZE = 64;
+
+    // Smallest node size whose halves are both valid nodes after a split
+    static final int MIN_NODE_SIZE = 4;
+
+    // How full bulkLoad packs nodes, so that the next inserts do not split at once
+    static final double DEFAULT_FILL_FACTOR = 0.875;
+
+    // Longer than any possible path: every inner node has at least two children
+    static final int MAX_HEIGHT = 64;
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    static final class Node {
+        final long[] keys;
+        // Leaves: values[i] belongs to keys[i]; children is null
+        final Object[] values;
+        // Inner nodes: children[i] holds keys in [keys[i - 1], keys[i]]; values is null
+        final Node[] children;
+        // Next leaf to the right, null for the last leaf and inner nodes
+        Node next;
+        int count;
+
+        private Node(int nodeSize, boolean leaf) {
+            keys = new long[nodeSize];
+            values = leaf ? new Object[nodeSize] : null;
+            children = leaf ? null : new Node[nodeSize + 1];
+        }
+
+        static Node leaf(int nodeSize) {
+            return new Node(nodeSize, true);
+        }
+
+        static Node inner(int nodeSize) {
+            return new Node(nodeSize, false);
+        }
+
+        boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    private final int nodeSize;
+    // Fewest keys a node other than the root may keep after a remove
+    private final int minKeys;
+    private Node root;
+    private int size;
+    // Levels, counting the leaves: 1 while the root is a leaf
+    private int height = 1;
+
+    // Inner nodes and child slots on the path to the current leaf
+    private final Node[] path = new Node[MAX_HEIGHT];
+    private final int[] slots = new int[MAX_HEIGHT];
+
+    public BPlusTree() {
+        this(DEFAULT_NODE_SIZE);
+    }
+
+    public BPlusTree(int nodeSize) {
+        if (nodeSize < MIN_NODE_SIZE) {
+            throw new IllegalArgumentException("Node size must be at least " + MIN_NODE_SIZE + ": " + nodeSize);
+        }
+        this.nodeSize = nodeSize;
+        this.minKeys = nodeSize / 2;
+        this.root = Node.leaf(nodeSize);
+    }
+
+    // ========================================
+    // Bulk Load
+    // ========================================
+    // Builds the tree bottom-up from sorted input in O(n): cut the entries into
+    // leaves, then each level into parents, spreading the remainder so no node
+    // ends up nearly empty. Far faster than n inserts, and the nodes come out
+    // packed to fillFactor instead of half full after splits.
+
+    public static <V> BPlusTree<V> bulkLoad(long[] sortedKeys, V[] values) {
+        return bulkLoad(sortedKeys, values, DEFAULT_NODE_SIZE, DEFAULT_FILL_FACTOR);
+    }
+
+    public static <V> BPlusTree<V> bulkLoad(long[] sortedKeys, V[] values, int nodeSize, double fillFactor) {
+        if (sortedKeys.length != values.length) {
+            throw new IllegalArgumentException(
+                    "Got " + sortedKeys.length + " keys but " + values.length + " values");
+        }
+        if (!(fillFactor > 0 && fillFactor <= 1)) {
+            throw new IllegalArgumentException("Fill factor must be in (0, 1]: " + fillFactor);
+        }
+        for (int i = 1; i < sortedKeys.length; i++) {
+            if (sortedKeys[i] < sortedKeys[i - 1]) {
+                throw new IllegalArgumentException("Keys are not sorted at index " + i);
+            }
+        }
+        BPlusTree<V> tree = new BPlusTree<>(nodeSize);
+        int n = sortedKeys.length;
+        if (n == 0) {
+            return tree;
+        }
+        int perNode = Math.max(tree.minKeys, (int) (nodeSize * fillFactor));
+
+        int leafCount = ceilDiv(n, perNode);
+        Node[] level = new Node[leafCount];
+        long[] firstKeys = new long[leafCount];
+        int start = 0;
+        for (int i = 0; i < leafCount; i++) {
+            int length = n / leafCount + (i < n % leafCount ? 1 : 0);
+            Node leaf = Node.leaf(nodeSize);
+            System.arraycopy(sortedKeys, start, leaf.keys, 0, length);
+            System.arraycopy(values, start, leaf.values, 0, length);
+            leaf.count = length;
+            if (i > 0) {
+                level[i - 1].next = leaf;
+            }
+            level[i] = leaf;
+            firstKeys[i] = sortedKeys[start];
+            start += length;
+        }
+
+        int height = 1;
+        while (level.length > 1) {
+            int children = level.length;
+            int parentCount = ceilDiv(children, perNode + 1);
+            Node[] parents = new Node[parentCount];
+            long[] parentFirstKeys = new long[parentCount];
+            int child = 0;
+            for (int i = 0; i < parentCount; i++) {
+                int length = children / parentCount + (i < children % parentCount ? 1 : 0);
+                Node inner = Node.inner(nodeSize);
+                System.arraycopy(level, child, inner.children, 0, length);
+                System.arraycopy(firstKeys, child + 1, inner.keys, 0, length - 1);
+                inner.count = length - 1;
+                parents[i] = inner;
+                parentFirstKeys[i] = firstKeys[child];
+                child += length;
+            }
+            level = parents;
+            firstKeys = parentFirstKeys;
+            height++;
+        }
+        tree.root = level[0];
+        tree.height = height;
+        tree.size = n;
+        return tree;
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+
+    // ========================================
+    // Lookups
+    // ========================================
+
+    // Value of the first entry with key, or null
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        Node leaf = leafFor(key);
+        int pos = SortedSearch.lowerBound(leaf.keys, 0, leaf.count, key);
+        if (pos == leaf.count) {
+            leaf = leaf.next;
+            pos = 0;
+        }
+        return leaf != null && leaf.keys[pos] == key ? (V) leaf.values[pos] : null;
+    }
+
+    public boolean containsKey(long key) {
+        Node leaf = leafFor(key);
+        int pos = SortedSearch.lowerBound(leaf.keys, 0, leaf.count, key);
+        if (pos == leaf.count) {
+            leaf = leaf.next;
+            pos = 0;
+        }
+        return leaf != null && leaf.keys[pos] == key;
+    }
+
+    // Visits the entries with from <= key <= to in key order, equal keys in
+    // insertion order; returns how many were visited
+    @SuppressWarnings("unchecked")
+    public int scan(long from, long to, EntryConsumer<? super V> consumer) {
+        if (from > to) {
+            return 0;
+        }
+        Node leaf = leafFor(from);
+        int pos = SortedSearch.lowerBound(leaf.keys, 0, leaf.count, from);
+        int visited = 0;
+        while (leaf != null) {
+            for (int i = pos; i < leaf.count; i++) {
+                if (leaf.keys[i] > to) {
+                    return visited;
+                }
+                consumer.accept(leaf.keys[i], (V) leaf.values[i]);
+                visited++;
+            }
+            leaf = leaf.next;
+            pos = 0;
+        }
+        return visited;
+    }
+
+    // Visits every entry in key order
+    public void forEach(EntryConsumer<? super V> consumer) {
+        scan(Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+    }
+
+    // Leaf holding the first entry >= key, or the leaf just before it
+    private Node leafFor(long key) {
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[SortedSearch.lowerBound(node.keys, 0, node.count, key)];
+        }
+        return node;
+    }
+
+    // Same walk as leafFor, recording the path; descends past equal keys when upper
+    private Node descend(long key, boolean upper) {
+        Node node = root;
+        int depth = 0;
+        while (!node.isLeaf()) {
+            int slot = upper ? upperBound(node.keys, node.count, key)
+                    : SortedSearch.lowerBound(node.keys, 0, node.count, key);
+            path[depth] = node;
+            slots[depth] = slot;
+            depth++;
+            node = node.children[slot];
+        }
+        return node;
+    }
+
+    // Position of the first key > key
+    private static int upperBound(long[] keys, int count, long key) {
+        return key == Long.MAX_VALUE ? count : SortedSearch.lowerBound(keys, 0, count, key + 1);
+    }
+
+    // Moves the recorded path on to the next leaf and returns it, or null
+    // after the last leaf
+    private Node nextLeaf() {
+        int depth = height - 2;
+        while (depth >= 0 && slots[depth] == path[depth].count) {
+            depth--;
+        }
+        if (depth < 0) {
+            return null;
+        }
+        slots[depth]++;
+        Node node = path[depth].children[slots[depth]];
+        while (++depth < height - 1) {
+            path[depth] = node;
+            slots[depth] = 0;
+            node = node.children[0];
+        }
+        return node;
+    }
+
+    // ========================================
+    // Insert
+    // ========================================
+
+    // Sets the value of the first entry with key, or inserts one; returns the
+    // previous value or null
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        Node leaf = descend(key, false);
+        int pos = SortedSearch.lowerBound(leaf.keys, 0, leaf.count, key);
+        Node holder = leaf;
+        int index = pos;
+        if (pos == leaf.count && leaf.next != null) {
+            holder = leaf.next;
+            index = 0;
+        }
+        if (index < holder.count && holder.keys[index] == key) {
+            V previous = (V) holder.values[index];
+            holder.values[index] = value;
+            return previous;
+        }
+        insert(leaf, pos, key, value);
+        return null;
+    }
+
+    // Inserts another entry, after any with an equal key
+    public void add(long key, V value) {
+        Node leaf = descend(key, true);
+        insert(leaf, upperBound(leaf.keys, leaf.count, key), key, value);
+    }
+
+    private void insert(Node leaf, int pos, long key, Object value) {
+        size++;
+        if (leaf.count < nodeSize) {
+            insertEntry(leaf, pos, key, value);
+            return;
+        }
+        // Split the full leaf in half, then insert into the half pos falls in
+        Node right = Node.leaf(nodeSize);
+        int mid = (nodeSize + 1) / 2;
+        right.count = leaf.count - mid;
+        System.arraycopy(leaf.keys, mid, right.keys, 0, right.count);
+        System.arraycopy(leaf.values, mid, right.values, 0, right.count);
+        Arrays.fill(leaf.values, mid, leaf.count, null);
+        leaf.count = mid;
+        right.next = leaf.next;
+        leaf.next = right;
+        if (pos <= mid) {
+            insertEntry(leaf, pos, key, value);
+        } else {
+            insertEntry(right, pos - mid, key, value);
+        }
+        insertSeparator(right.keys[0], right);
+    }
+
+    private static void insertEntry(Node leaf, int pos, long key, Object value) {
+        System.arraycopy(leaf.keys, pos, leaf.keys, pos + 1, leaf.count - pos);
+        System.arraycopy(leaf.values, pos, leaf.values, pos + 1, leaf.count - pos);
+        leaf.keys[pos] = key;
+        leaf.values[pos] = value;
+        leaf.count++;
+    }
+
+    // Adds right as the child after the one on the recorded path at each
+    // level, splitting full inner nodes upwards and growing a new root last
+    private void insertSeparator(long separator, Node right) {
+        for (int depth = height - 2; depth >= 0; depth--) {
+            Node parent = path[depth];
+            int slot = slots[depth];
+            if (parent.count < nodeSize) {
+                System.arraycopy(parent.keys, slot, parent.keys, slot + 1, parent.count - slot);
+                System.arraycopy(parent.children, slot + 1, parent.children, slot + 2, parent.count - slot);
+                parent.keys[slot] = separator;
+                parent.children[slot + 1] = right;
+                parent.count++;
+                return;
+            }
+            // Lay out the nodeSize + 1 keys in scratch arrays, keep the lower
+            // half, move the upper half to a new sibling and pass the middle key up
+            long[] keys = new long[nodeSize + 1];
+            Node[] children = new Node[nodeSize + 2];
+            System.arraycopy(parent.keys, 0, keys, 0, slot);
+            keys[slot] = separator;
+            System.arraycopy(parent.keys, slot, keys, slot + 1, nodeSize - slot);
+            System.arraycopy(parent.children, 0, children, 0, slot + 1);
+            children[slot + 1] = right;
+            System.arraycopy(parent.children, slot + 1, children, slot + 2, nodeSize - slot);
+
+            int mid = (nodeSize + 1) / 2;
+            Node sibling = Node.inner(nodeSize);
+            System.arraycopy(keys, 0, parent.keys, 0, mid);
+            System.arraycopy(children, 0, parent.children, 0, mid + 1);
+            Arrays.fill(parent.children, mid + 1, nodeSize + 1, null);
+            parent.count = mid;
+            sibling.count = nodeSize - mid;
+            System.arraycopy(keys, mid + 1, sibling.keys, 0, sibling.count);
+            System.arraycopy(children, mid + 1, sibling.children, 0, sibling.count + 1);
+            separator = keys[mid];
+            right = sibling;
+        }
+        Node newRoot = Node.inner(nodeSize);
+        newRoot.keys[0] = separator;
+        newRoot.children[0] = root;
+        newRoot.children[1] = right;
+        newRoot.count = 1;
+        root = newRoot;
+        height++;
+    }
+
+    // ========================================
+    // Remove
+    // ========================================
+
+    // Removes the first entry with key; returns its value or null
+    public V remove(long key) {
+        return remove(key, null, true);
+    }
+
+    // Removes the first entry with key and a value equal to value; returns
+    // whether there was one
+    public boolean remove(long key, V value) {
+        int before = size;
+        remove(key, value, false);
+        return size < before;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V remove(long key, Object value, boolean anyValue) {
+        Node leaf = descend(key, false);
+        int pos = SortedSearch.lowerBound(leaf.keys, 0, leaf.count, key);
+        while (true) {
+            if (pos == leaf.count) {
+                leaf = nextLeaf();
+                if (leaf == null) {
+                    return null;
+                }
+                pos = 0;
+            }
+            if (leaf.keys[pos] != key) {
+                return null;
+            }
+            if (anyValue || Objects.equals(leaf.values[pos], value)) {
+                break;
+            }
+            pos++;
+        }
+        V removed = (V) leaf.values[pos];
+        System.arraycopy(leaf.keys, pos + 1, leaf.keys, pos, leaf.count - pos - 1);
+        System.arraycopy(leaf.values, pos + 1, leaf.values, pos, leaf.count - pos - 1);
+        leaf.values[--leaf.count] = null;
+        size--;
+        fixUnderflow(leaf);
+        return removed;
+    }
+
+    // Walks up the recorded path while the node has fewer than minKeys keys:
+    // borrow one from a sibling that can spare it, otherwise merge with a
+    // sibling, which takes a key out of the parent and may underflow it in turn
+    private void fixUnderflow(Node node) {
+        for (int depth = height - 2; depth >= 0 && node.count < minKeys; depth--) {
+            Node parent = path[depth];
+            int slot = slots[depth];
+            Node left = slot > 0 ? parent.children[slot - 1] : null;
+            Node right = slot < parent.count ? parent.children[slot + 1] : null;
+            if (left != null && left.count > minKeys) {
+                borrowFromLeft(parent, slot, left, node);
+                return;
+            }
+            if (right != null && right.count > minKeys) {
+                borrowFromRight(parent, slot, node, right);
+                return;
+            }
+            if (left != null) {
+                merge(parent, slot - 1, left, node);
+            } else {
+                merge(parent, slot, node, right);
+            }
+            node = parent;
+        }
+        if (!root.isLeaf() && root.count == 0) {
+            root = root.children[0];
+            height--;
+        }
+    }
+
+    private static void borrowFromLeft(Node parent, int slot, Node left, Node node) {
+        if (node.isLeaf()) {
+            System.arraycopy(node.keys, 0, node.keys, 1, node.count);
+            System.arraycopy(node.values, 0, node.values, 1, node.count);
+            node.keys[0] = left.keys[left.count - 1];
+            node.values[0] = left.values[left.count - 1];
+            left.values[left.count - 1] = null;
+            parent.keys[slot - 1] = node.keys[0];
+        } else {
+            System.arraycopy(node.keys, 0, node.keys, 1, node.count);
+            System.arraycopy(node.children, 0, node.children, 1, node.count + 1);
+            node.keys[0] = parent.keys[slot - 1];
+            node.children[0] = left.children[left.count];
+            left.children[left.count] = null;
+            parent.keys[slot - 1] = left.keys[left.count - 1];
+        }
+        left.count--;
+        node.count++;
+    }
+
+    private static void borrowFromRight(Node parent, int slot, Node node, Node right) {
+        if (node.isLeaf()) {
+            node.keys[node.count] = right.keys[0];
+            node.values[node.count] = right.values[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.count - 1);
+            System.arraycopy(right.values, 1, right.values, 0, right.count - 1);
+            right.values[right.count - 1] = null;
+            parent.keys[slot] = right.keys[0];
+        } else {
+            node.keys[node.count] = parent.keys[slot];
+            node.children[node.count + 1] = right.children[0];
+            parent.keys[slot] = right.keys[0];
+            System.arraycopy(right.keys, 1, right.keys, 0, right.count - 1);
+            System.arraycopy(right.children, 1, right.children, 0, right.count);
+            right.children[right.count] = null;
+        }
+        right.count--;
+        node.count++;
+    }
+
+    // Appends right to left and drops the separator between them from parent
+    private static void merge(Node parent, int separator, Node left, Node right) {
+        if (left.isLeaf()) {
+            System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+            System.arraycopy(right.values, 0, left.values, left.count, right.count);
+            left.count += right.count;
+            left.next = right.next;
+        } else {
+            left.keys[left.count] = parent.keys[separator];
+            System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+            System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+            left.count += right.count + 1;
+        }
+        System.arraycopy(parent.keys, separator + 1, parent.keys, separator, parent.count - separator - 1);
+        System.arraycopy(parent.children, separator + 2, parent.children, separator + 1,
+                parent.count - separator - 1);
+        parent.children[parent.count] = null;
+        parent.count--;
+    }
+
+    public void clear() {
+        root = Node.leaf(nodeSize);
+        size = 0;
+        height = 1;
+    }
+
+    // ========================================
+    // Size and Shape
+    // ========================================
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Levels including the leaves, so a lookup reads height() nodes
+    public int height() {
+        return height;
+    }
+
+    public int nodeSize() {
+        return nodeSize;
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      B+ TREE VS BINARY TREES, %,d KEYS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Random random = new Random(42);
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        long[] probes = new long[1 << 20];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = keys[random.nextInt(size)];
+        }
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        Long[] boxed = new Long[size];
+        for (int i = 0; i < size; i++) {
+            boxed[i] = sorted[i];
+        }
+
+        BPlusTree<Long> bTree = new BPlusTree<>();
+        AvlTree<Long, Long> avl = new AvlTree<>();
+        TreeMap<Long, Long> treeMap = new TreeMap<>();
+        System.out.println("Random inserts:");
+        System.out.printf("  BPlusTree: %8.2f ms%n", time(() -> {
+            bTree.clear();
+            for (long key : keys) {
+                bTree.put(key, key);
+            }
+        }));
+        System.out.printf("  AvlTree:   %8.2f ms%n", time(() -> {
+            avl.clear();
+            for (long key : keys) {
+                avl.put(key, key);
+            }
+        }));
+        System.out.printf("  TreeMap:   %8.2f ms%n", time(() -> {
+            treeMap.clear();
+            for (long key : keys) {
+                treeMap.put(key, key);
+            }
+        }));
+        System.out.printf("  bulkLoad:  %8.2f ms (sorted input)%n", time(() -> bulkLoad(sorted, boxed)));
+
+        long[] sink = new long[1];
+        System.out.printf("%n%,d random lookups:%n", probes.length);
+        System.out.printf("  BPlusTree: %8.2f ms%n", time(() -> {
+            for (long probe : probes) {
+                sink[0] += bTree.get(probe);
+            }
+        }));
+        System.out.printf("  AvlTree:   %8.2f ms%n", time(() -> {
+            for (long probe : probes) {
+                sink[0] += avl.get(probe);
+            }
+        }));
+        System.out.printf("  TreeMap:   %8.2f ms%n", time(() -> {
+            for (long probe : probes) {
+                sink[0] += treeMap.get(probe);
+            }
+        }));
+
+        // 10,000 scans over a key range holding about 1,000 entries each
+        long span = 1000L * Integer.MAX_VALUE / size;
+        System.out.println("\n10,000 range scans of ~1,000 entries:");
+        System.out.printf("  BPlusTree: %8.2f ms%n", time(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                long from = probes[i];
+                bTree.scan(from, from + span, (key, value) -> sink[0] += key);
+            }
+        }));
+        System.out.printf("  TreeMap:   %8.2f ms%n", time(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                long from = probes[i];
+                for (Long key : treeMap.subMap(from, true, from + span, true).keySet()) {
+                    sink[0] += key;
+                }
+            }
+        }));
+        System.out.printf("%nB+ tree height %d, AVL tree height %d (checksum %d)%n",
+                bTree.height(), avl.height(), sink[0]);
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable work) {
+        work.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            work.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      B+ TREE DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Example 1: Unique keys with put, small nodes to show the splits
+        BPlusTree<String> tree = new BPlusTree<>(4);
+        for (int id = 10; id <= 200; id += 10) {
+            tree.put(id, "employee-" + id);
+        }
+        System.out.println("20 sorted puts into nodes of 4: size " + tree.size() + ", height " + tree.height());
+        System.out.println("get(70) = " + tree.get(70) + ", get(75) = " + tree.get(75));
+
+        // Example 2: Range scan along the leaf chain
+        StringBuilder line = new StringBuilder();
+        tree.scan(55, 125, (key, value) -> line.append(key).append(' '));
+        System.out.println("Keys in [55, 125]: " + line);
+
+        // Example 3: Duplicate keys with add, removed by value
+        BPlusTree<String> bySalary = new BPlusTree<>(4);
+        String[] names = {"Ann", "Bob", "Cid", "Dee", "Eve"};
+        long[] salaries = {50_000, 65_000, 50_000, 80_000, 50_000};
+        for (int i = 0; i < names.length; i++) {
+            bySalary.add(salaries[i], names[i]);
+        }
+        line.setLength(0);
+        bySalary.scan(50_000, 50_000, (key, value) -> line.append(value).append(' '));
+        System.out.println("\nSalary 50,000: " + line);
+        bySalary.remove(50_000, "Cid");
+        line.setLength(0);
+        bySalary.forEach((key, value) -> line.append(value).append('=').append(key).append(' '));
+        System.out.println("After removing Cid: " + line);
+
+        // Example 4: Bulk load
+        long[] ids = new long[1000];
+        String[] values = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i * 2L;
+            values[i] = "employee-" + ids[i];
+        }
+        BPlusTree<String> loaded = bulkLoad(ids, values);
+        System.out.println("\nBulk loaded " + loaded.size() + " entries: height " + loaded.height()
+                + ", get(998) = " + loaded.get(998));
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size);
+    }
+}
@@ -0,0 +1,335 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public class BatchSearch {
+
+    // Searches advanced in lockstep by the interleaved lookup
+    static final int GROUP = 16;
+
+    // Probe sets below this size are never split across threads
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // ========================================
+    // Sorted Probes: One Merge-Like Pass
+    // ========================================
+    // When the probe keys are sorted too, each answer lies at or after the
+    // previous one, so the table is walked once from left to right. Between
+    // two probes the walk gallops - steps of 1, 2, 4, 8... until it passes
+    // the key, then a binary search inside the last step - so the cost is
+    // O(m log(n / m)): close to a linear merge when probes are dense, close
+    // to m independent searches when they are sparse. Every access is near
+    // the previous one, so the walk streams through the table in cache order.
+    //
+    // out[i] receives the position of sortedProbes[i] in sorted, or -1. With
+    // duplicate keys in the table it is the first one, as in SortedSearch.
+
+    public static void indexOfSorted(int[] sorted, int[] sortedProbes, int[] out) {
+        checkOutput(sortedProbes.length, out);
+        indexOfSorted(sorted, sortedProbes, out, 0, sortedProbes.length);
+    }
+
+    private static void indexOfSorted(int[] sorted, int[] probes, int[] out, int from, int to) {
+        int n = sorted.length;
+        int pos = 0;
+        for (int i = from; i < to; i++) {
+            int key = probes[i];
+            if (i > from && key < probes[i - 1]) {
+                throw new IllegalArgumentException("Probes are not sorted at index " + i);
+            }
+            // Everything before pos is < key; gallop until sorted[hi] >= key
+            int hi = pos;
+            int step = 1;
+            while (hi < n && sorted[hi] < key) {
+                pos = hi + 1;
+                hi = (int) Math.min(n, (long) pos + step);
+                step <<= 1;
+            }
+            pos = SortedSearch.lowerBound(sorted, pos, hi, key);
+            out[i] = pos < n && sorted[pos] == key ? pos : -1;
+        }
+    }
+
+    // ========================================
+    // Unsorted Probes: Interleaved Searches
+    // ========================================
+    // A single binary search is a chain of dependent loads: the next index is
+    // unknown until the current element arrives, so on a table larger than
+    // the cache it waits out one full miss per level. Searching GROUP keys in
+    // lockstep - every search takes one step before any takes the next - puts
+    // GROUP independent loads in flight at once, and the CPU overlaps their
+    // misses. Each step is the branchless one from SortedSearch, and since
+    // every search over the same table takes exactly the same number of
+    // steps, the lockstep loop needs no per-search bookkeeping.
+
+    public static void indexOfAll(int[] sorted, int[] probes, int[] out) {
+        checkOutput(probes.length, out);
+        indexOfAll(sorted, probes, out, 0, probes.length);
+    }
+
+    private static void indexOfAll(int[] sorted, int[] probes, int[] out, int from, int to) {
+        int n = sorted.length;
+        if (n == 0) {
+            Arrays.fill(out, from, to, -1);
+            return;
+        }
+        int[] bases = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int group = Math.min(GROUP, to - start);
+            Arrays.fill(bases, 0);
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int j = 0; j < group; j++) {
+                    int base = bases[j];
+                    bases[j] = sorted[base + half] < probes[start + j] ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int j = 0; j < group; j++) {
+                int key = probes[start + j];
+                int pos = bases[j] + (sorted[bases[j]] < key ? 1 : 0);
+                out[start + j] = pos < n && sorted[pos] == key ? pos : -1;
+            }
+        }
+    }
+
+    // ========================================
+    // Parallel Versions
+    // ========================================
+    // The probes are split into one contiguous range per thread and each
+    // range is answered on its own; the table is only read, and every thread
+    // writes a disjoint slice of out. For sorted probes each range starts
+    // its walk at the front of the table, which costs one gallop of
+    // O(log n) - the same as one lookup.
+
+    public static void parallelIndexOfSorted(int[] sorted, int[] sortedProbes, int[] out) {
+        checkOutput(sortedProbes.length, out);
+        int m = sortedProbes.length;
+        int chunks = chunkCount(m);
+        int chunkSize = (m + chunks - 1) / chunks;
+        checkSortedAcrossChunks(sortedProbes, chunks, chunkSize);
+        forEachChunk(chunks, c -> indexOfSorted(sorted, sortedProbes, out,
+                Math.min(m, c * chunkSize), Math.min(m, (c + 1) * chunkSize)));
+    }
+
+    public static void parallelIndexOfAll(int[] sorted, int[] probes, int[] out) {
+        checkOutput(probes.length, out);
+        int m = probes.length;
+        int chunks = chunkCount(m);
+        int chunkSize = (m + chunks - 1) / chunks;
+        forEachChunk(chunks, c -> indexOfAll(sorted, probes, out,
+                Math.min(m, c * chunkSize), Math.min(m, (c + 1) * chunkSize)));
+    }
+
+    // ========================================
+    // long[]
+    // ========================================
+    // Same lookups over long keys.
+
+    public static void indexOfSorted(long[] sorted, long[] sortedProbes, int[] out) {
+        checkOutput(sortedProbes.length, out);
+        indexOfSorted(sorted, sortedProbes, out, 0, sortedProbes.length);
+    }
+
+    private static void indexOfSorted(long[] sorted, long[] probes, int[] out, int from, int to) {
+        int n = sorted.length;
+        int pos = 0;
+        for (int i = from; i < to; i++) {
+            long key = probes[i];
+            if (i > from && key < probes[i - 1]) {
+                throw new IllegalArgumentException("Probes are not sorted at index " + i);
+            }
+            int hi = pos;
+            int step = 1;
+            while (hi < n && sorted[hi] < key) {
+                pos = hi + 1;
+                hi = (int) Math.min(n, (long) pos + step);
+                step <<= 1;
+            }
+            pos = SortedSearch.lowerBound(sorted, pos, hi, key);
+            out[i] = pos < n && sorted[pos] == key ? pos : -1;
+        }
+    }
+
+    public static void indexOfAll(long[] sorted, long[] probes, int[] out) {
+        checkOutput(probes.length, out);
+        indexOfAll(sorted, probes, out, 0, probes.length);
+    }
+
+    private static void indexOfAll(long[] sorted, long[] probes, int[] out, int from, int to) {
+        int n = sorted.length;
+        if (n == 0) {
+            Arrays.fill(out, from, to, -1);
+            return;
+        }
+        int[] bases = new int[GROUP];
+        for (int start = from; start < to; start += GROUP) {
+            int group = Math.min(GROUP, to - start);
+            Arrays.fill(bases, 0);
+            int length = n;
+            while (length > 1) {
+                int half = length >>> 1;
+                for (int j = 0; j < group; j++) {
+                    int base = bases[j];
+                    bases[j] = sorted[base + half] < probes[start + j] ? base + half : base;
+                }
+                length -= half;
+            }
+            for (int j = 0; j < group; j++) {
+                long key = probes[start + j];
+                int pos = bases[j] + (sorted[bases[j]] < key ? 1 : 0);
+                out[start + j] = pos < n && sorted[pos] == key ? pos : -1;
+            }
+        }
+    }
+
+    public static void parallelIndexOfSorted(long[] sorted, long[] sortedProbes, int[] out) {
+        checkOutput(sortedProbes.length, out);
+        int m = sortedProbes.length;
+        int chunks = chunkCount(m);
+        int chunkSize = (m + chunks - 1) / chunks;
+        checkSortedAcrossChunks(sortedProbes, chunks, chunkSize);
+        forEachChunk(chunks, c -> indexOfSorted(sorted, sortedProbes, out,
+                Math.min(m, c * chunkSize), Math.min(m, (c + 1) * chunkSize)));
+    }
+
+    public static void parallelIndexOfAll(long[] sorted, long[] probes, int[] out) {
+        checkOutput(probes.length, out);
+        int m = probes.length;
+        int chunks = chunkCount(m);
+        int chunkSize = (m + chunks - 1) / chunks;
+        forEachChunk(chunks, c -> indexOfAll(sorted, probes, out,
+                Math.min(m, c * chunkSize), Math.min(m, (c + 1) * chunkSize)));
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private static void checkOutput(int probes, int[] out) {
+        if (out.length < probes) {
+            throw new IllegalArgumentException("Output holds " + out.length + " results, need " + probes);
+        }
+    }
+
+    // Each chunk checks its own order; only the boundaries between chunks are left
+    private static void checkSortedAcrossChunks(int[] probes, int chunks, int chunkSize) {
+        for (int c = 1; c < chunks && c * chunkSize < probes.length; c++) {
+            if (probes[c * chunkSize] < probes[c * chunkSize - 1]) {
+                throw new IllegalArgumentException("Probes are not sorted at index " + c * chunkSize);
+            }
+        }
+    }
+
+    private static void checkSortedAcrossChunks(long[] probes, int chunks, int chunkSize) {
+        for (int c = 1; c < chunks && c * chunkSize < probes.length; c++) {
+            if (probes[c * chunkSize] < probes[c * chunkSize - 1]) {
+                throw new IllegalArgumentException("Probes are not sorted at index " + c * chunkSize);
+            }
+        }
+    }
+
+    private static int chunkCount(int m) {
+        if (m < PARALLEL_THRESHOLD) {
+            return 1;
+        }
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), m / (PARALLEL_THRESHOLD / 4)));
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer task) {
+        if (chunks == 1) {
+            task.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(task);
+        }
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      1M LOOKUPS IN %,d SORTED INTS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Random random = new Random(42);
+        int[] sorted = random.ints(size, 0, Integer.MAX_VALUE).sorted().toArray();
+        int[] probes = new int[1 << 20];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextBoolean() ? sorted[random.nextInt(size)] : random.nextInt(Integer.MAX_VALUE);
+        }
+        int[] sortedProbes = probes.clone();
+        Arrays.sort(sortedProbes);
+        int[] out = new int[probes.length];
+
+        System.out.printf("  One at a time (branchless):  %8.2f ms%n", time(() -> {
+            for (int i = 0; i < probes.length; i++) {
+                out[i] = SortedSearch.indexOf(sorted, probes[i]);
+            }
+        }));
+        System.out.printf("  Interleaved (%d in flight):  %8.2f ms%n", GROUP, time(() -> indexOfAll(sorted, probes, out)));
+        System.out.printf("  Parallel interleaved:        %8.2f ms%n", time(() -> parallelIndexOfAll(sorted, probes, out)));
+        System.out.printf("  Sorted probes, one pass:     %8.2f ms%n", time(() -> indexOfSorted(sorted, sortedProbes, out)));
+        System.out.printf("  Sorted probes, parallel:     %8.2f ms%n",
+                time(() -> parallelIndexOfSorted(sorted, sortedProbes, out)));
+        System.out.printf("  Sort probes + one pass:      %8.2f ms%n", time(() -> {
+            int[] copy = probes.clone();
+            Arrays.sort(copy);
+            indexOfSorted(sorted, copy, out);
+        }));
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable lookups) {
+        lookups.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            lookups.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      BATCHED LOOKUP DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int[] sorted = {12, 23, 34, 45, 45, 56, 67, 78, 89, 90};
+        System.out.println("Table:  " + Arrays.toString(sorted));
+
+        // Example 1: Unsorted probes, answered in one interleaved batch
+        int[] probes = {90, 11, 45, 67, 100, 12};
+        int[] out = new int[probes.length];
+        indexOfAll(sorted, probes, out);
+        System.out.println("\nProbes: " + Arrays.toString(probes));
+        System.out.println("Found:  " + Arrays.toString(out));
+
+        // Example 2: Sorted probes, answered in one pass over the table
+        int[] sortedProbes = {11, 12, 45, 67, 90, 100};
+        indexOfSorted(sorted, sortedProbes, out);
+        System.out.println("\nSorted: " + Arrays.toString(sortedProbes));
+        System.out.println("Found:  " + Arrays.toString(out));
+
+        // Example 3: The output buffer is reused; a short one is rejected
+        try {
+            indexOfAll(sorted, probes, new int[3]);
+        } catch (IllegalArgumentException e) {
+            System.out.println("\nRejected: " + e.getMessage());
+        }
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        performanceComparison(size);
+    }
+}
@@ -1,7 +1,29 @@
 package com.pcgs.core.java.pocs.algo;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
 public class CountingSortClaude {
 
+    // Largest count array the adaptive sort will allocate for the dense path
+    static final int DENSE_RANGE_LIMIT = 1 << 22;
+
+    // Number of keys sampled to estimate how many distinct keys there are
+    static final int SAMPLE_SIZE = 1024;
+
+    // Arrays at least this large build their histogram in parallel chunks
+    static final int PARALLEL_COUNT_THRESHOLD = 1 << 16;
+
+    // How the adaptive sort handles a given input
+    enum Strategy {
+        DENSE,   // count array indexed by key - min
+        SPARSE,  // hash histogram of the few distinct keys
+        RADIX    // many distinct keys over a wide range - base 256 radix sort
+    }
+
     // ========================================
     // Basic Counting Sort (for positive integers)
     // ========================================
@@ -216,6 +238,349 @@ public class CountingSortClaude {
         System.arraycopy(output, 0, people, 0, people.length);
     }
 
+    // ========================================
+    // Range-Adaptive Counting Sort
+    // ========================================
+    // A count array sized max - min + 1 is only a good idea when the range is
+    // small next to n. The adaptive version looks at the range and a sample of
+    // the keys first, then picks:
+    //   DENSE  - range fits: classic counting, histogram built per chunk in parallel
+    //   SPARSE - wide range but few distinct keys: open-addressing hash histogram
+    //   RADIX  - wide range and mostly distinct keys: RadixSortClaude.radixSortBytes
+
+    public static void adaptiveCountingSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+
+        int min = arr[0];
+        int max = arr[0];
+        for (int num : arr) {
+            if (num < min) min = num;
+            if (num > max) max = num;
+        }
+
+        switch (chooseStrategy(arr, min, max)) {
+            case DENSE:
+                denseCountingSort(arr, min, max);
+                break;
+            case SPARSE:
+                if (!sparseCountingSort(arr)) {
+                    RadixSortClaude.radixSortBytes(arr);
+                }
+                break;
+            default:
+                RadixSortClaude.radixSortBytes(arr);
+        }
+    }
+
+    static Strategy chooseStrategy(int[] keys, int min, int max) {
+        long range = (long) max - min + 1;
+        if (range <= DENSE_RANGE_LIMIT && range <= 2L * keys.length) {
+            return Strategy.DENSE;
+        }
+
+        // Sample evenly spaced keys; if sampled keys repeat (on average twice or more)
+        // the whole input is likely built from few distinct keys
+        int samples = Math.min(SAMPLE_SIZE, keys.length);
+        int[] sample = new int[samples];
+        long step = keys.length / samples;
+        for (int i = 0; i < samples; i++) {
+            sample[i] = keys[(int) (i * step)];
+        }
+        Arrays.sort(sample);
+        int distinct = 1;
+        for (int i = 1; i < samples; i++) {
+            if (sample[i] != sample[i - 1]) distinct++;
+        }
+        return distinct * 2 <= samples ? Strategy.SPARSE : Strategy.RADIX;
+    }
+
+    private static void denseCountingSort(int[] arr, int min, int max) {
+        int range = max - min + 1;
+        int[] count = histogram(arr, min, range);
+
+        int index = 0;
+        for (int i = 0; i < range; i++) {
+            if (count[i] > 0) {
+                Arrays.fill(arr, index, index + count[i], min + i);
+                index += count[i];
+            }
+        }
+    }
+
+    // Each chunk counts into its own array so workers never share a counter;
+    // the per-chunk arrays are summed at the end
+    private static int[] histogram(int[] arr, int min, int range) {
+        int n = arr.length;
+        int chunks = chunkCount(n, range);
+        if (chunks == 1) {
+            int[] count = new int[range];
+            for (int num : arr) {
+                count[num - min]++;
+            }
+            return count;
+        }
+
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] chunkCounts = new int[chunks][];
+        forEachChunk(chunks, c -> {
+            int[] count = new int[range];
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < to; i++) {
+                count[arr[i] - min]++;
+            }
+            chunkCounts[c] = count;
+        });
+
+        int[] total = chunkCounts[0];
+        for (int c = 1; c < chunks; c++) {
+            int[] count = chunkCounts[c];
+            for (int i = 0; i < range; i++) {
+                total[i] += count[i];
+            }
+        }
+        return total;
+    }
+
+    // Returns false (leaving arr untouched) if the keys turn out not to be sparse
+    private static boolean sparseCountingSort(int[] arr) {
+        int limit = Math.max(16, arr.length / 4);
+        IntCountMap counts = new IntCountMap(SAMPLE_SIZE);
+        for (int num : arr) {
+            if (counts.increment(num) > limit) {
+                return false;
+            }
+        }
+
+        int[] keys = counts.keys();
+        Arrays.sort(keys);
+        int index = 0;
+        for (int key : keys) {
+            int c = counts.get(key);
+            Arrays.fill(arr, index, index + c, key);
+            index += c;
+        }
+        return true;
+    }
+
+    // Stable, key-extracted version of countingSortObjects for any object type.
+    // Keys are read once into an int[]; the same DENSE / SPARSE / RADIX choice
+    // is then made on that array.
+    public static <T> void adaptiveCountingSortObjects(T[] items, ToIntFunction<? super T> keyExtractor) {
+        if (items == null || items.length <= 1) {
+            return;
+        }
+
+        int n = items.length;
+        int[] keys = new int[n];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            int key = keyExtractor.applyAsInt(items[i]);
+            keys[i] = key;
+            if (key < min) min = key;
+            if (key > max) max = key;
+        }
+
+        T[] output = items.clone();
+        Strategy strategy = chooseStrategy(keys, min, max);
+        if (strategy == Strategy.DENSE) {
+            denseStableScatter(items, keys, min, max - min + 1, output);
+        } else if (strategy != Strategy.SPARSE || !sparseStableScatter(items, keys, output)) {
+            radixStableScatter(items, keys, output);
+        }
+        System.arraycopy(output, 0, items, 0, n);
+    }
+
+    // Per-chunk histograms give every chunk its own write position for each key:
+    // all smaller keys first, then the same key from earlier chunks. Chunks can
+    // then scatter in parallel and equal keys still keep their input order.
+    private static <T> void denseStableScatter(T[] items, int[] keys, int min, int range, T[] output) {
+        int n = keys.length;
+        int chunks = chunkCount(n, range);
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        int[][] offsets = new int[chunks][];
+        forEachChunk(chunks, c -> {
+            int[] count = new int[range];
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < to; i++) {
+                count[keys[i] - min]++;
+            }
+            offsets[c] = count;
+        });
+
+        int running = 0;
+        for (int k = 0; k < range; k++) {
+            for (int c = 0; c < chunks; c++) {
+                int count = offsets[c][k];
+                offsets[c][k] = running;
+                running += count;
+            }
+        }
+
+        forEachChunk(chunks, c -> {
+            int[] offset = offsets[c];
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < to; i++) {
+                output[offset[keys[i] - min]++] = items[i];
+            }
+        });
+    }
+
+    private static <T> boolean sparseStableScatter(T[] items, int[] keys, T[] output) {
+        int limit = Math.max(16, keys.length / 4);
+        IntCountMap counts = new IntCountMap(SAMPLE_SIZE);
+        for (int key : keys) {
+            if (counts.increment(key) > limit) {
+                return false;
+            }
+        }
+
+        // Turn each key's count into its first output position
+        int[] distinct = counts.keys();
+        Arrays.sort(distinct);
+        int running = 0;
+        for (int key : distinct) {
+            running += counts.set(key, running);
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            output[counts.postIncrement(keys[i])] = items[i];
+        }
+        return true;
+    }
+
+    // (key, index) packed into one long: sorting the longs orders by key and,
+    // for equal keys, by original position - so the result is stable
+    private static <T> void radixStableScatter(T[] items, int[] keys, T[] output) {
+        int n = keys.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) keys[i] << 32) | i;
+        }
+        RadixSortClaude.radixSortBytes(packed);
+        for (int i = 0; i < n; i++) {
+            output[i] = items[(int) packed[i]];
+        }
+    }
+
+    // Parallel only pays off for large inputs, and only while the per-chunk
+    // count arrays together stay smaller than the input itself
+    private static int chunkCount(int n, int range) {
+        if (n < PARALLEL_COUNT_THRESHOLD) {
+            return 1;
+        }
+        int chunks = ForkJoinPool.getCommonPoolParallelism();
+        while (chunks > 1 && (long) chunks * range > n) {
+            chunks /= 2;
+        }
+        return Math.max(1, chunks);
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(body);
+        }
+    }
+
+    // Open-addressing int -> int map for the sparse histogram. While counting, a
+    // slot is empty exactly when its value is 0, since every stored key has count >= 1.
+    private static final class IntCountMap {
+        private int[] keys;
+        private int[] values;
+        private int size;
+
+        IntCountMap(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(4, expected) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+        }
+
+        // Adds one to key's count and returns the number of distinct keys
+        int increment(int key) {
+            int slot = slot(key);
+            if (values[slot]++ == 0) {
+                keys[slot] = key;
+                if (++size * 2 > keys.length) {
+                    grow();
+                }
+            }
+            return size;
+        }
+
+        int get(int key) {
+            return values[slot(key)];
+        }
+
+        // Replaces a present key's value and returns the old one
+        int set(int key, int value) {
+            int slot = slotOfPresent(key);
+            int old = values[slot];
+            values[slot] = value;
+            return old;
+        }
+
+        // Returns a present key's value, then adds one to it
+        int postIncrement(int key) {
+            return values[slotOfPresent(key)]++;
+        }
+
+        int[] keys() {
+            int[] result = new int[size];
+            int i = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (values[slot] != 0) {
+                    result[i++] = keys[slot];
+                }
+            }
+            return result;
+        }
+
+        // Slot holding key, or the empty slot where it would go
+        private int slot(int key) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (values[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        // Once set() has stored output positions a value may be 0, so slots
+        // of keys known to be present are found by key alone
+        private int slotOfPresent(int key) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != 0) {
+                    int slot = slot(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+
     // ========================================
     // Helper Methods
     // ========================================
@@ -294,6 +659,70 @@ public class CountingSortClaude {
             System.out.printf("  Slowdown:      %.2fx slower%n",
                     (double)countingTime / quickSortTime);
         }
+
+        adaptivePerformanceComparison();
+    }
+
+    // Test 2 above is where plain counting sort loses; the adaptive version is
+    // run on that shape and on wider ranges plain counting cannot handle at all
+    public static void adaptivePerformanceComparison() {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.println("      ADAPTIVE COUNTING SORT (1,000,000 elements)");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int size = 1_000_000;
+        java.util.Random random = new java.util.Random(42);
+        int[] hotKeys = new int[500];
+        for (int i = 0; i < hotKeys.length; i++) {
+            hotKeys[i] = random.nextInt();
+        }
+
+        String[] names = {"Range 0-100", "Range 0-100,000", "Full int range", "500 keys, full range"};
+        for (String name : names) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                switch (name) {
+                    case "Range 0-100":     arr[i] = random.nextInt(101); break;
+                    case "Range 0-100,000": arr[i] = random.nextInt(100_001); break;
+                    case "Full int range":  arr[i] = random.nextInt(); break;
+                    default:                arr[i] = hotKeys[random.nextInt(hotKeys.length)]; break;
+                }
+            }
+            int min = Arrays.stream(arr).min().getAsInt();
+            int max = Arrays.stream(arr).max().getAsInt();
+
+            System.out.println(name + " -> " + chooseStrategy(arr, min, max));
+            if ((long) max - min < DENSE_RANGE_LIMIT) {
+                System.out.printf("  countingSortWithRange: %8.2f ms%n", time(() -> countingSortWithRange(arr.clone())));
+            } else {
+                System.out.println("  countingSortWithRange:      n/a (count array too large)");
+            }
+            System.out.printf("  adaptiveCountingSort:  %8.2f ms%n", time(() -> adaptiveCountingSort(arr.clone())));
+            System.out.printf("  Arrays.sort:           %8.2f ms%n", time(() -> Arrays.sort(arr.clone())));
+        }
+
+        System.out.println("\nObjects: 1,000,000 Person records sorted by age (stable)");
+        Person[] people = new Person[size];
+        for (int i = 0; i < size; i++) {
+            people[i] = new Person("P" + i, random.nextInt(100));
+        }
+        System.out.printf("  countingSortObjects:         %8.2f ms%n", time(() -> countingSortObjects(people.clone())));
+        System.out.printf("  adaptiveCountingSortObjects: %8.2f ms%n",
+                time(() -> adaptiveCountingSortObjects(people.clone(), p -> p.age)));
+        System.out.printf("  Arrays.sort (comparator):    %8.2f ms%n",
+                time(() -> Arrays.sort(people.clone(), java.util.Comparator.comparingInt(p -> p.age))));
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
     }
 
     // ========================================
@@ -361,9 +790,28 @@ public class CountingSortClaude {
         System.out.println();
         System.out.println("(Notice: People with same age maintain their original order - STABLE)");
 
-        // Example 6: Large Array with Small Range
+        // Example 6: Adaptive counting sort on a wide range
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.println("Example 6: Adaptive Counting Sort (wide range)");
+        System.out.println("════════════════════════════════════════════════");
+        int[] wide = {1_000_000_000, -7, 42, Integer.MIN_VALUE, 42, 1_000_000_000, 0, -7};
+        System.out.println("Original: " + arrayToString(wide));
+        adaptiveCountingSort(wide);
+        System.out.println("Sorted:   " + arrayToString(wide));
+
+        Person[] staff = {
+                new Person("Alice", 25),
+                new Person("Bob", 30),
+                new Person("Charlie", 25),
+                new Person("Diana", 22),
+                new Person("Eve", 30)
+        };
+        adaptiveCountingSortObjects(staff, p -> p.age);
+        System.out.println("People:   " + Arrays.toString(staff));
+
+        // Example 7: Large Array with Small Range
         System.out.println("\n════════════════════════════════════════════════");
-        System.out.println("Example 6: Large Array with Small Range");
+        System.out.println("Example 7: Large Array with Small Range");
         System.out.println("════════════════════════════════════════════════");
         int[] arr5 = new int[1000];
         for (int i = 0; i < arr5.length; i++) {
@@ -0,0 +1,556 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+public class ExternalMergeSort {
+
+    // ========================================
+    // File Format
+    // ========================================
+    // Input, output and the temporary runs all use the same compact format:
+    // 4-byte big-endian ints back to back, no header - exactly what
+    // DataOutputStream.writeInt produces. Files are read and written through
+    // FileChannel with large buffers.
+
+    static final int BYTES_PER_INT = 4;
+
+    // ========================================
+    // Configuration
+    // ========================================
+
+    // Called from the sorting thread as work completes
+    public interface ProgressListener {
+        void onProgress(String phase, long recordsDone, long recordsTotal, double megabytesPerSecond);
+    }
+
+    public static class Config {
+        private long memoryBudgetBytes = 256L << 20;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private int bufferBytes = 1 << 20;
+        private int maxFanIn = 128;
+        private Path tempDir = Path.of(System.getProperty("java.io.tmpdir"));
+        private ProgressListener listener = (phase, done, total, mbps) -> { };
+
+        // Heap the sort may use for in-memory chunks, across all worker threads
+        public Config memoryBudget(long bytes) {
+            this.memoryBudgetBytes = bytes;
+            return this;
+        }
+
+        // Number of chunks sorted and spilled at the same time
+        public Config parallelism(int threads) {
+            this.parallelism = threads;
+            return this;
+        }
+
+        // I/O buffer per open file
+        public Config bufferBytes(int bytes) {
+            this.bufferBytes = bytes;
+            return this;
+        }
+
+        // Most runs merged in one pass; more runs than this need extra passes
+        public Config maxFanIn(int runs) {
+            this.maxFanIn = runs;
+            return this;
+        }
+
+        public Config tempDir(Path dir) {
+            this.tempDir = dir;
+            return this;
+        }
+
+        public Config progressListener(ProgressListener listener) {
+            this.listener = listener;
+            return this;
+        }
+    }
+
+    // ========================================
+    // Sort Statistics
+    // ========================================
+
+    public static class SortStats {
+        long records;
+        int runs;
+        int mergePasses;
+        long bytesRead;
+        long bytesWritten;
+        long runGenerationNanos;
+        long mergeNanos;
+
+        public long getRecords() { return records; }
+        public int getRuns() { return runs; }
+        public int getMergePasses() { return mergePasses; }
+        public long getBytesRead() { return bytesRead; }
+        public long getBytesWritten() { return bytesWritten; }
+
+        public long getElapsedNanos() {
+            return runGenerationNanos + mergeNanos;
+        }
+
+        // Input megabytes sorted per second, end to end
+        public double throughputMBps() {
+            return megabytesPerSecond(records * BYTES_PER_INT, getElapsedNanos());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d records, %d runs, %d merge pass(es), run generation %.0f ms, "
+                            + "merge %.0f ms, read %,d MB, written %,d MB, %.1f MB/s",
+                    records, runs, mergePasses, runGenerationNanos / 1e6, mergeNanos / 1e6,
+                    bytesRead >> 20, bytesWritten >> 20, throughputMBps());
+        }
+    }
+
+    // ========================================
+    // External Sort
+    // ========================================
+    // Phase 1 - run generation: read the input in chunks that fit the memory
+    //   budget, sort each chunk with QuickSortClaude.introSort on a worker
+    //   thread and spill it to a temporary run file.
+    // Phase 2 - k-way merge: a min-heap holds the current head of every run;
+    //   the smallest head is written out and replaced by that run's next value.
+    //   With more than maxFanIn runs, groups are merged into longer runs first.
+
+    public static SortStats sort(Path input, Path output, Config config) throws IOException {
+        SortStats stats = new SortStats();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long start = System.nanoTime();
+            generateRuns(input, runs, config, stats);
+            stats.runGenerationNanos = System.nanoTime() - start;
+            stats.runs = runs.size();
+
+            start = System.nanoTime();
+            mergeRuns(runs, output, config, stats);
+            stats.mergeNanos = System.nanoTime() - start;
+            return stats;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private static void generateRuns(Path input, List<Path> runs, Config config, SortStats stats) throws IOException {
+        int workers = Math.max(1, config.parallelism);
+        // introSort works in place, so one chunk costs 4 bytes per int
+        long chunkInts = Math.max(1024, config.memoryBudgetBytes / workers / BYTES_PER_INT);
+        int chunkSize = (int) Math.min(Integer.MAX_VALUE - 8, chunkInts);
+
+        long total = intCount(input);
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        // At most one chunk per worker is in memory at any time
+        Semaphore inFlight = new Semaphore(workers);
+        List<Future<Path>> pending = new ArrayList<>();
+        long startNanos = System.nanoTime();
+
+        try (IntReader reader = new IntReader(input, config.bufferBytes)) {
+            long read = 0;
+            while (true) {
+                inFlight.acquire();
+                int[] chunk = new int[(int) Math.min(chunkSize, Math.max(1, total - read))];
+                int n = reader.read(chunk, 0, chunk.length);
+                if (n == 0) {
+                    inFlight.release();
+                    break;
+                }
+                read += n;
+                int count = n;
+                pending.add(pool.submit(() -> {
+                    try {
+                        return spillRun(chunk, count, config);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+                config.listener.onProgress("run generation", read, total,
+                        megabytesPerSecond(read * BYTES_PER_INT, System.nanoTime() - startNanos));
+            }
+            stats.records = read;
+            stats.bytesRead += read * BYTES_PER_INT;
+            stats.bytesWritten += read * BYTES_PER_INT;
+
+            for (Future<Path> run : pending) {
+                runs.add(run.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating runs", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException
+                    ? (IOException) e.getCause()
+                    : new IOException("Run generation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            // Runs that finished before a failure still need cleaning up
+            for (Future<Path> run : pending) {
+                if (run.isDone() && !run.isCancelled()) {
+                    try {
+                        Path path = run.get();
+                        if (!runs.contains(path)) {
+                            runs.add(path);
+                        }
+                    } catch (InterruptedException | ExecutionException ignored) {
+                        // Nothing was written for this run
+                    }
+                }
+            }
+        }
+    }
+
+    private static Path spillRun(int[] chunk, int count, Config config) throws IOException {
+        if (count == chunk.length) {
+            QuickSortClaude.introSort(chunk);
+        } else {
+            // Last, short chunk: sort only the filled prefix
+            int[] filled = java.util.Arrays.copyOf(chunk, count);
+            QuickSortClaude.introSort(filled);
+            chunk = filled;
+        }
+        Path run = Files.createTempFile(config.tempDir, "run-", ".bin");
+        try (IntWriter writer = new IntWriter(run, config.bufferBytes)) {
+            writer.write(chunk, 0, count);
+        }
+        return run;
+    }
+
+    private static void mergeRuns(List<Path> runs, Path output, Config config, SortStats stats) throws IOException {
+        if (runs.isEmpty()) {
+            Files.write(output, new byte[0]);
+            return;
+        }
+
+        int fanIn = Math.max(2, config.maxFanIn);
+        while (runs.size() > fanIn) {
+            stats.mergePasses++;
+            List<Path> merged = new ArrayList<>();
+            try {
+                for (int i = 0; i < runs.size(); i += fanIn) {
+                    List<Path> group = runs.subList(i, Math.min(runs.size(), i + fanIn));
+                    Path run = Files.createTempFile(config.tempDir, "run-", ".bin");
+                    merged.add(run);
+                    mergeGroup(group, run, config, stats, "merge pass " + stats.mergePasses);
+                }
+            } catch (IOException e) {
+                for (Path run : merged) {
+                    Files.deleteIfExists(run);
+                }
+                throw e;
+            }
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            runs.clear();
+            runs.addAll(merged);
+        }
+
+        if (runs.size() == 1) {
+            Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            runs.clear();
+            return;
+        }
+        stats.mergePasses++;
+        mergeGroup(runs, output, config, stats, "final merge");
+    }
+
+    // k-way merge through a binary min-heap of run heads (the HeapDemo.MinHeap
+    // layout, but on parallel int arrays instead of a List<Integer>)
+    private static void mergeGroup(List<Path> group, Path target, Config config, SortStats stats, String phase)
+            throws IOException {
+        int k = group.size();
+        // Split the memory budget over k readers and one writer
+        int buffer = (int) Math.max(64 << 10, Math.min(config.bufferBytes, config.memoryBudgetBytes / (k + 1)));
+
+        IntReader[] readers = new IntReader[k];
+        int[] heapValue = new int[k];
+        int[] heapRun = new int[k];
+        int heapSize = 0;
+        long total = 0;
+
+        try (IntWriter writer = new IntWriter(target, buffer)) {
+            for (int r = 0; r < k; r++) {
+                readers[r] = new IntReader(group.get(r), buffer);
+                total += intCount(group.get(r));
+                if (readers[r].hasNext()) {
+                    heapValue[heapSize] = readers[r].next();
+                    heapRun[heapSize] = r;
+                    heapSize++;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heapValue, heapRun, i, heapSize);
+            }
+
+            long written = 0;
+            long startNanos = System.nanoTime();
+            long reportEvery = Math.max(1, total / 20);
+            while (heapSize > 0) {
+                writer.write(heapValue[0]);
+                written++;
+
+                IntReader source = readers[heapRun[0]];
+                if (source.hasNext()) {
+                    heapValue[0] = source.next();
+                } else {
+                    heapSize--;
+                    heapValue[0] = heapValue[heapSize];
+                    heapRun[0] = heapRun[heapSize];
+                }
+                siftDown(heapValue, heapRun, 0, heapSize);
+
+                if (written % reportEvery == 0) {
+                    config.listener.onProgress(phase, written, total,
+                            megabytesPerSecond(written * BYTES_PER_INT, System.nanoTime() - startNanos));
+                }
+            }
+            stats.bytesRead += written * BYTES_PER_INT;
+            stats.bytesWritten += written * BYTES_PER_INT;
+        } finally {
+            for (IntReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static void siftDown(int[] value, int[] run, int i, int size) {
+        int v = value[i];
+        int r = run[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && value[child + 1] < value[child]) {
+                child++;
+            }
+            if (value[child] >= v) {
+                break;
+            }
+            value[i] = value[child];
+            run[i] = run[child];
+            i = child;
+        }
+        value[i] = v;
+        run[i] = r;
+    }
+
+    private static double megabytesPerSecond(long bytes, long nanos) {
+        return nanos == 0 ? 0 : (bytes / 1048576.0) / (nanos / 1e9);
+    }
+
+    // ========================================
+    // Buffered Int I/O
+    // ========================================
+
+    static final class IntReader implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer bytes;
+        private final IntBuffer ints;
+        private boolean eof;
+
+        IntReader(Path path, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.bytes = ByteBuffer.allocateDirect(Math.max(BYTES_PER_INT, bufferBytes & ~(BYTES_PER_INT - 1)));
+            this.ints = bytes.asIntBuffer();
+            this.bytes.limit(0);
+            this.ints.limit(0);
+        }
+
+        boolean hasNext() throws IOException {
+            return ints.hasRemaining() || fill();
+        }
+
+        int next() throws IOException {
+            if (!hasNext()) {
+                throw new java.util.NoSuchElementException();
+            }
+            return ints.get();
+        }
+
+        // Bulk read; returns how many ints were read, 0 at end of file
+        int read(int[] dst, int offset, int length) throws IOException {
+            int done = 0;
+            while (done < length && hasNext()) {
+                int n = Math.min(length - done, ints.remaining());
+                ints.get(dst, offset + done, n);
+                done += n;
+            }
+            return done;
+        }
+
+        // Refills the buffer, keeping any partial int left over from the last read.
+        // The int view consumes whole ints only, so its position marks how far
+        // into the byte buffer has been used.
+        private boolean fill() throws IOException {
+            if (eof) {
+                return false;
+            }
+            bytes.position(ints.position() * BYTES_PER_INT);
+            bytes.compact();
+            while (bytes.position() < BYTES_PER_INT || bytes.hasRemaining()) {
+                if (channel.read(bytes) < 0) {
+                    eof = true;
+                    break;
+                }
+            }
+            bytes.flip();
+            ints.clear();
+            ints.limit(bytes.limit() / BYTES_PER_INT);
+            return ints.hasRemaining();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    static final class IntWriter implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer bytes;
+        private final IntBuffer ints;
+
+        IntWriter(Path path, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.WRITE,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.bytes = ByteBuffer.allocateDirect(Math.max(BYTES_PER_INT, bufferBytes & ~(BYTES_PER_INT - 1)));
+            this.ints = bytes.asIntBuffer();
+        }
+
+        void write(int value) throws IOException {
+            if (!ints.hasRemaining()) {
+                flush();
+            }
+            ints.put(value);
+        }
+
+        void write(int[] src, int offset, int length) throws IOException {
+            while (length > 0) {
+                if (!ints.hasRemaining()) {
+                    flush();
+                }
+                int n = Math.min(length, ints.remaining());
+                ints.put(src, offset, n);
+                offset += n;
+                length -= n;
+            }
+        }
+
+        private void flush() throws IOException {
+            bytes.clear();
+            bytes.limit(ints.position() * BYTES_PER_INT);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            ints.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // Ints in path; a partial trailing int means the file is not in this format
+    static long intCount(Path path) throws IOException {
+        long bytes = Files.size(path);
+        if (bytes % BYTES_PER_INT != 0) {
+            throw new IOException(path + " is " + bytes + " bytes long, not a whole number of "
+                    + BYTES_PER_INT + "-byte ints");
+        }
+        return bytes / BYTES_PER_INT;
+    }
+
+    public static void writeRandomFile(Path path, long count, long seed) throws IOException {
+        Random random = new Random(seed);
+        int[] block = new int[1 << 16];
+        try (IntWriter writer = new IntWriter(path, 1 << 20)) {
+            for (long written = 0; written < count; written += block.length) {
+                int n = (int) Math.min(block.length, count - written);
+                for (int i = 0; i < n; i++) {
+                    block[i] = random.nextInt();
+                }
+                writer.write(block, 0, n);
+            }
+        }
+    }
+
+    public static boolean isSorted(Path path) throws IOException {
+        try (IntReader reader = new IntReader(path, 1 << 20)) {
+            if (!reader.hasNext()) {
+                return true;
+            }
+            int previous = reader.next();
+            while (reader.hasNext()) {
+                int current = reader.next();
+                if (current < previous) {
+                    return false;
+                }
+                previous = current;
+            }
+            return true;
+        }
+    }
+
+    // ========================================
+    // Main Method with Example
+    // ========================================
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      EXTERNAL MERGE SORT DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Pass a record count to sort a bigger file
+        long count = args.length > 0 ? Long.parseLong(args[0]) : 20_000_000L;
+        Path input = Files.createTempFile("external-sort-in-", ".bin");
+        Path output = Files.createTempFile("external-sort-out-", ".bin");
+        try {
+            writeRandomFile(input, count, 42);
+            System.out.printf("Input: %,d ints (%,d MB)%n", count, Files.size(input) >> 20);
+
+            // Deliberately small budget and fan-in so the demo spills many runs
+            // and needs an intermediate merge pass
+            Config config = new Config()
+                    .memoryBudget(16L << 20)
+                    .maxFanIn(4)
+                    .progressListener((phase, done, total, mbps) -> System.out.printf(
+                            "  %-16s %5.1f%%  %7.1f MB/s%n", phase, 100.0 * done / total, mbps));
+
+            SortStats stats = sort(input, output, config);
+            System.out.println("\n" + stats);
+            System.out.println("Output sorted: " + isSorted(output));
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Generic Merge Sort for any Comparable type
+class GenericMergeSort {
+
+    public static <T extends Comparable<T>> void mergeSort(T[] arr) {
+        if (arr.length < 2) {
+            return;
+        }
+
+        int mid = arr.length / 2;
+        T[] left = java.util.Arrays.copyOfRange(arr, 0, mid);
+        T[] right = java.util.Arrays.copyOfRange(arr, mid, arr.length);
+
+        mergeSort(left);
+        mergeSort(right);
+        merge(arr, left, right);
+    }
+
+    private static <T extends Comparable<T>> void merge(T[] arr, T[] left, T[] right) {
+        int i = 0, j = 0, k = 0;
+
+        while (i < left.length && j < right.length) {
+            if (left[i].compareTo(right[j]) <= 0) {
+                arr[k++] = left[i++];
+            } else {
+                arr[k++] = right[j++];
+            }
+        }
+
+        while (i < left.length) {
+            arr[k++] = left[i++];
+        }
+
+        while (j < right.length) {
+            arr[k++] = right[j++];
+        }
+    }
+
+    // Parallel variant on the common pool with the default split threshold
+    public static <T extends Comparable<T>> void parallelMergeSort(T[] arr) {
+        parallelMergeSort(arr, MergeSortClaude.DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    // Parallel variant sharing one preallocated scratch buffer across all tasks. Stable.
+    public static <T extends Comparable<T>> void parallelMergeSort(T[] arr, int threshold, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        T[] buffer = arr.clone();
+        int cutoff = Math.max(threshold, MergeSortClaude.INSERTION_SORT_THRESHOLD);
+        pool.invoke(new MergeSortTask<>(arr, buffer, 0, arr.length, cutoff));
+    }
+
+    @SuppressWarnings("serial")
+    private static class MergeSortTask<T extends Comparable<T>> extends RecursiveAction {
+        private final T[] arr;
+        private final T[] buffer;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        MergeSortTask(T[] arr, T[] buffer, int from, int to, int threshold) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                sequentialSort(arr, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MergeSortTask<>(arr, buffer, from, mid, threshold),
+                    new MergeSortTask<>(arr, buffer, mid, to, threshold));
+            mergeWithBuffer(arr, buffer, from, mid, to);
+        }
+    }
+
+    private static <T extends Comparable<T>> void sequentialSort(T[] arr, T[] buffer, int from, int to) {
+        if (to - from <= MergeSortClaude.INSERTION_SORT_THRESHOLD) {
+            insertionSort(arr, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(arr, buffer, from, mid);
+        sequentialSort(arr, buffer, mid, to);
+        mergeWithBuffer(arr, buffer, from, mid, to);
+    }
+
+    private static <T extends Comparable<T>> void mergeWithBuffer(T[] arr, T[] buffer, int from, int mid, int to) {
+        if (arr[mid - 1].compareTo(arr[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(arr, from, buffer, from, mid - from);
+
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            if (buffer[i].compareTo(arr[j]) <= 0) {
+                arr[k++] = buffer[i++];
+            } else {
+                arr[k++] = arr[j++];
+            }
+        }
+
+        while (i < mid) {
+            arr[k++] = buffer[i++];
+        }
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(T[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= from && arr[j].compareTo(key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,322 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+public class KeySort {
+
+    // Below this size the radix passes cost more than a comparison sort of the keys
+    static final int RADIX_THRESHOLD = 256;
+
+    // ========================================
+    // Key-Extracted Object Sort
+    // ========================================
+    // A comparator-based sort calls compareTo O(n log n) times, each one a
+    // virtual call that chases two object pointers. Here the key of every
+    // object is read exactly once into a primitive array; only (key, index)
+    // pairs are sorted, and the objects are moved once at the end.
+    //
+    // All three sorts are stable: equal keys keep their input order.
+
+    // int keys: key and index fit together in one long, key in the high half.
+    // Sorting the longs orders by key and then by position, which is stability.
+    public static <T> void sortByInt(T[] items, ToIntFunction<? super T> keyExtractor) {
+        if (items == null || items.length <= 1) {
+            return;
+        }
+        int n = items.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) keyExtractor.applyAsInt(items[i]) << 32) | i;
+        }
+        if (n < RADIX_THRESHOLD) {
+            Arrays.sort(packed);
+        } else {
+            RadixSortClaude.radixSortBytes(packed);
+        }
+
+        T[] source = items.clone();
+        for (int i = 0; i < n; i++) {
+            items[i] = source[(int) packed[i]];
+        }
+    }
+
+    // long keys (including compositeKey results): keys and indexes are sorted
+    // side by side with an LSD radix sort, which is stable by construction
+    public static <T> void sortByLong(T[] items, ToLongFunction<? super T> keyExtractor) {
+        if (items == null || items.length <= 1) {
+            return;
+        }
+        int n = items.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = keyExtractor.applyAsLong(items[i]);
+        }
+        permute(items, sortedIndexes(keys));
+    }
+
+    // double keys are mapped to longs whose signed order matches Double.compare
+    // (-0.0 before 0.0, NaN last), then sorted exactly like long keys
+    public static <T> void sortByDouble(T[] items, ToDoubleFunction<? super T> keyExtractor) {
+        if (items == null || items.length <= 1) {
+            return;
+        }
+        int n = items.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToLongBits(keyExtractor.applyAsDouble(items[i]));
+            keys[i] = bits ^ ((bits >> 63) & 0x7FFFFFFFFFFFFFFFL);
+        }
+        permute(items, sortedIndexes(keys));
+    }
+
+    // ========================================
+    // Composite Keys
+    // ========================================
+    // Two int fields packed into one long that sorts by major, then minor -
+    // e.g. compositeKey(department, salary). For a descending field pass its
+    // bitwise complement: ~salary reverses the order of every int exactly,
+    // with no overflow at Integer.MIN_VALUE (unlike -salary).
+
+    public static long compositeKey(int major, int minor) {
+        // Flipping the sign bit makes minor's signed order its unsigned order
+        return ((long) major << 32) | ((minor ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+    }
+
+    // ========================================
+    // (key, index) Radix Sort
+    // ========================================
+
+    // Indexes of keys in sorted order; keys is left in sorted order too
+    private static int[] sortedIndexes(long[] keys) {
+        int n = keys.length;
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        if (n < RADIX_THRESHOLD) {
+            insertionSort(keys, indexes);
+        } else {
+            radixSort(keys, indexes);
+        }
+        return indexes;
+    }
+
+    // Eight stable byte passes, least significant first. The sign bit is
+    // flipped so signed order becomes unsigned byte order, and a pass is
+    // skipped when every key has the same byte there (common for small keys).
+    private static void radixSort(long[] keys, int[] indexes) {
+        int n = keys.length;
+        for (int i = 0; i < n; i++) {
+            keys[i] ^= Long.MIN_VALUE;
+        }
+
+        // One read over the keys builds the histograms for all 8 bytes
+        int[][] counts = new int[8][256];
+        for (long key : keys) {
+            for (int b = 0; b < 8; b++) {
+                counts[b][(int) (key >>> (8 * b)) & 0xFF]++;
+            }
+        }
+
+        long[] keyBuffer = new long[n];
+        int[] indexBuffer = new int[n];
+        long[] keySource = keys;
+        int[] indexSource = indexes;
+        for (int b = 0; b < 8; b++) {
+            int[] count = counts[b];
+            int shift = 8 * b;
+            if (count[(int) (keySource[0] >>> shift) & 0xFF] == n) {
+                continue;
+            }
+
+            int running = 0;
+            for (int digit = 0; digit < 256; digit++) {
+                int c = count[digit];
+                count[digit] = running;
+                running += c;
+            }
+            for (int i = 0; i < n; i++) {
+                long key = keySource[i];
+                int at = count[(int) (key >>> shift) & 0xFF]++;
+                keyBuffer[at] = key;
+                indexBuffer[at] = indexSource[i];
+            }
+
+            long[] keySwap = keySource;
+            keySource = keyBuffer;
+            keyBuffer = keySwap;
+            int[] indexSwap = indexSource;
+            indexSource = indexBuffer;
+            indexBuffer = indexSwap;
+        }
+
+        // After an odd number of passes the sorted data sits in the buffers
+        if (keySource != keys) {
+            System.arraycopy(keySource, 0, keys, 0, n);
+            System.arraycopy(indexSource, 0, indexes, 0, n);
+        }
+        for (int i = 0; i < n; i++) {
+            keys[i] ^= Long.MIN_VALUE;
+        }
+    }
+
+    // Stable: a key only moves past strictly larger keys
+    private static void insertionSort(long[] keys, int[] indexes) {
+        for (int i = 1; i < keys.length; i++) {
+            long key = keys[i];
+            int index = indexes[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                indexes[j + 1] = indexes[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            indexes[j + 1] = index;
+        }
+    }
+
+    // One pass over the objects: slot i receives the item that was at indexes[i]
+    private static <T> void permute(T[] items, int[] indexes) {
+        T[] source = items.clone();
+        for (int i = 0; i < items.length; i++) {
+            items[i] = source[indexes[i]];
+        }
+    }
+
+    // ========================================
+    // Example Type
+    // ========================================
+
+    static class PayrollEntry implements Comparable<PayrollEntry> {
+        final String name;
+        final int department;
+        final int salary;
+        final double rating;
+
+        PayrollEntry(String name, int department, int salary, double rating) {
+            this.name = name;
+            this.department = department;
+            this.salary = salary;
+            this.rating = rating;
+        }
+
+        // Department ascending, then salary descending
+        @Override
+        public int compareTo(PayrollEntry other) {
+            if (department != other.department) {
+                return Integer.compare(department, other.department);
+            }
+            return Integer.compare(other.salary, salary);
+        }
+
+        @Override
+        public String toString() {
+            return name + "(dept " + department + ", $" + salary + ", " + rating + ")";
+        }
+    }
+
+    private static PayrollEntry[] generatePayroll(int size, Random random) {
+        PayrollEntry[] entries = new PayrollEntry[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = new PayrollEntry("E" + i, random.nextInt(40),
+                    30_000 + random.nextInt(2_000) * 50, Math.round(random.nextDouble() * 50) / 10.0);
+        }
+        return entries;
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      PERFORMANCE COMPARISON (%,d objects)%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        PayrollEntry[] entries = generatePayroll(size, new Random(42));
+        Comparator<PayrollEntry> byDepartmentThenSalary = Comparator
+                .comparingInt((PayrollEntry e) -> e.department)
+                .thenComparing(e -> e.salary, Comparator.reverseOrder());
+
+        System.out.println("(department, salary descending):");
+        System.out.printf("  KeySort.sortByLong:      %8.2f ms%n", time(() -> sortByLong(entries.clone(),
+                e -> compositeKey(e.department, ~e.salary))));
+        System.out.printf("  GenericMergeSort:        %8.2f ms%n",
+                time(() -> GenericMergeSort.mergeSort(entries.clone())));
+        System.out.printf("  Arrays.sort(comparator): %8.2f ms%n",
+                time(() -> Arrays.sort(entries.clone(), byDepartmentThenSalary)));
+
+        System.out.println("\nsalary:");
+        System.out.printf("  KeySort.sortByInt:       %8.2f ms%n",
+                time(() -> sortByInt(entries.clone(), e -> e.salary)));
+        System.out.printf("  Arrays.sort(comparator): %8.2f ms%n",
+                time(() -> Arrays.sort(entries.clone(), Comparator.comparingInt(e -> e.salary))));
+
+        System.out.println("\nrating:");
+        System.out.printf("  KeySort.sortByDouble:    %8.2f ms%n",
+                time(() -> sortByDouble(entries.clone(), e -> e.rating)));
+        System.out.printf("  Arrays.sort(comparator): %8.2f ms%n",
+                time(() -> Arrays.sort(entries.clone(), Comparator.comparingDouble(e -> e.rating))));
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      KEY-EXTRACTED SORT DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        PayrollEntry[] entries = {
+                new PayrollEntry("Ann", 2, 70_000, 4.5),
+                new PayrollEntry("Bob", 1, 55_000, 3.0),
+                new PayrollEntry("Cid", 2, 90_000, 4.5),
+                new PayrollEntry("Dee", 1, 55_000, 4.0),
+                new PayrollEntry("Eve", 3, 60_000, 3.5),
+                new PayrollEntry("Fay", 1, 80_000, 3.0),
+        };
+
+        // Example 1: Composite key - Bob stays ahead of Dee (same department and salary)
+        sortByLong(entries, e -> compositeKey(e.department, ~e.salary));
+        System.out.println("By department, salary descending:");
+        for (PayrollEntry e : entries) {
+            System.out.println("  " + e);
+        }
+
+        // Example 2: double key
+        sortByDouble(entries, e -> e.rating);
+        System.out.println("\nBy rating (ties keep the previous order):");
+        for (PayrollEntry e : entries) {
+            System.out.println("  " + e);
+        }
+
+        // Example 3: Same result as the stable comparator sort on a large input
+        PayrollEntry[] large = generatePayroll(200_000, new Random(7));
+        PayrollEntry[] expected = large.clone();
+        Arrays.sort(expected, Comparator.comparingInt(e -> e.salary));
+        sortByInt(large, e -> e.salary);
+        System.out.println("\n200,000 entries match stable Arrays.sort: " + Arrays.equals(large, expected));
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size);
+    }
+}
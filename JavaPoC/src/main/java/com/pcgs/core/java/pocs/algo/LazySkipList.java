@@ -0,0 +1,534 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// ========================================
+// Lazy Skip List
+// ========================================
+// A concurrent ordered map from long keys to values, after Herlihy, Lev,
+// Luchangco and Shavit's lazy skip list. Readers never lock or write: get,
+// floorEntry, ceilingEntry and scan walk the towers of next pointers while
+// writers change them. Writers lock only the few nodes around the key they
+// change, validate that nothing moved in between, and then link or unlink.
+//
+// Two flags per node carry the correctness argument:
+//   fullyLinked - set once the node is linked at every level; this is when
+//                 an insert takes effect
+//   marked      - set under the node's lock before it is unlinked; this is
+//                 when a remove takes effect
+// A node is in the map while fullyLinked && !marked, so get, put, remove and
+// putIfAbsent are linearizable. scan and the entry lookups are weakly
+// consistent like ConcurrentSkipListMap's: they see every entry present for
+// their whole run, and may or may not see ones added or removed meanwhile.
+//
+// Compared with ConcurrentSkipListMap<Long, V>, keys stay unboxed and are
+// compared with <, and a node is its own lock (it extends ReentrantLock).
+public class LazySkipList<V> {
+
+    // Levels a tower can have; with one node in two promoted per level this
+    // stays logarithmic well past 2^31 entries
+    static final int MAX_LEVEL = 32;
+
+    private static final VarHandle NEXT = MethodHandles.arrayElementVarHandle(Node[].class);
+
+    // Snapshot of one entry, as returned by the floor and ceiling lookups
+    public static final class Entry<V> {
+        private final long key;
+        private final V value;
+
+        Entry(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public long key() {
+            return key;
+        }
+
+        public V value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    static final class Node<V> extends ReentrantLock {
+        final long key;
+        // next[level] is read and written through NEXT with acquire/release
+        final Node<V>[] next;
+        volatile V value;
+        volatile boolean marked;
+        volatile boolean fullyLinked;
+
+        Node(long key, V value, int topLevel) {
+            this.key = key;
+            this.value = value;
+            @SuppressWarnings("unchecked")
+            Node<V>[] next = (Node<V>[]) new Node<?>[topLevel + 1];
+            this.next = next;
+        }
+
+        int topLevel() {
+            return next.length - 1;
+        }
+    }
+
+    // Sentinels: head comes before every key and tail after, compared by identity
+    private final Node<V> head = new Node<>(Long.MIN_VALUE, null, MAX_LEVEL - 1);
+    private final Node<V> tail = new Node<>(Long.MAX_VALUE, null, 0);
+    // Highest level any tower has reached; searches start there
+    private final AtomicInteger maxLevel = new AtomicInteger();
+    private final LongAdder count = new LongAdder();
+
+    public LazySkipList() {
+        for (int level = 0; level < MAX_LEVEL; level++) {
+            head.next[level] = tail;
+        }
+        head.fullyLinked = true;
+        tail.fullyLinked = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V> next(Node<V> node, int level) {
+        return (Node<V>) NEXT.getAcquire(node.next, level);
+    }
+
+    private static <V> void setNext(Node<V> node, int level, Node<V> next) {
+        NEXT.setRelease(node.next, level, next);
+    }
+
+    private static boolean isLive(Node<?> node) {
+        return node.fullyLinked && !node.marked;
+    }
+
+    // ========================================
+    // Reads
+    // ========================================
+
+    public V get(long key) {
+        Node<V> pred = head;
+        for (int level = maxLevel.get(); level >= 0; level--) {
+            Node<V> curr = next(pred, level);
+            while (curr != tail && curr.key < key) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+            if (curr != tail && curr.key == key) {
+                return isLive(curr) ? curr.value : null;
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    // Least entry with key >= key, or null
+    public Entry<V> ceilingEntry(long key) {
+        for (Node<V> node = firstAtLeast(key); node != tail; node = next(node, 0)) {
+            if (isLive(node)) {
+                return new Entry<>(node.key, node.value);
+            }
+        }
+        return null;
+    }
+
+    // Greatest entry with key <= key, or null. The last node at or below key
+    // may be on its way in or out; then look again below it, since towers
+    // cannot be walked backwards.
+    public Entry<V> floorEntry(long key) {
+        while (true) {
+            Node<V> pred = head;
+            for (int level = maxLevel.get(); level >= 0; level--) {
+                Node<V> curr = next(pred, level);
+                while (curr != tail && curr.key <= key) {
+                    pred = curr;
+                    curr = next(pred, level);
+                }
+            }
+            if (pred == head) {
+                return null;
+            }
+            if (isLive(pred)) {
+                return new Entry<>(pred.key, pred.value);
+            }
+            if (pred.key == Long.MIN_VALUE) {
+                return null;
+            }
+            key = pred.key - 1;
+        }
+    }
+
+    // Visits the entries with from <= key <= to in key order; returns how
+    // many were visited. Weakly consistent, see above.
+    public int scan(long from, long to, BPlusTree.EntryConsumer<? super V> consumer) {
+        int visited = 0;
+        for (Node<V> node = firstAtLeast(from); node != tail && node.key <= to; node = next(node, 0)) {
+            if (isLive(node)) {
+                consumer.accept(node.key, node.value);
+                visited++;
+            }
+        }
+        return visited;
+    }
+
+    public void forEach(BPlusTree.EntryConsumer<? super V> consumer) {
+        scan(Long.MIN_VALUE, Long.MAX_VALUE, consumer);
+    }
+
+    // First node at level 0 with key >= key, live or not, or tail
+    private Node<V> firstAtLeast(long key) {
+        Node<V> pred = head;
+        Node<V> curr = tail;
+        for (int level = maxLevel.get(); level >= 0; level--) {
+            curr = next(pred, level);
+            while (curr != tail && curr.key < key) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+        }
+        return curr;
+    }
+
+    // Entries right now; exact only while no writer is running
+    public int size() {
+        return (int) Math.min(count.sum(), Integer.MAX_VALUE);
+    }
+
+    public boolean isEmpty() {
+        return ceilingEntry(Long.MIN_VALUE) == null;
+    }
+
+    // ========================================
+    // Writes
+    // ========================================
+
+    // Sets the value for key; returns the previous one or null
+    public V put(long key, V value) {
+        return put(key, value, false);
+    }
+
+    // Inserts only if key is absent; returns the current value or null
+    public V putIfAbsent(long key, V value) {
+        return put(key, value, true);
+    }
+
+    private V put(long key, V value, boolean onlyIfAbsent) {
+        if (value == null) {
+            throw new IllegalArgumentException("Values cannot be null");
+        }
+        int topLevel = randomLevel();
+        if (topLevel > maxLevel.get()) {
+            maxLevel.accumulateAndGet(topLevel, Math::max);
+        }
+        Node<V>[] preds = newPath();
+        Node<V>[] succs = newPath();
+        while (true) {
+            int found = find(key, preds, succs);
+            if (found != -1) {
+                Node<V> node = succs[found];
+                if (!node.marked) {
+                    // An insert in progress takes effect in a moment; wait for it
+                    while (!node.fullyLinked) {
+                        Thread.onSpinWait();
+                    }
+                    if (onlyIfAbsent && !node.marked) {
+                        return node.value;
+                    }
+                    node.lock();
+                    try {
+                        if (!node.marked) {
+                            V previous = node.value;
+                            node.value = value;
+                            return previous;
+                        }
+                    } finally {
+                        node.unlock();
+                    }
+                }
+                // Being removed: retry once it is unlinked
+                Thread.onSpinWait();
+                continue;
+            }
+
+            // Lock the predecessors bottom-up and check that each still points
+            // at the successor seen, and that neither is being removed
+            int highestLocked = -1;
+            try {
+                boolean valid = true;
+                for (int level = 0; valid && level <= topLevel; level++) {
+                    Node<V> pred = preds[level];
+                    Node<V> succ = succs[level];
+                    pred.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && !succ.marked && next(pred, level) == succ;
+                }
+                if (!valid) {
+                    continue;
+                }
+                Node<V> node = new Node<>(key, value, topLevel);
+                for (int level = 0; level <= topLevel; level++) {
+                    node.next[level] = succs[level];
+                }
+                for (int level = 0; level <= topLevel; level++) {
+                    setNext(preds[level], level, node);
+                }
+                node.fullyLinked = true;
+                count.increment();
+                return null;
+            } finally {
+                for (int level = 0; level <= highestLocked; level++) {
+                    preds[level].unlock();
+                }
+            }
+        }
+    }
+
+    // Removes key; returns its value or null if it was absent
+    public V remove(long key) {
+        Node<V>[] preds = newPath();
+        Node<V>[] succs = newPath();
+        Node<V> victim = null;
+        boolean marked = false;
+        while (true) {
+            int found = find(key, preds, succs);
+            if (!marked) {
+                if (found == -1) {
+                    return null;
+                }
+                victim = succs[found];
+                // Not yet fully linked, or partly unlinked: not in the map
+                if (!victim.fullyLinked || victim.marked || victim.topLevel() != found) {
+                    return null;
+                }
+                victim.lock();
+                if (victim.marked) {
+                    victim.unlock();
+                    return null;
+                }
+                victim.marked = true;
+                marked = true;
+            }
+
+            int topLevel = victim.topLevel();
+            int highestLocked = -1;
+            try {
+                boolean valid = true;
+                for (int level = 0; valid && level <= topLevel; level++) {
+                    Node<V> pred = preds[level];
+                    pred.lock();
+                    highestLocked = level;
+                    valid = !pred.marked && next(pred, level) == victim;
+                }
+                if (!valid) {
+                    continue;
+                }
+                // The victim keeps its own next pointers, so a reader standing
+                // on it still walks forward into the list
+                for (int level = topLevel; level >= 0; level--) {
+                    setNext(preds[level], level, next(victim, level));
+                }
+                V value = victim.value;
+                victim.unlock();
+                count.decrement();
+                return value;
+            } finally {
+                for (int level = 0; level <= highestLocked; level++) {
+                    preds[level].unlock();
+                }
+            }
+        }
+    }
+
+    // Fills preds and succs with the nodes on either side of key at each level
+    // from maxLevel down; returns the highest level where key was found, or -1
+    private int find(long key, Node<V>[] preds, Node<V>[] succs) {
+        int found = -1;
+        Node<V> pred = head;
+        for (int level = maxLevel.get(); level >= 0; level--) {
+            Node<V> curr = next(pred, level);
+            while (curr != tail && curr.key < key) {
+                pred = curr;
+                curr = next(pred, level);
+            }
+            if (found == -1 && curr != tail && curr.key == key) {
+                found = level;
+            }
+            preds[level] = pred;
+            succs[level] = curr;
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Node<V>[] newPath() {
+        return (Node<V>[]) new Node<?>[MAX_LEVEL];
+    }
+
+    // Level k with probability 2^-(k+1)
+    private static int randomLevel() {
+        return Integer.numberOfTrailingZeros(ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1)));
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+    // The threads share a fixed number of operations, all running the same
+    // mix on keys drawn from twice the preloaded range: GET_PERCENT gets, the
+    // rest split between puts and removes, so the size stays about the same.
+
+    // Share of reads in the contention mix
+    static final int GET_PERCENT = 90;
+
+    interface Workload {
+        void run(long key, int dice);
+    }
+
+    public static void performanceComparison(int size, int operations) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      %,d KEYS, %d%% GETS, Mops/s%n", size, GET_PERCENT);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        LazySkipList<Long> lazy = new LazySkipList<>();
+        ConcurrentSkipListMap<Long, Long> jdk = new ConcurrentSkipListMap<>();
+        for (long key = 0; key < 2L * size; key += 2) {
+            lazy.put(key, key);
+            jdk.put(key, key);
+        }
+        Workload lazyMix = (key, dice) -> {
+            if (dice < GET_PERCENT) {
+                lazy.get(key);
+            } else if ((dice & 1) == 0) {
+                lazy.put(key, key);
+            } else {
+                lazy.remove(key);
+            }
+        };
+        Workload jdkMix = (key, dice) -> {
+            if (dice < GET_PERCENT) {
+                jdk.get(key);
+            } else if ((dice & 1) == 0) {
+                jdk.put(key, key);
+            } else {
+                jdk.remove(key);
+            }
+        };
+
+        System.out.println("threads  LazySkipList  ConcurrentSkipListMap");
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            double lazyRate = throughput(lazyMix, threads, operations / threads, 2L * size);
+            double jdkRate = throughput(jdkMix, threads, operations / threads, 2L * size);
+            System.out.printf("%7d  %12.2f  %21.2f%n", threads, lazyRate, jdkRate);
+        }
+        System.out.printf("%nSizes after the runs: %,d and %,d%n", lazy.size(), jdk.size());
+    }
+
+    // Best of a few runs, after one warmup run; in millions of operations per second
+    private static double throughput(Workload workload, int threads, int opsPerThread, long keyRange) {
+        runThreads(workload, threads, opsPerThread, keyRange);
+        double best = 0;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            runThreads(workload, threads, opsPerThread, keyRange);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            best = Math.max(best, (double) threads * opsPerThread / seconds / 1e6);
+        }
+        return best;
+    }
+
+    private static void runThreads(Workload workload, int threads, int opsPerThread, long keyRange) {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < opsPerThread; i++) {
+                    workload.run(random.nextLong(keyRange), random.nextInt(100));
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      LAZY SKIP LIST DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Example 1: Ordered map operations on employee ids
+        LazySkipList<String> employees = new LazySkipList<>();
+        employees.put(50, "John Doe");
+        employees.put(30, "Jane Smith");
+        employees.put(70, "Bob Johnson");
+        employees.put(20, "Alice Brown");
+        System.out.println("get(30) = " + employees.get(30));
+        System.out.println("floorEntry(60) = " + employees.floorEntry(60)
+                + ", ceilingEntry(60) = " + employees.ceilingEntry(60));
+        StringBuilder line = new StringBuilder();
+        employees.scan(25, 70, (id, name) -> line.append(id).append(' '));
+        System.out.println("Ids in [25, 70]: " + line);
+
+        // Example 2: A loader thread replaces the directory while readers query it
+        LazySkipList<String> directory = new LazySkipList<>();
+        for (int id = 0; id < 100_000; id++) {
+            directory.put(id, "v1");
+        }
+        Thread loader = new Thread(() -> {
+            for (int id = 0; id < 100_000; id++) {
+                directory.put(id, "v2");
+                directory.remove(id + 100_000L);
+                directory.put(id + 100_000L, "new");
+            }
+        });
+        int[] misses = {0};
+        Thread reader = new Thread(() -> {
+            for (int round = 0; round < 10; round++) {
+                for (int id = 0; id < 100_000; id += 7) {
+                    if (directory.get(id) == null) {
+                        misses[0]++;
+                    }
+                }
+            }
+        });
+        loader.start();
+        reader.start();
+        loader.join();
+        reader.join();
+        System.out.println("\nReader missed " + misses[0] + " of the ids never removed; size now "
+                + directory.size());
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size, 1_000_000);
+    }
+}
@@ -0,0 +1,521 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+
+// ========================================
+// Learned Index over a Sorted Key Array
+// ========================================
+// A sorted array is a function from key to position, and for real key sets
+// that function is smooth over long stretches. The index approximates it
+// with straight line segments, each guaranteed to predict the position of
+// every key it covers to within maxError. A lookup then costs a search over
+// the segments (a few thousand first keys, which stay cached) plus a search
+// of at most 2 * maxError + 2 neighbouring keys - one or two cache lines -
+// instead of log2(n) misses spread over the whole array.
+//
+// Segments are fitted in one pass with the shrinking-cone method: a segment
+// starts at its first key, and every further key narrows the range of slopes
+// that still keep all keys within maxError. When the range becomes empty the
+// segment is closed and the next one starts at that key.
+//
+// Duplicate keys are modelled by their first position. A long run of one key
+// can put the next key's position outside the predicted window; the search
+// then gallops past the window, so answers are always exact and only the
+// cost depends on how well the model fits.
+public class LearnedIndex {
+
+    public static final int DEFAULT_MAX_ERROR = 16;
+
+    // File format: header, then the keys, then the segments, all big-endian
+    static final int MAGIC = 0x4C494458; // "LIDX"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    // Bytes moved per write or read when saving and loading
+    static final int IO_BUFFER_BYTES = 1 << 20;
+
+    private final long[] keys;
+    private final int maxError;
+
+    // Segment s covers keys from firstKeys[s]; its line runs through
+    // (firstKeys[s], starts[s]) with slope slopes[s]
+    private final long[] firstKeys;
+    private final double[] slopes;
+    private final int[] starts;
+
+    private LearnedIndex(long[] keys, int maxError, long[] firstKeys, double[] slopes, int[] starts) {
+        this.keys = keys;
+        this.maxError = maxError;
+        this.firstKeys = firstKeys;
+        this.slopes = slopes;
+        this.starts = starts;
+    }
+
+    // ========================================
+    // Build
+    // ========================================
+
+    public static LearnedIndex build(long[] sorted) {
+        return build(sorted, DEFAULT_MAX_ERROR);
+    }
+
+    // The index keeps sorted itself, which must not change afterwards
+    public static LearnedIndex build(long[] sorted, int maxError) {
+        if (maxError < 1) {
+            throw new IllegalArgumentException("maxError must be at least 1: " + maxError);
+        }
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i - 1] > sorted[i]) {
+                throw new IllegalArgumentException("Array is not sorted at index " + i);
+            }
+        }
+
+        int n = sorted.length;
+        long[] firstKeys = new long[16];
+        double[] slopes = new double[16];
+        int[] starts = new int[16];
+        int segments = 0;
+
+        int i = 0;
+        while (i < n) {
+            long originKey = sorted[i];
+            int originPos = i;
+            double lowSlope = 0;
+            double highSlope = Double.POSITIVE_INFINITY;
+            // Skip the rest of the run of originKey
+            while (i < n && sorted[i] == originKey) {
+                i++;
+            }
+            while (i < n) {
+                double dx = distance(sorted[i], originKey);
+                double dy = i - originPos;
+                double low = Math.max(lowSlope, (dy - maxError) / dx);
+                double high = Math.min(highSlope, (dy + maxError) / dx);
+                if (low > high) {
+                    break;
+                }
+                lowSlope = low;
+                highSlope = high;
+                long key = sorted[i];
+                while (i < n && sorted[i] == key) {
+                    i++;
+                }
+            }
+
+            if (segments == firstKeys.length) {
+                firstKeys = Arrays.copyOf(firstKeys, segments * 2);
+                slopes = Arrays.copyOf(slopes, segments * 2);
+                starts = Arrays.copyOf(starts, segments * 2);
+            }
+            firstKeys[segments] = originKey;
+            slopes[segments] = highSlope == Double.POSITIVE_INFINITY ? lowSlope : (lowSlope + highSlope) / 2;
+            starts[segments] = originPos;
+            segments++;
+        }
+        return new LearnedIndex(sorted, maxError, Arrays.copyOf(firstKeys, segments),
+                Arrays.copyOf(slopes, segments), Arrays.copyOf(starts, segments));
+    }
+
+    // int keys are widened to long, so the index holds a long[] copy of the table
+    public static LearnedIndex build(int[] sorted, int maxError) {
+        long[] keys = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = sorted[i];
+        }
+        return build(keys, maxError);
+    }
+
+    // ========================================
+    // Lookup
+    // ========================================
+
+    // Position of the first key >= key, or size() if there is none
+    public int lowerBound(long key) {
+        int n = keys.length;
+        int s = upperBound(firstKeys, key) - 1;
+        if (s < 0) {
+            return 0;
+        }
+        int segmentEnd = s + 1 < starts.length ? starts[s + 1] : n;
+        // Keys past the segment's last key can predict far beyond its end
+        int predicted = (int) Math.min(segmentEnd, starts[s] + slopes[s] * distance(key, firstKeys[s]));
+
+        int from = Math.max(starts[s], predicted - maxError);
+        int to = Math.min(segmentEnd, predicted + maxError + 1);
+        int pos = windowLowerBound(key, from, to);
+        if (pos == to && to < segmentEnd) {
+            // A run of duplicates pushed the answer past the window
+            pos = gallopRight(key, to, segmentEnd);
+        } else if (pos == from && from > starts[s] && keys[from - 1] >= key) {
+            pos = gallopLeft(key, starts[s], from);
+        }
+        return pos;
+    }
+
+    // Position of key, or -1 if it is absent
+    public int indexOf(long key) {
+        int pos = lowerBound(key);
+        return pos < keys.length && keys[pos] == key ? pos : -1;
+    }
+
+    public boolean contains(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    // Position of the first key > key, or size() if there is none
+    public int upperBound(long key) {
+        return key == Long.MAX_VALUE ? keys.length : lowerBound(key + 1);
+    }
+
+    // ========================================
+    // Range Scan
+    // ========================================
+    // Keys in [low, high] occupy positions [lowerBound(low), upperBound(high)),
+    // so a range costs two lookups and then a sequential read.
+
+    public int countInRange(long low, long high) {
+        return low > high ? 0 : upperBound(high) - lowerBound(low);
+    }
+
+    public void scan(long low, long high, LongConsumer consumer) {
+        if (low > high) {
+            return;
+        }
+        int end = upperBound(high);
+        for (int i = lowerBound(low); i < end; i++) {
+            consumer.accept(keys[i]);
+        }
+    }
+
+    // Copies the keys in [low, high] into out from offset and returns how many
+    // there were; at most out.length - offset are copied
+    public int copyRange(long low, long high, long[] out, int offset) {
+        if (low > high) {
+            return 0;
+        }
+        int from = lowerBound(low);
+        int count = Math.min(upperBound(high) - from, out.length - offset);
+        System.arraycopy(keys, from, out, offset, count);
+        return count;
+    }
+
+    public long key(int position) {
+        return keys[position];
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public int segments() {
+        return starts.length;
+    }
+
+    public int maxError() {
+        return maxError;
+    }
+
+    // Model size next to the 8 bytes per key of the table itself
+    public long modelBytes() {
+        return (long) starts.length * (Long.BYTES + Double.BYTES + Integer.BYTES);
+    }
+
+    // ========================================
+    // Persistence
+    // ========================================
+    // The keys and the model are written to one file, so a reloaded index
+    // never pairs a model with data it was not built from. Loading reads the
+    // segments back instead of refitting them.
+
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+            bytes.putInt(MAGIC).putInt(VERSION).putInt(maxError).putInt(keys.length).putInt(starts.length);
+            writeLongs(channel, bytes, keys);
+            writeLongs(channel, bytes, firstKeys);
+            for (double slope : slopes) {
+                if (bytes.remaining() < Double.BYTES) {
+                    drain(channel, bytes);
+                }
+                bytes.putDouble(slope);
+            }
+            for (int start : starts) {
+                if (bytes.remaining() < Integer.BYTES) {
+                    drain(channel, bytes);
+                }
+                bytes.putInt(start);
+            }
+            drain(channel, bytes);
+        }
+    }
+
+    public static LearnedIndex load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            readFully(channel, header);
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a learned index file: " + file);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported learned index version " + version + " in " + file);
+            }
+            int maxError = header.getInt();
+            int n = header.getInt();
+            int segments = header.getInt();
+            long expected = HEADER_BYTES + (long) n * Long.BYTES
+                    + (long) segments * (Long.BYTES + Double.BYTES + Integer.BYTES);
+            if (n < 0 || segments < 0 || channel.size() != expected) {
+                throw new IOException("Truncated or corrupt learned index file: " + file);
+            }
+
+            long[] keys = new long[n];
+            long[] firstKeys = new long[segments];
+            double[] slopes = new double[segments];
+            int[] starts = new int[segments];
+            ByteBuffer bytes = ByteBuffer.allocateDirect(IO_BUFFER_BYTES);
+            bytes.flip();
+            readLongs(channel, bytes, keys);
+            readLongs(channel, bytes, firstKeys);
+            for (int s = 0; s < segments; s++) {
+                refill(channel, bytes, Double.BYTES);
+                slopes[s] = bytes.getDouble();
+            }
+            for (int s = 0; s < segments; s++) {
+                refill(channel, bytes, Integer.BYTES);
+                starts[s] = bytes.getInt();
+            }
+            return new LearnedIndex(keys, maxError, firstKeys, slopes, starts);
+        }
+    }
+
+    // Bulk copies through a LongBuffer view; the buffer holds a whole number of longs
+    private static void writeLongs(FileChannel channel, ByteBuffer bytes, long[] values) throws IOException {
+        int done = 0;
+        while (done < values.length) {
+            if (bytes.remaining() < Long.BYTES) {
+                drain(channel, bytes);
+            }
+            LongBuffer view = bytes.asLongBuffer();
+            int count = Math.min(view.remaining(), values.length - done);
+            view.put(values, done, count);
+            bytes.position(bytes.position() + count * Long.BYTES);
+            done += count;
+        }
+    }
+
+    private static void readLongs(FileChannel channel, ByteBuffer bytes, long[] values) throws IOException {
+        int done = 0;
+        while (done < values.length) {
+            refill(channel, bytes, Long.BYTES);
+            LongBuffer view = bytes.asLongBuffer();
+            int count = Math.min(view.remaining(), values.length - done);
+            view.get(values, done, count);
+            bytes.position(bytes.position() + count * Long.BYTES);
+            done += count;
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer bytes) throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    // Makes at least needed bytes readable, keeping any unread ones
+    private static void refill(FileChannel channel, ByteBuffer bytes, int needed) throws IOException {
+        if (bytes.remaining() >= needed) {
+            return;
+        }
+        bytes.compact();
+        while (bytes.position() < needed) {
+            if (channel.read(bytes) < 0) {
+                throw new IOException("Unexpected end of learned index file");
+            }
+        }
+        bytes.flip();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes) < 0) {
+                throw new IOException("Unexpected end of learned index file");
+            }
+        }
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // key - origin as a double; the difference of two longs can overflow a
+    // long, but with key >= origin it is exact as an unsigned value
+    private static double distance(long key, long origin) {
+        long diff = key - origin;
+        return diff >= 0 ? diff : (diff >>> 1) * 2.0 + (diff & 1);
+    }
+
+    // First position in a whose value is > key
+    private static int upperBound(long[] a, long key) {
+        int base = 0;
+        int length = a.length;
+        if (length == 0) {
+            return 0;
+        }
+        while (length > 1) {
+            int half = length >>> 1;
+            base = a[base + half] <= key ? base + half : base;
+            length -= half;
+        }
+        return base + (a[base] <= key ? 1 : 0);
+    }
+
+    // The window is a few adjacent cache lines, where the ordinary branchy
+    // search does better than the branchless one: its speculative loads run
+    // ahead into the next line while the current compare is still pending
+    private int windowLowerBound(long key, int from, int to) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (keys[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // keys[from - 1] < key is known; the answer lies in [from, to]
+    private int gallopRight(long key, int from, int to) {
+        int step = 1;
+        int hi = from;
+        while (hi < to && keys[hi] < key) {
+            from = hi + 1;
+            hi = (int) Math.min(to, (long) from + step);
+            step <<= 1;
+        }
+        return SortedSearch.lowerBound(keys, from, hi, key);
+    }
+
+    // keys[to] >= key is known; the answer lies in [from, to]
+    private int gallopLeft(long key, int from, int to) {
+        int step = 1;
+        int lo = to;
+        while (lo > from && keys[lo - 1] >= key) {
+            to = lo - 1;
+            lo = (int) Math.max(from, (long) to - step);
+            step <<= 1;
+        }
+        return SortedSearch.lowerBound(keys, lo, to, key);
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      LOOKUPS IN %,d SKEWED SORTED KEYS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Lognormal keys: dense near the bottom, a long sparse tail
+        Random random = new Random(42);
+        int[] sorted = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = (int) Math.min(Integer.MAX_VALUE - 1, Math.exp(16 + 1.5 * random.nextGaussian()));
+        }
+        Arrays.sort(sorted);
+        int[] probes = new int[1 << 20];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextBoolean() ? sorted[random.nextInt(size)] : random.nextInt(sorted[size - 1]);
+        }
+
+        for (int maxError : new int[]{8, 16, 64}) {
+            long start = System.nanoTime();
+            LearnedIndex index = build(sorted, maxError);
+            double buildMs = (System.nanoTime() - start) / 1_000_000.0;
+            System.out.printf("  maxError %3d: %,8d segments (%,d KB model), built in %.0f ms, %6.1f ns/lookup%n",
+                    maxError, index.segments(), index.modelBytes() / 1024, buildMs,
+                    time(probes, index::indexOf));
+        }
+        System.out.printf("  BinarySearch.binarySearchIterative:                        %6.1f ns/lookup%n",
+                time(probes, key -> BinarySearch.binarySearchIterative(sorted, key)));
+        System.out.printf("  Arrays.binarySearch:                                       %6.1f ns/lookup%n",
+                time(probes, key -> Arrays.binarySearch(sorted, key)));
+    }
+
+    // Best of a few passes over the probes, after one warmup pass
+    private static double time(int[] probes, IntUnaryOperator lookup) {
+        double best = Double.MAX_VALUE;
+        long checksum = 0;
+        for (int run = 0; run < 4; run++) {
+            long start = System.nanoTime();
+            for (int probe : probes) {
+                checksum += lookup.applyAsInt(probe);
+            }
+            if (run > 0) {
+                best = Math.min(best, (double) (System.nanoTime() - start) / probes.length);
+            }
+        }
+        // Keeps the JIT from discarding the lookups
+        if (checksum == 42) {
+            System.out.print("");
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      LEARNED INDEX DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Example 1: Timestamps arriving at a steady rate fit very few segments
+        long[] timestamps = new long[100_000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = 1_700_000_000_000L + i * 250L + (i % 7);
+        }
+        LearnedIndex index = build(timestamps, 16);
+        System.out.printf("%,d timestamps -> %d segments%n", index.size(), index.segments());
+        long probe = timestamps[54_321];
+        System.out.println("indexOf(" + probe + ") = " + index.indexOf(probe));
+
+        // Example 2: Range scan - every key in a 10 second window
+        long from = 1_700_000_100_000L;
+        System.out.println("Keys in [" + from + ", " + (from + 10_000) + "]: "
+                + index.countInRange(from, from + 10_000));
+
+        // Example 3: Save and reload without refitting
+        Path file = Files.createTempFile("learned-index-", ".bin");
+        try {
+            index.save(file);
+            LearnedIndex loaded = load(file);
+            System.out.printf("Reloaded from %,d bytes: %d segments, indexOf = %d%n",
+                    Files.size(file), loaded.segments(), loaded.indexOf(probe));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        performanceComparison(size);
+    }
+}
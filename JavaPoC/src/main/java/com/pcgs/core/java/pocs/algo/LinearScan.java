@@ -0,0 +1,451 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// ========================================
+// Linear Scan Engine for Unsorted Data
+// ========================================
+// LinearSearch compares one element per iteration and stops on the first
+// match; the loop is bound by its exit branch, not by memory bandwidth.
+// The kernels here test eight elements per iteration with non-short-circuit
+// ORs, so the common "no match in this block" case costs one well-predicted
+// branch per eight loads, and only a block that contains a match is searched
+// element by element. The parallel modes split the array into one range per
+// common-pool thread.
+//
+// Every scan reports the bytes it actually read and the time it took to the
+// ScanListener given to the constructor; Throughput turns that into GB/s.
+public class LinearScan {
+
+    // Inputs below this size are never split across threads
+    static final int PARALLEL_THRESHOLD = 1 << 18;
+
+    // Elements a parallel worker scans between checks for cancellation
+    static final int CANCEL_CHECK_INTERVAL = 1 << 14;
+
+    // Elements tested per iteration of the unrolled kernels
+    static final int UNROLL = 8;
+
+    // ========================================
+    // Throughput Reporting
+    // ========================================
+
+    public interface ScanListener {
+        void onScan(String operation, long bytesScanned, long nanos);
+    }
+
+    // Ready-made listener: bytes and time per operation, and overall GB/s
+    public static class Throughput implements ScanListener {
+        private long bytes;
+        private long nanos;
+        private String lastOperation;
+        private long lastBytes;
+        private long lastNanos;
+
+        @Override
+        public synchronized void onScan(String operation, long bytesScanned, long elapsedNanos) {
+            bytes += bytesScanned;
+            nanos += elapsedNanos;
+            lastOperation = operation;
+            lastBytes = bytesScanned;
+            lastNanos = elapsedNanos;
+        }
+
+        // Bytes per nanosecond is the same number as GB/s
+        public synchronized double gigabytesPerSecond() {
+            return nanos == 0 ? 0 : (double) bytes / nanos;
+        }
+
+        public synchronized double lastGigabytesPerSecond() {
+            return lastNanos == 0 ? 0 : (double) lastBytes / lastNanos;
+        }
+
+        public synchronized String lastOperation() {
+            return lastOperation;
+        }
+
+        public synchronized void reset() {
+            bytes = 0;
+            nanos = 0;
+            lastOperation = null;
+            lastBytes = 0;
+            lastNanos = 0;
+        }
+    }
+
+    private final ScanListener listener;
+
+    public LinearScan() {
+        this((operation, bytes, nanos) -> { });
+    }
+
+    public LinearScan(ScanListener listener) {
+        this.listener = listener;
+    }
+
+    // ========================================
+    // First Match
+    // ========================================
+    // indexOf and parallelIndexOf return the index of the first (lowest)
+    // match, or -1.
+
+    public int indexOf(int[] arr, int target) {
+        long start = System.nanoTime();
+        int index = indexOf(arr, target, 0, arr.length);
+        report("indexOf", index < 0 ? arr.length : index + 1, start);
+        return index;
+    }
+
+    // Each worker scans its range in steps of CANCEL_CHECK_INTERVAL and stops
+    // as soon as a match before its current position is known: that match
+    // already beats anything it could still find. Workers before the match
+    // keep going, because an earlier match would win.
+    public int parallelIndexOf(int[] arr, int target) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        if (chunks == 1) {
+            return indexOf(arr, target);
+        }
+        long start = System.nanoTime();
+        int chunkSize = (n + chunks - 1) / chunks;
+        AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+        LongAdder scanned = new LongAdder();
+        forEachChunk(chunks, c -> {
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int block = c * chunkSize; block < to && first.get() > block; block += CANCEL_CHECK_INTERVAL) {
+                int end = Math.min(to, block + CANCEL_CHECK_INTERVAL);
+                int index = indexOf(arr, target, block, end);
+                scanned.add((index < 0 ? end : index + 1) - block);
+                if (index >= 0) {
+                    first.accumulateAndGet(index, Math::min);
+                    return;
+                }
+            }
+        });
+        report("parallelIndexOf", scanned.sum(), start);
+        int index = first.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    // Index of some match, not necessarily the first: the first match found
+    // by any worker cancels all of them. Use it when any occurrence will do.
+    public int parallelIndexOfAny(int[] arr, int target) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        if (chunks == 1) {
+            return indexOf(arr, target);
+        }
+        long start = System.nanoTime();
+        int chunkSize = (n + chunks - 1) / chunks;
+        AtomicInteger found = new AtomicInteger(-1);
+        LongAdder scanned = new LongAdder();
+        forEachChunk(chunks, c -> {
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int block = c * chunkSize; block < to && found.get() < 0; block += CANCEL_CHECK_INTERVAL) {
+                int end = Math.min(to, block + CANCEL_CHECK_INTERVAL);
+                int index = indexOf(arr, target, block, end);
+                scanned.add((index < 0 ? end : index + 1) - block);
+                if (index >= 0) {
+                    found.compareAndSet(-1, index);
+                    return;
+                }
+            }
+        });
+        report("parallelIndexOfAny", scanned.sum(), start);
+        return found.get();
+    }
+
+    // ========================================
+    // Count and Find All
+    // ========================================
+
+    public int count(int[] arr, int target) {
+        long start = System.nanoTime();
+        int count = count(arr, target, 0, arr.length);
+        report("count", arr.length, start);
+        return count;
+    }
+
+    public int parallelCount(int[] arr, int target) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        if (chunks == 1) {
+            return count(arr, target);
+        }
+        long start = System.nanoTime();
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[] counts = new int[chunks];
+        forEachChunk(chunks, c -> counts[c] = count(arr, target, c * chunkSize, Math.min(n, (c + 1) * chunkSize)));
+        report("parallelCount", n, start);
+        return Arrays.stream(counts).sum();
+    }
+
+    // Writes the indexes of matches, in ascending order, into out and returns
+    // how many were written. The scan stops once out is full, so a result
+    // equal to out.length means there may be more.
+    public int findAll(int[] arr, int target, int[] out) {
+        long start = System.nanoTime();
+        int[] scannedTo = new int[1];
+        int written = findAll(arr, target, 0, arr.length, out, 0, scannedTo);
+        report("findAll", scannedTo[0], start);
+        return written;
+    }
+
+    // Two passes: each worker counts its range, a prefix sum gives every
+    // range its slot in out, then each worker writes its own matches there.
+    // Reading the data twice is cheaper than collecting per-worker lists,
+    // and out is the only memory written.
+    public int parallelFindAll(int[] arr, int target, int[] out) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        if (chunks == 1) {
+            return findAll(arr, target, out);
+        }
+        long start = System.nanoTime();
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[] offsets = new int[chunks + 1];
+        forEachChunk(chunks, c -> offsets[c + 1] = count(arr, target, c * chunkSize, Math.min(n, (c + 1) * chunkSize)));
+        for (int c = 0; c < chunks; c++) {
+            offsets[c + 1] += offsets[c];
+        }
+        forEachChunk(chunks, c -> {
+            if (offsets[c] < out.length) {
+                findAll(arr, target, c * chunkSize, Math.min(n, (c + 1) * chunkSize), out, offsets[c], new int[1]);
+            }
+        });
+        report("parallelFindAll", 2L * n, start);
+        return Math.min(offsets[chunks], out.length);
+    }
+
+    // ========================================
+    // Generic Arrays
+    // ========================================
+    // Object arrays hold references, so a scan chases a pointer per element
+    // and equals() decides; the unrolled kernels do not apply. Throughput is
+    // only reported for the int[] scans.
+
+    public <T> int indexOf(T[] arr, T target) {
+        return indexOf(arr, target, 0, arr.length);
+    }
+
+    public <T> int parallelIndexOf(T[] arr, T target) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        if (chunks == 1) {
+            return indexOf(arr, target);
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        AtomicInteger first = new AtomicInteger(Integer.MAX_VALUE);
+        forEachChunk(chunks, c -> {
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int block = c * chunkSize; block < to && first.get() > block; block += CANCEL_CHECK_INTERVAL) {
+                int index = indexOf(arr, target, block, Math.min(to, block + CANCEL_CHECK_INTERVAL));
+                if (index >= 0) {
+                    first.accumulateAndGet(index, Math::min);
+                    return;
+                }
+            }
+        });
+        int index = first.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    // ========================================
+    // Kernels
+    // ========================================
+
+    private static int indexOf(int[] arr, int target, int from, int to) {
+        int i = from;
+        for (; i <= to - UNROLL; i += UNROLL) {
+            if ((arr[i] == target) | (arr[i + 1] == target) | (arr[i + 2] == target) | (arr[i + 3] == target)
+                    | (arr[i + 4] == target) | (arr[i + 5] == target) | (arr[i + 6] == target)
+                    | (arr[i + 7] == target)) {
+                break;
+            }
+        }
+        // Either the block holding the first match or the tail
+        for (; i < to; i++) {
+            if (arr[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Four independent sums, so the adds do not wait on each other
+    private static int count(int[] arr, int target, int from, int to) {
+        int c0 = 0;
+        int c1 = 0;
+        int c2 = 0;
+        int c3 = 0;
+        int i = from;
+        for (; i <= to - 4; i += 4) {
+            c0 += arr[i] == target ? 1 : 0;
+            c1 += arr[i + 1] == target ? 1 : 0;
+            c2 += arr[i + 2] == target ? 1 : 0;
+            c3 += arr[i + 3] == target ? 1 : 0;
+        }
+        for (; i < to; i++) {
+            c0 += arr[i] == target ? 1 : 0;
+        }
+        return c0 + c1 + c2 + c3;
+    }
+
+    // Matches in [from, to) go to out from offset on; returns the new offset.
+    // scannedTo[0] receives the position the scan reached.
+    private static int findAll(int[] arr, int target, int from, int to, int[] out, int offset, int[] scannedTo) {
+        int i = from;
+        while (i < to && offset < out.length) {
+            int blockEnd = Math.min(to, i + UNROLL);
+            if (blockEnd - i == UNROLL
+                    && !((arr[i] == target) | (arr[i + 1] == target) | (arr[i + 2] == target)
+                    | (arr[i + 3] == target) | (arr[i + 4] == target) | (arr[i + 5] == target)
+                    | (arr[i + 6] == target) | (arr[i + 7] == target))) {
+                i = blockEnd;
+                continue;
+            }
+            for (; i < blockEnd && offset < out.length; i++) {
+                if (arr[i] == target) {
+                    out[offset++] = i;
+                }
+            }
+        }
+        scannedTo[0] = i;
+        return offset;
+    }
+
+    private static <T> int indexOf(T[] arr, T target, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (Objects.equals(arr[i], target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private void report(String operation, long elementsScanned, long startNanos) {
+        listener.onScan(operation, elementsScanned * Integer.BYTES, System.nanoTime() - startNanos);
+    }
+
+    private static int chunkCount(int n) {
+        if (n < PARALLEL_THRESHOLD) {
+            return 1;
+        }
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), n / (PARALLEL_THRESHOLD / 4)));
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer task) {
+        if (chunks == 1) {
+            task.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(task);
+        }
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      SCANNING %,d UNSORTED INTS (%,d MB)%n", size, (long) size * Integer.BYTES >> 20);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int[] arr = new Random(42).ints(size, 0, Integer.MAX_VALUE).toArray();
+        // Absent, so every first-match scan reads the whole array
+        int target = -1;
+        int[] out = new int[1024];
+        Throughput throughput = new Throughput();
+        LinearScan scan = new LinearScan(throughput);
+
+        report("LinearSearch.linearSearch", (long) size * Integer.BYTES,
+                time(() -> LinearSearch.linearSearch(arr, target)));
+        report("indexOf (unrolled)", throughput, () -> scan.indexOf(arr, target));
+        report("parallelIndexOf", throughput, () -> scan.parallelIndexOf(arr, target));
+        report("count", throughput, () -> scan.count(arr, target));
+        report("parallelCount", throughput, () -> scan.parallelCount(arr, target));
+        report("findAll", throughput, () -> scan.findAll(arr, target, out));
+        report("parallelFindAll", throughput, () -> scan.parallelFindAll(arr, target, out));
+    }
+
+    // Best of a few runs after one warmup run, with the GB/s the listener saw
+    private static void report(String name, Throughput throughput, Runnable scan) {
+        scan.run();
+        double best = Double.MAX_VALUE;
+        double gigabytesPerSecond = 0;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            scan.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+            gigabytesPerSecond = Math.max(gigabytesPerSecond, throughput.lastGigabytesPerSecond());
+        }
+        System.out.printf("  %-28s %8.2f ms  %6.2f GB/s%n", name, best, gigabytesPerSecond);
+    }
+
+    private static void report(String name, long bytes, double ms) {
+        System.out.printf("  %-28s %8.2f ms  %6.2f GB/s%n", name, ms, bytes / (ms * 1_000_000));
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable scan) {
+        scan.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            scan.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      LINEAR SCAN DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Throughput throughput = new Throughput();
+        LinearScan scan = new LinearScan(throughput);
+        int[] numbers = {12, 45, 23, 67, 89, 34, 56, 67, 10, 67, 3};
+        System.out.println("Array: " + Arrays.toString(numbers));
+
+        // Example 1: First match, count and all matches
+        int[] out = new int[8];
+        int found = scan.findAll(numbers, 67, out);
+        System.out.println("\nindexOf(67) = " + scan.indexOf(numbers, 67));
+        System.out.println("count(67)   = " + scan.count(numbers, 67));
+        System.out.println("findAll(67) = " + Arrays.toString(Arrays.copyOf(out, found)));
+
+        // Example 2: A full buffer stops the scan
+        int[] small = new int[2];
+        System.out.println("findAll into 2 slots = " + scan.findAll(numbers, 67, small) + " " + Arrays.toString(small));
+
+        // Example 3: Generic search
+        String[] names = {"Alice", "Bob", "Charlie", "David", "Eve"};
+        System.out.println("\nindexOf(\"David\") = " + scan.indexOf(names, "David"));
+
+        // Example 4: Parallel first match in a large buffer
+        int[] large = new int[10_000_000];
+        large[7_654_321] = 42;
+        large[9_000_000] = 42;
+        System.out.println("\nparallelIndexOf(42) = " + scan.parallelIndexOf(large, 42)
+                + String.format(" (%s, %.2f GB/s)", throughput.lastOperation(), throughput.lastGigabytesPerSecond()));
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000_000;
+        performanceComparison(size);
+    }
+}
@@ -1,7 +1,17 @@
 package com.pcgs.core.java.pocs.algo;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 public class MergeSortClaude {
 
+    // Ranges at or below this size are sorted by the calling thread instead of being forked
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 13;
+
+    // Runs at or below this size are finished with insertion sort
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
     // Main merge sort method
     public static void mergeSort(int[] arr) {
         if (arr == null || arr.length <= 1) {
@@ -115,6 +125,107 @@ public class MergeSortClaude {
         }
     }
 
+    // ========================================
+    // Parallel Merge Sort (Fork/Join)
+    // ========================================
+
+    // Sorts on the common pool with the default split threshold
+    public static void parallelMergeSort(int[] arr) {
+        parallelMergeSort(arr, DEFAULT_PARALLEL_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    // Sorts on the given pool; ranges larger than threshold are split into subtasks.
+    // One scratch buffer of arr.length is allocated up front and shared by every task,
+    // each task only ever touching its own [from, to) slice of it.
+    public static void parallelMergeSort(int[] arr, int threshold, ForkJoinPool pool) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int[] buffer = new int[arr.length];
+        int cutoff = Math.max(threshold, INSERTION_SORT_THRESHOLD);
+        pool.invoke(new IntMergeSortTask(arr, buffer, 0, arr.length, cutoff));
+    }
+
+    @SuppressWarnings("serial")
+    private static class IntMergeSortTask extends RecursiveAction {
+        private final int[] arr;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        IntMergeSortTask(int[] arr, int[] buffer, int from, int to, int threshold) {
+            this.arr = arr;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                sequentialSort(arr, buffer, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new IntMergeSortTask(arr, buffer, from, mid, threshold),
+                    new IntMergeSortTask(arr, buffer, mid, to, threshold));
+            mergeWithBuffer(arr, buffer, from, mid, to);
+        }
+    }
+
+    // Top-down merge sort over [from, to) that reuses the caller's scratch buffer
+    static void sequentialSort(int[] arr, int[] buffer, int from, int to) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(arr, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(arr, buffer, from, mid);
+        sequentialSort(arr, buffer, mid, to);
+        mergeWithBuffer(arr, buffer, from, mid, to);
+    }
+
+    // Merges sorted [from, mid) and [mid, to). Only the left run is copied out,
+    // since the write index can never overtake the read index of the right run.
+    static void mergeWithBuffer(int[] arr, int[] buffer, int from, int mid, int to) {
+        // Runs are already in order - nothing to do
+        if (arr[mid - 1] <= arr[mid]) {
+            return;
+        }
+        System.arraycopy(arr, from, buffer, from, mid - from);
+
+        // Which run supplies the next element is a coin flip on random data, so
+        // the choice only moves the read indices instead of branching
+        int i = from, j = mid, k = from;
+        while (i < mid && j < to) {
+            int left = buffer[i];
+            int right = arr[j];
+            boolean takeLeft = left <= right;
+            arr[k++] = takeLeft ? left : right;
+            i += takeLeft ? 1 : 0;
+            j += takeLeft ? 0 : 1;
+        }
+
+        // Whatever is left of the right run is already in place
+        while (i < mid) {
+            arr[k++] = buffer[i++];
+        }
+    }
+
+    static void insertionSort(int[] arr, int from, int to) {
+        for (int i = from + 1; i < to; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= from && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
     // Detailed version with visualization
     public static void mergeSortDetailed(int[] arr, int depth) {
         if (arr.length < 2) {
@@ -154,6 +265,65 @@ public class MergeSortClaude {
         System.out.println(arrayToString(arr));
     }
 
+    // ========================================
+    // Parallel Scaling Benchmark
+    // ========================================
+
+    // Times parallelMergeSort against Arrays.parallelSort on pools of 1..N workers.
+    // Arrays.parallelSort forks into whichever pool it is invoked from, so running
+    // both inside the same pool gives a like-for-like comparison.
+    public static void parallelPerformanceComparison(int size) {
+        System.out.println("\n========================================");
+        System.out.println("Parallel Scaling: " + String.format("%,d", size) + " elements");
+        System.out.println("========================================\n");
+
+        int[] source = new int[size];
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("%-8s %18s %22s%n", "Workers", "parallelMergeSort", "Arrays.parallelSort");
+        // 1, 2, 4, ... doubling up to (and always including) the core count
+        int workers = 1;
+        while (true) {
+            ForkJoinPool pool = new ForkJoinPool(workers);
+            try {
+                double mergeTime = timeSort(source, pool, true);
+                double jdkTime = timeSort(source, pool, false);
+                System.out.printf("%-8d %15.2f ms %19.2f ms%n", workers, mergeTime, jdkTime);
+            } finally {
+                pool.shutdown();
+            }
+            if (workers == cores) {
+                break;
+            }
+            workers = Math.min(workers * 2, cores);
+        }
+    }
+
+    // Best of several runs after a warmup, so JIT compilation is not part of the number
+    private static double timeSort(int[] source, ForkJoinPool pool, boolean mergeSort) {
+        int warmups = 3;
+        int runs = 5;
+        double best = Double.MAX_VALUE;
+        for (int r = 0; r < warmups + runs; r++) {
+            int[] copy = source.clone();
+            long start = System.nanoTime();
+            if (mergeSort) {
+                parallelMergeSort(copy, DEFAULT_PARALLEL_THRESHOLD, pool);
+            } else {
+                pool.submit(() -> Arrays.parallelSort(copy)).join();
+            }
+            long elapsed = System.nanoTime() - start;
+            if (r >= warmups) {
+                best = Math.min(best, elapsed / 1_000_000.0);
+            }
+        }
+        return best;
+    }
+
     public static void main(String[] args) {
         System.out.println("========================================");
         System.out.println("MERGE SORT DEMONSTRATION");
@@ -221,43 +391,22 @@ public class MergeSortClaude {
             System.out.printf("Sorting %,d elements: %.2f ms%n",
                     size, (endTime - startTime) / 1_000_000.0);
         }
-    }
-}
-
-// Generic Merge Sort for any Comparable type
-class GenericMergeSort {
-
-    public static <T extends Comparable<T>> void mergeSort(T[] arr) {
-        if (arr.length < 2) {
-            return;
-        }
-
-        int mid = arr.length / 2;
-        T[] left = java.util.Arrays.copyOfRange(arr, 0, mid);
-        T[] right = java.util.Arrays.copyOfRange(arr, mid, arr.length);
-
-        mergeSort(left);
-        mergeSort(right);
-        merge(arr, left, right);
-    }
 
-    private static <T extends Comparable<T>> void merge(T[] arr, T[] left, T[] right) {
-        int i = 0, j = 0, k = 0;
-
-        while (i < left.length && j < right.length) {
-            if (left[i].compareTo(right[j]) <= 0) {
-                arr[k++] = left[i++];
-            } else {
-                arr[k++] = right[j++];
-            }
-        }
-
-        while (i < left.length) {
-            arr[k++] = left[i++];
-        }
-
-        while (j < right.length) {
-            arr[k++] = right[j++];
-        }
+        // Example 6: Parallel merge sort
+        System.out.println("\n========================================");
+        System.out.println("Example 6: Parallel Merge Sort");
+        System.out.println("========================================\n");
+        int[] arr6 = {38, 27, 43, 3, 9, 82, 10, 55, 1, 19, 27};
+        System.out.println("Original: " + arrayToString(arr6));
+        parallelMergeSort(arr6);
+        System.out.println("Sorted:   " + arrayToString(arr6));
+
+        String[] words = {"pear", "apple", "fig", "kiwi", "banana", "cherry"};
+        GenericMergeSort.parallelMergeSort(words);
+        System.out.println("Strings:  " + Arrays.toString(words));
+
+        // Pass a size (e.g. 50000000) to benchmark a larger column
+        int benchmarkSize = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        parallelPerformanceComparison(benchmarkSize);
     }
-}
\ No newline at end of file
+}
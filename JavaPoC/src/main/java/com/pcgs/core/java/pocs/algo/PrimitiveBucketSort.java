@@ -0,0 +1,395 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class PrimitiveBucketSort {
+
+    // Buckets are sorted in parallel once the input reaches this size
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // Sampled keys per bucket when fitting quantile boundaries
+    static final int SAMPLES_PER_BUCKET = 32;
+
+    // ========================================
+    // Bucket Functions (pluggable distribution)
+    // ========================================
+    // A bucket function maps a value to a bucket in [0, bucketCount). It must be
+    // non-decreasing - a larger value never goes to an earlier bucket - so that
+    // sorting each bucket and laying them out in order sorts the whole array.
+
+    public interface IntBucketFunction {
+        int bucketOf(int value);
+    }
+
+    public interface FloatBucketFunction {
+        int bucketOf(float value);
+    }
+
+    // Equal-width buckets between the smallest and largest value. The
+    // factories put everything in bucket 0 when arr is empty.
+    public static IntBucketFunction linear(int[] arr, int bucketCount) {
+        checkBucketCount(bucketCount);
+        if (arr.length == 0) {
+            return value -> 0;
+        }
+        int[] range = minMax(arr);
+        long min = range[0];
+        double scale = bucketCount / ((double) range[1] - min + 1);
+        return value -> (int) ((value - min) * scale);
+    }
+
+    public static FloatBucketFunction linear(float[] arr, int bucketCount) {
+        checkBucketCount(bucketCount);
+        if (arr.length == 0) {
+            return value -> 0;
+        }
+        float[] range = minMax(arr);
+        float min = range[0];
+        double width = (double) range[1] - min;
+        double scale = width > 0 ? (bucketCount - 1) / width : 0;
+        return value -> (int) ((value - min) * scale);
+    }
+
+    // Buckets that widen geometrically - narrow near the minimum and wide in the
+    // tail, which suits latency-style data where most values are small
+    public static IntBucketFunction logScale(int[] arr, int bucketCount) {
+        checkBucketCount(bucketCount);
+        if (arr.length == 0) {
+            return value -> 0;
+        }
+        int[] range = minMax(arr);
+        long min = range[0];
+        double span = Math.log1p((double) range[1] - min);
+        double scale = span > 0 ? (bucketCount - 1) / span : 0;
+        return value -> (int) (Math.log1p(value - min) * scale);
+    }
+
+    public static FloatBucketFunction logScale(float[] arr, int bucketCount) {
+        checkBucketCount(bucketCount);
+        if (arr.length == 0) {
+            return value -> 0;
+        }
+        float[] range = minMax(arr);
+        float min = range[0];
+        double span = Math.log1p((double) range[1] - min);
+        double scale = span > 0 ? (bucketCount - 1) / span : 0;
+        return value -> (int) (Math.log1p(value - min) * scale);
+    }
+
+    // Boundaries taken from a sorted sample so every bucket gets roughly the
+    // same number of values, whatever the shape of the distribution
+    public static IntBucketFunction quantiles(int[] arr, int bucketCount) {
+        checkBucketCount(bucketCount);
+        if (arr.length == 0) {
+            return value -> 0;
+        }
+        int samples = Math.min(arr.length, bucketCount * SAMPLES_PER_BUCKET);
+        int[] sample = new int[samples];
+        for (int i = 0; i < samples; i++) {
+            sample[i] = arr[(int) ((long) i * arr.length / samples)];
+        }
+        Arrays.sort(sample);
+
+        int[] bounds = new int[bucketCount - 1];
+        for (int b = 0; b < bounds.length; b++) {
+            bounds[b] = sample[(int) ((long) (b + 1) * samples / bucketCount)];
+        }
+        // Bucket = number of boundaries <= value
+        return value -> {
+            int lo = 0, hi = bounds.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (bounds[mid] <= value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        };
+    }
+
+    public static FloatBucketFunction quantiles(float[] arr, int bucketCount) {
+        checkBucketCount(bucketCount);
+        if (arr.length == 0) {
+            return value -> 0;
+        }
+        int samples = Math.min(arr.length, bucketCount * SAMPLES_PER_BUCKET);
+        float[] sample = new float[samples];
+        for (int i = 0; i < samples; i++) {
+            sample[i] = arr[(int) ((long) i * arr.length / samples)];
+        }
+        Arrays.sort(sample);
+
+        float[] bounds = new float[bucketCount - 1];
+        for (int b = 0; b < bounds.length; b++) {
+            bounds[b] = sample[(int) ((long) (b + 1) * samples / bucketCount)];
+        }
+        return value -> {
+            int lo = 0, hi = bounds.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (bounds[mid] <= value) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        };
+    }
+
+    // ========================================
+    // Flat Bucket Sort for int[]
+    // ========================================
+    // Instead of a List<Integer> per bucket, a counting pass sizes every bucket
+    // exactly and all buckets live side by side in one int[] of length n.
+    // Nothing is boxed, and each bucket is sorted in place in that buffer.
+    // Each call allocates that buffer and an int[n] of bucket ids; callers
+    // that sort repeatedly can pass both in instead, leaving only the
+    // bucketCount-sized offsets to allocate per call.
+
+    // About one bucket per 64 values, spread linearly
+    public static void bucketSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int bucketCount = Math.max(1, arr.length / 64);
+        bucketSort(arr, bucketCount, linear(arr, bucketCount));
+    }
+
+    public static void bucketSort(int[] arr, int bucketCount, IntBucketFunction buckets) {
+        checkBucketCount(bucketCount);
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        bucketSort(arr, bucketCount, buckets, new int[arr.length], new int[arr.length]);
+    }
+
+    // bucketIds and flat are scratch space of at least arr.length each
+    public static void bucketSort(int[] arr, int bucketCount, IntBucketFunction buckets,
+                                  int[] bucketIds, int[] flat) {
+        checkBucketCount(bucketCount);
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int n = arr.length;
+        checkScratch(n, bucketIds.length, flat.length);
+        int last = bucketCount - 1;
+
+        // Pass 1: count how many values land in each bucket, remembering each
+        // value's bucket so costlier functions (log, quantile search) run once
+        int[] start = new int[bucketCount + 1];
+        for (int i = 0; i < n; i++) {
+            int bucket = clamp(buckets.bucketOf(arr[i]), last);
+            bucketIds[i] = bucket;
+            start[bucket + 1]++;
+        }
+        for (int b = 1; b <= bucketCount; b++) {
+            start[b] += start[b - 1];
+        }
+
+        // Pass 2: scatter into the flat buffer; bucket b is flat[start[b]..start[b+1])
+        int[] next = Arrays.copyOf(start, bucketCount);
+        for (int i = 0; i < n; i++) {
+            flat[next[bucketIds[i]]++] = arr[i];
+        }
+
+        // Pass 3: sort each bucket in place - buckets are disjoint, so in parallel
+        IntStream range = IntStream.range(0, bucketCount);
+        if (n >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(b -> {
+            if (start[b + 1] - start[b] > 1) {
+                Arrays.sort(flat, start[b], start[b + 1]);
+            }
+        });
+
+        System.arraycopy(flat, 0, arr, 0, n);
+    }
+
+    // ========================================
+    // Flat Bucket Sort for float[]
+    // ========================================
+    // Same three passes for floats. Values are expected to be finite.
+
+    public static void bucketSort(float[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int bucketCount = Math.max(1, arr.length / 64);
+        bucketSort(arr, bucketCount, linear(arr, bucketCount));
+    }
+
+    public static void bucketSort(float[] arr, int bucketCount, FloatBucketFunction buckets) {
+        checkBucketCount(bucketCount);
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        bucketSort(arr, bucketCount, buckets, new int[arr.length], new float[arr.length]);
+    }
+
+    public static void bucketSort(float[] arr, int bucketCount, FloatBucketFunction buckets,
+                                  int[] bucketIds, float[] flat) {
+        checkBucketCount(bucketCount);
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int n = arr.length;
+        checkScratch(n, bucketIds.length, flat.length);
+        int last = bucketCount - 1;
+
+        int[] start = new int[bucketCount + 1];
+        for (int i = 0; i < n; i++) {
+            int bucket = clamp(buckets.bucketOf(arr[i]), last);
+            bucketIds[i] = bucket;
+            start[bucket + 1]++;
+        }
+        for (int b = 1; b <= bucketCount; b++) {
+            start[b] += start[b - 1];
+        }
+
+        int[] next = Arrays.copyOf(start, bucketCount);
+        for (int i = 0; i < n; i++) {
+            flat[next[bucketIds[i]]++] = arr[i];
+        }
+
+        IntStream range = IntStream.range(0, bucketCount);
+        if (n >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(b -> {
+            if (start[b + 1] - start[b] > 1) {
+                Arrays.sort(flat, start[b], start[b + 1]);
+            }
+        });
+
+        System.arraycopy(flat, 0, arr, 0, n);
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // Guards against rounding at the edges of the range pushing a value out
+    private static int clamp(int bucket, int last) {
+        return bucket < 0 ? 0 : (bucket > last ? last : bucket);
+    }
+
+    private static void checkBucketCount(int bucketCount) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("Bucket count must be positive: " + bucketCount);
+        }
+    }
+
+    private static void checkScratch(int n, int bucketIds, int flat) {
+        if (bucketIds < n || flat < n) {
+            throw new IllegalArgumentException("Scratch buffers must hold " + n + " values: "
+                    + bucketIds + " bucket ids, " + flat + " flat");
+        }
+    }
+
+    private static int[] minMax(int[] arr) {
+        int min = arr[0];
+        int max = arr[0];
+        for (int value : arr) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        return new int[]{min, max};
+    }
+
+    private static float[] minMax(float[] arr) {
+        float min = arr[0];
+        float max = arr[0];
+        for (float value : arr) {
+            if (value < min) min = value;
+            if (value > max) max = value;
+        }
+        return new float[]{min, max};
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison() {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.println("      PERFORMANCE COMPARISON");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Random random = new Random(42);
+        int size = 1_000_000;
+        int bucketCount = size / 64;
+
+        // Latencies in microseconds: log-normal, long right tail
+        int[] latencies = new int[size];
+        for (int i = 0; i < size; i++) {
+            latencies[i] = (int) Math.exp(6 + 1.5 * random.nextGaussian());
+        }
+        System.out.println("Test 1: 1,000,000 int latencies (log-normal)");
+        System.out.printf("  Flat, linear buckets:    %8.2f ms%n",
+                time(() -> bucketSort(latencies.clone(), bucketCount, linear(latencies, bucketCount))));
+        System.out.printf("  Flat, log-scale buckets: %8.2f ms%n",
+                time(() -> bucketSort(latencies.clone(), bucketCount, logScale(latencies, bucketCount))));
+        System.out.printf("  Flat, quantile buckets:  %8.2f ms%n",
+                time(() -> bucketSort(latencies.clone(), bucketCount, quantiles(latencies, bucketCount))));
+        System.out.printf("  Arrays.sort:             %8.2f ms%n", time(() -> Arrays.sort(latencies.clone())));
+
+        // bucketsortcpgs only handles 0-99 (ten buckets of width 10)
+        int[] small = new int[size];
+        for (int i = 0; i < size; i++) {
+            small[i] = random.nextInt(100);
+        }
+        System.out.println("\nTest 2: 1,000,000 ints in 0-99");
+        System.out.printf("  bucketsortcpgs (boxed):  %8.2f ms%n", time(() -> bucketsortcpgs.bucketSort(small.clone())));
+        System.out.printf("  Flat, linear buckets:    %8.2f ms%n", time(() -> bucketSort(small.clone())));
+
+        // BucketSortgrok only handles [0, 1)
+        float[] uniform = new float[size];
+        for (int i = 0; i < size; i++) {
+            uniform[i] = random.nextFloat();
+        }
+        System.out.println("\nTest 3: 1,000,000 floats in [0, 1)");
+        System.out.printf("  BucketSortgrok (boxed):  %8.2f ms%n", time(() -> BucketSortgrok.bucketSort(uniform.clone())));
+        System.out.printf("  Flat, linear buckets:    %8.2f ms%n", time(() -> bucketSort(uniform.clone())));
+        System.out.printf("  Arrays.sort:             %8.2f ms%n", time(() -> Arrays.sort(uniform.clone())));
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      PRIMITIVE BUCKET SORT DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int[] ints = {54, 46, 83, 66, 95, 92, 43, 1200, -5, 7};
+        System.out.println("Original: " + Arrays.toString(ints));
+        bucketSort(ints, 4, logScale(ints, 4));
+        System.out.println("Sorted:   " + Arrays.toString(ints));
+
+        float[] floats = {0.42f, 0.32f, 3.3f, 0.52f, -0.37f, 0.47f, 0.51f};
+        System.out.println("\nOriginal: " + Arrays.toString(floats));
+        bucketSort(floats, 3, quantiles(floats, 3));
+        System.out.println("Sorted:   " + Arrays.toString(floats));
+
+        performanceComparison();
+    }
+}
@@ -2,6 +2,15 @@ package com.pcgs.core.java.pocs.algo;
 
 public class QuickSortClaude {
 
+    // Partitions at or below this size are finished with insertion sort
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    // Partitions above this size pick their pivot with Tukey's ninther
+    static final int NINTHER_THRESHOLD = 128;
+
+    // Elements scanned per side before the block partition swaps
+    static final int PARTITION_BLOCK = 64;
+
     // ========================================
     // Method 1: Last Element as Pivot (Lomuto Partition)
     // ========================================
@@ -118,6 +127,309 @@ public class QuickSortClaude {
         return partition(arr, low, high);
     }
 
+    // ========================================
+    // Method 4: Introsort (Hybrid, Guaranteed O(n log n))
+    // ========================================
+
+    // Quick sort driven by an explicit stack instead of recursion:
+    //   - median-of-three pivot, or ninther for large partitions
+    //   - Dutch-flag (three-way) partitioning when the pivot sample shows repeated keys
+    //   - heap sort once a partition exceeds the 2*log2(n) depth budget
+    //   - insertion sort for tiny partitions
+    // The smaller side is always processed first and the larger side pushed,
+    // so the stack holds at most log2(n) pending ranges.
+    public static void introSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        introSort(arr, false);
+    }
+
+    // Introsort without data-dependent branches in its hot loops:
+    //   - block partitioning (below) instead of the classic Hoare scan
+    //   - SortingNetworks instead of insertion sort for partitions up to 32
+    // Pivot choice, the duplicate path and the heap sort fallback are the same.
+    public static void branchlessIntroSort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        introSort(arr, true);
+    }
+
+    private static void introSort(int[] arr, boolean branchless) {
+        int leafSize = branchless ? SortingNetworks.MAX_SIZE : INSERTION_SORT_THRESHOLD;
+        int[] leftOffsets = branchless ? new int[PARTITION_BLOCK] : null;
+        int[] rightOffsets = branchless ? new int[PARTITION_BLOCK] : null;
+
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(arr.length));
+
+        // Each pending range is stored as (low, high, remaining depth)
+        int[] stack = new int[3 * 64];
+        int top = 0;
+        int[] bounds = new int[2];
+
+        int low = 0;
+        int high = arr.length - 1;
+        int depth = depthLimit;
+
+        while (true) {
+            int size = high - low + 1;
+
+            if (size <= leafSize || depth == 0) {
+                if (size <= leafSize) {
+                    if (branchless) {
+                        SortingNetworks.sort(arr, low, high + 1);
+                    } else {
+                        insertionSort(arr, low, high);
+                    }
+                } else {
+                    heapSort(arr, low, high);
+                }
+                if (top == 0) {
+                    return;
+                }
+                depth = stack[--top];
+                high = stack[--top];
+                low = stack[--top];
+                continue;
+            }
+            depth--;
+
+            int pivotIndex = choosePivot(arr, low, high);
+            int leftLow, leftHigh, rightLow, rightHigh;
+
+            if (pivotRepeats(arr, low, high, arr[pivotIndex])) {
+                // Many duplicates: everything equal to the pivot is placed once and dropped
+                ThreeWayQuickSort.partition(arr, low, high, arr[pivotIndex], bounds);
+                leftLow = low;
+                leftHigh = bounds[0] - 1;
+                rightLow = bounds[1] + 1;
+                rightHigh = high;
+            } else if (branchless) {
+                swap(arr, low, pivotIndex);
+                int mid = partitionBlock(arr, low, high, leftOffsets, rightOffsets);
+                leftLow = low;
+                leftHigh = mid - 1;
+                rightLow = mid + 1;
+                rightHigh = high;
+            } else {
+                swap(arr, low, pivotIndex);
+                int split = partitionHoare(arr, low, high, arr[low]);
+                leftLow = low;
+                leftHigh = split;
+                rightLow = split + 1;
+                rightHigh = high;
+            }
+
+            // Push the larger side, continue with the smaller one
+            if (leftHigh - leftLow > rightHigh - rightLow) {
+                stack[top++] = leftLow;
+                stack[top++] = leftHigh;
+                stack[top++] = depth;
+                low = rightLow;
+                high = rightHigh;
+            } else {
+                stack[top++] = rightLow;
+                stack[top++] = rightHigh;
+                stack[top++] = depth;
+                low = leftLow;
+                high = leftHigh;
+            }
+        }
+    }
+
+    // Hoare partition around a given pivot value; the pivot must sit at arr[low]
+    // so the returned split is always in [low, high - 1]
+    private static int partitionHoare(int[] arr, int low, int high, int pivot) {
+        int i = low - 1;
+        int j = high + 1;
+
+        while (true) {
+            do {
+                i++;
+            } while (arr[i] < pivot);
+
+            do {
+                j--;
+            } while (arr[j] > pivot);
+
+            if (i >= j) {
+                return j;
+            }
+
+            swap(arr, i, j);
+        }
+    }
+
+    // ========================================
+    // Branchless Partitioning
+    // ========================================
+    // On random data "is this element smaller than the pivot?" is a coin flip,
+    // so a partition loop that branches on it mispredicts about every other
+    // element. Both partitions below turn that answer into an index increment.
+
+    // Lomuto partition of arr[low..high] around the pivot at arr[low]. Every
+    // element is written unconditionally; the comparison only decides whether
+    // the boundary moves. Returns the pivot's final index. Elements equal to
+    // the pivot all go right, so callers must handle duplicates separately.
+    static int partitionLomutoBranchless(int[] arr, int low, int high) {
+        int pivot = arr[low];
+        int store = low + 1;
+        for (int i = low + 1; i <= high; i++) {
+            int value = arr[i];
+            arr[i] = arr[store];
+            arr[store] = value;
+            store += value < pivot ? 1 : 0;
+        }
+        swap(arr, low, store - 1);
+        return store - 1;
+    }
+
+    // Block partition (Edelkamp and Weiss, "BlockQuicksort") of arr[low..high]
+    // around the pivot at arr[low]. A block of PARTITION_BLOCK elements is
+    // scanned from each end, recording the offsets of misplaced elements without
+    // branching; then the recorded pairs are swapped. The few elements left
+    // between the two blocks are finished with a classic Hoare scan. Elements
+    // equal to the pivot may end up on either side. Returns the pivot's final index.
+    static int partitionBlock(int[] arr, int low, int high, int[] leftOffsets, int[] rightOffsets) {
+        int pivot = arr[low];
+        int block = leftOffsets.length;
+        // Invariant: arr[low+1..l) <= pivot and arr(r..high] >= pivot
+        int l = low + 1;
+        int r = high;
+        int leftCount = 0, leftStart = 0;
+        int rightCount = 0, rightStart = 0;
+
+        while (r - l + 1 >= 2 * block) {
+            if (leftCount == 0) {
+                leftStart = 0;
+                for (int i = 0; i < block; i++) {
+                    leftOffsets[leftCount] = i;
+                    leftCount += arr[l + i] >= pivot ? 1 : 0;
+                }
+            }
+            if (rightCount == 0) {
+                rightStart = 0;
+                for (int i = 0; i < block; i++) {
+                    rightOffsets[rightCount] = i;
+                    rightCount += arr[r - i] <= pivot ? 1 : 0;
+                }
+            }
+            int pairs = Math.min(leftCount, rightCount);
+            for (int k = 0; k < pairs; k++) {
+                swap(arr, l + leftOffsets[leftStart + k], r - rightOffsets[rightStart + k]);
+            }
+            leftCount -= pairs;
+            rightCount -= pairs;
+            leftStart += pairs;
+            rightStart += pairs;
+            if (leftCount == 0) {
+                l += block;
+            }
+            if (rightCount == 0) {
+                r -= block;
+            }
+        }
+
+        // Classic scan over what is left, including any half-used block
+        int i = l;
+        int j = r;
+        while (true) {
+            while (i <= j && arr[i] < pivot) i++;
+            while (i <= j && arr[j] > pivot) j--;
+            if (i >= j) {
+                break;
+            }
+            swap(arr, i++, j--);
+        }
+        // arr[l..i) <= pivot; if i == j the scans met on an element equal to the pivot
+        int mid = i == j ? i : i - 1;
+        swap(arr, low, mid);
+        return mid;
+    }
+
+    // Index of the pivot: median of low/mid/high, or the ninther
+    // (median of three medians-of-three) spread evenly across large partitions
+    private static int choosePivot(int[] arr, int low, int high) {
+        int size = high - low + 1;
+        if (size <= NINTHER_THRESHOLD) {
+            return medianOfThree(arr, low, low + (size >>> 1), high);
+        }
+        int step = (size - 1) / 8;
+        int m1 = medianOfThree(arr, low, low + step, low + 2 * step);
+        int m2 = medianOfThree(arr, low + 3 * step, low + 4 * step, low + 5 * step);
+        int m3 = medianOfThree(arr, low + 6 * step, low + 7 * step, low + 8 * step);
+        return medianOfThree(arr, m1, m2, m3);
+    }
+
+    // True when the pivot value shows up more than once among the positions
+    // choosePivot sampled - a cheap signal that the partition is duplicate-heavy
+    private static boolean pivotRepeats(int[] arr, int low, int high, int pivot) {
+        int size = high - low + 1;
+        int samples = size <= NINTHER_THRESHOLD ? 3 : 9;
+        int step = size <= NINTHER_THRESHOLD ? (size >>> 1) : (size - 1) / 8;
+        int matches = 0;
+        for (int k = 0; k < samples; k++) {
+            int index = samples == 3 && k == 2 ? high : low + k * step;
+            if (arr[index] == pivot && ++matches >= 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int medianOfThree(int[] arr, int a, int b, int c) {
+        if (arr[a] < arr[b]) {
+            if (arr[b] < arr[c]) return b;
+            return arr[a] < arr[c] ? c : a;
+        }
+        if (arr[a] < arr[c]) return a;
+        return arr[b] < arr[c] ? c : b;
+    }
+
+    private static void insertionSort(int[] arr, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= low && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    // In-place heap sort of arr[low..high]; the fallback that caps the worst case
+    private static void heapSort(int[] arr, int low, int high) {
+        int n = high - low + 1;
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(arr, low, i, n);
+        }
+        for (int end = n - 1; end > 0; end--) {
+            swap(arr, low, low + end);
+            siftDown(arr, low, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] arr, int offset, int i, int n) {
+        int value = arr[offset + i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= n) {
+                break;
+            }
+            if (child + 1 < n && arr[offset + child + 1] > arr[offset + child]) {
+                child++;
+            }
+            if (arr[offset + child] <= value) {
+                break;
+            }
+            arr[offset + i] = arr[offset + child];
+            i = child;
+        }
+        arr[offset + i] = value;
+    }
+
     // ========================================
     // Detailed Version with Visualization
     // ========================================
@@ -253,9 +565,18 @@ public class QuickSortClaude {
         quickSortRandom(arr5);
         System.out.println("Sorted:   " + arrayToString(arr5));
 
-        // Example 6: Array with Duplicates
+        // Example 6: Introsort
+        System.out.println("\n========================================");
+        System.out.println("Example 6: Introsort (Hybrid)");
+        System.out.println("========================================\n");
+        int[] arr7 = {9, 4, 4, 1, 7, 4, 3, 8, 4, 2, 6, 4, 5, 0, 4, 9, 1, 3, 4, 8};
+        System.out.println("Original: " + arrayToString(arr7));
+        introSort(arr7);
+        System.out.println("Sorted:   " + arrayToString(arr7));
+
+        // Example 7: Array with Duplicates
         System.out.println("\n========================================");
-        System.out.println("Example 6: Array with Duplicates");
+        System.out.println("Example 7: Array with Duplicates");
         System.out.println("========================================\n");
         int[] arr6 = {5, 2, 8, 2, 9, 1, 5, 5};
         System.out.println("Original: " + arrayToString(arr6));
@@ -290,55 +611,122 @@ public class QuickSortClaude {
             endTime = System.nanoTime();
             double randomTime = (endTime - startTime) / 1_000_000.0;
 
+            startTime = System.nanoTime();
+            introSort(randomArr.clone());
+            endTime = System.nanoTime();
+            double introTime = (endTime - startTime) / 1_000_000.0;
+
             System.out.printf("Array size: %,d elements%n", size);
             System.out.printf("  Lomuto partition:    %.2f ms%n", lomutoTime);
             System.out.printf("  Hoare partition:     %.2f ms%n", hoareTime);
             System.out.printf("  Random pivot:        %.2f ms%n", randomTime);
+            System.out.printf("  Introsort:           %.2f ms%n", introTime);
             System.out.println();
         }
-    }
-}
 
-// ========================================
-// Three-Way Quick Sort (for many duplicates)
-// ========================================
-class ThreeWayQuickSort {
+        adversarialComparison();
 
-    public static void sort(int[] arr) {
-        if (arr == null || arr.length <= 1) {
-            return;
-        }
-        sort(arr, 0, arr.length - 1);
+        int branchlessSize = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        branchlessComparison(branchlessSize);
     }
 
-    private static void sort(int[] arr, int low, int high) {
-        if (low >= high) {
-            return;
-        }
+    // ========================================
+    // Adversarial Inputs
+    // ========================================
 
-        int pivot = arr[low];
-        int lt = low;      // arr[low..lt-1] < pivot
-        int gt = high;     // arr[gt+1..high] > pivot
-        int i = low + 1;   // arr[lt..i-1] == pivot
-
-        while (i <= gt) {
-            if (arr[i] < pivot) {
-                swap(arr, lt++, i++);
-            } else if (arr[i] > pivot) {
-                swap(arr, i, gt--);
-            } else {
-                i++;
+    // Inputs that push the plain variants to O(n^2) or overflow their recursion.
+    // Only introSort and Arrays.sort are timed at this size.
+    public static void adversarialComparison() {
+        System.out.println("========================================");
+        System.out.println("Adversarial Inputs (1,000,000 elements)");
+        System.out.println("========================================\n");
+
+        int size = 1_000_000;
+        String[] names = {"Sorted", "Reversed", "Organ pipe", "All equal", "Few unique (8 keys)"};
+        for (String name : names) {
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                switch (name) {
+                    case "Sorted":     arr[i] = i; break;
+                    case "Reversed":   arr[i] = size - i; break;
+                    case "Organ pipe": arr[i] = i < size / 2 ? i : size - i; break;
+                    case "All equal":  arr[i] = 7; break;
+                    default:           arr[i] = (int)(Math.random() * 8); break;
+                }
             }
+
+            long startTime = System.nanoTime();
+            introSort(arr.clone());
+            double introTime = (System.nanoTime() - startTime) / 1_000_000.0;
+
+            startTime = System.nanoTime();
+            java.util.Arrays.sort(arr.clone());
+            double arraysTime = (System.nanoTime() - startTime) / 1_000_000.0;
+
+            System.out.printf("%-20s introSort: %8.2f ms   Arrays.sort: %8.2f ms%n",
+                    name, introTime, arraysTime);
         }
+        System.out.println();
+    }
 
-        // arr[low..lt-1] < pivot = arr[lt..gt] < arr[gt+1..high]
-        sort(arr, low, lt - 1);
-        sort(arr, gt + 1, high);
+    // ========================================
+    // Branchless Kernels
+    // ========================================
+
+    // Random keys, as in the performance comparison above: one partition pass
+    // on its own, then complete sorts, then many small partitions
+    public static void branchlessComparison(int size) {
+        System.out.println("========================================");
+        System.out.printf("Branchless Kernels (%,d random elements)%n", size);
+        System.out.println("========================================\n");
+
+        java.util.Random random = new java.util.Random(42);
+        int[] arr = random.ints(size).toArray();
+        int[] leftOffsets = new int[PARTITION_BLOCK];
+        int[] rightOffsets = new int[PARTITION_BLOCK];
+
+        System.out.println("One partition pass:");
+        System.out.printf("  Lomuto:              %8.2f ms%n", time(() -> partition(arr.clone(), 0, size - 1)));
+        System.out.printf("  Lomuto, branchless:  %8.2f ms%n",
+                time(() -> partitionLomutoBranchless(arr.clone(), 0, size - 1)));
+        System.out.printf("  Hoare:               %8.2f ms%n",
+                time(() -> partitionHoare(arr.clone(), 0, size - 1, arr[0])));
+        System.out.printf("  Block (branchless):  %8.2f ms%n",
+                time(() -> partitionBlock(arr.clone(), 0, size - 1, leftOffsets, rightOffsets)));
+
+        System.out.println("\nFull sort:");
+        System.out.printf("  introSort:           %8.2f ms%n", time(() -> introSort(arr.clone())));
+        System.out.printf("  branchlessIntroSort: %8.2f ms%n", time(() -> branchlessIntroSort(arr.clone())));
+        System.out.printf("  parallelMergeSort:   %8.2f ms%n",
+                time(() -> MergeSortClaude.parallelMergeSort(arr.clone())));
+        System.out.printf("  Arrays.sort:         %8.2f ms%n", time(() -> java.util.Arrays.sort(arr.clone())));
+
+        // Sorting every 32-element slice isolates the leaf kernels
+        System.out.println("\nEvery 32-element slice sorted on its own:");
+        System.out.printf("  Insertion sort:      %8.2f ms%n", time(() -> {
+            int[] copy = arr.clone();
+            for (int from = 0; from + 32 <= size; from += 32) {
+                insertionSort(copy, from, from + 31);
+            }
+        }));
+        System.out.printf("  Sorting network:     %8.2f ms%n", time(() -> {
+            int[] copy = arr.clone();
+            for (int from = 0; from + 32 <= size; from += 32) {
+                SortingNetworks.sort32(copy, from);
+            }
+        }));
+        System.out.println();
     }
 
-    private static void swap(int[] arr, int i, int j) {
-        int temp = arr[i];
-        arr[i] = arr[j];
-        arr[j] = temp;
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
     }
 }
@@ -1,7 +1,14 @@
 package com.pcgs.core.java.pocs.algo;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
 public class RadixSortClaude {
 
+    // Arrays at least this large are histogrammed and scattered in parallel chunks
+    static final int PARALLEL_RADIX_THRESHOLD = 1 << 16;
+
     // ========================================
     // MAIN RADIX SORT (LSD - Least Significant Digit)
     // ========================================
@@ -222,6 +229,242 @@ public class RadixSortClaude {
         }
     }
 
+    // ========================================
+    // BYTE-WIDE RADIX SORT (BASE 256)
+    // ========================================
+    // Each pass sorts on one byte, so an int needs at most 4 passes and a long 8.
+    // Negative numbers are handled by flipping the sign bit of every key, which
+    // turns signed order into unsigned order without splitting the array.
+    // Passes ping-pong between the input and one scratch buffer, and a pass is
+    // skipped entirely when every key has the same byte in that position.
+
+    public static void radixSortBytes(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        byteRadixSort(arr, new int[arr.length]);
+    }
+
+    public static void radixSortBytes(long[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        byteRadixSort(arr, new long[arr.length]);
+    }
+
+    // Floats are mapped to ints whose signed order matches the float order:
+    // positives keep their bits, negatives get everything but the sign flipped.
+    // NaNs are canonicalised and end up last, as with Arrays.sort.
+    public static void radixSortBytes(float[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int n = arr.length;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            int bits = Float.floatToIntBits(arr[i]);
+            keys[i] = bits ^ ((bits >> 31) & 0x7FFFFFFF);
+        }
+        byteRadixSort(keys, new int[n]);
+        for (int i = 0; i < n; i++) {
+            int bits = keys[i];
+            arr[i] = Float.intBitsToFloat(bits ^ ((bits >> 31) & 0x7FFFFFFF));
+        }
+    }
+
+    public static void radixSortBytes(double[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        int n = arr.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            long bits = Double.doubleToLongBits(arr[i]);
+            keys[i] = bits ^ ((bits >> 63) & 0x7FFFFFFFFFFFFFFFL);
+        }
+        byteRadixSort(keys, new long[n]);
+        for (int i = 0; i < n; i++) {
+            long bits = keys[i];
+            arr[i] = Double.longBitsToDouble(bits ^ ((bits >> 63) & 0x7FFFFFFFFFFFFFFFL));
+        }
+    }
+
+    private static void byteRadixSort(int[] arr, int[] buffer) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        // One read over the input builds the histograms for all 4 bytes
+        int[][] chunkCounts = new int[chunks][4 * 256];
+        forEachChunk(chunks, c -> {
+            int[] counts = chunkCounts[c];
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < to; i++) {
+                int key = arr[i] ^ Integer.MIN_VALUE;
+                counts[key & 0xFF]++;
+                counts[256 + ((key >>> 8) & 0xFF)]++;
+                counts[512 + ((key >>> 16) & 0xFF)]++;
+                counts[768 + (key >>> 24)]++;
+            }
+        });
+
+        int[] src = arr;
+        int[] dst = buffer;
+        boolean countsFresh = true;
+
+        for (int pass = 0; pass < 4; pass++) {
+            if (allKeysShareDigit(chunkCounts, pass * 256, n)) {
+                continue;
+            }
+            int shift = pass * 8;
+
+            // After the first scatter the elements have moved between chunks,
+            // so per-chunk counts for this byte have to be taken again
+            if (!countsFresh) {
+                int[] from = src;
+                forEachChunk(chunks, c -> {
+                    int[] counts = chunkCounts[c];
+                    java.util.Arrays.fill(counts, 0, 256, 0);
+                    int to = Math.min(n, (c + 1) * chunkSize);
+                    for (int i = c * chunkSize; i < to; i++) {
+                        counts[((from[i] ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++;
+                    }
+                });
+            }
+            int base = countsFresh ? pass * 256 : 0;
+            int[][] offsets = chunkOffsets(chunkCounts, base);
+
+            int[] from = src;
+            int[] into = dst;
+            forEachChunk(chunks, c -> {
+                int[] offset = offsets[c];
+                int to = Math.min(n, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < to; i++) {
+                    int value = from[i];
+                    into[offset[((value ^ Integer.MIN_VALUE) >>> shift) & 0xFF]++] = value;
+                }
+            });
+
+            src = into;
+            dst = from;
+            countsFresh = chunks == 1;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    private static void byteRadixSort(long[] arr, long[] buffer) {
+        int n = arr.length;
+        int chunks = chunkCount(n);
+        int chunkSize = (n + chunks - 1) / chunks;
+
+        // One read over the input builds the histograms for all 8 bytes
+        int[][] chunkCounts = new int[chunks][8 * 256];
+        forEachChunk(chunks, c -> {
+            int[] counts = chunkCounts[c];
+            int to = Math.min(n, (c + 1) * chunkSize);
+            for (int i = c * chunkSize; i < to; i++) {
+                long key = arr[i] ^ Long.MIN_VALUE;
+                for (int pass = 0; pass < 8; pass++) {
+                    counts[pass * 256 + (int) ((key >>> (pass * 8)) & 0xFF)]++;
+                }
+            }
+        });
+
+        long[] src = arr;
+        long[] dst = buffer;
+        boolean countsFresh = true;
+
+        for (int pass = 0; pass < 8; pass++) {
+            if (allKeysShareDigit(chunkCounts, pass * 256, n)) {
+                continue;
+            }
+            int shift = pass * 8;
+
+            if (!countsFresh) {
+                long[] from = src;
+                forEachChunk(chunks, c -> {
+                    int[] counts = chunkCounts[c];
+                    java.util.Arrays.fill(counts, 0, 256, 0);
+                    int to = Math.min(n, (c + 1) * chunkSize);
+                    for (int i = c * chunkSize; i < to; i++) {
+                        counts[(int) (((from[i] ^ Long.MIN_VALUE) >>> shift) & 0xFF)]++;
+                    }
+                });
+            }
+            int base = countsFresh ? pass * 256 : 0;
+            int[][] offsets = chunkOffsets(chunkCounts, base);
+
+            long[] from = src;
+            long[] into = dst;
+            forEachChunk(chunks, c -> {
+                int[] offset = offsets[c];
+                int to = Math.min(n, (c + 1) * chunkSize);
+                for (int i = c * chunkSize; i < to; i++) {
+                    long value = from[i];
+                    into[offset[(int) (((value ^ Long.MIN_VALUE) >>> shift) & 0xFF)]++] = value;
+                }
+            });
+
+            src = into;
+            dst = from;
+            countsFresh = chunks == 1;
+        }
+
+        if (src != arr) {
+            System.arraycopy(src, 0, arr, 0, n);
+        }
+    }
+
+    // A pass is a no-op when one bucket holds every key
+    private static boolean allKeysShareDigit(int[][] chunkCounts, int base, int n) {
+        for (int digit = 0; digit < 256; digit++) {
+            int total = 0;
+            for (int[] counts : chunkCounts) {
+                total += counts[base + digit];
+            }
+            if (total == n) {
+                return true;
+            }
+            if (total != 0) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // Start position of every (chunk, digit) in the output: all smaller digits
+    // first, then the same digit from earlier chunks - which keeps the sort stable
+    private static int[][] chunkOffsets(int[][] chunkCounts, int base) {
+        int chunks = chunkCounts.length;
+        int[][] offsets = new int[chunks][256];
+        int running = 0;
+        for (int digit = 0; digit < 256; digit++) {
+            for (int c = 0; c < chunks; c++) {
+                offsets[c][digit] = running;
+                running += chunkCounts[c][base + digit];
+            }
+        }
+        return offsets;
+    }
+
+    private static int chunkCount(int n) {
+        if (n < PARALLEL_RADIX_THRESHOLD) {
+            return 1;
+        }
+        return Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), n / (PARALLEL_RADIX_THRESHOLD / 4)));
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks == 1) {
+            body.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(body);
+        }
+    }
+
     // ========================================
     // HELPER METHODS
     // ========================================
@@ -309,6 +552,56 @@ public class RadixSortClaude {
         }
     }
 
+    // Full 32/64-bit keys, where base 10 needs up to 10 passes and base 256 at most 4 or 8
+    public static void byteRadixComparison() {
+        System.out.println("\n═══════════════════════════════════════════════════");
+        System.out.println("      BASE 256 vs BASE 10 (full-range keys)");
+        System.out.println("═══════════════════════════════════════════════════\n");
+
+        java.util.Random random = new java.util.Random(42);
+        int[] sizes = {100_000, 1_000_000, 10_000_000};
+
+        for (int size : sizes) {
+            int[] ints = new int[size];
+            long[] longs = new long[size];
+            double[] doubles = new double[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = random.nextInt();
+                longs[i] = random.nextLong();
+                doubles[i] = random.nextGaussian() * 1e6;
+            }
+
+            // Base 10 only handles non-negative values
+            int[] positives = ints.clone();
+            for (int i = 0; i < size; i++) {
+                positives[i] &= Integer.MAX_VALUE;
+            }
+
+            System.out.printf("Array size: %,d elements%n", size);
+            System.out.println("───────────────────────────────────────────────────");
+            System.out.printf("  int    base 10:     %8.2f ms%n", time(() -> radixSort(positives.clone())));
+            System.out.printf("  int    base 256:    %8.2f ms%n", time(() -> radixSortBytes(ints.clone())));
+            System.out.printf("  int    Arrays.sort: %8.2f ms%n", time(() -> java.util.Arrays.sort(ints.clone())));
+            System.out.printf("  long   base 256:    %8.2f ms%n", time(() -> radixSortBytes(longs.clone())));
+            System.out.printf("  long   Arrays.sort: %8.2f ms%n", time(() -> java.util.Arrays.sort(longs.clone())));
+            System.out.printf("  double base 256:    %8.2f ms%n", time(() -> radixSortBytes(doubles.clone())));
+            System.out.printf("  double Arrays.sort: %8.2f ms%n", time(() -> java.util.Arrays.sort(doubles.clone())));
+            System.out.println();
+        }
+    }
+
+    // Best of a few runs, after one warmup run (includes the clone, same for every row)
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
     // ========================================
     // MAIN METHOD WITH EXAMPLES
     // ========================================
@@ -369,8 +662,22 @@ public class RadixSortClaude {
         radixSort(arr5);
         System.out.println("Sorted:   " + arrayToString(arr5));
 
+        // Example 7: Byte-wide radix sort
+        System.out.println("\n═══════════════════════════════════════════════════");
+        System.out.println("Example 7: Base 256 Radix Sort (ints, floats)");
+        System.out.println("═══════════════════════════════════════════════════");
+        int[] arr6 = {-170, 45, Integer.MIN_VALUE, 90, -24, Integer.MAX_VALUE, 2, 66};
+        System.out.println("Original: " + arrayToString(arr6));
+        radixSortBytes(arr6);
+        System.out.println("Sorted:   " + arrayToString(arr6));
+        float[] floats = {3.5f, -0.0f, -12.25f, 0.0f, 1e-3f, -1e9f, Float.NaN, 42f};
+        System.out.println("Original: " + java.util.Arrays.toString(floats));
+        radixSortBytes(floats);
+        System.out.println("Sorted:   " + java.util.Arrays.toString(floats));
+
         // Performance Comparison
         performanceComparison();
+        byteRadixComparison();
 
         // Summary
         printSummary();
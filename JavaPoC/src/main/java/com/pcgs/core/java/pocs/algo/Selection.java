@@ -0,0 +1,887 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class Selection {
+
+    // Ranges at or below this size are finished with insertion sort
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    // The bounded heap is used when k is at most 1/HEAP_RATIO of the input:
+    // almost every element is then rejected by a single comparison
+    static final int HEAP_RATIO = 64;
+
+    // Inputs below this size are never split across threads
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    // Smallest chunk handed to one thread by the parallel path
+    static final int MIN_CHUNK = 1 << 14;
+
+    // ========================================
+    // Introselect
+    // ========================================
+    // Quickselect keeps only the side of the partition that holds index n, so
+    // it is linear on average. Like introSort it has a depth budget of
+    // 2*log2(n): once a run of bad pivots uses it up, every further pivot is
+    // the median of medians (groups of five), which guarantees a 30/70 split
+    // and so linear time in the worst case. Partitions are three-way, so
+    // duplicates of the pivot are settled in one step.
+    //
+    // nthElement(arr, n) leaves arr[n] holding the value it would have after
+    // a full sort, with nothing larger before it and nothing smaller after it.
+
+    public static void nthElement(int[] arr, int n) {
+        checkIndex(n, arr.length);
+        select(arr, 0, arr.length - 1, n);
+    }
+
+    // Value at sorted position n; arr is reordered as by nthElement
+    public static int select(int[] arr, int n) {
+        nthElement(arr, n);
+        return arr[n];
+    }
+
+    private static void select(int[] arr, int lo, int hi, int n) {
+        int[] bounds = new int[2];
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            int pivot = depth-- > 0 ? medianOfThree(arr[lo], arr[(lo + hi) >>> 1], arr[hi])
+                    : medianOfMedians(arr, lo, hi);
+            ThreeWayQuickSort.partition(arr, lo, hi, pivot, bounds);
+            if (n < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (n > bounds[1]) {
+                lo = bounds[1] + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(arr, lo, hi);
+    }
+
+    // Median of each group of five is moved to the front of the range, then
+    // the median of those medians is selected recursively
+    private static int medianOfMedians(int[] arr, int lo, int hi) {
+        int groups = 0;
+        for (int g = lo; g <= hi; g += 5) {
+            int end = Math.min(g + 4, hi);
+            insertionSort(arr, g, end);
+            swap(arr, lo + groups++, (g + end) >>> 1);
+        }
+        int mid = lo + (groups - 1) / 2;
+        select(arr, lo, lo + groups - 1, mid);
+        return arr[mid];
+    }
+
+    // ========================================
+    // Partial Sort and Top-k
+    // ========================================
+
+    // Afterwards arr[0..k) holds the k smallest values in order; the rest of
+    // arr is left in no particular order
+    public static void partialSort(int[] arr, int k) {
+        k = Math.min(k, arr.length);
+        if (k <= 0) {
+            return;
+        }
+        if (k < arr.length) {
+            nthElement(arr, k - 1);
+        }
+        Arrays.sort(arr, 0, k);
+    }
+
+    // The k smallest values in ascending order; arr is not modified. Small k
+    // streams the input through a bounded heap, larger k selects on a copy.
+    public static int[] smallest(int[] arr, int k) {
+        return smallestOf(arr, 0, arr.length, k);
+    }
+
+    // Each chunk finds its own k smallest in parallel; the answer is the k
+    // smallest of those chunks * k candidates
+    public static int[] parallelSmallest(int[] arr, int k) {
+        int n = arr.length;
+        int chunks = chunkCount(n, k);
+        if (chunks == 1) {
+            return smallest(arr, k);
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[][] parts = new int[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                parts[c] = smallestOf(arr, c * chunkSize, Math.min(n, (c + 1) * chunkSize), k));
+
+        int[] candidates = new int[Arrays.stream(parts).mapToInt(part -> part.length).sum()];
+        int at = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, candidates, at, part.length);
+            at += part.length;
+        }
+        partialSort(candidates, k);
+        return Arrays.copyOf(candidates, Math.min(k, candidates.length));
+    }
+
+    private static int[] smallestOf(int[] arr, int from, int to, int k) {
+        k = Math.max(0, Math.min(k, to - from));
+        if ((long) k * HEAP_RATIO <= to - from) {
+            IntTopK top = new IntTopK(k);
+            for (int i = from; i < to; i++) {
+                top.offer(arr[i]);
+            }
+            return top.toSortedArray();
+        }
+        int[] copy = Arrays.copyOfRange(arr, from, to);
+        partialSort(copy, k);
+        return Arrays.copyOf(copy, k);
+    }
+
+    // ========================================
+    // Percentiles
+    // ========================================
+    // Linear interpolation between the two closest ranks (the usual
+    // spreadsheet / NumPy definition): p = 50 of {1, 2, 3, 4} is 2.5.
+    // arr is reordered as by nthElement.
+
+    public static double percentile(int[] arr, double p) {
+        int n = arr.length;
+        double rank = rank(p, n);
+        int lower = (int) rank;
+        nthElement(arr, lower);
+        double low = arr[lower];
+        if (lower == n - 1 || rank == lower) {
+            return low;
+        }
+        // Everything after lower is >= arr[lower]; the next rank is their minimum
+        int next = arr[lower + 1];
+        for (int i = lower + 2; i < n; i++) {
+            next = Math.min(next, arr[i]);
+        }
+        return low + (next - low) * (rank - lower);
+    }
+
+    public static double median(int[] arr) {
+        return percentile(arr, 50);
+    }
+
+    // ========================================
+    // long[]
+    // ========================================
+    // Same algorithms as int[].
+
+    public static void nthElement(long[] arr, int n) {
+        checkIndex(n, arr.length);
+        select(arr, 0, arr.length - 1, n);
+    }
+
+    public static long select(long[] arr, int n) {
+        nthElement(arr, n);
+        return arr[n];
+    }
+
+    private static void select(long[] arr, int lo, int hi, int n) {
+        int[] bounds = new int[2];
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            long pivot = depth-- > 0 ? medianOfThree(arr[lo], arr[(lo + hi) >>> 1], arr[hi])
+                    : medianOfMedians(arr, lo, hi);
+            partition(arr, lo, hi, pivot, bounds);
+            if (n < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (n > bounds[1]) {
+                lo = bounds[1] + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(arr, lo, hi);
+    }
+
+    private static long medianOfMedians(long[] arr, int lo, int hi) {
+        int groups = 0;
+        for (int g = lo; g <= hi; g += 5) {
+            int end = Math.min(g + 4, hi);
+            insertionSort(arr, g, end);
+            swap(arr, lo + groups++, (g + end) >>> 1);
+        }
+        int mid = lo + (groups - 1) / 2;
+        select(arr, lo, lo + groups - 1, mid);
+        return arr[mid];
+    }
+
+    // Dutch national flag partition, as ThreeWayQuickSort.partition for int[]
+    private static void partition(long[] arr, int lo, int hi, long pivot, int[] bounds) {
+        int lt = lo;
+        int gt = hi;
+        int i = lo;
+        while (i <= gt) {
+            if (arr[i] < pivot) {
+                swap(arr, lt++, i++);
+            } else if (arr[i] > pivot) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        bounds[0] = lt;
+        bounds[1] = gt;
+    }
+
+    public static void partialSort(long[] arr, int k) {
+        k = Math.min(k, arr.length);
+        if (k <= 0) {
+            return;
+        }
+        if (k < arr.length) {
+            nthElement(arr, k - 1);
+        }
+        Arrays.sort(arr, 0, k);
+    }
+
+    public static long[] smallest(long[] arr, int k) {
+        return smallestOf(arr, 0, arr.length, k);
+    }
+
+    public static long[] parallelSmallest(long[] arr, int k) {
+        int n = arr.length;
+        int chunks = chunkCount(n, k);
+        if (chunks == 1) {
+            return smallest(arr, k);
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        long[][] parts = new long[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                parts[c] = smallestOf(arr, c * chunkSize, Math.min(n, (c + 1) * chunkSize), k));
+
+        long[] candidates = new long[Arrays.stream(parts).mapToInt(part -> part.length).sum()];
+        int at = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, candidates, at, part.length);
+            at += part.length;
+        }
+        partialSort(candidates, k);
+        return Arrays.copyOf(candidates, Math.min(k, candidates.length));
+    }
+
+    private static long[] smallestOf(long[] arr, int from, int to, int k) {
+        k = Math.max(0, Math.min(k, to - from));
+        if ((long) k * HEAP_RATIO <= to - from) {
+            LongTopK top = new LongTopK(k);
+            for (int i = from; i < to; i++) {
+                top.offer(arr[i]);
+            }
+            return top.toSortedArray();
+        }
+        long[] copy = Arrays.copyOfRange(arr, from, to);
+        partialSort(copy, k);
+        return Arrays.copyOf(copy, k);
+    }
+
+    public static double percentile(long[] arr, double p) {
+        int n = arr.length;
+        double rank = rank(p, n);
+        int lower = (int) rank;
+        nthElement(arr, lower);
+        double low = arr[lower];
+        if (lower == n - 1 || rank == lower) {
+            return low;
+        }
+        long next = arr[lower + 1];
+        for (int i = lower + 2; i < n; i++) {
+            next = Math.min(next, arr[i]);
+        }
+        return low + (next - low) * (rank - lower);
+    }
+
+    public static double median(long[] arr) {
+        return percentile(arr, 50);
+    }
+
+    // ========================================
+    // double[]
+    // ========================================
+    // Doubles are mapped to longs whose order matches Double.compare (-0.0
+    // before 0.0, NaN last, as with Arrays.sort), handled by the long[] code,
+    // and mapped back.
+
+    public static void nthElement(double[] arr, int n) {
+        checkIndex(n, arr.length);
+        long[] keys = toSortable(arr);
+        select(keys, 0, keys.length - 1, n);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = fromSortable(keys[i]);
+        }
+    }
+
+    public static double select(double[] arr, int n) {
+        nthElement(arr, n);
+        return arr[n];
+    }
+
+    public static void partialSort(double[] arr, int k) {
+        long[] keys = toSortable(arr);
+        partialSort(keys, k);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = fromSortable(keys[i]);
+        }
+    }
+
+    public static double[] smallest(double[] arr, int k) {
+        return fromSortable(smallest(toSortable(arr), k));
+    }
+
+    public static double[] parallelSmallest(double[] arr, int k) {
+        return fromSortable(parallelSmallest(toSortable(arr), k));
+    }
+
+    public static double percentile(double[] arr, double p) {
+        int n = arr.length;
+        double rank = rank(p, n);
+        int lower = (int) rank;
+        long[] keys = toSortable(arr);
+        select(keys, 0, n - 1, lower);
+        double low = fromSortable(keys[lower]);
+        if (lower == n - 1 || rank == lower) {
+            return low;
+        }
+        long next = keys[lower + 1];
+        for (int i = lower + 2; i < n; i++) {
+            next = Math.min(next, keys[i]);
+        }
+        return low + (fromSortable(next) - low) * (rank - lower);
+    }
+
+    public static double median(double[] arr) {
+        return percentile(arr, 50);
+    }
+
+    private static long[] toSortable(double[] arr) {
+        long[] keys = new long[arr.length];
+        for (int i = 0; i < arr.length; i++) {
+            long bits = Double.doubleToLongBits(arr[i]);
+            keys[i] = bits ^ ((bits >> 63) & 0x7FFFFFFFFFFFFFFFL);
+        }
+        return keys;
+    }
+
+    private static double fromSortable(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & 0x7FFFFFFFFFFFFFFFL));
+    }
+
+    private static double[] fromSortable(long[] keys) {
+        double[] values = new double[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = fromSortable(keys[i]);
+        }
+        return values;
+    }
+
+    // ========================================
+    // T[] with Comparator
+    // ========================================
+    // Same algorithms again, ordering by the comparator. Pass
+    // Comparator.reverseOrder() (or comparator.reversed()) for the k largest.
+
+    public static <T> void nthElement(T[] arr, int n, Comparator<? super T> comparator) {
+        checkIndex(n, arr.length);
+        select(arr, 0, arr.length - 1, n, comparator);
+    }
+
+    public static <T> T select(T[] arr, int n, Comparator<? super T> comparator) {
+        nthElement(arr, n, comparator);
+        return arr[n];
+    }
+
+    private static <T> void select(T[] arr, int lo, int hi, int n, Comparator<? super T> comparator) {
+        int[] bounds = new int[2];
+        int depth = 2 * (31 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            T pivot = depth-- > 0
+                    ? medianOfThree(arr[lo], arr[(lo + hi) >>> 1], arr[hi], comparator)
+                    : medianOfMedians(arr, lo, hi, comparator);
+            partition(arr, lo, hi, pivot, bounds, comparator);
+            if (n < bounds[0]) {
+                hi = bounds[0] - 1;
+            } else if (n > bounds[1]) {
+                lo = bounds[1] + 1;
+            } else {
+                return;
+            }
+        }
+        insertionSort(arr, lo, hi, comparator);
+    }
+
+    private static <T> T medianOfMedians(T[] arr, int lo, int hi, Comparator<? super T> comparator) {
+        int groups = 0;
+        for (int g = lo; g <= hi; g += 5) {
+            int end = Math.min(g + 4, hi);
+            insertionSort(arr, g, end, comparator);
+            swap(arr, lo + groups++, (g + end) >>> 1);
+        }
+        int mid = lo + (groups - 1) / 2;
+        select(arr, lo, lo + groups - 1, mid, comparator);
+        return arr[mid];
+    }
+
+    private static <T> void partition(T[] arr, int lo, int hi, T pivot, int[] bounds,
+                                      Comparator<? super T> comparator) {
+        int lt = lo;
+        int gt = hi;
+        int i = lo;
+        while (i <= gt) {
+            int cmp = comparator.compare(arr[i], pivot);
+            if (cmp < 0) {
+                swap(arr, lt++, i++);
+            } else if (cmp > 0) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        bounds[0] = lt;
+        bounds[1] = gt;
+    }
+
+    public static <T> void partialSort(T[] arr, int k, Comparator<? super T> comparator) {
+        k = Math.min(k, arr.length);
+        if (k <= 0) {
+            return;
+        }
+        if (k < arr.length) {
+            nthElement(arr, k - 1, comparator);
+        }
+        Arrays.sort(arr, 0, k, comparator);
+    }
+
+    public static <T> T[] smallest(T[] arr, int k, Comparator<? super T> comparator) {
+        return smallestOf(arr, 0, arr.length, k, comparator);
+    }
+
+    public static <T> T[] parallelSmallest(T[] arr, int k, Comparator<? super T> comparator) {
+        int n = arr.length;
+        int chunks = chunkCount(n, k);
+        if (chunks == 1) {
+            return smallest(arr, k, comparator);
+        }
+        int chunkSize = (n + chunks - 1) / chunks;
+        Object[][] parts = new Object[chunks][];
+        IntStream.range(0, chunks).parallel().forEach(c ->
+                parts[c] = smallestOf(arr, c * chunkSize, Math.min(n, (c + 1) * chunkSize), k, comparator));
+
+        T[] candidates = Arrays.copyOf(arr, Arrays.stream(parts).mapToInt(part -> part.length).sum());
+        int at = 0;
+        for (Object[] part : parts) {
+            System.arraycopy(part, 0, candidates, at, part.length);
+            at += part.length;
+        }
+        partialSort(candidates, k, comparator);
+        return Arrays.copyOf(candidates, Math.min(k, candidates.length));
+    }
+
+    private static <T> T[] smallestOf(T[] arr, int from, int to, int k, Comparator<? super T> comparator) {
+        k = Math.max(0, Math.min(k, to - from));
+        if ((long) k * HEAP_RATIO <= to - from) {
+            TopK<T> top = new TopK<>(k, comparator);
+            for (int i = from; i < to; i++) {
+                top.offer(arr[i]);
+            }
+            return top.toSortedArray(Arrays.copyOf(arr, 0));
+        }
+        T[] copy = Arrays.copyOfRange(arr, from, to);
+        partialSort(copy, k, comparator);
+        return Arrays.copyOf(copy, k);
+    }
+
+    // ========================================
+    // Bounded Heaps for Streaming Input
+    // ========================================
+    // Keep the k smallest values seen so far in a max-heap of size k. A new
+    // value only enters if it beats the current maximum (heap[0]), so once the
+    // heap is full most offers cost a single comparison. O(n log k) time and
+    // O(k) memory, and the input never has to be held at once.
+
+    public static class IntTopK {
+        private final int[] heap;
+        private int size;
+
+        public IntTopK(int k) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k must not be negative: " + k);
+            }
+            heap = new int[k];
+        }
+
+        public void offer(int value) {
+            if (size < heap.length) {
+                int i = size++;
+                // Sift up
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (heap[parent] >= value) {
+                        break;
+                    }
+                    heap[i] = heap[parent];
+                    i = parent;
+                }
+                heap[i] = value;
+            } else if (size > 0 && value < heap[0]) {
+                // Sift down from the root
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && heap[child + 1] > heap[child]) {
+                        child++;
+                    }
+                    if (heap[child] <= value) {
+                        break;
+                    }
+                    heap[i] = heap[child];
+                    i = child;
+                }
+                heap[i] = value;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int[] toSortedArray() {
+            int[] result = Arrays.copyOf(heap, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    public static class LongTopK {
+        private final long[] heap;
+        private int size;
+
+        public LongTopK(int k) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k must not be negative: " + k);
+            }
+            heap = new long[k];
+        }
+
+        public void offer(long value) {
+            if (size < heap.length) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (heap[parent] >= value) {
+                        break;
+                    }
+                    heap[i] = heap[parent];
+                    i = parent;
+                }
+                heap[i] = value;
+            } else if (size > 0 && value < heap[0]) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && heap[child + 1] > heap[child]) {
+                        child++;
+                    }
+                    if (heap[child] <= value) {
+                        break;
+                    }
+                    heap[i] = heap[child];
+                    i = child;
+                }
+                heap[i] = value;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long[] toSortedArray() {
+            long[] result = Arrays.copyOf(heap, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    // double values are kept in their Double.compare-ordered long form
+    public static class DoubleTopK {
+        private final LongTopK keys;
+
+        public DoubleTopK(int k) {
+            keys = new LongTopK(k);
+        }
+
+        public void offer(double value) {
+            long bits = Double.doubleToLongBits(value);
+            keys.offer(bits ^ ((bits >> 63) & 0x7FFFFFFFFFFFFFFFL));
+        }
+
+        public int size() {
+            return keys.size();
+        }
+
+        public double[] toSortedArray() {
+            return fromSortable(keys.toSortedArray());
+        }
+    }
+
+    public static class TopK<T> {
+        private final Object[] heap;
+        private final Comparator<? super T> comparator;
+        private int size;
+
+        public TopK(int k, Comparator<? super T> comparator) {
+            if (k < 0) {
+                throw new IllegalArgumentException("k must not be negative: " + k);
+            }
+            heap = new Object[k];
+            this.comparator = comparator;
+        }
+
+        public void offer(T value) {
+            if (size < heap.length) {
+                int i = size++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (comparator.compare(at(parent), value) >= 0) {
+                        break;
+                    }
+                    heap[i] = heap[parent];
+                    i = parent;
+                }
+                heap[i] = value;
+            } else if (size > 0 && comparator.compare(value, at(0)) < 0) {
+                int i = 0;
+                while (true) {
+                    int child = 2 * i + 1;
+                    if (child >= size) {
+                        break;
+                    }
+                    if (child + 1 < size && comparator.compare(at(child + 1), at(child)) > 0) {
+                        child++;
+                    }
+                    if (comparator.compare(at(child), value) <= 0) {
+                        break;
+                    }
+                    heap[i] = heap[child];
+                    i = child;
+                }
+                heap[i] = value;
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // array only supplies the element type, as with Collection.toArray(T[])
+        public T[] toSortedArray(T[] array) {
+            @SuppressWarnings("unchecked")
+            T[] result = (T[]) Arrays.copyOf(heap, size, array.getClass());
+            Arrays.sort(result, comparator);
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T at(int i) {
+            return (T) heap[i];
+        }
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // Fractional 0-based rank of percentile p in [0, 100]
+    private static double rank(double p, int n) {
+        if (n == 0) {
+            throw new IllegalArgumentException("Percentile of an empty array");
+        }
+        if (!(p >= 0 && p <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]: " + p);
+        }
+        return p / 100 * (n - 1);
+    }
+
+    private static void checkIndex(int n, int length) {
+        if (n < 0 || n >= length) {
+            throw new IndexOutOfBoundsException("Index " + n + " out of bounds for length " + length);
+        }
+    }
+
+    // Splitting only pays off for large inputs, and only while the candidates
+    // from all chunks stay well below the input size
+    private static int chunkCount(int n, int k) {
+        if (n < PARALLEL_THRESHOLD) {
+            return 1;
+        }
+        int chunks = Math.min(ForkJoinPool.getCommonPoolParallelism(), n / MIN_CHUNK);
+        if (chunks <= 1 || (long) k * chunks > n / 4) {
+            return 1;
+        }
+        return chunks;
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static long medianOfThree(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static <T> T medianOfThree(T a, T b, T c, Comparator<? super T> comparator) {
+        if (comparator.compare(a, b) > 0) {
+            T t = a;
+            a = b;
+            b = t;
+        }
+        // a <= b: the median is b unless c is smaller, then the larger of a and c
+        if (comparator.compare(b, c) <= 0) {
+            return b;
+        }
+        return comparator.compare(a, c) >= 0 ? a : c;
+    }
+
+    private static void insertionSort(int[] arr, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            int key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void insertionSort(long[] arr, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= lo && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static <T> void insertionSort(T[] arr, int lo, int hi, Comparator<? super T> comparator) {
+        for (int i = lo + 1; i <= hi; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= lo && comparator.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private static void swap(long[] arr, int i, int j) {
+        long temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    private static <T> void swap(T[] arr, int i, int j) {
+        T temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      TOP-100 OF %,d RANDOM INTS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int[] arr = new Random(42).ints(size).toArray();
+        int k = 100;
+
+        System.out.printf("  Full sort, read first k:   %8.2f ms%n", time(() -> {
+            int[] copy = arr.clone();
+            Arrays.sort(copy);
+        }));
+        System.out.printf("  partialSort (introselect): %8.2f ms%n", time(() -> partialSort(arr.clone(), k)));
+        System.out.printf("  smallest (bounded heap):   %8.2f ms%n", time(() -> smallest(arr, k)));
+        System.out.printf("  parallelSmallest:          %8.2f ms%n", time(() -> parallelSmallest(arr, k)));
+        System.out.printf("  median (introselect):      %8.2f ms%n", time(() -> median(arr.clone())));
+
+        // Two-way quickselect goes quadratic when every key is equal;
+        // three-way partitioning settles all of them in one pass
+        int[] equal = new int[size];
+        equal[size / 2] = 1;
+        System.out.printf("  median, all keys equal:    %8.2f ms%n", time(() -> median(equal.clone())));
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      SELECTION AND TOP-K DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Example 1: nth element and partial sort
+        int[] arr = {42, 7, 19, 88, 3, 61, 25, 7, 94, 50, 12, 73};
+        System.out.println("Original:          " + Arrays.toString(arr));
+        System.out.println("3rd smallest:      " + select(arr.clone(), 2));
+        System.out.println("Smallest 4:        " + Arrays.toString(smallest(arr, 4)));
+        int[] partial = arr.clone();
+        partialSort(partial, 4);
+        System.out.println("partialSort(4):    " + Arrays.toString(partial));
+
+        // Example 2: Percentiles of request latencies (ms)
+        double[] latencies = {12.5, 8.1, 250.0, 9.9, 11.2, 15.8, 10.4, 980.3, 13.3, 9.1};
+        System.out.printf("%nLatency p50 = %.2f, p90 = %.2f, p99 = %.2f%n",
+                median(latencies.clone()), percentile(latencies.clone(), 90), percentile(latencies.clone(), 99));
+
+        // Example 3: Largest three words with a reversed comparator
+        String[] words = {"pear", "fig", "apple", "kiwi", "plum", "banana", "cherry"};
+        System.out.println("\nLargest 3 words:   "
+                + Arrays.toString(smallest(words, 3, Comparator.<String>reverseOrder())));
+
+        // Example 4: Streaming - lowest 5 of a stream never held in memory
+        LongTopK lowest = new LongTopK(5);
+        Random random = new Random(3);
+        for (int i = 0; i < 1_000_000; i++) {
+            lowest.offer(random.nextLong());
+        }
+        System.out.println("Lowest 5 of 1M streamed longs: " + Arrays.toString(lowest.toSortedArray()));
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        performanceComparison(size);
+    }
+}
@@ -0,0 +1,628 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+public class SortedSearch {
+
+    // Interpolation search hands ranges this short to the branchless search
+    static final int INTERPOLATION_CUTOFF = 64;
+
+    // Largest array an Eytzinger tree is built for: slot 2k + 1 must fit in an int
+    static final int MAX_EYTZINGER_SIZE = (1 << 30) - 1;
+
+    // Arbitrary value the prefetch dummy is compared with (see Eytzinger Layout)
+    private static final int PREFETCH_MARKER = 0x5EEDF00D;
+    private static int prefetchSink;
+
+    public enum Layout {
+        // The sorted array as is, searched without data-dependent branches
+        BRANCHLESS,
+        // A copy in BFS order, so the first levels of every search share cache lines
+        EYTZINGER,
+        // The sorted array as is, probed where a uniform key would sit
+        INTERPOLATION
+    }
+
+    // ========================================
+    // Branchless Binary Search
+    // ========================================
+    // The classic loop exits early on equality and picks a side with an
+    // unpredictable branch: on random probes half of those branches are
+    // mispredicted, and each misprediction throws away the speculative load
+    // of the next middle element. Here the loop runs a fixed log2(n) steps and
+    // the side is chosen with a conditional move, so the CPU never guesses.
+    //
+    // lowerBound returns the position of the first element >= key, or the
+    // length when every element is smaller (the insertion point).
+
+    public static int lowerBound(int[] sorted, int key) {
+        return lowerBound(sorted, 0, sorted.length, key);
+    }
+
+    public static int lowerBound(int[] sorted, int from, int to, int key) {
+        int base = from;
+        int length = to - from;
+        if (length == 0) {
+            return from;
+        }
+        while (length > 1) {
+            int half = length >>> 1;
+            base = sorted[base + half] < key ? base + half : base;
+            length -= half;
+        }
+        return base + (sorted[base] < key ? 1 : 0);
+    }
+
+    // Position of key in sorted, or -1 like BinarySearch.binarySearchIterative.
+    // With duplicates this is always the first one.
+    public static int indexOf(int[] sorted, int key) {
+        int i = lowerBound(sorted, key);
+        return i < sorted.length && sorted[i] == key ? i : -1;
+    }
+
+    // ========================================
+    // Eytzinger Layout
+    // ========================================
+    // A sorted array puts the keys of the first search steps n/2, n/4, n/8...
+    // apart, so a large array misses the cache on nearly every step. The
+    // Eytzinger layout stores the implicit search tree in BFS order instead:
+    // root in slot 1, the children of slot k in 2k and 2k + 1. The top levels
+    // every search walks through sit together at the front and stay cached,
+    // and the 16 descendants four levels below slot k are adjacent, starting
+    // at slot 16k - one cache line of ints.
+    //
+    // Java has no prefetch instruction, so the search loads tree[16k] itself
+    // while it compares at slot k. Nothing waits for that load, so the CPU
+    // issues it alongside the real one, and four steps later the line is
+    // already cached: on arrays far larger than the cache this turns a chain
+    // of dependent misses into overlapping ones. The loaded values are folded
+    // into a dummy that the JIT cannot prove unused; publishing it behind a
+    // test that is never true avoids a shared write on every lookup.
+    // Slot 0 is unused.
+
+    public static int[] eytzinger(int[] sorted) {
+        checkEytzingerSize(sorted.length);
+        int[] tree = new int[sorted.length + 1];
+        fill(sorted, tree, 0, 1);
+        return tree;
+    }
+
+    // In-order walk of the implicit tree: returns the next unused sorted index
+    private static int fill(int[] sorted, int[] tree, int i, int k) {
+        if (k < tree.length) {
+            i = fill(sorted, tree, i, 2 * k);
+            tree[k] = sorted[i++];
+            i = fill(sorted, tree, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    // Slot of the first key >= key, or 0 if there is none. The descent goes
+    // right past smaller keys; the answer is the last node where it went left,
+    // found by stripping the trailing right turns (1 bits) plus one more bit.
+    public static int eytzingerLowerBound(int[] tree, int key) {
+        int k = 1;
+        int n = tree.length;
+        int prefetched = 0;
+        while (k < n) {
+            prefetched ^= tree[(int) Math.min(16L * k, n - 1)];
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        if (prefetched == PREFETCH_MARKER) {
+            prefetchSink = prefetched;
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    // Index in the sorted array of the key at slot, size when slot is 0. In a
+    // perfect tree of height h the in-order rank follows from the slot's
+    // depth and offset; the last level is only filled up to size, so the
+    // missing last-level nodes to the left are subtracted. Pure arithmetic,
+    // so no second array - and no second cache miss - is needed.
+    public static int eytzingerPosition(int slot, int size) {
+        if (slot == 0) {
+            return size;
+        }
+        int height = 31 - Integer.numberOfLeadingZeros(size);
+        int depth = 31 - Integer.numberOfLeadingZeros(slot);
+        int rank = ((((slot - (1 << depth)) << 1) | 1) << (height - depth)) - 1;
+        // Last-level nodes sit at the even ranks 0, 2, 4...; only the first
+        // size - 2^h + 1 of them exist
+        int present = size - (1 << height) + 1;
+        return rank - Math.max(0, ((rank + 1) >> 1) - present);
+    }
+
+    // ========================================
+    // Interpolation Search
+    // ========================================
+    // For keys spread evenly over their range (sequential ids, timestamps) the
+    // key's value predicts its position; each probe then shrinks the range to
+    // about its square root, O(log log n) probes in all. Skewed keys can make
+    // the guesses arbitrarily bad, so after about log2(log2(n)) probes, or
+    // once the range is short, the branchless search finishes the job: a bad
+    // distribution costs a handful of extra probes, not O(n).
+
+    public static int interpolationLowerBound(int[] sorted, int key) {
+        int lo = 0;
+        int hi = sorted.length;
+        int probes = interpolationProbes(hi);
+        while (hi - lo > INTERPOLATION_CUTOFF && probes-- > 0) {
+            int left = sorted[lo];
+            int right = sorted[hi - 1];
+            if (key <= left) {
+                return lo;
+            }
+            if (key > right) {
+                return hi;
+            }
+            // left < key <= right, so the fraction is in (0, 1]
+            int probe = lo + (int) ((double) ((long) key - left) / ((long) right - left) * (hi - 1 - lo));
+            if (sorted[probe] < key) {
+                lo = probe + 1;
+            } else {
+                hi = probe;
+            }
+        }
+        return lowerBound(sorted, lo, hi, key);
+    }
+
+    // Probe budget: bit length of the bit length of n, plus one
+    private static int interpolationProbes(int n) {
+        return 33 - Integer.numberOfLeadingZeros(32 - Integer.numberOfLeadingZeros(n));
+    }
+
+    public static int interpolationSearch(int[] sorted, int key) {
+        int i = interpolationLowerBound(sorted, key);
+        return i < sorted.length && sorted[i] == key ? i : -1;
+    }
+
+    // ========================================
+    // long[]
+    // ========================================
+    // Same three searches over long keys.
+
+    public static int lowerBound(long[] sorted, long key) {
+        return lowerBound(sorted, 0, sorted.length, key);
+    }
+
+    public static int lowerBound(long[] sorted, int from, int to, long key) {
+        int base = from;
+        int length = to - from;
+        if (length == 0) {
+            return from;
+        }
+        while (length > 1) {
+            int half = length >>> 1;
+            base = sorted[base + half] < key ? base + half : base;
+            length -= half;
+        }
+        return base + (sorted[base] < key ? 1 : 0);
+    }
+
+    public static int indexOf(long[] sorted, long key) {
+        int i = lowerBound(sorted, key);
+        return i < sorted.length && sorted[i] == key ? i : -1;
+    }
+
+    public static long[] eytzinger(long[] sorted) {
+        checkEytzingerSize(sorted.length);
+        long[] tree = new long[sorted.length + 1];
+        fill(sorted, tree, 0, 1);
+        return tree;
+    }
+
+    private static int fill(long[] sorted, long[] tree, int i, int k) {
+        if (k < tree.length) {
+            i = fill(sorted, tree, i, 2 * k);
+            tree[k] = sorted[i++];
+            i = fill(sorted, tree, i, 2 * k + 1);
+        }
+        return i;
+    }
+
+    // A cache line holds 8 longs, the descendants three levels down
+    public static int eytzingerLowerBound(long[] tree, long key) {
+        int k = 1;
+        int n = tree.length;
+        long prefetched = 0;
+        while (k < n) {
+            prefetched ^= tree[(int) Math.min(8L * k, n - 1)];
+            k = 2 * k + (tree[k] < key ? 1 : 0);
+        }
+        if (prefetched == PREFETCH_MARKER) {
+            prefetchSink = (int) prefetched;
+        }
+        return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+
+    // The key differences can overflow a long, so the fraction is taken in doubles
+    public static int interpolationLowerBound(long[] sorted, long key) {
+        int lo = 0;
+        int hi = sorted.length;
+        int probes = interpolationProbes(hi);
+        while (hi - lo > INTERPOLATION_CUTOFF && probes-- > 0) {
+            long left = sorted[lo];
+            long right = sorted[hi - 1];
+            if (key <= left) {
+                return lo;
+            }
+            if (key > right) {
+                return hi;
+            }
+            double fraction = ((double) key - left) / ((double) right - left);
+            // Rounding can push a fraction near 0 or 1 out of the range
+            int probe = Math.max(lo, Math.min(hi - 1, lo + (int) (fraction * (hi - 1 - lo))));
+            if (sorted[probe] < key) {
+                lo = probe + 1;
+            } else {
+                hi = probe;
+            }
+        }
+        return lowerBound(sorted, lo, hi, key);
+    }
+
+    public static int interpolationSearch(long[] sorted, long key) {
+        int i = interpolationLowerBound(sorted, key);
+        return i < sorted.length && sorted[i] == key ? i : -1;
+    }
+
+    // ========================================
+    // Prebuilt Indexes
+    // ========================================
+    // A lookup table is converted once into the layout that suits it and then
+    // queried many times. Positions are always reported in terms of the
+    // original sorted array, whatever the layout:
+    //
+    //   SortedSearch.IntIndex ids = SortedSearch.builder()
+    //           .layout(SortedSearch.Layout.EYTZINGER)
+    //           .build(sortedIds);
+    //   int row = ids.indexOf(id);
+
+    public interface IntIndex {
+        // Position of the first element >= key, or size() if there is none
+        int lowerBound(int key);
+
+        // Position of key, or -1 if it is absent
+        int indexOf(int key);
+
+        int size();
+
+        Layout layout();
+
+        default boolean contains(int key) {
+            return indexOf(key) >= 0;
+        }
+    }
+
+    public interface LongIndex {
+        int lowerBound(long key);
+
+        int indexOf(long key);
+
+        int size();
+
+        Layout layout();
+
+        default boolean contains(long key) {
+            return indexOf(key) >= 0;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Layout layout = Layout.EYTZINGER;
+        private boolean verifySorted = true;
+
+        private Builder() {
+        }
+
+        public Builder layout(Layout layout) {
+            if (layout == null) {
+                throw new IllegalArgumentException("layout must not be null");
+            }
+            this.layout = layout;
+            return this;
+        }
+
+        // The O(n) sortedness check can be skipped for arrays known to be sorted
+        public Builder verifySorted(boolean verifySorted) {
+            this.verifySorted = verifySorted;
+            return this;
+        }
+
+        // BRANCHLESS and INTERPOLATION search the given array itself, which
+        // must not change afterwards; EYTZINGER keeps only its own copy
+        public IntIndex build(int[] sorted) {
+            if (verifySorted) {
+                for (int i = 1; i < sorted.length; i++) {
+                    if (sorted[i - 1] > sorted[i]) {
+                        throw new IllegalArgumentException("Array is not sorted at index " + i);
+                    }
+                }
+            }
+            switch (layout) {
+                case BRANCHLESS:
+                    return new BranchlessIntIndex(sorted);
+                case EYTZINGER:
+                    return new EytzingerIntIndex(sorted);
+                case INTERPOLATION:
+                    return new InterpolationIntIndex(sorted);
+                default:
+                    throw new IllegalStateException("Unknown layout: " + layout);
+            }
+        }
+
+        public LongIndex build(long[] sorted) {
+            if (verifySorted) {
+                for (int i = 1; i < sorted.length; i++) {
+                    if (sorted[i - 1] > sorted[i]) {
+                        throw new IllegalArgumentException("Array is not sorted at index " + i);
+                    }
+                }
+            }
+            switch (layout) {
+                case BRANCHLESS:
+                    return new BranchlessLongIndex(sorted);
+                case EYTZINGER:
+                    return new EytzingerLongIndex(sorted);
+                case INTERPOLATION:
+                    return new InterpolationLongIndex(sorted);
+                default:
+                    throw new IllegalStateException("Unknown layout: " + layout);
+            }
+        }
+    }
+
+    private static class BranchlessIntIndex implements IntIndex {
+        private final int[] sorted;
+
+        BranchlessIntIndex(int[] sorted) {
+            this.sorted = sorted;
+        }
+
+        public int lowerBound(int key) {
+            return SortedSearch.lowerBound(sorted, key);
+        }
+
+        public int indexOf(int key) {
+            return SortedSearch.indexOf(sorted, key);
+        }
+
+        public int size() {
+            return sorted.length;
+        }
+
+        public Layout layout() {
+            return Layout.BRANCHLESS;
+        }
+    }
+
+    private static class InterpolationIntIndex implements IntIndex {
+        private final int[] sorted;
+
+        InterpolationIntIndex(int[] sorted) {
+            this.sorted = sorted;
+        }
+
+        public int lowerBound(int key) {
+            return interpolationLowerBound(sorted, key);
+        }
+
+        public int indexOf(int key) {
+            return interpolationSearch(sorted, key);
+        }
+
+        public int size() {
+            return sorted.length;
+        }
+
+        public Layout layout() {
+            return Layout.INTERPOLATION;
+        }
+    }
+
+    // Slots are mapped back to sorted positions with eytzingerPosition
+    private static class EytzingerIntIndex implements IntIndex {
+        private final int[] tree;
+
+        EytzingerIntIndex(int[] sorted) {
+            checkEytzingerSize(sorted.length);
+            tree = new int[sorted.length + 1];
+            fill(sorted, tree, 0, 1);
+        }
+
+        public int lowerBound(int key) {
+            return eytzingerPosition(eytzingerLowerBound(tree, key), size());
+        }
+
+        public int indexOf(int key) {
+            int slot = eytzingerLowerBound(tree, key);
+            return slot != 0 && tree[slot] == key ? eytzingerPosition(slot, size()) : -1;
+        }
+
+        public int size() {
+            return tree.length - 1;
+        }
+
+        public Layout layout() {
+            return Layout.EYTZINGER;
+        }
+    }
+
+    private static class BranchlessLongIndex implements LongIndex {
+        private final long[] sorted;
+
+        BranchlessLongIndex(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        public int lowerBound(long key) {
+            return SortedSearch.lowerBound(sorted, key);
+        }
+
+        public int indexOf(long key) {
+            return SortedSearch.indexOf(sorted, key);
+        }
+
+        public int size() {
+            return sorted.length;
+        }
+
+        public Layout layout() {
+            return Layout.BRANCHLESS;
+        }
+    }
+
+    private static class InterpolationLongIndex implements LongIndex {
+        private final long[] sorted;
+
+        InterpolationLongIndex(long[] sorted) {
+            this.sorted = sorted;
+        }
+
+        public int lowerBound(long key) {
+            return interpolationLowerBound(sorted, key);
+        }
+
+        public int indexOf(long key) {
+            return interpolationSearch(sorted, key);
+        }
+
+        public int size() {
+            return sorted.length;
+        }
+
+        public Layout layout() {
+            return Layout.INTERPOLATION;
+        }
+    }
+
+    private static class EytzingerLongIndex implements LongIndex {
+        private final long[] tree;
+
+        EytzingerLongIndex(long[] sorted) {
+            checkEytzingerSize(sorted.length);
+            tree = new long[sorted.length + 1];
+            fill(sorted, tree, 0, 1);
+        }
+
+        public int lowerBound(long key) {
+            return eytzingerPosition(eytzingerLowerBound(tree, key), size());
+        }
+
+        public int indexOf(long key) {
+            int slot = eytzingerLowerBound(tree, key);
+            return slot != 0 && tree[slot] == key ? eytzingerPosition(slot, size()) : -1;
+        }
+
+        public int size() {
+            return tree.length - 1;
+        }
+
+        public Layout layout() {
+            return Layout.EYTZINGER;
+        }
+    }
+
+    private static void checkEytzingerSize(int length) {
+        if (length > MAX_EYTZINGER_SIZE) {
+            throw new IllegalArgumentException("Eytzinger layout supports at most "
+                    + MAX_EYTZINGER_SIZE + " keys, got " + length);
+        }
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      LOOKUPS IN %,d SORTED INTS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        // Random, roughly uniform ids with gaps, so about half the probes miss
+        Random random = new Random(42);
+        int[] sorted = random.ints(size, 0, Integer.MAX_VALUE).sorted().toArray();
+        int[] probes = new int[1 << 20];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = random.nextBoolean() ? sorted[random.nextInt(size)] : random.nextInt(Integer.MAX_VALUE);
+        }
+        IntIndex eytzinger = builder().layout(Layout.EYTZINGER).build(sorted);
+        IntIndex interpolation = builder().layout(Layout.INTERPOLATION).build(sorted);
+
+        System.out.printf("  Arrays.binarySearch:          %6.1f ns/lookup%n",
+                time(probes, key -> Arrays.binarySearch(sorted, key)));
+        System.out.printf("  BinarySearch (iterative):     %6.1f ns/lookup%n",
+                time(probes, key -> BinarySearch.binarySearchIterative(sorted, key)));
+        System.out.printf("  Branchless:                   %6.1f ns/lookup%n",
+                time(probes, key -> indexOf(sorted, key)));
+        System.out.printf("  Eytzinger:                    %6.1f ns/lookup%n",
+                time(probes, eytzinger::indexOf));
+        System.out.printf("  Interpolation:                %6.1f ns/lookup%n",
+                time(probes, interpolation::indexOf));
+    }
+
+    // Best of a few passes over the probes, after one warmup pass
+    private static double time(int[] probes, IntUnaryOperator lookup) {
+        double best = Double.MAX_VALUE;
+        long checksum = 0;
+        for (int run = 0; run < 4; run++) {
+            long start = System.nanoTime();
+            for (int probe : probes) {
+                checksum += lookup.applyAsInt(probe);
+            }
+            if (run > 0) {
+                best = Math.min(best, (double) (System.nanoTime() - start) / probes.length);
+            }
+        }
+        // Keeps the JIT from discarding the lookups
+        if (checksum == 42) {
+            System.out.print("");
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      SORTED SEARCH DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int[] sorted = {12, 23, 34, 45, 45, 56, 67, 78, 89, 90};
+        System.out.println("Array: " + Arrays.toString(sorted));
+
+        // Example 1: Branchless search finds the first of duplicate keys
+        System.out.println("\nindexOf(45) = " + indexOf(sorted, 45));
+        System.out.println("indexOf(50) = " + indexOf(sorted, 50));
+        System.out.println("lowerBound(50) = " + lowerBound(sorted, 50));
+
+        // Example 2: The same array in Eytzinger (BFS) order
+        int[] tree = eytzinger(sorted);
+        System.out.println("\nEytzinger layout: " + Arrays.toString(Arrays.copyOfRange(tree, 1, tree.length)));
+
+        // Example 3: Every layout reports positions in the sorted array
+        for (Layout layout : Layout.values()) {
+            IntIndex index = builder().layout(layout).build(sorted);
+            System.out.printf("%-13s indexOf(78) = %d, lowerBound(91) = %d%n",
+                    layout, index.indexOf(78), index.lowerBound(91));
+        }
+
+        // Example 4: Unsorted input is rejected
+        try {
+            builder().build(new int[]{3, 1, 2});
+        } catch (IllegalArgumentException e) {
+            System.out.println("\nRejected: " + e.getMessage());
+        }
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        performanceComparison(size);
+    }
+}
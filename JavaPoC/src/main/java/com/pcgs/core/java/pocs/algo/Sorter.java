@@ -0,0 +1,579 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class Sorter {
+
+    // Inputs up to this size go straight to insertion sort, without profiling
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    // Elements sampled to estimate the duplicate ratio
+    static final int SAMPLE_SIZE = 1024;
+
+    // At or above this presortedness the input is mostly long runs (an average
+    // run of about 40 elements), which the run-adaptive merge sort eats linearly
+    static final double PRESORTED_THRESHOLD = 0.95;
+
+    // Ranges up to n / SMALL_RANGE_DIVISOR are counted even when presorted
+    static final int SMALL_RANGE_DIVISOR = 8;
+
+    // Duplicate ratio at which counting pays off even for a wide range - the same
+    // "each sampled key seen twice on average" rule CountingSortClaude uses
+    static final double FEW_DISTINCT_RATIO = 0.5;
+
+    // Duplicate ratio at which a three-way partition beats a byte-wise radix sort
+    static final double DUPLICATE_RATIO = 0.1;
+
+    // Below this size the four radix passes cost more than a quick sort
+    static final int RADIX_THRESHOLD = 1 << 12;
+
+    // ========================================
+    // Strategies and Input Profile
+    // ========================================
+    // INSERTION       - MergeSortClaude.insertionSort, for tiny inputs
+    // COUNTING        - CountingSortClaude.adaptiveCountingSort (dense or hashed counts)
+    // RADIX           - RadixSortClaude.radixSortBytes, StringRadixSort for strings
+    // THREE_WAY_QUICK - QuickSortClaude.branchlessIntroSort, which switches to
+    //                   Dutch-flag partitioning as soon as the pivot sample repeats
+    // MERGE           - AdaptiveRunSort for int[], GenericMergeSort (stable) for objects
+
+    public enum Strategy {
+        INSERTION,
+        COUNTING,
+        RADIX,
+        THREE_WAY_QUICK,
+        MERGE
+    }
+
+    // What the chooser saw
+    public static class InputProfile {
+        final String elementType;
+        final int length;
+        boolean hasRange;
+        long min;
+        long max;
+        double presortedness;
+        double duplicateRatio;
+
+        InputProfile(String elementType, int length) {
+            this.elementType = elementType;
+            this.length = length;
+        }
+
+        public String getElementType() { return elementType; }
+        public int getLength() { return length; }
+        public long getMin() { return min; }
+        public long getMax() { return max; }
+
+        // max - min + 1, or 0 for types without a range (double, String, objects)
+        public long range() {
+            return hasRange ? max - min + 1 : 0;
+        }
+
+        // 1.0 when every adjacent pair follows the dominant direction (sorted or
+        // reverse sorted), about 0.0 for random input
+        public double getPresortedness() { return presortedness; }
+
+        // Share of sampled elements equal to another sampled element
+        public double getDuplicateRatio() { return duplicateRatio; }
+
+        @Override
+        public String toString() {
+            String range = hasRange ? String.format(" range=%,d", range()) : "";
+            return String.format("%s[%,d]%s presorted=%.2f duplicates=%.2f",
+                    elementType, length, range, presortedness, duplicateRatio);
+        }
+    }
+
+    // ========================================
+    // Metrics Hook
+    // ========================================
+
+    // Called on the sorting thread after every sort. profile is null when the
+    // caller forced a strategy, since nothing was profiled.
+    public interface MetricsListener {
+        void onSort(InputProfile profile, Strategy strategy, long profileNanos, long sortNanos);
+    }
+
+    // Ready-made listener: per-strategy call count and total time
+    public static class StrategyMetrics implements MetricsListener {
+        private final Map<Strategy, long[]> totals = new EnumMap<>(Strategy.class);
+
+        @Override
+        public synchronized void onSort(InputProfile profile, Strategy strategy, long profileNanos, long sortNanos) {
+            long[] total = totals.computeIfAbsent(strategy, s -> new long[3]);
+            total[0]++;
+            total[1] += profileNanos;
+            total[2] += sortNanos;
+        }
+
+        public synchronized long getCount(Strategy strategy) {
+            long[] total = totals.get(strategy);
+            return total == null ? 0 : total[0];
+        }
+
+        public synchronized long getTotalNanos(Strategy strategy) {
+            long[] total = totals.get(strategy);
+            return total == null ? 0 : total[1] + total[2];
+        }
+
+        @Override
+        public synchronized String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (Map.Entry<Strategy, long[]> entry : totals.entrySet()) {
+                long[] total = entry.getValue();
+                sb.append(String.format("  %-16s %,8d sorts  profile %8.2f ms  sort %9.2f ms%n",
+                        entry.getKey(), total[0], total[1] / 1e6, total[2] / 1e6));
+            }
+            return sb.toString();
+        }
+    }
+
+    private final MetricsListener listener;
+
+    public Sorter() {
+        this((profile, strategy, profileNanos, sortNanos) -> { });
+    }
+
+    public Sorter(MetricsListener listener) {
+        this.listener = listener;
+    }
+
+    // ========================================
+    // int[]
+    // ========================================
+    // One pass collects min, max and the direction of every adjacent pair; a
+    // sorted sample gives the duplicate ratio. Then, in order:
+    //   tiny                        -> INSERTION
+    //   range within n / 8          -> COUNTING (dense)
+    //   mostly long runs            -> MERGE (linear on sorted/reversed/sawtooth)
+    //   range within 2n             -> COUNTING (dense)
+    //   few distinct keys           -> COUNTING (hashed)
+    //   many duplicates, or small n -> THREE_WAY_QUICK
+    //   otherwise                   -> RADIX
+
+    public Strategy sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return Strategy.INSERTION;
+        }
+        long start = System.nanoTime();
+        InputProfile profile = null;
+        Strategy strategy = Strategy.INSERTION;
+        if (arr.length > INSERTION_SORT_THRESHOLD) {
+            profile = profile(arr);
+            strategy = choose(profile);
+        }
+        long sorted = System.nanoTime();
+        run(strategy, arr);
+        listener.onSort(profile, strategy, sorted - start, System.nanoTime() - sorted);
+        return strategy;
+    }
+
+    // Sort with a fixed strategy, still reporting to the metrics hook, so a
+    // workload can be replayed against every choice
+    public void sort(int[] arr, Strategy strategy) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        long start = System.nanoTime();
+        run(strategy, arr);
+        listener.onSort(null, strategy, 0, System.nanoTime() - start);
+    }
+
+    static InputProfile profile(int[] arr) {
+        int n = arr.length;
+        InputProfile profile = new InputProfile("int", n);
+        int min = arr[0];
+        int max = arr[0];
+        int ascents = 0;
+        int descents = 0;
+        // Written without branches: on random input the comparisons are coin flips
+        for (int i = 1; i < n; i++) {
+            int prev = arr[i - 1];
+            int value = arr[i];
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            ascents += value > prev ? 1 : 0;
+            descents += value < prev ? 1 : 0;
+        }
+        profile.hasRange = true;
+        profile.min = min;
+        profile.max = max;
+        profile.presortedness = presortedness(ascents, descents, n - 1);
+
+        int samples = Math.min(SAMPLE_SIZE, n);
+        int[] sample = new int[samples];
+        long step = n / samples;
+        for (int i = 0; i < samples; i++) {
+            sample[i] = arr[(int) (i * step)];
+        }
+        Arrays.sort(sample);
+        int distinct = 1;
+        for (int i = 1; i < samples; i++) {
+            if (sample[i] != sample[i - 1]) distinct++;
+        }
+        profile.duplicateRatio = 1.0 - (double) distinct / samples;
+        return profile;
+    }
+
+    static Strategy choose(InputProfile profile) {
+        if (profile.length <= INSERTION_SORT_THRESHOLD) {
+            return Strategy.INSERTION;
+        }
+        // A count array this small stays in cache and beats even a run merge
+        if (profile.range() <= profile.length / SMALL_RANGE_DIVISOR) {
+            return Strategy.COUNTING;
+        }
+        if (profile.presortedness >= PRESORTED_THRESHOLD) {
+            return Strategy.MERGE;
+        }
+        if (profile.range() <= CountingSortClaude.DENSE_RANGE_LIMIT && profile.range() <= 2L * profile.length) {
+            return Strategy.COUNTING;
+        }
+        if (profile.duplicateRatio >= FEW_DISTINCT_RATIO) {
+            return Strategy.COUNTING;
+        }
+        if (profile.duplicateRatio >= DUPLICATE_RATIO || profile.length < RADIX_THRESHOLD) {
+            return Strategy.THREE_WAY_QUICK;
+        }
+        return Strategy.RADIX;
+    }
+
+    private static void run(Strategy strategy, int[] arr) {
+        switch (strategy) {
+            case INSERTION:
+                MergeSortClaude.insertionSort(arr, 0, arr.length);
+                break;
+            case COUNTING:
+                CountingSortClaude.adaptiveCountingSort(arr);
+                break;
+            case RADIX:
+                RadixSortClaude.radixSortBytes(arr);
+                break;
+            case THREE_WAY_QUICK:
+                QuickSortClaude.branchlessIntroSort(arr);
+                break;
+            default:
+                AdaptiveRunSort.sort(arr);
+        }
+    }
+
+    // ========================================
+    // long[] and double[]
+    // ========================================
+    // No counting or run-adaptive sort exists for these types, so the choice is
+    // insertion sort for tiny inputs and the byte-wise radix sort otherwise.
+
+    public Strategy sort(long[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return Strategy.INSERTION;
+        }
+        long start = System.nanoTime();
+        Strategy strategy = arr.length <= INSERTION_SORT_THRESHOLD ? Strategy.INSERTION : Strategy.RADIX;
+        if (strategy == Strategy.INSERTION) {
+            insertionSort(arr);
+        } else {
+            RadixSortClaude.radixSortBytes(arr);
+        }
+        listener.onSort(new InputProfile("long", arr.length), strategy, 0, System.nanoTime() - start);
+        return strategy;
+    }
+
+    public Strategy sort(double[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return Strategy.INSERTION;
+        }
+        long start = System.nanoTime();
+        Strategy strategy = arr.length <= INSERTION_SORT_THRESHOLD ? Strategy.INSERTION : Strategy.RADIX;
+        if (strategy == Strategy.INSERTION) {
+            insertionSort(arr);
+        } else {
+            RadixSortClaude.radixSortBytes(arr);
+        }
+        listener.onSort(new InputProfile("double", arr.length), strategy, 0, System.nanoTime() - start);
+        return strategy;
+    }
+
+    // ========================================
+    // String[] and Comparable objects
+    // ========================================
+    // Comparisons are expensive here, so presortedness is estimated from sampled
+    // adjacent pairs instead of a full pass. Strings that are not mostly sorted
+    // go to the MSD radix sort; other objects always use the stable merge sort.
+
+    public Strategy sort(String[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return Strategy.INSERTION;
+        }
+        long start = System.nanoTime();
+        InputProfile profile = null;
+        Strategy strategy = Strategy.INSERTION;
+        if (arr.length > INSERTION_SORT_THRESHOLD) {
+            profile = profile(arr, "String");
+            strategy = profile.presortedness >= PRESORTED_THRESHOLD ? Strategy.MERGE : Strategy.RADIX;
+        }
+        long sorted = System.nanoTime();
+        if (strategy == Strategy.INSERTION) {
+            insertionSort(arr);
+        } else if (strategy == Strategy.MERGE) {
+            GenericMergeSort.parallelMergeSort(arr);
+        } else {
+            StringRadixSort.sort(arr);
+        }
+        listener.onSort(profile, strategy, sorted - start, System.nanoTime() - sorted);
+        return strategy;
+    }
+
+    public <T extends Comparable<T>> Strategy sort(T[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return Strategy.INSERTION;
+        }
+        long start = System.nanoTime();
+        InputProfile profile = null;
+        Strategy strategy = Strategy.INSERTION;
+        if (arr.length > INSERTION_SORT_THRESHOLD) {
+            profile = profile(arr, arr.getClass().getComponentType().getSimpleName());
+            strategy = Strategy.MERGE;
+        }
+        long sorted = System.nanoTime();
+        if (strategy == Strategy.INSERTION) {
+            insertionSort(arr);
+        } else {
+            GenericMergeSort.parallelMergeSort(arr);
+        }
+        listener.onSort(profile, strategy, sorted - start, System.nanoTime() - sorted);
+        return strategy;
+    }
+
+    static <T extends Comparable<T>> InputProfile profile(T[] arr, String elementType) {
+        int n = arr.length;
+        InputProfile profile = new InputProfile(elementType, n);
+        int samples = Math.min(SAMPLE_SIZE, n - 1);
+        long step = (n - 1) / samples;
+
+        int ascents = 0;
+        int descents = 0;
+        List<T> sample = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            int at = (int) (i * step);
+            int cmp = arr[at + 1].compareTo(arr[at]);
+            if (cmp > 0) ascents++;
+            else if (cmp < 0) descents++;
+            sample.add(arr[at]);
+        }
+        profile.presortedness = presortedness(ascents, descents, samples);
+
+        sample.sort(null);
+        int distinct = 1;
+        for (int i = 1; i < samples; i++) {
+            if (sample.get(i).compareTo(sample.get(i - 1)) != 0) distinct++;
+        }
+        profile.duplicateRatio = 1.0 - (double) distinct / samples;
+        return profile;
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    // Pairs against the dominant direction, scaled so random order gives ~0.0
+    private static double presortedness(int ascents, int descents, int pairs) {
+        if (pairs == 0) {
+            return 1.0;
+        }
+        double disorder = (double) Math.min(ascents, descents) / pairs;
+        return Math.max(0.0, 1.0 - 2 * disorder);
+    }
+
+    private static void insertionSort(long[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            long key = arr[i];
+            int j = i - 1;
+            while (j >= 0 && arr[j] > key) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    // Double.compare, so -0.0 and NaN land where Arrays.sort puts them
+    private static void insertionSort(double[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            double key = arr[i];
+            int j = i - 1;
+            while (j >= 0 && Double.compare(arr[j], key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static <T extends Comparable<T>> void insertionSort(T[] arr) {
+        for (int i = 1; i < arr.length; i++) {
+            T key = arr[i];
+            int j = i - 1;
+            while (j >= 0 && arr[j].compareTo(key) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+    // Replays a mixed workload through the chooser and through every fixed
+    // strategy. INSERTION is only run on the small inputs.
+
+    private static int[][] workload(String shape, int size, Random random) {
+        if (shape.startsWith("Small")) {
+            int[][] batch = new int[20_000][];
+            for (int b = 0; b < batch.length; b++) {
+                batch[b] = random.ints(24, 0, 1000).toArray();
+            }
+            return batch;
+        }
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            switch (shape) {
+                case "Sorted":
+                    arr[i] = i * 3;
+                    break;
+                case "Reversed":
+                    arr[i] = (size - i) * 3;
+                    break;
+                case "Sawtooth":
+                    arr[i] = i % (size / 100);
+                    break;
+                case "Ages (0-120)":
+                    arr[i] = random.nextInt(121);
+                    break;
+                case "Few distinct, wide range":
+                    arr[i] = random.nextInt(64) * 10_000_019;
+                    break;
+                case "Heavy duplicates":
+                    arr[i] = random.nextInt(size / 16) * 4099;
+                    break;
+                default:
+                    arr[i] = random.nextInt();
+            }
+        }
+        return new int[][]{arr};
+    }
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      CHOOSER VS FIXED STRATEGIES (%,d elements)%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Random random = new Random(42);
+        String[] shapes = {"Random", "Sorted", "Reversed", "Sawtooth", "Ages (0-120)",
+                "Few distinct, wide range", "Heavy duplicates", "Small arrays (20,000 x 24)"};
+        Strategy[] fixed = Strategy.values();
+        double[] fixedTotals = new double[fixed.length];
+        double chooserTotal = 0;
+
+        System.out.printf("%-28s %-16s %9s", "Workload", "Chosen", "Chooser");
+        for (Strategy strategy : fixed) {
+            System.out.printf(" %15s", strategy);
+        }
+        System.out.println();
+
+        for (String shape : shapes) {
+            int[][] batch = workload(shape, size, random);
+            Sorter sorter = new Sorter();
+            Strategy chosen = sorter.sort(batch[0].clone());
+
+            double chooserMs = time(() -> {
+                for (int[] arr : batch) {
+                    sorter.sort(arr.clone());
+                }
+            });
+            chooserTotal += chooserMs;
+            System.out.printf("%-28s %-16s %9.2f", shape, chosen, chooserMs);
+
+            for (int s = 0; s < fixed.length; s++) {
+                Strategy strategy = fixed[s];
+                if (strategy == Strategy.INSERTION && batch[0].length > RADIX_THRESHOLD) {
+                    fixedTotals[s] = Double.NaN;
+                    System.out.printf(" %15s", "-");
+                    continue;
+                }
+                double ms = time(() -> {
+                    for (int[] arr : batch) {
+                        sorter.sort(arr.clone(), strategy);
+                    }
+                });
+                fixedTotals[s] += ms;
+                System.out.printf(" %15.2f", ms);
+            }
+            System.out.println();
+        }
+
+        System.out.printf("%-28s %-16s %9.2f", "Total (ms)", "", chooserTotal);
+        for (double total : fixedTotals) {
+            System.out.printf(" %15s", Double.isNaN(total) ? "-" : String.format("%.2f", total));
+        }
+        System.out.println();
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("════════════════════════════════════════════════");
+        System.out.println("      SORT ENGINE DEMONSTRATION");
+        System.out.println("════════════════════════════════════════════════\n");
+
+        StrategyMetrics metrics = new StrategyMetrics();
+        Sorter sorter = new Sorter((profile, strategy, profileNanos, sortNanos) -> {
+            metrics.onSort(profile, strategy, profileNanos, sortNanos);
+            if (profile != null) {
+                System.out.printf("  %-55s -> %s%n", profile, strategy);
+            }
+        });
+
+        // Example 1: The chooser on a few differently shaped inputs
+        Random random = new Random(7);
+        sorter.sort(random.ints(100_000).toArray());
+        sorter.sort(random.ints(100_000, 0, 50_000).toArray());
+        sorter.sort(random.ints(100_000, 0, 8).map(k -> k * 1_000_003).toArray());
+        sorter.sort(random.ints(2_000, 0, 400).toArray());
+        sorter.sort(java.util.stream.IntStream.range(0, 100_000).map(i -> 100_000 - i).toArray());
+        sorter.sort(new int[]{5, 3, 9, 1});
+
+        String[] words = {"she", "sells", "seashells", "by", "the", "sea", "shore"};
+        sorter.sort(words);
+        System.out.println("\nWords: " + Arrays.toString(words));
+
+        Integer[] boxed = random.ints(100, 0, 1000).boxed().toArray(Integer[]::new);
+        sorter.sort(boxed);
+
+        System.out.println("\nMetrics:");
+        System.out.print(metrics);
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size);
+    }
+}
@@ -0,0 +1,95 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.Arrays;
+
+// ========================================
+// Sorting Networks for Small Partitions
+// ========================================
+// A sorting network is a fixed list of compare-exchange steps that sorts any
+// input of its size. Which pairs get compared never depends on the data, and
+// each step is a Math.min / Math.max pair that C2 compiles to conditional
+// moves, so there is nothing for the branch predictor to get wrong - unlike
+// insertion sort, whose inner loop exits on a data-dependent branch.
+//
+// The networks are Batcher's odd-even merge sort, built for the next power of
+// two at or above n. Every comparator (i, j) has i < j, so a shorter input
+// behaves as if padded with +infinity at the end: comparators that touch a
+// padded slot never swap, and dropping them leaves a network for exactly n
+// inputs. One pruned network is precomputed for every n up to 32.
+public class SortingNetworks {
+
+    // Largest input a network is built for
+    public static final int MAX_SIZE = 32;
+
+    // NETWORKS[n] holds the comparators for n inputs as (i, j) pairs, flattened
+    private static final int[][] NETWORKS = new int[MAX_SIZE + 1][];
+
+    static {
+        for (int n = 0; n <= MAX_SIZE; n++) {
+            // Smallest power of two >= n (at least 2)
+            int[] full = batcher(Integer.highestOneBit(Math.max(1, n - 1)) << 1);
+            int[] pruned = new int[full.length];
+            int length = 0;
+            for (int c = 0; c < full.length; c += 2) {
+                if (full[c + 1] < n) {
+                    pruned[length++] = full[c];
+                    pruned[length++] = full[c + 1];
+                }
+            }
+            NETWORKS[n] = Arrays.copyOf(pruned, length);
+        }
+    }
+
+    private SortingNetworks() {
+    }
+
+    // Sorts arr[from..to) in place; to - from must not exceed MAX_SIZE
+    public static void sort(int[] arr, int from, int to) {
+        int[] network = NETWORKS[to - from];
+        for (int c = 0; c < network.length; c += 2) {
+            int i = from + network[c];
+            int j = from + network[c + 1];
+            int a = arr[i];
+            int b = arr[j];
+            arr[i] = Math.min(a, b);
+            arr[j] = Math.max(a, b);
+        }
+    }
+
+    public static void sort8(int[] arr, int from) {
+        sort(arr, from, from + 8);
+    }
+
+    public static void sort16(int[] arr, int from) {
+        sort(arr, from, from + 16);
+    }
+
+    public static void sort32(int[] arr, int from) {
+        sort(arr, from, from + 32);
+    }
+
+    // Number of compare-exchange steps for n inputs (19 for 8, 63 for 16, 191 for 32)
+    public static int comparators(int n) {
+        return NETWORKS[n].length / 2;
+    }
+
+    // Batcher's odd-even merge sort network for n = 2^k inputs, as (i, j) pairs
+    private static int[] batcher(int n) {
+        int[] pairs = new int[n * n];
+        int length = 0;
+        for (int p = 1; p < n; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j + k < n; j += 2 * k) {
+                    for (int i = 0; i < k && i + j + k < n; i++) {
+                        // Only compare within the same 2p-sized block being merged
+                        if ((i + j) / (2 * p) == (i + j + k) / (2 * p)) {
+                            pairs[length++] = i + j;
+                            pairs[length++] = i + j + k;
+                        }
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(pairs, length);
+    }
+}
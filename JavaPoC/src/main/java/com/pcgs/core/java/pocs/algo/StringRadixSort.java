@@ -0,0 +1,337 @@
+package com.pcgs.core.java.pocs.algo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class StringRadixSort {
+
+    // Buckets at or below this size switch to multikey quicksort
+    static final int MULTIKEY_CUTOFF = 256;
+
+    // Ranges at or below this size are finished with insertion sort
+    static final int INSERTION_SORT_THRESHOLD = 12;
+
+    // Buckets at least this large are sorted as separate fork/join tasks
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    // ========================================
+    // MSD RADIX SORT (Most Significant Digit first)
+    // ========================================
+    // Looks at character d only for keys that still tie on characters 0..d-1,
+    // so each key is read no further than needed to tell it apart from its
+    // neighbours. Digits are full UTF-16 chars (compared as unsigned 16-bit
+    // values, exactly like String.compareTo); the count array of every pass is
+    // sized to the span of chars actually present, so ASCII buckets stay small.
+
+    public static void sort(String[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        new MsdTask(arr, new String[arr.length], new int[arr.length], 0, arr.length, 0, false).compute();
+    }
+
+    // Same sort, but every bucket of PARALLEL_THRESHOLD keys or more is handed to
+    // the common pool, starting with the top-level (first character) buckets
+    public static void parallelSort(String[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        ForkJoinPool.commonPool().invoke(
+                new MsdTask(arr, new String[arr.length], new int[arr.length], 0, arr.length, 0, true));
+    }
+
+    // One task sorts arr[lo..hi) knowing every key there shares its first d chars.
+    // aux and digits are shared by all tasks; each task only uses its own slice.
+    @SuppressWarnings("serial")
+    private static class MsdTask extends RecursiveAction {
+        private final String[] arr;
+        private final String[] aux;
+        private final int[] digits;
+        private final int lo;
+        private final int hi;
+        private final int depth;
+        private final boolean parallel;
+
+        MsdTask(String[] arr, String[] aux, int[] digits, int lo, int hi, int depth, boolean parallel) {
+            this.arr = arr;
+            this.aux = aux;
+            this.digits = digits;
+            this.lo = lo;
+            this.hi = hi;
+            this.depth = depth;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected void compute() {
+            List<MsdTask> forks = null;
+            int d = depth;
+
+            while (true) {
+                if (hi - lo <= MULTIKEY_CUTOFF) {
+                    multikeyQuickSort(arr, lo, hi, d);
+                    break;
+                }
+
+                // Read char d of every key once, noting the span of real chars
+                int min = Character.MAX_VALUE;
+                int max = -1;
+                int ended = 0;
+                for (int i = lo; i < hi; i++) {
+                    int c = charAt(arr[i], d);
+                    digits[i] = c;
+                    if (c < 0) {
+                        ended++;
+                    } else {
+                        if (c < min) min = c;
+                        if (c > max) max = c;
+                    }
+                }
+
+                // Every key ended here, so they are all equal
+                if (max < 0) {
+                    break;
+                }
+
+                // Shared prefix (e.g. "https://"): nothing to distribute, move on a char
+                if (ended == 0 && min == max) {
+                    d++;
+                    continue;
+                }
+
+                // Sparse wide chars would need a huge, mostly empty count array
+                int span = max - min + 1;
+                if (span > hi - lo) {
+                    multikeyQuickSort(arr, lo, hi, d);
+                    break;
+                }
+
+                // Bucket 0 holds the keys that end at d, bucket c - min + 1 holds char c
+                int[] count = new int[span + 2];
+                for (int i = lo; i < hi; i++) {
+                    int c = digits[i];
+                    if (c >= 0) {
+                        count[c - min + 2]++;
+                    }
+                }
+                count[1] = ended;
+                for (int b = 1; b < count.length; b++) {
+                    count[b] += count[b - 1];
+                }
+                // count[b] is now the start of bucket b
+                for (int i = lo; i < hi; i++) {
+                    int c = digits[i];
+                    aux[lo + count[c < 0 ? 0 : c - min + 1]++] = arr[i];
+                }
+                System.arraycopy(aux, lo, arr, lo, hi - lo);
+
+                // count[b] is now the end of bucket b; bucket 0 (ended keys) is done
+                for (int b = 1; b <= span; b++) {
+                    int from = lo + count[b - 1];
+                    int to = lo + count[b];
+                    if (to - from <= 1) {
+                        continue;
+                    }
+                    MsdTask child = new MsdTask(arr, aux, digits, from, to, d + 1, parallel);
+                    if (parallel && to - from >= PARALLEL_THRESHOLD) {
+                        if (forks == null) {
+                            forks = new ArrayList<>();
+                        }
+                        forks.add(child);
+                        child.fork();
+                    } else {
+                        child.compute();
+                    }
+                }
+                break;
+            }
+
+            if (forks != null) {
+                for (MsdTask fork : forks) {
+                    fork.join();
+                }
+            }
+        }
+    }
+
+    // ========================================
+    // MULTIKEY QUICKSORT (Bentley-Sedgewick)
+    // ========================================
+    // Three-way partition on char d: smaller and larger keys stay at depth d,
+    // keys equal on char d move on to d + 1.
+
+    private static void multikeyQuickSort(String[] arr, int lo, int hi, int d) {
+        while (hi - lo > INSERTION_SORT_THRESHOLD) {
+            int mid = (lo + hi) >>> 1;
+            int pivot = medianOfThree(charAt(arr[lo], d), charAt(arr[mid], d), charAt(arr[hi - 1], d));
+
+            int lt = lo;
+            int gt = hi - 1;
+            int i = lo;
+            while (i <= gt) {
+                int c = charAt(arr[i], d);
+                if (c < pivot) {
+                    swap(arr, lt++, i++);
+                } else if (c > pivot) {
+                    swap(arr, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // arr[lo..lt) < pivot, arr[lt..gt] == pivot, arr(gt..hi) > pivot
+            multikeyQuickSort(arr, lo, lt, d);
+            multikeyQuickSort(arr, gt + 1, hi, d);
+
+            // Keys that already ended at d are equal - nothing left to sort
+            if (pivot < 0) {
+                return;
+            }
+            lo = lt;
+            hi = gt + 1;
+            d++;
+        }
+        insertionSort(arr, lo, hi, d);
+    }
+
+    // Every key in arr[lo..hi) shares its first d chars, so comparisons start at d
+    private static void insertionSort(String[] arr, int lo, int hi, int d) {
+        for (int i = lo + 1; i < hi; i++) {
+            String key = arr[i];
+            int j = i - 1;
+            while (j >= lo && compareFrom(arr[j], key, d) > 0) {
+                arr[j + 1] = arr[j];
+                j--;
+            }
+            arr[j + 1] = key;
+        }
+    }
+
+    private static int compareFrom(String a, String b, int d) {
+        int limit = Math.min(a.length(), b.length());
+        for (int i = d; i < limit; i++) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(i);
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    // ========================================
+    // HELPER METHODS
+    // ========================================
+
+    // Char d as 0..65535, or -1 past the end so shorter keys sort first
+    private static int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    private static int medianOfThree(int a, int b, int c) {
+        if (a < b) {
+            if (b < c) return b;
+            return a < c ? c : a;
+        }
+        if (a < c) return a;
+        return b < c ? c : b;
+    }
+
+    private static void swap(String[] arr, int i, int j) {
+        String temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+
+    // URL-like keys: a few shared schemes and hosts, then paths of very different lengths
+    private static String[] generateUrls(int size, Random random) {
+        String[] hosts = {"https://www.pcgs.com/", "https://api.pcgs.com/v2/", "http://cdn.example.org/",
+                "https://www.pcgs.com/coinfacts/", "ftp://files.example.net/"};
+        String[] words = {"coin", "grade", "cert", "population", "price", "auction", "search",
+                "détail", "日本", "ßtraße", "id", "q"};
+        String[] urls = new String[size];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.setLength(0);
+            sb.append(hosts[random.nextInt(hosts.length)]);
+            int segments = random.nextInt(6);
+            for (int s = 0; s < segments; s++) {
+                sb.append(words[random.nextInt(words.length)]).append('/');
+            }
+            if (random.nextBoolean()) {
+                sb.append("?id=").append(random.nextInt(1_000_000));
+            }
+            urls[i] = sb.toString();
+        }
+        return urls;
+    }
+
+    // ========================================
+    // PERFORMANCE COMPARISON
+    // ========================================
+
+    public static void performanceComparison(int[] sizes) {
+        System.out.println("\n═══════════════════════════════════════════════════");
+        System.out.println("      PERFORMANCE COMPARISON (URL-like keys)");
+        System.out.println("═══════════════════════════════════════════════════\n");
+
+        Random random = new Random(42);
+        for (int size : sizes) {
+            String[] urls = generateUrls(size, random);
+
+            System.out.printf("Array size: %,d keys%n", size);
+            System.out.println("───────────────────────────────────────────────────");
+            System.out.printf("  MSD radix sort:          %8.2f ms%n", time(() -> sort(urls.clone())));
+            System.out.printf("  MSD radix sort parallel: %8.2f ms%n", time(() -> parallelSort(urls.clone())));
+            System.out.printf("  Arrays.sort:             %8.2f ms%n", time(() -> Arrays.sort(urls.clone())));
+            System.out.printf("  Arrays.parallelSort:     %8.2f ms%n", time(() -> Arrays.parallelSort(urls.clone())));
+            System.out.println();
+        }
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable sort) {
+        sort.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            sort.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // MAIN METHOD WITH EXAMPLES
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("═══════════════════════════════════════════════════");
+        System.out.println("      MSD RADIX SORT FOR STRINGS");
+        System.out.println("═══════════════════════════════════════════════════\n");
+
+        // Example 1: Mixed lengths, shared prefixes and non-ASCII keys
+        String[] words = {"she", "sells", "seashells", "by", "the", "sea", "shore",
+                "the", "shells", "", "señor", "Zoë", "日本", "sea"};
+        System.out.println("Original: " + Arrays.toString(words));
+        sort(words);
+        System.out.println("Sorted:   " + Arrays.toString(words));
+
+        // Example 2: URL-like keys, checked against Arrays.sort
+        String[] urls = generateUrls(100_000, new Random(7));
+        String[] expected = urls.clone();
+        Arrays.sort(expected);
+        parallelSort(urls);
+        System.out.println("\n100,000 URLs match Arrays.sort: " + Arrays.equals(urls, expected));
+
+        // Pass sizes (e.g. 10000000) to benchmark larger arrays
+        int[] sizes = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[]{100_000, 1_000_000};
+        performanceComparison(sizes);
+    }
+}
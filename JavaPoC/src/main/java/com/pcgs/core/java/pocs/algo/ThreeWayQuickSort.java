@@ -0,0 +1,55 @@
+package com.pcgs.core.java.pocs.algo;
+
+// ========================================
+// Three-Way Quick Sort (for many duplicates)
+// ========================================
+class ThreeWayQuickSort {
+
+    public static void sort(int[] arr) {
+        if (arr == null || arr.length <= 1) {
+            return;
+        }
+        sort(arr, 0, arr.length - 1, new int[2]);
+    }
+
+    private static void sort(int[] arr, int low, int high, int[] bounds) {
+        if (low >= high) {
+            return;
+        }
+
+        partition(arr, low, high, arr[low], bounds);
+        int lt = bounds[0];
+        int gt = bounds[1];
+
+        // arr[low..lt-1] < pivot = arr[lt..gt] < arr[gt+1..high]
+        sort(arr, low, lt - 1, bounds);
+        sort(arr, gt + 1, high, bounds);
+    }
+
+    // Dutch national flag partition of arr[low..high] around pivot.
+    // On return bounds[0] = lt and bounds[1] = gt, where arr[lt..gt] == pivot.
+    static void partition(int[] arr, int low, int high, int pivot, int[] bounds) {
+        int lt = low;      // arr[low..lt-1] < pivot
+        int gt = high;     // arr[gt+1..high] > pivot
+        int i = low;       // arr[lt..i-1] == pivot
+
+        while (i <= gt) {
+            if (arr[i] < pivot) {
+                swap(arr, lt++, i++);
+            } else if (arr[i] > pivot) {
+                swap(arr, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        bounds[0] = lt;
+        bounds[1] = gt;
+    }
+
+    private static void swap(int[] arr, int i, int j) {
+        int temp = arr[i];
+        arr[i] = arr[j];
+        arr[j] = temp;
+    }
+}
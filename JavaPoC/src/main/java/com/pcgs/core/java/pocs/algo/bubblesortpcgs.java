@@ -5,6 +5,16 @@ public class bubblesortpcgs {
 
         int[] intArray = { 1, 35, -1,5, 7, 55, 1, -0,-9 };
 
+        bubbleSort(intArray);
+
+        for (int i = 0; i < intArray.length; i++) {
+            System.out.println(intArray[i]);
+        }
+
+
+    }
+
+    public static void bubbleSort(int[] intArray) {
         for (int lastUnsortedIndex = intArray.length - 1; lastUnsortedIndex > 0;
              lastUnsortedIndex--) {
             for (int i = 0; i < lastUnsortedIndex; i++) {
@@ -13,12 +23,6 @@ public class bubblesortpcgs {
                 }
             }
         }
-
-        for (int i = 0; i < intArray.length; i++) {
-            System.out.println(intArray[i]);
-        }
-
-
     }
 
     public static void swap(int[] array, int i, int j) {
@@ -5,6 +5,15 @@ public class insertionsortpcgs {
 
         int[] intArray = { 20, 35, -15, 7, 55, 1, -22 };
 
+        insertionSort(intArray);
+
+        for (int i = 0; i < intArray.length; i++) {
+            System.out.println(intArray[i]);
+        }
+
+    }
+
+    public static void insertionSort(int[] intArray) {
         for (int firstUnsortedIndex = 1; firstUnsortedIndex < intArray.length;
              firstUnsortedIndex++) {
             int newElement = intArray[firstUnsortedIndex];
@@ -17,11 +26,6 @@ public class insertionsortpcgs {
 
             intArray[i] = newElement;
         }
-
-        for (int i = 0; i < intArray.length; i++) {
-            System.out.println(intArray[i]);
-        }
-
     }
 
 }
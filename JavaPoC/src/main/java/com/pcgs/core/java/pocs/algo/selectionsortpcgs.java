@@ -6,6 +6,17 @@ public class selectionsortpcgs {
 
         int[] intArray = { -101, -1, 20, 35, -15, 7, 55, 1, -22 };
 
+        selectionSort(intArray);
+
+
+        for (int i = 0; i < intArray.length; i++) {
+            System.out.println(intArray[i]);
+        }
+
+
+    }
+
+    public static void selectionSort(int[] intArray) {
         for (int lastUnsortedIndex = intArray.length - 1; lastUnsortedIndex > 0;
              lastUnsortedIndex--) {
 
@@ -20,13 +31,6 @@ public class selectionsortpcgs {
             swap(intArray, largest, lastUnsortedIndex);
 
         }
-
-
-        for (int i = 0; i < intArray.length; i++) {
-            System.out.println(intArray[i]);
-        }
-
-
     }
 
     public static void swap(int[] array, int i, int j) {
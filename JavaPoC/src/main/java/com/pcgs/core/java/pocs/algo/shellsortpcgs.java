@@ -5,6 +5,14 @@ public class shellsortpcgs {
 
         int[] intArray = { 20, 35, -15, 7, 55, 1, -22 };
 
+        shellSort(intArray);
+
+        for (int i = 0; i < intArray.length; i++) {
+            System.out.println(intArray[i]);
+        }
+    }
+
+    public static void shellSort(int[] intArray) {
         for (int gap = intArray.length / 2; gap > 0; gap /= 2) {
 
 
@@ -24,9 +32,5 @@ public class shellsortpcgs {
             }
 
         }
-
-        for (int i = 0; i < intArray.length; i++) {
-            System.out.println(intArray[i]);
-        }
     }
 }
@@ -0,0 +1,137 @@
+package com.pcgs.core.java.pocs.collections.queue;
+
+import java.util.function.Consumer;
+
+// Ring buffer for any number of producer threads and one consumer thread;
+// see RingBuffer. Producers claim slots by CAS on tail and then publish each
+// one by storing its element with release semantics, so a slot stays null
+// between its claim and its publication. The consumer reads slots, not tail:
+// a null slot below tail belongs to a producer that has claimed it and not
+// written it yet, and poll waits the few nanoseconds that takes rather than
+// returning elements out of order.
+//
+// headCache is shared by the producers. It only lets them skip reading head
+// while the queue is clearly not full, so a stale value is harmless. It is
+// still read with acquire and written with release: a producer that trusts
+// a value another producer refreshed must also see the consumer's nulling
+// of the slots below it, or that null could land after its own element.
+public final class MpscRingBuffer<E> extends RingBuffer<E> {
+
+    public MpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public MpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public boolean offer(E element) {
+        checkNotNull(element);
+        long index;
+        do {
+            index = (long) TAIL.getVolatile(this);
+            if (!hasRoom(index, 1)) {
+                return false;
+            }
+        } while (!TAIL.compareAndSet(this, index, index + 1));
+        SLOT.setRelease(buffer, (int) index & mask, element);
+        return true;
+    }
+
+    // Whether count slots from index are free, rereading head if the cached
+    // copy says they are not
+    private boolean hasRoom(long index, int count) {
+        long limit = (long) HEAD_CACHE.getAcquire(this) + buffer.length;
+        if (index + count <= limit) {
+            return true;
+        }
+        long head = (long) HEAD.getAcquire(this);
+        HEAD_CACHE.setRelease(this, head);
+        return index + count <= head + buffer.length;
+    }
+
+    @Override
+    public E poll() {
+        return take(true);
+    }
+
+    @Override
+    public E peek() {
+        return take(false);
+    }
+
+    // The element at head, waiting for it if it is claimed but unpublished
+    @SuppressWarnings("unchecked")
+    private E take(boolean remove) {
+        long index = head;
+        int slot = (int) index & mask;
+        Object element = SLOT.getAcquire(buffer, slot);
+        if (element == null) {
+            if (index == (long) TAIL.getAcquire(this)) {
+                return null;
+            }
+            do {
+                Thread.onSpinWait();
+                element = SLOT.getAcquire(buffer, slot);
+            } while (element == null);
+        }
+        if (remove) {
+            buffer[slot] = null;
+            HEAD.setRelease(this, index + 1);
+        }
+        return (E) element;
+    }
+
+    // Claims all the slots it offers with one CAS
+    @Override
+    public int offerBatch(E[] elements, int from, int count) {
+        for (int i = 0; i < count; i++) {
+            checkNotNull(elements[from + i]);
+        }
+        long index;
+        int n;
+        do {
+            index = (long) TAIL.getVolatile(this);
+            long head = (long) HEAD_CACHE.getAcquire(this);
+            if (index + count > head + buffer.length) {
+                head = (long) HEAD.getAcquire(this);
+                HEAD_CACHE.setRelease(this, head);
+            }
+            n = (int) Math.min(count, head + buffer.length - index);
+            if (n <= 0) {
+                return 0;
+            }
+        } while (!TAIL.compareAndSet(this, index, index + n));
+        for (int i = 0; i < n; i++) {
+            SLOT.setRelease(buffer, (int) (index + i) & mask, elements[from + i]);
+        }
+        return n;
+    }
+
+    // Stops at the first slot not yet published, rather than waiting for it
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long index = head;
+        int taken = 0;
+        try {
+            while (taken < limit) {
+                int slot = (int) (index + taken) & mask;
+                Object element = SLOT.getAcquire(buffer, slot);
+                if (element == null) {
+                    break;
+                }
+                buffer[slot] = null;
+                taken++;
+                consumer.accept((E) element);
+            }
+        } finally {
+            // Frees what was taken even if consumer throws
+            if (taken > 0) {
+                HEAD.setRelease(this, index + taken);
+            }
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,378 @@
+package com.pcgs.core.java.pocs.collections.queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+// ========================================
+// Ring Buffers
+// ========================================
+// Shared part of SpscRingBuffer and MpscRingBuffer: bounded queues between
+// threads with no locks, for handing events from producers to one consumer.
+// Like ArrayQueue they are a circular array, with three changes:
+//   - The capacity is rounded up to a power of two, so a slot is
+//     index & mask instead of index % capacity.
+//   - head and tail are counters that only grow, not positions; the slot
+//     comes from masking, full is tail - head == capacity, and no size field
+//     has to be kept in step by both sides.
+//   - The consumer's head and the producers' tail sit on different cache
+//     lines. Each side writes only its own counter, so without the padding
+//     every write would invalidate the line the other side is reading.
+// Each side also caches the other's counter and rereads it only when the
+// cached value says full (or empty), so most operations touch no line the
+// other side writes.
+//
+// ArrayQueue's enqueue and dequeue throw when full or empty; offer and poll
+// return false and null instead; put and take wait, idling with the queue's
+// WaitStrategy. offerBatch and drain move many elements per counter update.
+// Nulls are not allowed: an empty slot is how a consumer sees that it has
+// not been written yet.
+public abstract class RingBuffer<E> extends RingBufferPad2 {
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    static final VarHandle HEAD;
+    static final VarHandle TAIL;
+    static final VarHandle HEAD_CACHE;
+    static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(RingBufferHead.class, "head", long.class);
+            TAIL = lookup.findVarHandle(RingBufferTail.class, "tail", long.class);
+            HEAD_CACHE = lookup.findVarHandle(RingBufferTail.class, "headCache", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final Object[] buffer;
+    final int mask;
+    final WaitStrategy waitStrategy;
+
+    RingBuffer(int capacity, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be in [1, " + MAX_CAPACITY + "]: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        buffer = new Object[size];
+        mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    // Adds element unless the queue is full; returns whether it did
+    public abstract boolean offer(E element);
+
+    // Removes the oldest element, or returns null if there is none; consumer only
+    public abstract E poll();
+
+    // Oldest element without removing it, or null; consumer only
+    public abstract E peek();
+
+    // Adds up to count of elements[from..], as many as fit; returns how many
+    public abstract int offerBatch(E[] elements, int from, int count);
+
+    // Removes up to limit elements, oldest first, and hands each to consumer;
+    // returns how many. Consumer only.
+    public abstract int drain(Consumer<? super E> consumer, int limit);
+
+    public void enqueue(E element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    public E dequeue() {
+        E element = poll();
+        if (element == null) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        return element;
+    }
+
+    // Adds element, waiting while the queue is full
+    public void put(E element) throws InterruptedException {
+        for (int attempt = 0; !offer(element); attempt++) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt);
+        }
+    }
+
+    // Removes the oldest element, waiting while the queue is empty; consumer only
+    public E take() throws InterruptedException {
+        E element;
+        for (int attempt = 0; (element = poll()) == null; attempt++) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(attempt);
+        }
+        return element;
+    }
+
+    // Elements in the queue; a snapshot while other threads change it
+    public int size() {
+        while (true) {
+            long head = (long) HEAD.getVolatile(this);
+            long tail = (long) TAIL.getVolatile(this);
+            if (head == (long) HEAD.getVolatile(this)) {
+                // head and tail are read at different moments, so the pair is not
+                // an atomic snapshot; the clamp keeps such a reading in [0, capacity]
+                return (int) Math.max(0, Math.min(tail - head, buffer.length));
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean isFull() {
+        return size() == buffer.length;
+    }
+
+    // The capacity asked for, rounded up to a power of two
+    public int capacity() {
+        return buffer.length;
+    }
+
+    static void checkNotNull(Object element) {
+        if (element == null) {
+            throw new NullPointerException("Ring buffers do not hold null");
+        }
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    // One side of a transfer: sends or receives count messages
+    private interface Transfer {
+        void run(int count) throws InterruptedException;
+    }
+
+    public static void performanceComparison(int messages) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("   %,d MESSAGES, M msgs/s%n", messages);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int capacity = 1024;
+        int batch = 64;
+        Integer[] payload = new Integer[batch];
+        for (int i = 0; i < batch; i++) {
+            payload[i] = i;
+        }
+        // Spinning only pays off when producer and consumer have a core each
+        boolean multicore = Runtime.getRuntime().availableProcessors() > 1;
+
+        System.out.println("1 producer, 1 consumer:");
+        ArrayBlockingQueue<Integer> blocking = new ArrayBlockingQueue<>(capacity);
+        report("ArrayBlockingQueue put/take", messages, 1, count -> {
+            for (int i = 0; i < count; i++) {
+                blocking.put(payload[i & (batch - 1)]);
+            }
+        }, count -> {
+            for (int i = 0; i < count; i++) {
+                blocking.take();
+            }
+        });
+        for (WaitStrategy wait : multicore
+                ? new WaitStrategy[]{WaitStrategy.SPIN, WaitStrategy.YIELD, WaitStrategy.PARK}
+                : new WaitStrategy[]{WaitStrategy.YIELD, WaitStrategy.PARK}) {
+            SpscRingBuffer<Integer> spsc = new SpscRingBuffer<>(capacity, wait);
+            report("SpscRingBuffer put/take, " + name(wait), messages, 1,
+                    count -> putAll(spsc, payload, count), count -> takeAll(spsc, count));
+        }
+        SpscRingBuffer<Integer> spscBatch = new SpscRingBuffer<>(capacity, WaitStrategy.YIELD);
+        report("SpscRingBuffer batches of " + batch, messages, 1,
+                count -> offerAll(spscBatch, payload, count), count -> drainAll(spscBatch, count));
+
+        System.out.println("3 producers, 1 consumer:");
+        report("ArrayBlockingQueue put/take", messages, 3, count -> {
+            for (int i = 0; i < count; i++) {
+                blocking.put(payload[i & (batch - 1)]);
+            }
+        }, count -> {
+            for (int i = 0; i < count; i++) {
+                blocking.take();
+            }
+        });
+        MpscRingBuffer<Integer> mpsc = new MpscRingBuffer<>(capacity, WaitStrategy.YIELD);
+        report("MpscRingBuffer put/take", messages, 3,
+                count -> putAll(mpsc, payload, count), count -> takeAll(mpsc, count));
+        MpscRingBuffer<Integer> mpscBatch = new MpscRingBuffer<>(capacity, WaitStrategy.YIELD);
+        report("MpscRingBuffer batches of " + batch, messages, 3,
+                count -> offerAll(mpscBatch, payload, count), count -> drainAll(mpscBatch, count));
+    }
+
+    private static String name(WaitStrategy wait) {
+        return wait == WaitStrategy.SPIN ? "spin" : wait == WaitStrategy.YIELD ? "yield" : "park";
+    }
+
+    private static void putAll(RingBuffer<Integer> queue, Integer[] payload, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            queue.put(payload[i & (payload.length - 1)]);
+        }
+    }
+
+    private static void takeAll(RingBuffer<Integer> queue, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            queue.take();
+        }
+    }
+
+    private static void offerAll(RingBuffer<Integer> queue, Integer[] payload, int count) {
+        int attempt = 0;
+        for (int sent = 0; sent < count; ) {
+            int offered = queue.offerBatch(payload, 0, Math.min(payload.length, count - sent));
+            sent += offered;
+            attempt = offered > 0 ? 0 : attempt + 1;
+            if (offered == 0) {
+                queue.waitStrategy.idle(attempt);
+            }
+        }
+    }
+
+    private static void drainAll(RingBuffer<Integer> queue, int count) {
+        int attempt = 0;
+        for (int received = 0; received < count; ) {
+            int drained = queue.drain(value -> { }, count - received);
+            received += drained;
+            attempt = drained > 0 ? 0 : attempt + 1;
+            if (drained == 0) {
+                queue.waitStrategy.idle(attempt);
+            }
+        }
+    }
+
+    // Best of a few runs, after one warmup run
+    private static void report(String label, int messages, int producers, Transfer send, Transfer receive) {
+        int perProducer = messages / producers;
+        transfer(producers, perProducer, send, receive);
+        double best = 0;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            transfer(producers, perProducer, send, receive);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            best = Math.max(best, (double) producers * perProducer / seconds / 1e6);
+        }
+        System.out.printf("  %-36s %7.2f%n", label + ":", best);
+    }
+
+    private static void transfer(int producers, int perProducer, Transfer send, Transfer receive) {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                try {
+                    start.await();
+                    send.run(perProducer);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[p].start();
+        }
+        start.countDown();
+        try {
+            receive.run(producers * perProducer);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== SpscRingBuffer (ArrayQueue API) ===\n");
+        SpscRingBuffer<Integer> queue = new SpscRingBuffer<>(5, WaitStrategy.YIELD);
+        System.out.println("Asked for 5, capacity " + queue.capacity());
+        queue.enqueue(10);
+        queue.enqueue(20);
+        queue.enqueue(30);
+        System.out.println("Dequeued: " + queue.dequeue() + ", front: " + queue.peek() + ", size " + queue.size());
+
+        System.out.println("\n=== MpscRingBuffer: 3 producers, 1 consumer ===\n");
+        MpscRingBuffer<String> events = new MpscRingBuffer<>(16, WaitStrategy.PARK);
+        Thread[] producers = new Thread[3];
+        for (int p = 0; p < producers.length; p++) {
+            String name = "producer-" + p;
+            producers[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 100; i++) {
+                        events.put(name + ":" + i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producers[p].start();
+        }
+        int received = 0;
+        for (int attempt = 0; received < 300; ) {
+            int drained = events.drain(event -> { }, 32);
+            received += drained;
+            attempt = drained > 0 ? 0 : attempt + 1;
+            events.waitStrategy.idle(attempt);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        System.out.println("Received " + received + " events; queue empty: " + events.isEmpty());
+
+        int messages = args.length > 0 ? Integer.parseInt(args[0]) : 3_000_000;
+        performanceComparison(messages);
+    }
+}
+
+// ========================================
+// Padding
+// ========================================
+// HotSpot lays out a superclass's fields before its subclass's, so this
+// chain puts 64 bytes of unused longs around each counter group. Fields of
+// one class may be reordered, which is why each group is its own class.
+
+abstract class RingBufferPad0 {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+// Written by the consumer only
+abstract class RingBufferHead extends RingBufferPad0 {
+    // Index of the next element to take; read and written through RingBuffer.HEAD
+    long head;
+    // The consumer's copy of tail
+    long tailCache;
+}
+
+abstract class RingBufferPad1 extends RingBufferHead {
+    long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+// Written by the producers only
+abstract class RingBufferTail extends RingBufferPad1 {
+    // Index of the next slot to fill; read and written through RingBuffer.TAIL
+    long tail;
+    // The producers' copy of head
+    long headCache;
+}
+
+abstract class RingBufferPad2 extends RingBufferTail {
+    long p20, p21, p22, p23, p24, p25, p26, p27;
+}
@@ -0,0 +1,118 @@
+package com.pcgs.core.java.pocs.collections.queue;
+
+import java.util.function.Consumer;
+
+// Ring buffer for exactly one producer thread and one consumer thread; see
+// RingBuffer. Each counter has a single writer, so neither side needs a CAS:
+// the producer fills slots with plain writes and publishes them by storing
+// tail with release semantics, and the consumer reads tail with acquire
+// semantics before reading the slots below it. head works the same way in
+// the other direction, so the producer never overwrites a slot still being
+// read. A batch costs one counter update however many elements it moves.
+public final class SpscRingBuffer<E> extends RingBuffer<E> {
+
+    public SpscRingBuffer(int capacity) {
+        this(capacity, WaitStrategy.YIELD);
+    }
+
+    public SpscRingBuffer(int capacity, WaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    // Producer only
+    @Override
+    public boolean offer(E element) {
+        checkNotNull(element);
+        long index = tail;
+        if (index - headCache == buffer.length) {
+            headCache = (long) HEAD.getAcquire(this);
+            if (index - headCache == buffer.length) {
+                return false;
+            }
+        }
+        buffer[(int) index & mask] = element;
+        TAIL.setRelease(this, index + 1);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long index = head;
+        if (index == tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (index == tailCache) {
+                return null;
+            }
+        }
+        int slot = (int) index & mask;
+        E element = (E) buffer[slot];
+        buffer[slot] = null;
+        HEAD.setRelease(this, index + 1);
+        return element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long index = head;
+        if (index == tailCache) {
+            tailCache = (long) TAIL.getAcquire(this);
+            if (index == tailCache) {
+                return null;
+            }
+        }
+        return (E) buffer[(int) index & mask];
+    }
+
+    // Producer only
+    @Override
+    public int offerBatch(E[] elements, int from, int count) {
+        // All checked first, so a null never leaves part of a batch in the slots
+        for (int i = 0; i < count; i++) {
+            checkNotNull(elements[from + i]);
+        }
+        long index = tail;
+        long free = buffer.length - (index - headCache);
+        if (free < count) {
+            headCache = (long) HEAD.getAcquire(this);
+            free = buffer.length - (index - headCache);
+        }
+        int n = (int) Math.min(count, free);
+        for (int i = 0; i < n; i++) {
+            buffer[(int) (index + i) & mask] = elements[from + i];
+        }
+        if (n > 0) {
+            TAIL.setRelease(this, index + n);
+        }
+        return n;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int drain(Consumer<? super E> consumer, int limit) {
+        long index = head;
+        long available = tailCache - index;
+        if (available < limit) {
+            tailCache = (long) TAIL.getAcquire(this);
+            available = tailCache - index;
+        }
+        int n = (int) Math.min(limit, available);
+        int taken = 0;
+        try {
+            while (taken < n) {
+                int slot = (int) (index + taken) & mask;
+                E element = (E) buffer[slot];
+                buffer[slot] = null;
+                taken++;
+                consumer.accept(element);
+            }
+        } finally {
+            // Frees what was taken even if consumer throws
+            if (taken > 0) {
+                HEAD.setRelease(this, index + taken);
+            }
+        }
+        return n;
+    }
+}
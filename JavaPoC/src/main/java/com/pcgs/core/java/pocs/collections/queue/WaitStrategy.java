@@ -0,0 +1,52 @@
+package com.pcgs.core.java.pocs.collections.queue;
+
+import java.util.concurrent.locks.LockSupport;
+
+// What a ring buffer thread does while it waits in put or take: the queue
+// is full or empty and the other side has not moved yet. idle is called
+// with attempt = 0, 1, 2, ... for as long as the wait lasts.
+//
+// The trade is latency against CPU:
+//   SPIN  - busy-spin; reacts within nanoseconds, burns a core, and only
+//           makes sense with a core per thread
+//   YIELD - spin briefly, then give the core to other threads
+//   PARK  - spin, yield, then sleep in growing steps up to MAX_PARK_NANOS;
+//           nearly free while idle, up to that long to wake up
+// Nothing signals a waiting thread; each strategy just polls again after
+// idling, so producers never pay for waking a consumer.
+@FunctionalInterface
+public interface WaitStrategy {
+
+    // Attempts spent spinning before YIELD and PARK back off
+    int SPINS = 100;
+
+    // Attempts spent yielding before PARK starts sleeping
+    int YIELDS = 10;
+
+    long MIN_PARK_NANOS = 1_000;
+
+    long MAX_PARK_NANOS = 1_000_000;
+
+    void idle(int attempt);
+
+    WaitStrategy SPIN = attempt -> Thread.onSpinWait();
+
+    WaitStrategy YIELD = attempt -> {
+        if (attempt < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            Thread.yield();
+        }
+    };
+
+    WaitStrategy PARK = attempt -> {
+        if (attempt < SPINS) {
+            Thread.onSpinWait();
+        } else if (attempt < SPINS + YIELDS) {
+            Thread.yield();
+        } else {
+            int doublings = Math.min(attempt - SPINS - YIELDS, 10);
+            LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << doublings, MAX_PARK_NANOS));
+        }
+    };
+}
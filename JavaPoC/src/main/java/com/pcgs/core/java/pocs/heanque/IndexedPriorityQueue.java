@@ -0,0 +1,416 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+// ========================================
+// Indexed Priority Queue
+// ========================================
+// Priority queue of elements keyed by an int id, for work that changes
+// priority while queued. java.util.PriorityQueue can only reprioritize by
+// remove(Object), a linear scan, and a re-offer; here the queue keeps the
+// heap slot of every id, so update, remove and contains by id are O(log n),
+// O(log n) and O(1).
+//
+// Ids index plain arrays, so they should be dense: task numbers handed out
+// by a counter, not hash codes. Memory is O(largest id), not O(size).
+//
+// Same layout as IntHeap: a 4-ary heap whose slots hold the id and the
+// priority side by side, so sifting compares priorities without following
+// the id to its element. Priorities are longs; a max-first queue stores them
+// complemented. Equal priorities leave in no particular order.
+//
+// See IndexedRadixHeap for priorities that never go below the last one
+// polled. Not thread-safe.
+public final class IndexedPriorityQueue<E> {
+
+    static final int ARITY = PrimitiveHeap.DEFAULT_ARITY;
+
+    private final boolean maxFirst;
+    private int size;
+
+    // By heap slot: the id there and its priority as stored
+    private int[] ids;
+    private long[] priorities;
+
+    // By id: its heap slot (-1 when not queued) and its element
+    private int[] slotOf;
+    private Object[] elements;
+
+    // Smallest priority first
+    public IndexedPriorityQueue() {
+        this(false);
+    }
+
+    public IndexedPriorityQueue(boolean maxFirst) {
+        this.maxFirst = maxFirst;
+        ids = new int[PrimitiveHeap.DEFAULT_CAPACITY];
+        priorities = new long[PrimitiveHeap.DEFAULT_CAPACITY];
+        slotOf = new int[PrimitiveHeap.DEFAULT_CAPACITY];
+        Arrays.fill(slotOf, -1);
+        elements = new Object[PrimitiveHeap.DEFAULT_CAPACITY];
+    }
+
+    private long encode(long priority) {
+        return maxFirst ? ~priority : priority;
+    }
+
+    private long decode(long stored) {
+        return maxFirst ? ~stored : stored;
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    // Queues element under id, or gives the queued id a new priority and
+    // element. Returns whether id is new.
+    public boolean put(int id, long priority, E element) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative: " + id);
+        }
+        if (contains(id)) {
+            elements[id] = element;
+            moveTo(slotOf[id], encode(priority));
+            return false;
+        }
+        if (id >= slotOf.length) {
+            int capacity = Math.max(id + 1, PrimitiveHeap.grownCapacity(slotOf.length));
+            int old = slotOf.length;
+            slotOf = Arrays.copyOf(slotOf, capacity);
+            Arrays.fill(slotOf, old, capacity, -1);
+            elements = Arrays.copyOf(elements, capacity);
+        }
+        if (size == ids.length) {
+            int capacity = PrimitiveHeap.grownCapacity(ids.length);
+            ids = Arrays.copyOf(ids, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+        }
+        elements[id] = element;
+        siftUp(size++, id, encode(priority));
+        return true;
+    }
+
+    // Gives the queued id a new priority, higher or lower
+    public void update(int id, long priority) {
+        moveTo(slotOfQueued(id), encode(priority));
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < slotOf.length && slotOf[id] >= 0;
+    }
+
+    public long priorityOf(int id) {
+        return decode(priorities[slotOfQueued(id)]);
+    }
+
+    // Element queued under id, or null if id is not queued
+    @SuppressWarnings("unchecked")
+    public E get(int id) {
+        return contains(id) ? (E) elements[id] : null;
+    }
+
+    // Removes id from the queue; returns its element, or null if it was not queued
+    public E remove(int id) {
+        if (!contains(id)) {
+            return null;
+        }
+        E element = get(id);
+        removeAt(slotOf[id]);
+        return element;
+    }
+
+    // Id with the smallest priority (largest when max-first)
+    public int peekId() {
+        checkNotEmpty();
+        return ids[0];
+    }
+
+    public long peekPriority() {
+        checkNotEmpty();
+        return decode(priorities[0]);
+    }
+
+    public E peek() {
+        return get(peekId());
+    }
+
+    // Removes the first id and returns it
+    public int pollId() {
+        checkNotEmpty();
+        int id = ids[0];
+        removeAt(0);
+        return id;
+    }
+
+    // Removes the first id and returns its element
+    public E poll() {
+        checkNotEmpty();
+        E element = get(ids[0]);
+        removeAt(0);
+        return element;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        for (int slot = 0; slot < size; slot++) {
+            slotOf[ids[slot]] = -1;
+            elements[ids[slot]] = null;
+        }
+        size = 0;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+    }
+
+    private int slotOfQueued(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("Id is not queued: " + id);
+        }
+        return slotOf[id];
+    }
+
+    // ========================================
+    // Sifting
+    // ========================================
+    // Hole technique as in IntHeap: the moving id and priority are written
+    // once, where they stop.
+
+    private void moveTo(int slot, long priority) {
+        if (priority < priorities[slot]) {
+            siftUp(slot, ids[slot], priority);
+        } else {
+            siftDown(slot, ids[slot], priority);
+        }
+    }
+
+    private void removeAt(int slot) {
+        int id = ids[slot];
+        slotOf[id] = -1;
+        elements[id] = null;
+        size--;
+        if (slot < size) {
+            int lastId = ids[size];
+            long last = priorities[size];
+            if (last < priorities[slot]) {
+                siftUp(slot, lastId, last);
+            } else {
+                siftDown(slot, lastId, last);
+            }
+        }
+    }
+
+    private void siftUp(int slot, int id, long priority) {
+        while (slot > 0) {
+            int parent = (slot - 1) / ARITY;
+            long parentPriority = priorities[parent];
+            if (priority >= parentPriority) {
+                break;
+            }
+            priorities[slot] = parentPriority;
+            ids[slot] = ids[parent];
+            slotOf[ids[slot]] = slot;
+            slot = parent;
+        }
+        priorities[slot] = priority;
+        ids[slot] = id;
+        slotOf[id] = slot;
+    }
+
+    private void siftDown(int slot, int id, long priority) {
+        int lastParent = size > 1 ? (size - 2) / ARITY : -1;
+        while (slot <= lastParent) {
+            int first = slot * ARITY + 1;
+            int end = Math.min(first + ARITY, size);
+            int best = first;
+            long bestPriority = priorities[first];
+            for (int child = first + 1; child < end; child++) {
+                if (priorities[child] < bestPriority) {
+                    best = child;
+                    bestPriority = priorities[child];
+                }
+            }
+            if (bestPriority >= priority) {
+                break;
+            }
+            priorities[slot] = bestPriority;
+            ids[slot] = ids[best];
+            slotOf[ids[slot]] = slot;
+            slot = best;
+        }
+        priorities[slot] = priority;
+        ids[slot] = id;
+        slotOf[id] = slot;
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    // Stand-in for a queued task in java.util.PriorityQueue
+    private static final class QueuedTask {
+        final int id;
+        long priority;
+
+        QueuedTask(int id, long priority) {
+            this.id = id;
+            this.priority = priority;
+        }
+    }
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("   REPRIORITIZING %,d QUEUED TASKS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Random random = new Random(42);
+        long[] initial = new long[size];
+        for (int id = 0; id < size; id++) {
+            initial[id] = random.nextInt(1_000_000);
+        }
+        int updates = 1 << 20;
+        int[] targets = new int[updates];
+        long[] newPriorities = new long[updates];
+        for (int i = 0; i < updates; i++) {
+            targets[i] = random.nextInt(size);
+            newPriorities[i] = random.nextInt(1_000_000);
+        }
+        long[] sink = new long[1];
+
+        // PriorityQueue scans for the task on every remove, so it gets fewer updates
+        int queueUpdates = (int) Math.min(updates, 2_000_000_000L / size / 10);
+        System.out.println("Random priority changes:");
+        QueuedTask[] tasks = new QueuedTask[size];
+        PriorityQueue<QueuedTask> queue = new PriorityQueue<>(Comparator.comparingLong((QueuedTask t) -> t.priority));
+        for (int id = 0; id < size; id++) {
+            tasks[id] = new QueuedTask(id, initial[id]);
+            queue.offer(tasks[id]);
+        }
+        report("PriorityQueue remove+offer", queueUpdates, time(() -> {
+            for (int i = 0; i < queueUpdates; i++) {
+                QueuedTask task = tasks[targets[i]];
+                queue.remove(task);
+                task.priority = newPriorities[i];
+                queue.offer(task);
+            }
+            sink[0] += queue.peek().id;
+        }));
+
+        // IntHeap.build hands out handle i to initial[i], so handles are ids
+        IntHeap heap = PrimitiveHeap.builder().trackHandles(true).build(Arrays.stream(initial).mapToInt(p -> (int) p).toArray());
+        report("IntHeap with handles", updates, time(() -> {
+            for (int i = 0; i < updates; i++) {
+                heap.update(targets[i], (int) newPriorities[i]);
+            }
+            sink[0] += heap.peek();
+        }));
+
+        IndexedPriorityQueue<QueuedTask> indexed = new IndexedPriorityQueue<>();
+        for (int id = 0; id < size; id++) {
+            indexed.put(id, initial[id], tasks[id]);
+        }
+        report("IndexedPriorityQueue", updates, time(() -> {
+            for (int i = 0; i < updates; i++) {
+                indexed.update(targets[i], newPriorities[i]);
+            }
+            sink[0] += indexed.peekId();
+        }));
+
+        // A dispatcher clock: each step runs the earliest task, which comes
+        // back later, and pushes another task's deadline back
+        System.out.println("Monotone deadlines (one op: poll, re-queue, postpone another):");
+        IndexedPriorityQueue<QueuedTask> deadlines = new IndexedPriorityQueue<>();
+        IndexedRadixHeap<QueuedTask> radix = new IndexedRadixHeap<>();
+        for (int id = 0; id < size; id++) {
+            deadlines.put(id, initial[id], tasks[id]);
+            radix.put(id, initial[id], tasks[id]);
+        }
+        report("IndexedPriorityQueue", updates, time(() -> {
+            for (int i = 0; i < updates; i++) {
+                long now = deadlines.peekPriority();
+                int due = deadlines.pollId();
+                deadlines.put(due, now + newPriorities[i], tasks[due]);
+                int other = targets[i];
+                deadlines.update(other, Math.max(now, deadlines.priorityOf(other)) + 1_000);
+            }
+            sink[0] += deadlines.peekId();
+        }));
+        report("IndexedRadixHeap", updates, time(() -> {
+            for (int i = 0; i < updates; i++) {
+                long now = radix.peekPriority();
+                int due = radix.pollId();
+                radix.put(due, now + newPriorities[i], tasks[due]);
+                int other = targets[i];
+                radix.update(other, Math.max(now, radix.priorityOf(other)) + 1_000);
+            }
+            sink[0] += radix.peekId();
+        }));
+        System.out.println("(checksum " + sink[0] + ")");
+    }
+
+    private static void report(String label, int operations, double millis) {
+        System.out.printf("  %-27s %8.2f M ops/s%n", label + ":", operations / millis / 1_000);
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable work) {
+        work.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            work.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("=== Dispatcher Queue (highest urgency first) ===\n");
+        IndexedPriorityQueue<String> dispatcher = new IndexedPriorityQueue<>(true);
+        dispatcher.put(1, 3, "Write report");
+        dispatcher.put(2, 10, "Fix critical bug");
+        dispatcher.put(3, 5, "Code review");
+        dispatcher.put(4, 2, "Update documentation");
+        System.out.println("Next: " + dispatcher.peek() + " (urgency " + dispatcher.peekPriority() + ")");
+
+        dispatcher.update(4, 12);
+        System.out.println("Documentation blocks a release, urgency 2 -> 12; next: " + dispatcher.peek());
+        dispatcher.remove(2);
+        System.out.println("Bug fixed elsewhere and withdrawn; contains task 2: " + dispatcher.contains(2));
+        System.out.print("Remaining by urgency:");
+        while (!dispatcher.isEmpty()) {
+            System.out.print(" [" + dispatcher.peekPriority() + "] " + dispatcher.poll());
+        }
+        System.out.println();
+
+        System.out.println("\n=== Deadlines with IndexedRadixHeap ===\n");
+        IndexedRadixHeap<String> timers = new IndexedRadixHeap<>();
+        timers.put(7, 150, "Heartbeat");
+        timers.put(8, 40, "Retry upload");
+        timers.put(9, 90, "Flush metrics");
+        System.out.println("At t=" + timers.peekPriority() + ": " + timers.poll());
+        timers.update(9, 200);
+        System.out.println("Metrics flush postponed to t=" + timers.priorityOf(9));
+        System.out.println("At t=" + timers.peekPriority() + ": " + timers.poll());
+        System.out.println("At t=" + timers.peekPriority() + ": " + timers.poll());
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        performanceComparison(size);
+    }
+}
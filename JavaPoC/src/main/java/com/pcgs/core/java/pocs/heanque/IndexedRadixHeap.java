@@ -0,0 +1,254 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import java.util.Arrays;
+
+// ========================================
+// Indexed Radix Heap
+// ========================================
+// IndexedPriorityQueue for monotone priorities: nothing is queued or moved
+// below last(), the smallest priority most recently peeked or polled, as with
+// deadlines on a clock that only moves forward, or distances in Dijkstra's
+// algorithm. Smallest first.
+//
+// Instead of a heap, ids sit in 65 unordered buckets by the highest bit in
+// which their priority differs from last: bucket 0 holds priorities equal to
+// last, bucket b those that first differ in bit b-1. Put and update are O(1):
+// drop the id in its bucket (after taking it out of the old one). When
+// bucket 0 runs out, the lowest non-empty bucket is scanned for its minimum,
+// which becomes last, and its ids all fall into lower buckets. An id can
+// only fall 64 times, so a poll costs O(log C) amortized, C being the spread
+// of priorities, with no comparisons between queued ids at all.
+//
+// Ids are dense array indexes, as in IndexedPriorityQueue. Not thread-safe.
+public final class IndexedRadixHeap<E> {
+
+    // One bucket per differing bit, plus bucket 0 for priorities equal to last
+    static final int BUCKETS = Long.SIZE + 1;
+
+    private long last = Long.MIN_VALUE;
+    private int size;
+
+    // Ids in each bucket, unordered, and a bit per non-empty bucket above 0
+    private final int[][] buckets = new int[BUCKETS][];
+    private final int[] bucketSize = new int[BUCKETS];
+    private long nonEmpty;
+
+    // By id: priority, bucket (-1 when not queued), index in bucket, element
+    private long[] priorities;
+    private int[] bucketOf;
+    private int[] indexInBucket;
+    private Object[] elements;
+
+    public IndexedRadixHeap() {
+        int capacity = PrimitiveHeap.DEFAULT_CAPACITY;
+        for (int b = 0; b < BUCKETS; b++) {
+            buckets[b] = new int[4];
+        }
+        priorities = new long[capacity];
+        bucketOf = new int[capacity];
+        Arrays.fill(bucketOf, -1);
+        indexInBucket = new int[capacity];
+        elements = new Object[capacity];
+    }
+
+    // Smallest priority that may still be queued
+    public long last() {
+        return last;
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    // Queues element under id, or gives the queued id a new priority and
+    // element. Returns whether id is new.
+    public boolean put(int id, long priority, E element) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative: " + id);
+        }
+        checkMonotone(priority);
+        boolean added = !contains(id);
+        if (added) {
+            if (id >= bucketOf.length) {
+                grow(id);
+            }
+            size++;
+        } else {
+            unlink(id);
+        }
+        elements[id] = element;
+        priorities[id] = priority;
+        link(id);
+        return added;
+    }
+
+    // Gives the queued id a new priority, higher or lower, but not below last()
+    public void update(int id, long priority) {
+        checkQueued(id);
+        checkMonotone(priority);
+        unlink(id);
+        priorities[id] = priority;
+        link(id);
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < bucketOf.length && bucketOf[id] >= 0;
+    }
+
+    public long priorityOf(int id) {
+        checkQueued(id);
+        return priorities[id];
+    }
+
+    // Element queued under id, or null if id is not queued
+    @SuppressWarnings("unchecked")
+    public E get(int id) {
+        return contains(id) ? (E) elements[id] : null;
+    }
+
+    // Removes id from the queue; returns its element, or null if it was not queued
+    public E remove(int id) {
+        if (!contains(id)) {
+            return null;
+        }
+        E element = get(id);
+        unlink(id);
+        elements[id] = null;
+        size--;
+        return element;
+    }
+
+    // An id with the smallest priority
+    public int peekId() {
+        fillBucketZero();
+        return buckets[0][bucketSize[0] - 1];
+    }
+
+    public long peekPriority() {
+        fillBucketZero();
+        return last;
+    }
+
+    public E peek() {
+        return get(peekId());
+    }
+
+    // Removes an id with the smallest priority and returns it
+    public int pollId() {
+        int id = peekId();
+        remove(id);
+        return id;
+    }
+
+    // Removes an id with the smallest priority and returns its element
+    public E poll() {
+        int id = peekId();
+        return remove(id);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Empties the queue; last() is kept, so priorities stay monotone
+    public void clear() {
+        for (int b = 0; b < BUCKETS; b++) {
+            for (int i = 0; i < bucketSize[b]; i++) {
+                int id = buckets[b][i];
+                bucketOf[id] = -1;
+                elements[id] = null;
+            }
+            bucketSize[b] = 0;
+        }
+        nonEmpty = 0;
+        size = 0;
+    }
+
+    private void checkQueued(int id) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("Id is not queued: " + id);
+        }
+    }
+
+    private void checkMonotone(long priority) {
+        if (priority < last) {
+            throw new IllegalArgumentException("Priority " + priority + " is below last() = " + last);
+        }
+    }
+
+    private void grow(int id) {
+        int capacity = Math.max(id + 1, PrimitiveHeap.grownCapacity(bucketOf.length));
+        int old = bucketOf.length;
+        priorities = Arrays.copyOf(priorities, capacity);
+        bucketOf = Arrays.copyOf(bucketOf, capacity);
+        Arrays.fill(bucketOf, old, capacity, -1);
+        indexInBucket = Arrays.copyOf(indexInBucket, capacity);
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    // ========================================
+    // Buckets
+    // ========================================
+
+    private int bucketFor(long priority) {
+        return Long.SIZE - Long.numberOfLeadingZeros(priority ^ last);
+    }
+
+    private void link(int id) {
+        int b = bucketFor(priorities[id]);
+        int[] bucket = buckets[b];
+        int n = bucketSize[b];
+        if (n == bucket.length) {
+            bucket = buckets[b] = Arrays.copyOf(bucket, PrimitiveHeap.grownCapacity(n));
+        }
+        bucket[n] = id;
+        bucketSize[b] = n + 1;
+        bucketOf[id] = b;
+        indexInBucket[id] = n;
+        if (b > 0) {
+            nonEmpty |= 1L << (b - 1);
+        }
+    }
+
+    // Takes id out of its bucket by moving the bucket's last id into its place
+    private void unlink(int id) {
+        int b = bucketOf[id];
+        int[] bucket = buckets[b];
+        int n = --bucketSize[b];
+        int moved = bucket[n];
+        bucket[indexInBucket[id]] = moved;
+        indexInBucket[moved] = indexInBucket[id];
+        bucketOf[id] = -1;
+        if (n == 0 && b > 0) {
+            nonEmpty &= ~(1L << (b - 1));
+        }
+    }
+
+    // Makes last the smallest queued priority, so bucket 0 holds the minimum
+    private void fillBucketZero() {
+        if (size == 0) {
+            throw new IllegalStateException("Queue is empty");
+        }
+        if (bucketSize[0] > 0) {
+            return;
+        }
+        int b = Long.numberOfTrailingZeros(nonEmpty) + 1;
+        int[] bucket = buckets[b];
+        int n = bucketSize[b];
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            min = Math.min(min, priorities[bucket[i]]);
+        }
+        last = min;
+        // Every id here now agrees with last above bit b-1, so all move down
+        bucketSize[b] = 0;
+        nonEmpty &= ~(1L << (b - 1));
+        for (int i = 0; i < n; i++) {
+            link(bucket[i]);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+// d-ary heap of ints; see PrimitiveHeap. Nothing on the insert and poll
+// paths prints or boxes, so a 10M-element heap is a 40 MB int[].
+public final class IntHeap extends PrimitiveHeap {
+
+    // Values as stored: as given for a min heap, complemented for a max heap
+    private int[] values;
+
+    // 4-ary min heap without handles
+    public IntHeap() {
+        this(DEFAULT_ARITY, false, false, DEFAULT_CAPACITY);
+    }
+
+    IntHeap(int arity, boolean maxHeap, boolean trackHandles, int capacity) {
+        super(arity, maxHeap, trackHandles, capacity);
+        values = new int[capacity];
+    }
+
+    // 4-ary min heap of a copy of values, built in O(n)
+    public static IntHeap heapify(int... values) {
+        return builder().build(values);
+    }
+
+    // ~x reverses the order of every int exactly, with no overflow at MIN_VALUE
+    private int encode(int value) {
+        return maxHeap ? ~value : value;
+    }
+
+    private int decode(int stored) {
+        return maxHeap ? ~stored : stored;
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    // Returns the new element's handle, or -1 without handle tracking
+    public int insert(int value) {
+        if (size == values.length) {
+            int capacity = grownCapacity(values.length);
+            values = Arrays.copyOf(values, capacity);
+            growHandleSlots(capacity);
+        }
+        int slot = size++;
+        int handle = handleAt != null ? newHandle(slot) : -1;
+        siftUp(slot, encode(value));
+        return handle;
+    }
+
+    // Smallest value (largest for a max heap)
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return decode(values[0]);
+    }
+
+    // Removes and returns the smallest value (largest for a max heap)
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        int top = values[0];
+        if (handleAt != null) {
+            releaseHandle(handleAt[0]);
+        }
+        size--;
+        if (size > 0) {
+            moveLastHandle(0);
+            siftDown(0, values[size]);
+        }
+        return decode(top);
+    }
+
+    public int valueOf(int handle) {
+        return decode(values[slotOfHandle(handle)]);
+    }
+
+    // Moves the element behind handle up to a value of higher priority:
+    // smaller for a min heap, larger for a max heap
+    public void decreaseKey(int handle, int value) {
+        int slot = slotOfHandle(handle);
+        int stored = encode(value);
+        if (stored > values[slot]) {
+            throw new IllegalArgumentException(
+                    "New value " + value + " has lower priority than " + decode(values[slot]));
+        }
+        siftUp(slot, stored);
+    }
+
+    // Changes the value behind handle in either direction
+    public void update(int handle, int value) {
+        int slot = slotOfHandle(handle);
+        int stored = encode(value);
+        if (stored < values[slot]) {
+            siftUp(slot, stored);
+        } else {
+            siftDown(slot, stored);
+        }
+    }
+
+    // Removes the element behind handle and returns its value
+    public int remove(int handle) {
+        int slot = slotOfHandle(handle);
+        int removed = values[slot];
+        releaseHandle(handle);
+        size--;
+        if (slot < size) {
+            int last = values[size];
+            moveLastHandle(slot);
+            if (last < removed) {
+                siftUp(slot, last);
+            } else {
+                siftDown(slot, last);
+            }
+        }
+        return decode(removed);
+    }
+
+    // Removes every element, smallest first (largest for a max heap)
+    public int[] drain() {
+        int[] drained = new int[size];
+        for (int i = 0; i < drained.length; i++) {
+            drained[i] = poll();
+        }
+        return drained;
+    }
+
+    // ========================================
+    // Heapify and Sifting
+    // ========================================
+    // Both sifts carry the value in a hole instead of swapping: each level
+    // moves one element, and the value is written once at the end. The
+    // handle of the element that started in the hole travels with it.
+
+    void load(int[] source) {
+        if (values.length < source.length) {
+            values = new int[source.length];
+        }
+        for (int i = 0; i < source.length; i++) {
+            values[i] = encode(source[i]);
+        }
+        size = source.length;
+        if (handleAt != null) {
+            resetHandles(size);
+        }
+        // Floyd: sift down every parent, last first; most nodes are near the
+        // bottom and move little, which makes the whole build O(n)
+        for (int slot = lastParent(); slot >= 0; slot--) {
+            siftDown(slot, values[slot]);
+        }
+    }
+
+    private void siftUp(int slot, int value) {
+        int handle = handleAt != null ? handleAt[slot] : -1;
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            int parentValue = values[parent];
+            if (value >= parentValue) {
+                break;
+            }
+            values[slot] = parentValue;
+            if (handleAt != null) {
+                int moved = handleAt[parent];
+                handleAt[slot] = moved;
+                slotOf[moved] = slot;
+            }
+            slot = parent;
+        }
+        values[slot] = value;
+        if (handleAt != null) {
+            handleAt[slot] = handle;
+            slotOf[handle] = slot;
+        }
+    }
+
+    private void siftDown(int slot, int value) {
+        int handle = handleAt != null ? handleAt[slot] : -1;
+        int lastParent = lastParent();
+        while (slot <= lastParent) {
+            int first = slot * arity + 1;
+            int end = Math.min(first + arity, size);
+            int best = first;
+            int bestValue = values[first];
+            for (int child = first + 1; child < end; child++) {
+                int childValue = values[child];
+                if (childValue < bestValue) {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (bestValue >= value) {
+                break;
+            }
+            values[slot] = bestValue;
+            if (handleAt != null) {
+                int moved = handleAt[best];
+                handleAt[slot] = moved;
+                slotOf[moved] = slot;
+            }
+            slot = best;
+        }
+        values[slot] = value;
+        if (handleAt != null) {
+            handleAt[slot] = handle;
+            slotOf[handle] = slot;
+        }
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    public static void performanceComparison(int size) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("      HEAPS OF %,d INTS%n", size);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        int[] data = new Random(42).ints(size).toArray();
+        long[] sink = new long[1];
+
+        // Insert-heavy: every value goes in, a tenth come out
+        System.out.println("Insert all, poll a tenth:");
+        System.out.printf("  PriorityQueue<Integer>: %8.2f ms%n", time(() -> {
+            PriorityQueue<Integer> queue = new PriorityQueue<>();
+            for (int value : data) {
+                queue.offer(value);
+            }
+            for (int i = 0; i < size / 10; i++) {
+                sink[0] += queue.poll();
+            }
+        }));
+        for (int arity : new int[]{2, 4, 8}) {
+            System.out.printf("  IntHeap, arity %d:       %8.2f ms%n", arity, time(() -> {
+                IntHeap heap = builder().arity(arity).buildInt();
+                for (int value : data) {
+                    heap.insert(value);
+                }
+                for (int i = 0; i < size / 10; i++) {
+                    sink[0] += heap.poll();
+                }
+            }));
+        }
+
+        // Extract-heavy: build once, then poll everything
+        System.out.println("Build, poll all:");
+        System.out.printf("  PriorityQueue<Integer>: %8.2f ms%n", time(() -> {
+            PriorityQueue<Integer> queue = new PriorityQueue<>(size);
+            for (int value : data) {
+                queue.offer(value);
+            }
+            while (!queue.isEmpty()) {
+                sink[0] += queue.poll();
+            }
+        }));
+        for (int arity : new int[]{2, 4, 8}) {
+            System.out.printf("  IntHeap, arity %d:       %8.2f ms%n", arity, time(() -> {
+                IntHeap heap = builder().arity(arity).build(data);
+                while (!heap.isEmpty()) {
+                    sink[0] += heap.poll();
+                }
+            }));
+        }
+        System.out.printf("  IntHeap with handles:   %8.2f ms%n", time(() -> {
+            IntHeap heap = builder().trackHandles(true).build(data);
+            while (!heap.isEmpty()) {
+                sink[0] += heap.poll();
+            }
+        }));
+
+        System.out.println("Build only:");
+        System.out.printf("  one insert at a time:   %8.2f ms%n", time(() -> {
+            IntHeap heap = new IntHeap();
+            for (int value : data) {
+                heap.insert(value);
+            }
+            sink[0] += heap.peek();
+        }));
+        System.out.printf("  heapify:                %8.2f ms%n", time(() -> sink[0] += heapify(data).peek()));
+        System.out.println("(checksum " + sink[0] + ")");
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable work) {
+        work.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            work.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) {
+        System.out.println("=== IntHeap (4-ary min heap) ===\n");
+        IntHeap minHeap = new IntHeap();
+        for (int value : new int[]{15, 10, 20, 8, 25}) {
+            minHeap.insert(value);
+        }
+        System.out.println("Minimum element: " + minHeap.peek());
+        System.out.println("Extracted min: " + minHeap.poll());
+        System.out.println("Remaining in order: " + Arrays.toString(minHeap.drain()));
+
+        System.out.println("\n=== Max Heap from an Array (heapify) ===\n");
+        IntHeap maxHeap = builder().maxHeap(true).build(new int[]{12, 11, 13, 5, 6, 7});
+        System.out.println("Maximum element: " + maxHeap.peek());
+        System.out.println("Sorted descending: " + Arrays.toString(maxHeap.drain()));
+
+        System.out.println("\n=== Decrease-Key through Handles ===\n");
+        IntHeap distances = builder().trackHandles(true).buildInt();
+        int a = distances.insert(40);
+        int b = distances.insert(25);
+        int c = distances.insert(30);
+        distances.decreaseKey(a, 5);
+        distances.update(b, 50);
+        System.out.println("After a: 40 -> 5 and b: 25 -> 50, min is " + distances.peek()
+                + "; c = " + distances.valueOf(c));
+        distances.remove(c);
+        System.out.println("After removing c: " + Arrays.toString(distances.drain()));
+
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        performanceComparison(size);
+    }
+}
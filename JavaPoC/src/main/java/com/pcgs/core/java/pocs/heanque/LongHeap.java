@@ -0,0 +1,211 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import java.util.Arrays;
+
+// d-ary heap of longs; see PrimitiveHeap and IntHeap.
+public final class LongHeap extends PrimitiveHeap {
+
+    // Values as stored: as given for a min heap, complemented for a max heap
+    private long[] values;
+
+    // 4-ary min heap without handles
+    public LongHeap() {
+        this(DEFAULT_ARITY, false, false, DEFAULT_CAPACITY);
+    }
+
+    LongHeap(int arity, boolean maxHeap, boolean trackHandles, int capacity) {
+        super(arity, maxHeap, trackHandles, capacity);
+        values = new long[capacity];
+    }
+
+    // 4-ary min heap of a copy of values, built in O(n)
+    public static LongHeap heapify(long... values) {
+        return builder().build(values);
+    }
+
+    // ~x reverses the order of every long exactly, with no overflow at MIN_VALUE
+    private long encode(long value) {
+        return maxHeap ? ~value : value;
+    }
+
+    private long decode(long stored) {
+        return maxHeap ? ~stored : stored;
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    // Returns the new element's handle, or -1 without handle tracking
+    public int insert(long value) {
+        if (size == values.length) {
+            int capacity = grownCapacity(values.length);
+            values = Arrays.copyOf(values, capacity);
+            growHandleSlots(capacity);
+        }
+        int slot = size++;
+        int handle = handleAt != null ? newHandle(slot) : -1;
+        siftUp(slot, encode(value));
+        return handle;
+    }
+
+    // Smallest value (largest for a max heap)
+    public long peek() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        return decode(values[0]);
+    }
+
+    // Removes and returns the smallest value (largest for a max heap)
+    public long poll() {
+        if (size == 0) {
+            throw new IllegalStateException("Heap is empty");
+        }
+        long top = values[0];
+        if (handleAt != null) {
+            releaseHandle(handleAt[0]);
+        }
+        size--;
+        if (size > 0) {
+            moveLastHandle(0);
+            siftDown(0, values[size]);
+        }
+        return decode(top);
+    }
+
+    public long valueOf(int handle) {
+        return decode(values[slotOfHandle(handle)]);
+    }
+
+    // Moves the element behind handle up to a value of higher priority:
+    // smaller for a min heap, larger for a max heap
+    public void decreaseKey(int handle, long value) {
+        int slot = slotOfHandle(handle);
+        long stored = encode(value);
+        if (stored > values[slot]) {
+            throw new IllegalArgumentException(
+                    "New value " + value + " has lower priority than " + decode(values[slot]));
+        }
+        siftUp(slot, stored);
+    }
+
+    // Changes the value behind handle in either direction
+    public void update(int handle, long value) {
+        int slot = slotOfHandle(handle);
+        long stored = encode(value);
+        if (stored < values[slot]) {
+            siftUp(slot, stored);
+        } else {
+            siftDown(slot, stored);
+        }
+    }
+
+    // Removes the element behind handle and returns its value
+    public long remove(int handle) {
+        int slot = slotOfHandle(handle);
+        long removed = values[slot];
+        releaseHandle(handle);
+        size--;
+        if (slot < size) {
+            long last = values[size];
+            moveLastHandle(slot);
+            if (last < removed) {
+                siftUp(slot, last);
+            } else {
+                siftDown(slot, last);
+            }
+        }
+        return decode(removed);
+    }
+
+    // Removes every element, smallest first (largest for a max heap)
+    public long[] drain() {
+        long[] drained = new long[size];
+        for (int i = 0; i < drained.length; i++) {
+            drained[i] = poll();
+        }
+        return drained;
+    }
+
+    // ========================================
+    // Heapify and Sifting
+    // ========================================
+    // Both sifts carry the value in a hole instead of swapping: each level
+    // moves one element, and the value is written once at the end. The
+    // handle of the element that started in the hole travels with it.
+
+    void load(long[] source) {
+        if (values.length < source.length) {
+            values = new long[source.length];
+        }
+        for (int i = 0; i < source.length; i++) {
+            values[i] = encode(source[i]);
+        }
+        size = source.length;
+        if (handleAt != null) {
+            resetHandles(size);
+        }
+        // Floyd: sift down every parent, last first; most nodes are near the
+        // bottom and move little, which makes the whole build O(n)
+        for (int slot = lastParent(); slot >= 0; slot--) {
+            siftDown(slot, values[slot]);
+        }
+    }
+
+    private void siftUp(int slot, long value) {
+        int handle = handleAt != null ? handleAt[slot] : -1;
+        while (slot > 0) {
+            int parent = (slot - 1) / arity;
+            long parentValue = values[parent];
+            if (value >= parentValue) {
+                break;
+            }
+            values[slot] = parentValue;
+            if (handleAt != null) {
+                int moved = handleAt[parent];
+                handleAt[slot] = moved;
+                slotOf[moved] = slot;
+            }
+            slot = parent;
+        }
+        values[slot] = value;
+        if (handleAt != null) {
+            handleAt[slot] = handle;
+            slotOf[handle] = slot;
+        }
+    }
+
+    private void siftDown(int slot, long value) {
+        int handle = handleAt != null ? handleAt[slot] : -1;
+        int lastParent = lastParent();
+        while (slot <= lastParent) {
+            int first = slot * arity + 1;
+            int end = Math.min(first + arity, size);
+            int best = first;
+            long bestValue = values[first];
+            for (int child = first + 1; child < end; child++) {
+                long childValue = values[child];
+                if (childValue < bestValue) {
+                    best = child;
+                    bestValue = childValue;
+                }
+            }
+            if (bestValue >= value) {
+                break;
+            }
+            values[slot] = bestValue;
+            if (handleAt != null) {
+                int moved = handleAt[best];
+                handleAt[slot] = moved;
+                slotOf[moved] = slot;
+            }
+            slot = best;
+        }
+        values[slot] = value;
+        if (handleAt != null) {
+            handleAt[slot] = handle;
+            slotOf[handle] = slot;
+        }
+    }
+}
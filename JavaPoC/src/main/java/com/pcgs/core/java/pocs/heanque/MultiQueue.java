@@ -0,0 +1,271 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// ========================================
+// MultiQueue
+// ========================================
+// Relaxed concurrent priority queue, smallest priority first. The elements
+// are spread over QUEUES_PER_THREAD * threads small heaps, each behind its
+// own lock, instead of one heap behind one lock as in PriorityBlockingQueue:
+//   offer - push onto a random heap; if its lock is taken, try another
+//   poll  - look at the tops of two random heaps and pop the better one
+// With that many heaps, two threads rarely want the same lock, and any
+// thread can take work from any heap, so none sits idle while another heap
+// has elements. The price is order: a poll returns one of the best elements,
+// not always the best. Two random choices keep the expected rank of what is
+// returned proportional to the number of heaps, independent of the size.
+//
+// A strict queue has a single heap and returns elements in exact priority
+// order, at the cost of the one lock.
+//
+// The order the relaxation gives up is measured on a sample of polls (one in
+// INVERSION_SAMPLE): the tops of all heaps are read after the poll, and the
+// poll counts as an inversion if any of them was better than what it
+// returned; the number of such heaps bounds its rank error from below. The
+// reads are racy, so both are estimates.
+public final class MultiQueue<E> {
+
+    // Heaps per expected thread: c = 2 in the MultiQueue papers
+    static final int QUEUES_PER_THREAD = 2;
+
+    // One poll in this many checks for an inversion
+    static final int INVERSION_SAMPLE = 64;
+
+    private final Heap[] heaps;
+    private final LongAdder sampledPolls = new LongAdder();
+    private final LongAdder inversions = new LongAdder();
+    private final LongAdder betterTops = new LongAdder();
+
+    // Relaxed, for about threads concurrent users
+    public MultiQueue(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Threads must be positive: " + threads);
+        }
+        heaps = newHeaps(threads * QUEUES_PER_THREAD);
+    }
+
+    private MultiQueue() {
+        heaps = newHeaps(1);
+    }
+
+    // Exact priority order behind one lock
+    public static <E> MultiQueue<E> strict() {
+        return new MultiQueue<>();
+    }
+
+    private static Heap[] newHeaps(int count) {
+        Heap[] heaps = new Heap[count];
+        for (int i = 0; i < count; i++) {
+            heaps[i] = new Heap();
+        }
+        return heaps;
+    }
+
+    public boolean isStrict() {
+        return heaps.length == 1;
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    public void offer(long priority, E element) {
+        Heap heap;
+        if (heaps.length == 1) {
+            heap = heaps[0];
+            heap.lock();
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            do {
+                heap = heaps[random.nextInt(heaps.length)];
+            } while (!heap.tryLock());
+        }
+        try {
+            heap.push(priority, element);
+        } finally {
+            heap.unlock();
+        }
+    }
+
+    // One of the elements with the smallest priorities, or null if empty
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        if (heaps.length == 1) {
+            Heap heap = heaps[0];
+            heap.lock();
+            try {
+                return heap.size == 0 ? null : (E) heap.pop();
+            } finally {
+                heap.unlock();
+            }
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Heap a = heaps[random.nextInt(heaps.length)];
+            Heap b = heaps[random.nextInt(heaps.length)];
+            Heap heap = a.count == 0 || (b.count > 0 && b.top < a.top) ? b : a;
+            if (heap.count == 0) {
+                // Two empty picks; only give up if every heap is empty
+                if (isEmpty()) {
+                    return null;
+                }
+                continue;
+            }
+            if (!heap.tryLock()) {
+                continue;
+            }
+            long priority;
+            Object element;
+            try {
+                if (heap.size == 0) {
+                    continue;
+                }
+                priority = heap.top;
+                element = heap.pop();
+            } finally {
+                heap.unlock();
+            }
+            if (random.nextInt(INVERSION_SAMPLE) == 0) {
+                sampleInversion(priority);
+            }
+            return (E) element;
+        }
+    }
+
+    private void sampleInversion(long polled) {
+        int better = 0;
+        for (Heap heap : heaps) {
+            if (heap.count > 0 && heap.top < polled) {
+                better++;
+            }
+        }
+        sampledPolls.increment();
+        if (better > 0) {
+            inversions.increment();
+            betterTops.add(better);
+        }
+    }
+
+    // Sum of the heap sizes; exact only while nothing changes
+    public int size() {
+        int size = 0;
+        for (Heap heap : heaps) {
+            size += heap.count;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Heap heap : heaps) {
+            if (heap.count > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Share of the sampled polls that returned an element while a better one
+    // was at the top of some heap
+    public double inversionRate() {
+        long sampled = sampledPolls.sum();
+        return sampled == 0 ? 0 : (double) inversions.sum() / sampled;
+    }
+
+    // Mean number of heaps whose top was better than what a sampled poll
+    // returned: a lower bound on its rank error, 0 for a strict queue
+    public double meanRankError() {
+        long sampled = sampledPolls.sum();
+        return sampled == 0 ? 0 : (double) betterTops.sum() / sampled;
+    }
+
+    public long sampledPolls() {
+        return sampledPolls.sum();
+    }
+
+    public void resetMetrics() {
+        sampledPolls.reset();
+        inversions.reset();
+        betterTops.reset();
+    }
+
+    // ========================================
+    // Heap
+    // ========================================
+    // 4-ary heap of (priority, element) pairs, as in IndexedPriorityQueue.
+    // Only touched under its lock; top and count are copies that poll reads
+    // without the lock to choose a heap. Only count is volatile: top is
+    // written just before it, so a reader that sees a count sees a top at
+    // least that recent, for one fence per operation instead of two. A stale
+    // top only costs a worse choice of heap.
+
+    @SuppressWarnings("serial")
+    private static final class Heap extends ReentrantLock {
+        private long[] priorities = new long[PrimitiveHeap.DEFAULT_CAPACITY];
+        private Object[] elements = new Object[PrimitiveHeap.DEFAULT_CAPACITY];
+        private int size;
+        long top;
+        volatile int count;
+
+        void push(long priority, Object element) {
+            if (size == priorities.length) {
+                int capacity = PrimitiveHeap.grownCapacity(size);
+                priorities = Arrays.copyOf(priorities, capacity);
+                elements = Arrays.copyOf(elements, capacity);
+            }
+            int slot = size++;
+            while (slot > 0) {
+                int parent = (slot - 1) / PrimitiveHeap.DEFAULT_ARITY;
+                if (priority >= priorities[parent]) {
+                    break;
+                }
+                priorities[slot] = priorities[parent];
+                elements[slot] = elements[parent];
+                slot = parent;
+            }
+            priorities[slot] = priority;
+            elements[slot] = element;
+            publish();
+        }
+
+        Object pop() {
+            Object first = elements[0];
+            int last = --size;
+            long priority = priorities[last];
+            Object element = elements[last];
+            elements[last] = null;
+            if (last > 0) {
+                int slot = 0;
+                int lastParent = last > 1 ? (last - 2) / PrimitiveHeap.DEFAULT_ARITY : -1;
+                while (slot <= lastParent) {
+                    int child = slot * PrimitiveHeap.DEFAULT_ARITY + 1;
+                    int end = Math.min(child + PrimitiveHeap.DEFAULT_ARITY, last);
+                    int best = child;
+                    for (child++; child < end; child++) {
+                        if (priorities[child] < priorities[best]) {
+                            best = child;
+                        }
+                    }
+                    if (priorities[best] >= priority) {
+                        break;
+                    }
+                    priorities[slot] = priorities[best];
+                    elements[slot] = elements[best];
+                    slot = best;
+                }
+                priorities[slot] = priority;
+                elements[slot] = element;
+            }
+            publish();
+            return first;
+        }
+
+        private void publish() {
+            top = size > 0 ? priorities[0] : Long.MAX_VALUE;
+            count = size;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import java.util.Arrays;
+
+// ========================================
+// Primitive d-ary Heaps
+// ========================================
+// Shared part of IntHeap, LongHeap and DoubleHeap. HeapDemo.MinHeap and
+// MaxHeap keep boxed Integers in an ArrayList and are binary; these keep the
+// values in a plain growable array and give every node `arity` children.
+// A 4-ary heap is half as deep as a binary one, and the four children of a
+// node sit next to each other, usually in one cache line, so sifting down
+// costs half the cache misses for a few more comparisons per level.
+//
+// Max heaps store each value in a transformed form whose min order is the
+// original max order (the complement for int and long, the negation for
+// double), so both kinds share the same min-heap code.
+//
+// Handles (optional, see Builder.trackHandles): insert returns an int handle
+// that stays valid until its element leaves the heap, and decreaseKey,
+// update, remove and valueOf find the element through it in O(1). This is
+// the index map: the handle of each heap slot and the slot of each handle,
+// rewritten on every move, so it costs a little on every operation and is
+// off unless asked for. Handles of removed elements are reused.
+//
+// Not thread-safe.
+public abstract class PrimitiveHeap {
+
+    // Four children per node: half the depth of a binary heap, children in one cache line
+    static final int DEFAULT_ARITY = 4;
+
+    // Wider nodes no longer fit in a cache line or two
+    static final int MAX_ARITY = 64;
+
+    static final int DEFAULT_CAPACITY = 16;
+
+    final int arity;
+    final boolean maxHeap;
+    int size;
+
+    // Handle of the element in each slot, and slot of each handle (-1 once
+    // removed); both null when handles are not tracked
+    int[] handleAt;
+    int[] slotOf;
+    private int[] freeHandles;
+    private int freeCount;
+    private int nextHandle;
+
+    PrimitiveHeap(int arity, boolean maxHeap, boolean trackHandles, int capacity) {
+        this.arity = arity;
+        this.maxHeap = maxHeap;
+        if (trackHandles) {
+            handleAt = new int[capacity];
+            slotOf = new int[capacity];
+            freeHandles = new int[DEFAULT_CAPACITY];
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int arity() {
+        return arity;
+    }
+
+    public boolean isMaxHeap() {
+        return maxHeap;
+    }
+
+    public boolean tracksHandles() {
+        return handleAt != null;
+    }
+
+    // Whether handle belongs to an element still in the heap
+    public boolean contains(int handle) {
+        return handleAt != null && handle >= 0 && handle < nextHandle && slotOf[handle] >= 0;
+    }
+
+    public void clear() {
+        size = 0;
+        nextHandle = 0;
+        freeCount = 0;
+    }
+
+    // ========================================
+    // Handle Bookkeeping
+    // ========================================
+
+    // New capacity for the slot arrays, at least 1.5x the old one
+    static int grownCapacity(int capacity) {
+        int grown = capacity + (capacity >> 1) + 1;
+        if (grown < 0 || grown > Integer.MAX_VALUE - 8) {
+            if (capacity == Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Heap is full");
+            }
+            grown = Integer.MAX_VALUE - 8;
+        }
+        return grown;
+    }
+
+    void growHandleSlots(int capacity) {
+        if (handleAt != null) {
+            handleAt = Arrays.copyOf(handleAt, capacity);
+        }
+    }
+
+    // Gives the element in slot a handle and returns it
+    int newHandle(int slot) {
+        int handle;
+        if (freeCount > 0) {
+            handle = freeHandles[--freeCount];
+        } else {
+            handle = nextHandle++;
+            if (handle == slotOf.length) {
+                slotOf = Arrays.copyOf(slotOf, grownCapacity(slotOf.length));
+            }
+        }
+        handleAt[slot] = handle;
+        slotOf[handle] = slot;
+        return handle;
+    }
+
+    // Hands out handles 0..count-1 to slots 0..count-1, after a heapify
+    void resetHandles(int count) {
+        if (slotOf.length < count) {
+            slotOf = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            handleAt[i] = i;
+            slotOf[i] = i;
+        }
+        nextHandle = count;
+        freeCount = 0;
+    }
+
+    void releaseHandle(int handle) {
+        slotOf[handle] = -1;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, grownCapacity(freeCount));
+        }
+        freeHandles[freeCount++] = handle;
+    }
+
+    // Slot of the element behind handle
+    int slotOfHandle(int handle) {
+        if (handleAt == null) {
+            throw new IllegalStateException("Heap was built without handles");
+        }
+        if (!contains(handle)) {
+            throw new IllegalArgumentException("Unknown or removed handle: " + handle);
+        }
+        return slotOf[handle];
+    }
+
+    // The last element is about to fill slot: its handle goes there too
+    void moveLastHandle(int slot) {
+        if (handleAt != null) {
+            handleAt[slot] = handleAt[size];
+        }
+    }
+
+    // Last slot with at least one child, or -1
+    int lastParent() {
+        return size > 1 ? (size - 2) / arity : -1;
+    }
+
+    // ========================================
+    // Builder
+    // ========================================
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int arity = DEFAULT_ARITY;
+        private boolean maxHeap;
+        private boolean trackHandles;
+        private int initialCapacity = DEFAULT_CAPACITY;
+
+        private Builder() {
+        }
+
+        public Builder arity(int arity) {
+            if (arity < 2 || arity > MAX_ARITY) {
+                throw new IllegalArgumentException("Arity must be in [2, " + MAX_ARITY + "]: " + arity);
+            }
+            this.arity = arity;
+            return this;
+        }
+
+        // Largest value first instead of smallest
+        public Builder maxHeap(boolean maxHeap) {
+            this.maxHeap = maxHeap;
+            return this;
+        }
+
+        // insert returns handles for decreaseKey, update, remove and valueOf
+        public Builder trackHandles(boolean trackHandles) {
+            this.trackHandles = trackHandles;
+            return this;
+        }
+
+        public Builder initialCapacity(int initialCapacity) {
+            if (initialCapacity < 0) {
+                throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+            }
+            this.initialCapacity = Math.max(1, initialCapacity);
+            return this;
+        }
+
+        public IntHeap buildInt() {
+            return new IntHeap(arity, maxHeap, trackHandles, initialCapacity);
+        }
+
+        public LongHeap buildLong() {
+            return new LongHeap(arity, maxHeap, trackHandles, initialCapacity);
+        }
+
+        public DoubleHeap buildDouble() {
+            return new DoubleHeap(arity, maxHeap, trackHandles, initialCapacity);
+        }
+
+        // Bulk builds: copy the values and heapify them in O(n). With handles,
+        // values[i] gets handle i.
+        public IntHeap build(int[] values) {
+            IntHeap heap = new IntHeap(arity, maxHeap, trackHandles, Math.max(initialCapacity, values.length));
+            heap.load(values);
+            return heap;
+        }
+
+        public LongHeap build(long[] values) {
+            LongHeap heap = new LongHeap(arity, maxHeap, trackHandles, Math.max(initialCapacity, values.length));
+            heap.load(values);
+            return heap;
+        }
+
+        public DoubleHeap build(double[] values) {
+            DoubleHeap heap = new DoubleHeap(arity, maxHeap, trackHandles, Math.max(initialCapacity, values.length));
+            heap.load(values);
+            return heap;
+        }
+    }
+}
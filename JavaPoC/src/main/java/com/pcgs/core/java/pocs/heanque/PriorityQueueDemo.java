@@ -187,6 +187,23 @@ public class PriorityQueueDemo {
         System.out.println("Contains 5: " + pq.contains(5));
         System.out.println("Remove 2: " + pq.remove(2));
         System.out.println("After removal: " + pq);
+
+        // 10. Changing a Priority in Place
+        // PriorityQueue can only remove(patient), a linear scan, and re-offer;
+        // IndexedPriorityQueue finds the patient by id in O(1) and re-sifts
+        System.out.println("\n=== Changing a Priority: IndexedPriorityQueue ===\n");
+        IndexedPriorityQueue<Patient> triage = new IndexedPriorityQueue<>(true);
+        triage.put(0, 5, new Patient("John", 5));
+        triage.put(1, 9, new Patient("Mary", 9));
+        triage.put(2, 3, new Patient("Bob", 3));
+
+        Patient bob = triage.get(2);
+        bob.severity = 10;
+        triage.update(2, bob.severity);
+        System.out.println("Bob's condition worsens to 10; next: " + triage.peek());
+        while (!triage.isEmpty()) {
+            System.out.println("Treating: " + triage.poll());
+        }
     }
 
     static class Patient {
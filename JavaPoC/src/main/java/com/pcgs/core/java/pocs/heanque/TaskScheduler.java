@@ -0,0 +1,253 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import com.pcgs.core.java.pocs.heanque.PriorityQueueDemo.Patient;
+import com.pcgs.core.java.pocs.heanque.PriorityQueueDemo.Task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+// ========================================
+// Task Scheduler
+// ========================================
+// Thread-safe dispatch queue with the ordering of PriorityQueueDemo's tasks
+// and patients: highest urgency (severity) first. Any number of threads
+// submit and take tasks; nothing blocks, next() returns null when there is
+// no work.
+//
+// A relaxed scheduler runs on a MultiQueue sized for the expected number of
+// threads and may hand out a task while a slightly more urgent one waits on
+// another heap; inversionRate() and meanRankError() say how often and by
+// how much. A strict scheduler hands out tasks in exact urgency order
+// through one lock, like a PriorityBlockingQueue.
+public final class TaskScheduler<T> {
+
+    private final MultiQueue<T> queue;
+    private final ToIntFunction<? super T> urgency;
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+
+    private TaskScheduler(MultiQueue<T> queue, ToIntFunction<? super T> urgency) {
+        this.queue = queue;
+        this.urgency = urgency;
+    }
+
+    // For about threads submitting and dispatching threads
+    public static <T> TaskScheduler<T> relaxed(int threads, ToIntFunction<? super T> urgency) {
+        return new TaskScheduler<>(new MultiQueue<>(threads), urgency);
+    }
+
+    public static <T> TaskScheduler<T> strict(ToIntFunction<? super T> urgency) {
+        return new TaskScheduler<>(MultiQueue.strict(), urgency);
+    }
+
+    public static TaskScheduler<Task> forTasks(int threads) {
+        return relaxed(threads, task -> task.urgency);
+    }
+
+    public static TaskScheduler<Patient> forPatients(int threads) {
+        return relaxed(threads, patient -> patient.severity);
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    public void submit(T task) {
+        // Negated into the queue's smallest-first order; a long, so no overflow
+        queue.offer(-(long) urgency.applyAsInt(task), task);
+        submitted.increment();
+    }
+
+    // One of the most urgent tasks, or null if there are none
+    public T next() {
+        T task = queue.poll();
+        if (task != null) {
+            dispatched.increment();
+        }
+        return task;
+    }
+
+    // Runs up to max tasks on worker, most urgent first; returns how many ran
+    public int dispatch(Consumer<? super T> worker, int max) {
+        int ran = 0;
+        T task;
+        while (ran < max && (task = next()) != null) {
+            worker.accept(task);
+            ran++;
+        }
+        return ran;
+    }
+
+    public boolean isStrict() {
+        return queue.isStrict();
+    }
+
+    // Tasks waiting; exact only while no thread submits or dispatches
+    public int pending() {
+        return queue.size();
+    }
+
+    // ========================================
+    // Metrics
+    // ========================================
+
+    public long submitted() {
+        return submitted.sum();
+    }
+
+    public long dispatched() {
+        return dispatched.sum();
+    }
+
+    // Estimated share of dispatches that passed over a more urgent task
+    public double inversionRate() {
+        return queue.inversionRate();
+    }
+
+    // Estimated mean number of more urgent tasks passed over per dispatch
+    public double meanRankError() {
+        return queue.meanRankError();
+    }
+
+    public void resetMetrics() {
+        submitted.reset();
+        dispatched.reset();
+        queue.resetMetrics();
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    // What a thread does on each step; each step submits one task and takes one
+    private interface Workload {
+        void run(Task task);
+    }
+
+    // Mops/s with 1 to 64 threads, each submitting a task and taking the most
+    // urgent one in turn, on queues that start with backlog tasks
+    public static void performanceComparison(int backlog, int operations) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("   SUBMIT + NEXT, %,d TASKS BACKLOG, Mops/s%n", backlog);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Task[] tasks = new Task[1 << 16];
+        for (int i = 0; i < tasks.length; i++) {
+            tasks[i] = new Task("task " + i, ThreadLocalRandom.current().nextInt(1_000));
+        }
+
+        System.out.println("threads  relaxed  (inversions, rank error)  strict  PriorityBlockingQueue");
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            TaskScheduler<Task> relaxed = forTasks(threads);
+            TaskScheduler<Task> strict = strict(task -> task.urgency);
+            PriorityBlockingQueue<Task> blocking =
+                    new PriorityBlockingQueue<>(backlog, (a, b) -> Integer.compare(b.urgency, a.urgency));
+            for (int i = 0; i < backlog; i++) {
+                relaxed.submit(tasks[i & (tasks.length - 1)]);
+                strict.submit(tasks[i & (tasks.length - 1)]);
+                blocking.offer(tasks[i & (tasks.length - 1)]);
+            }
+
+            double relaxedRate = throughput(task -> {
+                relaxed.submit(task);
+                relaxed.next();
+            }, tasks, threads, operations / threads);
+            double inversions = relaxed.inversionRate();
+            double rankError = relaxed.meanRankError();
+            double strictRate = throughput(task -> {
+                strict.submit(task);
+                strict.next();
+            }, tasks, threads, operations / threads);
+            double blockingRate = throughput(task -> {
+                blocking.offer(task);
+                blocking.poll();
+            }, tasks, threads, operations / threads);
+            System.out.printf("%7d  %7.2f  %11.2f%%  %10.2f  %6.2f  %21.2f%n",
+                    threads, relaxedRate, 100 * inversions, rankError, strictRate, blockingRate);
+        }
+    }
+
+    // Best of a few runs, after one warmup run; in millions of steps per second
+    private static double throughput(Workload workload, Task[] tasks, int threads, int stepsPerThread) {
+        runThreads(workload, tasks, threads, stepsPerThread);
+        double best = 0;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            runThreads(workload, tasks, threads, stepsPerThread);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            best = Math.max(best, (double) threads * stepsPerThread / seconds / 1e6);
+        }
+        return best;
+    }
+
+    private static void runThreads(Workload workload, Task[] tasks, int threads, int stepsPerThread) {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < stepsPerThread; i++) {
+                    workload.run(tasks[random.nextInt(tasks.length)]);
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Strict Scheduler: Tasks by Urgency ===\n");
+        TaskScheduler<Task> tasks = strict(task -> task.urgency);
+        tasks.submit(new Task("Write report", 3));
+        tasks.submit(new Task("Fix critical bug", 10));
+        tasks.submit(new Task("Code review", 5));
+        tasks.submit(new Task("Update documentation", 2));
+        tasks.dispatch(task -> System.out.println("Running: " + task), Integer.MAX_VALUE);
+
+        System.out.println("\n=== Relaxed Scheduler: Triage with 4 Nurses ===\n");
+        TaskScheduler<Patient> triage = forPatients(4);
+        String[] names = {"John", "Mary", "Bob", "Alice", "Tom", "Eve", "Sam", "Ann"};
+        for (int i = 0; i < 400; i++) {
+            triage.submit(new Patient(names[i % names.length] + " #" + i, 1 + i * 7 % 10));
+        }
+        Thread[] nurses = new Thread[4];
+        LongAdder severityTotal = new LongAdder();
+        for (int n = 0; n < nurses.length; n++) {
+            nurses[n] = new Thread(() -> triage.dispatch(patient -> severityTotal.add(patient.severity), 75));
+            nurses[n].start();
+        }
+        for (Thread nurse : nurses) {
+            nurse.join();
+        }
+        System.out.printf("Treated %d of %d patients, average severity %.1f, %d still waiting%n",
+                triage.dispatched(), triage.submitted(),
+                (double) severityTotal.sum() / triage.dispatched(), triage.pending());
+        Patient next = triage.next();
+        System.out.println("Next up: " + next + " (the last 100 are the least severe)");
+
+        int backlog = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        performanceComparison(backlog, 1_000_000);
+    }
+}
@@ -0,0 +1,690 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import com.pcgs.core.java.pocs.heanque.PriorityQueueDemo.Task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// ========================================
+// Hierarchical Timer Wheel
+// ========================================
+// Runs tasks after a delay, like ScheduledThreadPoolExecutor, but without a
+// heap: time is cut into ticks, and a timeout sits in the slot of the tick
+// it is due in, so scheduling and cancelling are O(1) whatever the number of
+// pending timeouts. The price is resolution: a task runs on the first tick
+// at or after its deadline, never early, up to a tick late.
+//
+// One wheel of wheelSize slots covers wheelSize ticks. Later deadlines go to
+// coarser wheels whose slots each cover a whole turn of the wheel below
+// (Varghese and Lauck's hierarchical wheels, as in the Linux kernel):
+//   level 0 - one tick per slot
+//   level 1 - wheelSize ticks per slot
+//   level L - wheelSize^L ticks per slot
+// Whenever the wheel below completes a turn, the next slot of the level
+// above is emptied into finer slots (cascading). A timeout cascades at most
+// once per level. Deadlines past the top level are parked in its farthest
+// slot and placed again when they cascade.
+//
+// Threads: schedule() and cancel() may be called from any thread and only
+// touch lock-free queues and a CAS on the timeout. A single tick thread
+// owns the wheels: it wakes once per tick, links new timeouts in, unlinks
+// cancelled ones, and hands expired tasks to the executor in batches of up
+// to batchSize, so a busy tick costs the executor a few submissions rather
+// than one per task.
+//
+// Metrics: tick skew (how late the tick thread woke, mean and max),
+// pending timeouts, the executor backlog (handed off, not yet run), and
+// tasks dropped because the executor rejected them.
+public final class TimerWheel implements AutoCloseable {
+
+    // 256 slots: a tick index splits into whole bytes, one per level
+    static final int DEFAULT_WHEEL_SIZE = 256;
+
+    // 4 levels of 256 slots at 1 ms cover 2^32 ms, about 49 days
+    static final int DEFAULT_LEVELS = 4;
+
+    static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // Expired tasks per executor submission
+    static final int DEFAULT_BATCH_SIZE = 64;
+
+    // Longer delays are clamped, as in ScheduledThreadPoolExecutor: about 146
+    // years, so deadlines never overflow and such tasks simply never come due
+    static final long MAX_DELAY_NANOS = Long.MAX_VALUE >> 1;
+
+    private final long tickNanos;
+    private final int wheelBits;
+    private final int wheelMask;
+    private final int levels;
+    private final int batchSize;
+    private final Executor executor;
+    private final long startNanos;
+
+    // Heads of the slot lists, by level and slot; tick thread only
+    private final Timeout[][] slots;
+    // Last tick whose level 0 slot has expired; tick thread only
+    private long processedTick;
+
+    private final ConcurrentLinkedQueue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Thread tickThread;
+    private volatile boolean running;
+
+    private final LongAdder pending = new LongAdder();
+    private final LongAdder handedOff = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    // Written by the tick thread only
+    private volatile long skewTotalNanos;
+    private volatile long skewMaxNanos;
+    private volatile long wakeUps;
+
+    private TimerWheel(Builder builder) {
+        tickNanos = builder.tickNanos;
+        wheelBits = Integer.numberOfTrailingZeros(builder.wheelSize);
+        wheelMask = builder.wheelSize - 1;
+        levels = builder.levels;
+        batchSize = builder.batchSize;
+        executor = builder.executor;
+        slots = new Timeout[levels][builder.wheelSize];
+        startNanos = System.nanoTime();
+        tickThread = new Thread(this::runTicks, "timer-wheel");
+        tickThread.setDaemon(true);
+    }
+
+    // ========================================
+    // Timeouts
+    // ========================================
+
+    // A scheduled task; cancel() is O(1) and safe from any thread
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimerWheel wheel;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final long deadlineTick;
+        private volatile int state;
+
+        // Slot list links; tick thread only. level is -1 while not linked.
+        private Timeout prev;
+        private Timeout next;
+        private int level = -1;
+        private int slot;
+
+        private Timeout(TimerWheel wheel, Runnable task, long deadlineNanos, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public Runnable task() {
+            return task;
+        }
+
+        // System.nanoTime() at which the task is due
+        public long deadlineNanos() {
+            return deadlineNanos;
+        }
+
+        // Returns false if the task already expired or was cancelled
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            wheel.pending.decrement();
+            wheel.cancelled.offer(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        // Handed to the executor; it may not have run yet
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+
+    // ========================================
+    // Operations
+    // ========================================
+
+    private TimerWheel start() {
+        running = true;
+        tickThread.start();
+        return this;
+    }
+
+    // Runs task on the executor once delay has passed, rounded up to a tick
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timer wheel is not running");
+        }
+        // toNanos saturates, so the clamp also covers Long.MAX_VALUE in any unit
+        long delayNanos = Math.min(Math.max(0, unit.toNanos(delay)), MAX_DELAY_NANOS);
+        long now = System.nanoTime();
+        long deadlineNanos = now + delayNanos;
+        long elapsed = now - startNanos + delayNanos;
+        // Rounded up, so nothing runs early
+        long deadlineTick = elapsed / tickNanos + (elapsed % tickNanos == 0 ? 0 : 1);
+        Timeout timeout = new Timeout(this, task, deadlineNanos, deadlineTick);
+        pending.increment();
+        scheduled.offer(timeout);
+        return timeout;
+    }
+
+    // Stops the tick thread; pending timeouts never run
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(tickThread);
+        try {
+            tickThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ========================================
+    // Metrics
+    // ========================================
+
+    // Scheduled, neither expired nor cancelled
+    public long pending() {
+        return pending.sum();
+    }
+
+    // Expired and handed to the executor, not yet run
+    public long executorBacklog() {
+        return handedOff.sum() - completed.sum();
+    }
+
+    public long completed() {
+        return completed.sum();
+    }
+
+    // Expired but never run, because the executor rejected their batch
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    // How late the tick thread woke past the tick it was waiting for
+    public double meanTickSkewMillis() {
+        long count = wakeUps;
+        return count == 0 ? 0 : skewTotalNanos / 1e6 / count;
+    }
+
+    public double maxTickSkewMillis() {
+        return skewMaxNanos / 1e6;
+    }
+
+    // ========================================
+    // Tick Thread
+    // ========================================
+
+    private void runTicks() {
+        List<Runnable> batch = new ArrayList<>(batchSize);
+        while (running) {
+            long now = System.nanoTime();
+            long nowTick = (now - startNanos) / tickNanos;
+            if (nowTick <= processedTick) {
+                LockSupport.parkNanos(startNanos + (processedTick + 1) * tickNanos - now);
+                continue;
+            }
+            long skew = now - startNanos - (processedTick + 1) * tickNanos;
+            skewTotalNanos += skew;
+            skewMaxNanos = Math.max(skewMaxNanos, skew);
+            wakeUps++;
+
+            unlinkCancelled();
+            linkScheduled(batch);
+            // Catches up one tick at a time if the thread woke late
+            while (processedTick < nowTick) {
+                long tick = processedTick + 1;
+                cascade(tick);
+                expire(tick, batch);
+                processedTick = tick;
+            }
+            handOff(batch);
+        }
+    }
+
+    private void unlinkCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.level >= 0) {
+                unlink(timeout);
+            }
+        }
+    }
+
+    private void linkScheduled(List<Runnable> batch) {
+        Timeout timeout;
+        while ((timeout = scheduled.poll()) != null) {
+            if (timeout.state != Timeout.PENDING) {
+                continue;
+            }
+            if (timeout.deadlineTick <= processedTick) {
+                expireOne(timeout, batch);
+            } else {
+                place(timeout, processedTick);
+            }
+        }
+    }
+
+    // Empties the slot of each coarser level whose turn starts at tick
+    private void cascade(long tick) {
+        for (int level = 1; level < levels; level++) {
+            int shift = level * wheelBits;
+            if ((tick & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) (tick >>> shift) & wheelMask;
+            Timeout timeout = slots[level][slot];
+            slots[level][slot] = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.level = -1;
+                if (timeout.state == Timeout.PENDING) {
+                    // tick's own level 0 slot has not expired yet, so tick is the base
+                    place(timeout, tick);
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    // Links timeout into the finest level whose wheel reaches its deadline
+    // from base; deadlineTick >= base, and > base once base's slot expired
+    private void place(Timeout timeout, long base) {
+        long deadline = timeout.deadlineTick;
+        long delta = deadline - base;
+        int level = 0;
+        while (level < levels - 1 && delta >= 1L << ((level + 1) * wheelBits)) {
+            level++;
+        }
+        int shift = level * wheelBits;
+        if (level == levels - 1 && delta >= 1L << (levels * wheelBits)) {
+            // Past the top wheel: park in its farthest slot, place again on cascade
+            deadline = base + (1L << (levels * wheelBits)) - 1;
+        }
+        int slot = (int) (deadline >>> shift) & wheelMask;
+        Timeout head = slots[level][slot];
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+        timeout.level = level;
+        timeout.slot = slot;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.level = -1;
+    }
+
+    // Expires the level 0 slot of tick
+    private void expire(long tick, List<Runnable> batch) {
+        int slot = (int) tick & wheelMask;
+        Timeout timeout = slots[0][slot];
+        slots[0][slot] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.level = -1;
+            if (timeout.deadlineTick > tick) {
+                // Parked past a single-level wheel; goes round again
+                place(timeout, tick);
+            } else {
+                expireOne(timeout, batch);
+            }
+            timeout = next;
+        }
+    }
+
+    private void expireOne(Timeout timeout, List<Runnable> batch) {
+        if (!Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) {
+            return;
+        }
+        pending.decrement();
+        batch.add(timeout.task);
+        if (batch.size() == batchSize) {
+            handOff(batch);
+        }
+    }
+
+    private void handOff(List<Runnable> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Runnable[] tasks = batch.toArray(new Runnable[0]);
+        batch.clear();
+        handedOff.add(tasks.length);
+        try {
+            executor.execute(() -> {
+                for (Runnable task : tasks) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        // Reported without dropping the rest of the batch
+                        reportUncaught(e);
+                    } finally {
+                        completed.increment();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // A shut down or saturated executor must not kill the tick thread;
+            // the batch is dropped and counted, later ones are still offered
+            handedOff.add(-tasks.length);
+            dropped.add(tasks.length);
+            reportUncaught(e);
+        }
+    }
+
+    // Reported like an uncaught exception, without the thread dying
+    private static void reportUncaught(RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    // ========================================
+    // Performance Comparison
+    // ========================================
+
+    // DelayQueue element: a task and its deadline
+    private static final class DelayedTask implements Delayed {
+        final Runnable task;
+        final long deadlineNanos;
+
+        DelayedTask(Runnable task, long delayNanos) {
+            this.task = task;
+            this.deadlineNanos = System.nanoTime() + delayNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(deadlineNanos, ((DelayedTask) other).deadlineNanos);
+        }
+    }
+
+    // Keeps backlog timeouts pending, then schedules one and cancels the
+    // oldest, the lifecycle of a request timeout that is almost never hit;
+    // afterwards runs short timers to measure how late they fire
+    public static void performanceComparison(int backlog, int operations) {
+        System.out.println("\n════════════════════════════════════════════════");
+        System.out.printf("   %,d PENDING TIMEOUTS%n", backlog);
+        System.out.println("════════════════════════════════════════════════\n");
+
+        Random random = new Random(42);
+        long[] delays = new long[operations + backlog];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = TimeUnit.SECONDS.toNanos(1 + random.nextInt(60));
+        }
+        Runnable noop = () -> { };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        System.out.println("Schedule one + cancel the oldest, M ops/s:");
+        try (TimerWheel wheel = builder().executor(executor).build()) {
+            Timeout[] ring = new Timeout[backlog];
+            for (int i = 0; i < backlog; i++) {
+                ring[i] = wheel.schedule(noop, delays[i], TimeUnit.NANOSECONDS);
+            }
+            report("TimerWheel", operations, time(() -> {
+                for (int i = 0; i < operations; i++) {
+                    int oldest = i % backlog;
+                    ring[oldest].cancel();
+                    ring[oldest] = wheel.schedule(noop, delays[backlog + i], TimeUnit.NANOSECONDS);
+                }
+            }));
+        }
+
+        ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(1);
+        // Otherwise cancelled tasks stay in the heap until their deadline
+        pool.setRemoveOnCancelPolicy(true);
+        ScheduledFuture<?>[] futures = new ScheduledFuture<?>[backlog];
+        for (int i = 0; i < backlog; i++) {
+            futures[i] = pool.schedule(noop, delays[i], TimeUnit.NANOSECONDS);
+        }
+        report("ScheduledThreadPoolExecutor", operations, time(() -> {
+            for (int i = 0; i < operations; i++) {
+                int oldest = i % backlog;
+                futures[oldest].cancel(false);
+                futures[oldest] = pool.schedule(noop, delays[backlog + i], TimeUnit.NANOSECONDS);
+            }
+        }));
+        pool.shutdownNow();
+
+        // remove(Object) is a linear scan, so DelayQueue gets fewer operations
+        int delayQueueOperations = (int) Math.min(operations, 1_000_000_000L / backlog / 10);
+        DelayQueue<DelayedTask> delayQueue = new DelayQueue<>();
+        DelayedTask[] delayed = new DelayedTask[backlog];
+        for (int i = 0; i < backlog; i++) {
+            delayed[i] = new DelayedTask(noop, delays[i]);
+            delayQueue.offer(delayed[i]);
+        }
+        report("DelayQueue", delayQueueOperations, time(() -> {
+            for (int i = 0; i < delayQueueOperations; i++) {
+                int oldest = i % backlog;
+                delayQueue.remove(delayed[oldest]);
+                delayed[oldest] = new DelayedTask(noop, delays[backlog + i]);
+                delayQueue.offer(delayed[oldest]);
+            }
+        }));
+
+        int timers = 20_000;
+        long window = TimeUnit.MILLISECONDS.toNanos(500);
+        System.out.printf("%,d timers due within 500 ms, lateness mean / max:%n", timers);
+        try (TimerWheel wheel = builder().executor(executor).build()) {
+            lateness("TimerWheel", timers, window, (task, delay) -> wheel.schedule(task, delay, TimeUnit.NANOSECONDS));
+            System.out.printf("    tick skew %.3f / %.3f ms, %,d pending, executor backlog %,d%n",
+                    wheel.meanTickSkewMillis(), wheel.maxTickSkewMillis(), wheel.pending(), wheel.executorBacklog());
+        }
+        ScheduledThreadPoolExecutor timerPool = new ScheduledThreadPoolExecutor(2);
+        lateness("ScheduledThreadPoolExecutor", timers, window,
+                (task, delay) -> timerPool.schedule(task, delay, TimeUnit.NANOSECONDS));
+        timerPool.shutdownNow();
+        DelayQueue<DelayedTask> timerQueue = new DelayQueue<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                while (true) {
+                    timerQueue.take().task.run();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        lateness("DelayQueue", timers, window, (task, delay) -> timerQueue.offer(new DelayedTask(task, delay)));
+        consumer.interrupt();
+        executor.shutdown();
+    }
+
+    private interface Scheduler {
+        void schedule(Runnable task, long delayNanos);
+    }
+
+    private static void lateness(String label, int timers, long window, Scheduler scheduler) {
+        CountDownLatch done = new CountDownLatch(timers);
+        LongAdder totalLate = new LongAdder();
+        long[] maxLate = {0};
+        Random random = new Random(7);
+        for (int i = 0; i < timers; i++) {
+            long delay = (long) (random.nextDouble() * window);
+            long deadline = System.nanoTime() + delay;
+            scheduler.schedule(() -> {
+                long late = System.nanoTime() - deadline;
+                totalLate.add(late);
+                synchronized (maxLate) {
+                    maxLate[0] = Math.max(maxLate[0], late);
+                }
+                done.countDown();
+            }, delay);
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        System.out.printf("  %-28s %7.3f / %7.3f ms%n", label + ":", totalLate.sum() / 1e6 / timers, maxLate[0] / 1e6);
+    }
+
+    private static void report(String label, int operations, double millis) {
+        System.out.printf("  %-28s %7.2f%n", label + ":", operations / millis / 1_000);
+    }
+
+    // Best of a few runs, after one warmup run
+    private static double time(Runnable work) {
+        work.run();
+        double best = Double.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            work.run();
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000.0);
+        }
+        return best;
+    }
+
+    // ========================================
+    // Main Method with Examples
+    // ========================================
+
+    public static void main(String[] args) throws InterruptedException {
+        System.out.println("=== Delayed Tasks: most urgent due first ===\n");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (TimerWheel wheel = builder().executor(executor).build()) {
+            Task[] tasks = {
+                    new Task("Write report", 3),
+                    new Task("Fix critical bug", 10),
+                    new Task("Code review", 5),
+                    new Task("Update documentation", 2)
+            };
+            long start = System.nanoTime();
+            Timeout[] timeouts = new Timeout[tasks.length];
+            for (int i = 0; i < tasks.length; i++) {
+                Task task = tasks[i];
+                // 20 ms per point of urgency short of 10
+                timeouts[i] = wheel.schedule(() -> System.out.printf("  %4d ms: %s%n",
+                        (System.nanoTime() - start) / 1_000_000, task), (10 - task.urgency) * 20L, TimeUnit.MILLISECONDS);
+            }
+            System.out.println("Cancelling \"Update documentation\": " + timeouts[3].cancel());
+            Thread.sleep(250);
+            System.out.printf("Pending %d, completed %d, tick skew mean %.3f ms, max %.3f ms%n",
+                    wheel.pending(), wheel.completed(), wheel.meanTickSkewMillis(), wheel.maxTickSkewMillis());
+        }
+        executor.shutdown();
+
+        int backlog = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        performanceComparison(backlog, 1_000_000);
+    }
+
+    // ========================================
+    // Builder
+    // ========================================
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private long tickNanos = DEFAULT_TICK_NANOS;
+        private int wheelSize = DEFAULT_WHEEL_SIZE;
+        private int levels = DEFAULT_LEVELS;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        public Builder tick(long duration, TimeUnit unit) {
+            long nanos = unit.toNanos(duration);
+            if (nanos <= 0) {
+                throw new IllegalArgumentException("Tick must be positive: " + duration + " " + unit);
+            }
+            this.tickNanos = nanos;
+            return this;
+        }
+
+        public Builder wheelSize(int wheelSize) {
+            if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+                throw new IllegalArgumentException("Wheel size must be a power of two >= 2: " + wheelSize);
+            }
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        public Builder levels(int levels) {
+            if (levels < 1) {
+                throw new IllegalArgumentException("Levels must be positive: " + levels);
+            }
+            this.levels = levels;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        // Where expired tasks run; required
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        // A started wheel
+        public TimerWheel build() {
+            if (executor == null) {
+                throw new IllegalStateException("An executor is required");
+            }
+            // Slot indexes are shifts of a long tick count
+            if (levels * Integer.numberOfTrailingZeros(wheelSize) >= Long.SIZE - 1) {
+                throw new IllegalStateException("Levels of " + wheelSize + " slots span more than 62 bits: " + levels);
+            }
+            return new TimerWheel(this).start();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.pcgs.core.java.pocs;
+
+import junit.framework.Assert;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Thread harness shared by the concurrent stress tests
+public final class ConcurrentTestSupport {
+
+    private ConcurrentTestSupport() {
+    }
+
+    // What one thread does; t is its index
+    public interface Worker {
+        void run(int t) throws Exception;
+    }
+
+    // Starts threads threads together, each running worker with its index,
+    // and rethrows the first failure of any of them. A thread waiting for an
+    // element a broken structure lost would wait forever, so the threads are
+    // daemons and the test fails if they are not done within timeoutMillis.
+    public static void runThreads(int threads, long timeoutMillis, Worker worker) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] running = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            running[t] = new Thread(() -> {
+                try {
+                    start.await();
+                    worker.run(index);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            running[t].setDaemon(true);
+            running[t].start();
+        }
+        start.countDown();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (Thread thread : running) {
+            thread.join(Math.max(1, deadline - System.currentTimeMillis()));
+            if (thread.isAlive() && failure.get() == null) {
+                Assert.fail("Threads still running after " + timeoutMillis + " ms");
+            }
+        }
+        Throwable first = failure.get();
+        if (first instanceof Exception) {
+            throw (Exception) first;
+        } else if (first != null) {
+            throw (Error) first;
+        }
+    }
+}
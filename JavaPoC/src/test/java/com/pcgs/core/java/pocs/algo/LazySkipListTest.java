@@ -0,0 +1,117 @@
+package com.pcgs.core.java.pocs.algo;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.pcgs.core.java.pocs.ConcurrentTestSupport.runThreads;
+
+// Stress tests: several writers at once must neither lose nor duplicate
+// entries, and readers running alongside must always see keys in order
+public class LazySkipListTest extends TestCase {
+
+    private static final int THREADS = 4;
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    public void testConcurrentInsertsOfDisjointKeys() throws Exception {
+        int perThread = 20_000;
+        LazySkipList<Integer> list = new LazySkipList<>();
+        runThreads(THREADS, TIMEOUT_MILLIS, t -> {
+            for (int i = 0; i < perThread; i++) {
+                int key = i * THREADS + t;
+                assertNull(list.putIfAbsent(key, key));
+            }
+        });
+
+        int total = perThread * THREADS;
+        assertEquals(total, list.size());
+        long[] expected = {0};
+        int visited = list.scan(Long.MIN_VALUE, Long.MAX_VALUE, (key, value) -> {
+            assertEquals(expected[0]++, key);
+            assertEquals((int) key, (int) value);
+        });
+        assertEquals(total, visited);
+    }
+
+    public void testRacingPutIfAbsentHasOneWinnerPerKey() throws Exception {
+        int keys = 10_000;
+        LazySkipList<Integer> list = new LazySkipList<>();
+        AtomicInteger[] winners = new AtomicInteger[keys];
+        for (int k = 0; k < keys; k++) {
+            winners[k] = new AtomicInteger(-1);
+        }
+        runThreads(THREADS, TIMEOUT_MILLIS, t -> {
+            // Every thread walks the same keys, from a different start
+            for (int i = 0; i < keys; i++) {
+                int key = (i + t * keys / THREADS) % keys;
+                if (list.putIfAbsent(key, t) == null) {
+                    assertTrue("two winners for " + key, winners[key].compareAndSet(-1, t));
+                }
+            }
+        });
+
+        assertEquals(keys, list.size());
+        for (int k = 0; k < keys; k++) {
+            assertEquals(winners[k].get(), (int) list.get(k));
+        }
+    }
+
+    public void testMixedWritesMatchModelWhileReadersScan() throws Exception {
+        int operations = 50_000;
+        int keysPerThread = 512;
+        LazySkipList<Long> list = new LazySkipList<>();
+        List<Map<Long, Long>> models = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            models.add(new TreeMap<>());
+        }
+        CountDownLatch writersDone = new CountDownLatch(THREADS);
+
+        runThreads(THREADS + 2, TIMEOUT_MILLIS, t -> {
+            if (t >= THREADS) {
+                // Readers: every scan must be strictly ascending
+                while (writersDone.getCount() > 0) {
+                    long[] previous = {Long.MIN_VALUE};
+                    list.forEach((key, value) -> {
+                        assertTrue(key > previous[0]);
+                        previous[0] = key;
+                    });
+                    Thread.yield();
+                }
+                return;
+            }
+            // Writers: own the keys congruent to t, so each can keep an exact model
+            try {
+                Random random = new Random(t);
+                Map<Long, Long> model = models.get(t);
+                for (int i = 0; i < operations; i++) {
+                    long key = (long) random.nextInt(keysPerThread) * THREADS + t;
+                    if (random.nextBoolean()) {
+                        assertEquals(model.put(key, (long) i), list.put(key, (long) i));
+                    } else {
+                        assertEquals(model.remove(key), list.remove(key));
+                    }
+                }
+            } finally {
+                writersDone.countDown();
+            }
+        });
+
+        TreeMap<Long, Long> expected = new TreeMap<>();
+        for (Map<Long, Long> model : models) {
+            expected.putAll(model);
+        }
+        assertEquals(expected.size(), list.size());
+        List<Long> keys = new ArrayList<>();
+        list.forEach((key, value) -> {
+            assertEquals(expected.get(key), value);
+            keys.add(key);
+        });
+        assertEquals(new ArrayList<>(expected.keySet()), keys);
+    }
+}
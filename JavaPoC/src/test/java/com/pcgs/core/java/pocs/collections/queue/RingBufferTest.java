@@ -0,0 +1,165 @@
+package com.pcgs.core.java.pocs.collections.queue;
+
+import junit.framework.TestCase;
+
+import java.util.List;
+
+import static com.pcgs.core.java.pocs.ConcurrentTestSupport.runThreads;
+
+// Stress tests for SpscRingBuffer and MpscRingBuffer: with producers and the
+// consumer running at once through a small queue that keeps filling up,
+// nothing may be lost, duplicated or reordered within a producer
+public class RingBufferTest extends TestCase {
+
+    private static final int CAPACITY = 64;
+    private static final int MESSAGES = 200_000;
+    private static final int PRODUCERS = 3;
+    private static final int BATCH = 16;
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    public void testEmptyAndFullQueue() {
+        List<RingBuffer<Integer>> queues = List.of(new SpscRingBuffer<>(5), new MpscRingBuffer<>(5));
+        for (RingBuffer<Integer> queue : queues) {
+            assertEquals(8, queue.capacity());
+            assertNull(queue.poll());
+            assertNull(queue.peek());
+            for (int i = 0; i < 8; i++) {
+                assertTrue(queue.offer(i));
+            }
+            assertFalse(queue.offer(8));
+            assertTrue(queue.isFull());
+            assertEquals(0, (int) queue.peek());
+            for (int i = 0; i < 8; i++) {
+                assertEquals(i, (int) queue.poll());
+            }
+            assertTrue(queue.isEmpty());
+            try {
+                queue.offer(null);
+                fail("null accepted");
+            } catch (NullPointerException expected) {
+                // Nulls mark empty slots
+            }
+        }
+    }
+
+    public void testBatchWithNullWritesNothing() {
+        List<RingBuffer<Integer>> queues = List.of(new SpscRingBuffer<>(8), new MpscRingBuffer<>(8));
+        for (RingBuffer<Integer> queue : queues) {
+            try {
+                queue.offerBatch(new Integer[]{1, 2, null, 4}, 0, 4);
+                fail("null accepted");
+            } catch (NullPointerException expected) {
+                // Checked before any slot is written
+            }
+            assertTrue(queue.isEmpty());
+            assertNull(queue.poll());
+            assertEquals(2, queue.offerBatch(new Integer[]{5, 6}, 0, 2));
+            assertEquals(5, (int) queue.poll());
+            assertEquals(6, (int) queue.poll());
+        }
+    }
+
+    public void testSpscPutTakeKeepsOrder() throws Exception {
+        SpscRingBuffer<Integer> queue = new SpscRingBuffer<>(CAPACITY);
+        runThreads(2, TIMEOUT_MILLIS, t -> {
+            if (t == 0) {
+                for (int i = 0; i < MESSAGES; i++) {
+                    queue.put(i);
+                }
+            } else {
+                for (int i = 0; i < MESSAGES; i++) {
+                    assertEquals(i, (int) queue.take());
+                }
+            }
+        });
+        assertTrue(queue.isEmpty());
+    }
+
+    public void testSpscBatchesKeepOrder() throws Exception {
+        SpscRingBuffer<Integer> queue = new SpscRingBuffer<>(CAPACITY);
+        runThreads(2, TIMEOUT_MILLIS, t -> {
+            if (t == 0) {
+                Integer[] batch = new Integer[BATCH];
+                for (int sent = 0; sent < MESSAGES; ) {
+                    int count = Math.min(BATCH, MESSAGES - sent);
+                    for (int i = 0; i < count; i++) {
+                        batch[i] = sent + i;
+                    }
+                    int offered = queue.offerBatch(batch, 0, count);
+                    if (offered == 0) {
+                        Thread.yield();
+                    }
+                    sent += offered;
+                }
+            } else {
+                int[] next = {0};
+                while (next[0] < MESSAGES) {
+                    int drained = queue.drain(element -> assertEquals(next[0]++, (int) element), BATCH);
+                    if (drained == 0) {
+                        Thread.yield();
+                    }
+                }
+            }
+        });
+        assertTrue(queue.isEmpty());
+    }
+
+    public void testMpscPutTakeLosesAndDuplicatesNothing() throws Exception {
+        MpscRingBuffer<Integer> queue = new MpscRingBuffer<>(CAPACITY);
+        int perProducer = MESSAGES / PRODUCERS;
+        runThreads(PRODUCERS + 1, TIMEOUT_MILLIS, t -> {
+            if (t < PRODUCERS) {
+                for (int i = 0; i < perProducer; i++) {
+                    queue.put(t * perProducer + i);
+                }
+            } else {
+                int[] next = new int[PRODUCERS];
+                for (int i = 0; i < PRODUCERS * perProducer; i++) {
+                    checkNext(next, perProducer, queue.take());
+                }
+            }
+        });
+        assertTrue(queue.isEmpty());
+    }
+
+    public void testMpscBatchesLoseAndDuplicateNothing() throws Exception {
+        MpscRingBuffer<Integer> queue = new MpscRingBuffer<>(CAPACITY);
+        int perProducer = MESSAGES / PRODUCERS;
+        runThreads(PRODUCERS + 1, TIMEOUT_MILLIS, t -> {
+            if (t < PRODUCERS) {
+                Integer[] batch = new Integer[BATCH];
+                for (int sent = 0; sent < perProducer; ) {
+                    int count = Math.min(BATCH, perProducer - sent);
+                    for (int i = 0; i < count; i++) {
+                        batch[i] = t * perProducer + sent + i;
+                    }
+                    int offered = queue.offerBatch(batch, 0, count);
+                    if (offered == 0) {
+                        Thread.yield();
+                    }
+                    sent += offered;
+                }
+            } else {
+                int[] next = new int[PRODUCERS];
+                int[] received = {0};
+                while (received[0] < PRODUCERS * perProducer) {
+                    int drained = queue.drain(element -> {
+                        checkNext(next, perProducer, element);
+                        received[0]++;
+                    }, BATCH);
+                    if (drained == 0) {
+                        Thread.yield();
+                    }
+                }
+            }
+        });
+        assertTrue(queue.isEmpty());
+    }
+
+    // Each producer's messages must arrive in the order it sent them, which
+    // also rules out losing or repeating one
+    private static void checkNext(int[] next, int perProducer, int message) {
+        int producer = message / perProducer;
+        assertEquals(next[producer]++, message % perProducer);
+    }
+}
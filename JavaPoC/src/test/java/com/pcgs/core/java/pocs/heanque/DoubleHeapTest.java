@@ -0,0 +1,50 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import junit.framework.TestCase;
+
+// A rejected NaN must leave the heap exactly as it was: same size, same
+// handles, same poll order
+public class DoubleHeapTest extends TestCase {
+
+    public void testRejectedNaNInsertLeavesHeapUnchanged() {
+        for (boolean trackHandles : new boolean[]{false, true}) {
+            DoubleHeap heap = PrimitiveHeap.builder().trackHandles(trackHandles).buildDouble();
+            heap.insert(5.0);
+            int seven = heap.insert(7.0);
+            try {
+                heap.insert(Double.NaN);
+                fail("NaN accepted");
+            } catch (IllegalArgumentException expected) {
+                // NaN cannot be ordered
+            }
+
+            assertEquals(2, heap.size());
+            if (trackHandles) {
+                assertEquals(7.0, heap.valueOf(seven));
+                // The next handle is the one NaN would have taken, and is live
+                int three = heap.insert(3.0);
+                assertEquals(3.0, heap.valueOf(three));
+                assertEquals(3.0, heap.poll());
+            }
+            assertEquals(5.0, heap.poll());
+            assertEquals(7.0, heap.poll());
+            assertTrue(heap.isEmpty());
+        }
+    }
+
+    public void testRejectedNaNInsertAtFullCapacityLeavesHeapUnchanged() {
+        DoubleHeap heap = PrimitiveHeap.builder().trackHandles(true).initialCapacity(2).buildDouble();
+        heap.insert(2.0);
+        heap.insert(1.0);
+        try {
+            heap.insert(Double.NaN);
+            fail("NaN accepted");
+        } catch (IllegalArgumentException expected) {
+            // NaN cannot be ordered
+        }
+        assertEquals(2, heap.size());
+        assertEquals(1.0, heap.poll());
+        assertEquals(2.0, heap.poll());
+        assertTrue(heap.isEmpty());
+    }
+}
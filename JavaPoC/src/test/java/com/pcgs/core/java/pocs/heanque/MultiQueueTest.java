@@ -0,0 +1,136 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import com.pcgs.core.java.pocs.heanque.PriorityQueueDemo.Task;
+import junit.framework.TestCase;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static com.pcgs.core.java.pocs.ConcurrentTestSupport.runThreads;
+
+// Stress tests for MultiQueue and TaskScheduler: with producers and
+// consumers running at once, every element must come out exactly once,
+// relaxed or not, and a strict queue must keep exact priority order
+public class MultiQueueTest extends TestCase {
+
+    private static final int PRODUCERS = 3;
+    private static final int CONSUMERS = 3;
+    private static final int PER_PRODUCER = 30_000;
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    public void testRelaxedQueueLosesAndDuplicatesNothing() throws Exception {
+        checkEveryElementOnce(new MultiQueue<>(PRODUCERS + CONSUMERS));
+    }
+
+    public void testStrictQueueLosesAndDuplicatesNothing() throws Exception {
+        checkEveryElementOnce(MultiQueue.strict());
+    }
+
+    private static void checkEveryElementOnce(MultiQueue<Integer> queue) throws Exception {
+        int total = PRODUCERS * PER_PRODUCER;
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger taken = new AtomicInteger();
+        runThreads(PRODUCERS + CONSUMERS, TIMEOUT_MILLIS, t -> {
+            if (t < PRODUCERS) {
+                Random random = new Random(t);
+                for (int i = 0; i < PER_PRODUCER; i++) {
+                    queue.offer(random.nextInt(1_000), t * PER_PRODUCER + i);
+                }
+                return;
+            }
+            while (taken.get() < total) {
+                Integer element = queue.poll();
+                if (element == null) {
+                    Thread.yield();
+                    continue;
+                }
+                assertEquals("taken twice: " + element, 1, seen.incrementAndGet(element));
+                taken.incrementAndGet();
+            }
+        });
+
+        assertEquals(total, taken.get());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    public void testRelaxedPollOnlyReturnsNullWhenEmpty() {
+        // Many heaps and few elements: two random picks are usually both empty
+        MultiQueue<Integer> queue = new MultiQueue<>(64);
+        for (int round = 0; round < 1_000; round++) {
+            queue.offer(round, round);
+            assertEquals(round, (int) queue.poll());
+            assertNull(queue.poll());
+        }
+    }
+
+    public void testStrictQueuePollsInPriorityOrder() throws Exception {
+        MultiQueue<Long> queue = MultiQueue.strict();
+        runThreads(PRODUCERS, TIMEOUT_MILLIS, t -> {
+            Random random = new Random(t);
+            for (int i = 0; i < PER_PRODUCER; i++) {
+                long priority = random.nextInt();
+                queue.offer(priority, priority);
+            }
+        });
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < PRODUCERS * PER_PRODUCER; i++) {
+            long priority = queue.poll();
+            assertTrue(priority >= previous);
+            previous = priority;
+        }
+        assertNull(queue.poll());
+        assertEquals(0.0, queue.inversionRate());
+    }
+
+    public void testSchedulerDispatchesEveryTaskOnce() throws Exception {
+        TaskScheduler<Task> scheduler = TaskScheduler.forTasks(PRODUCERS + CONSUMERS);
+        int total = PRODUCERS * PER_PRODUCER;
+        Task[] tasks = new Task[total];
+        Random random = new Random(42);
+        for (int i = 0; i < total; i++) {
+            tasks[i] = new Task(Integer.toString(i), random.nextInt(10));
+        }
+        AtomicIntegerArray seen = new AtomicIntegerArray(total);
+        AtomicInteger ran = new AtomicInteger();
+        runThreads(PRODUCERS + CONSUMERS, TIMEOUT_MILLIS, t -> {
+            if (t < PRODUCERS) {
+                for (int i = 0; i < PER_PRODUCER; i++) {
+                    scheduler.submit(tasks[t * PER_PRODUCER + i]);
+                }
+                return;
+            }
+            while (ran.get() < total) {
+                int dispatched = scheduler.dispatch(task -> {
+                    int id = Integer.parseInt(task.description);
+                    assertEquals("dispatched twice: " + id, 1, seen.incrementAndGet(id));
+                }, 16);
+                if (dispatched == 0) {
+                    Thread.yield();
+                }
+                ran.addAndGet(dispatched);
+            }
+        });
+
+        assertEquals(total, ran.get());
+        assertEquals(total, scheduler.submitted());
+        assertEquals(total, scheduler.dispatched());
+        assertEquals(0, scheduler.pending());
+    }
+
+    public void testStrictSchedulerDispatchesMostUrgentFirst() {
+        TaskScheduler<Task> scheduler = TaskScheduler.strict(task -> task.urgency);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            scheduler.submit(new Task("task " + i, random.nextInt(100)));
+        }
+        int previous = Integer.MAX_VALUE;
+        Task task;
+        while ((task = scheduler.next()) != null) {
+            assertTrue(task.urgency <= previous);
+            previous = task.urgency;
+        }
+        assertEquals(10_000, scheduler.dispatched());
+    }
+}
@@ -0,0 +1,165 @@
+package com.pcgs.core.java.pocs.heanque;
+
+import com.pcgs.core.java.pocs.heanque.TimerWheel.Timeout;
+import junit.framework.TestCase;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.pcgs.core.java.pocs.ConcurrentTestSupport.runThreads;
+
+// Stress tests for TimerWheel: timeouts scheduled from many threads run
+// once and never early, a cancel either wins or the task runs, and neither
+// huge delays nor a rejecting executor break the tick thread
+public class TimerWheelTest extends TestCase {
+
+    private static final int THREADS = 4;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private ExecutorService executor;
+
+    @Override
+    protected void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @Override
+    protected void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public void testConcurrentSchedulesRunOnceAndNeverEarly() throws Exception {
+        int perThread = 2_000;
+        int total = THREADS * perThread;
+        AtomicIntegerArray runs = new AtomicIntegerArray(total);
+        AtomicInteger early = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(total);
+        try (TimerWheel wheel = TimerWheel.builder().executor(executor).build()) {
+            runThreads(THREADS, TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS), t -> {
+                Random random = new Random(t);
+                for (int i = 0; i < perThread; i++) {
+                    int id = t * perThread + i;
+                    long delayNanos = TimeUnit.MICROSECONDS.toNanos(random.nextInt(50_000));
+                    long scheduled = System.nanoTime();
+                    wheel.schedule(() -> {
+                        if (System.nanoTime() - scheduled < delayNanos) {
+                            early.incrementAndGet();
+                        }
+                        runs.incrementAndGet(id);
+                        done.countDown();
+                    }, delayNanos, TimeUnit.NANOSECONDS);
+                }
+            });
+            assertTrue("timeouts still pending", done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(0, early.get());
+            for (int id = 0; id < total; id++) {
+                assertEquals(1, runs.get(id));
+            }
+            assertEquals(0, wheel.pending());
+        }
+    }
+
+    public void testCancelEitherWinsOrTaskRuns() throws Exception {
+        int total = 20_000;
+        Timeout[] timeouts = new Timeout[total];
+        AtomicIntegerArray runs = new AtomicIntegerArray(total);
+        boolean[] cancelled = new boolean[total];
+        try (TimerWheel wheel = TimerWheel.builder().executor(executor).build()) {
+            // Cancels race with expiry: delays are a few ticks at most
+            Random random = new Random(1);
+            for (int i = 0; i < total; i++) {
+                int id = i;
+                timeouts[i] = wheel.schedule(() -> runs.incrementAndGet(id), random.nextInt(4), TimeUnit.MILLISECONDS);
+            }
+            runThreads(2, TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS), t -> {
+                // Both threads try every other timeout; only one cancel may succeed
+                for (int i = 0; i < total; i += 2) {
+                    if (timeouts[i].cancel()) {
+                        synchronized (cancelled) {
+                            assertFalse("cancelled twice: " + i, cancelled[i]);
+                            cancelled[i] = true;
+                        }
+                    }
+                }
+            });
+            int cancels = 0;
+            for (boolean c : cancelled) {
+                cancels += c ? 1 : 0;
+            }
+            waitUntilIdle(wheel, total - cancels);
+
+            for (int i = 0; i < total; i++) {
+                boolean ran = runs.get(i) == 1;
+                assertTrue("ran more than once: " + i, runs.get(i) <= 1);
+                assertTrue("neither cancelled nor run: " + i, ran != cancelled[i]);
+                assertEquals(cancelled[i], timeouts[i].isCancelled());
+                assertEquals(ran, timeouts[i].isExpired());
+            }
+        }
+    }
+
+    public void testHugeDelaysNeverRun() throws Exception {
+        AtomicInteger ran = new AtomicInteger();
+        try (TimerWheel wheel = TimerWheel.builder().executor(executor).build()) {
+            wheel.schedule(ran::incrementAndGet, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            wheel.schedule(ran::incrementAndGet, Long.MAX_VALUE - 1, TimeUnit.MILLISECONDS);
+            wheel.schedule(ran::incrementAndGet, Long.MAX_VALUE, TimeUnit.DAYS);
+            CountDownLatch probe = new CountDownLatch(1);
+            wheel.schedule(probe::countDown, 20, TimeUnit.MILLISECONDS);
+            assertTrue(probe.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Thread.sleep(20);
+            assertEquals(0, ran.get());
+            assertEquals(3, wheel.pending());
+        }
+    }
+
+    public void testRejectedBatchIsDroppedAndTickThreadSurvives() throws Exception {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        AtomicReference<Throwable> reported = new AtomicReference<>();
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> reported.set(e));
+        try (TimerWheel wheel = TimerWheel.builder().executor(command -> {
+            if (reject.getAndSet(false)) {
+                throw new RejectedExecutionException("saturated");
+            }
+            executor.execute(command);
+        }).build()) {
+            AtomicInteger dropped = new AtomicInteger();
+            wheel.schedule(dropped::incrementAndGet, 1, TimeUnit.MILLISECONDS);
+            waitUntilIdle(wheel, 1);
+            assertEquals(1, wheel.dropped());
+            // Reported just after the drop is counted
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (reported.get() == null && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertTrue(reported.get() instanceof RejectedExecutionException);
+
+            CountDownLatch ran = new CountDownLatch(1);
+            wheel.schedule(ran::countDown, 1, TimeUnit.MILLISECONDS);
+            assertTrue("tick thread died", ran.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            assertEquals(0, dropped.get());
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(previous);
+        }
+    }
+
+    // Waits until no timeout is pending and expected tasks have run or been
+    // dropped; pending() alone drops before the batch reaches the executor
+    private static void waitUntilIdle(TimerWheel wheel, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (wheel.pending() > 0 || wheel.completed() + wheel.dropped() < expected) {
+            assertTrue("timer wheel still busy", System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+}